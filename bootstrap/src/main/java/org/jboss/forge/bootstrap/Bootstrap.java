@@ -48,11 +48,14 @@ public class Bootstrap
    private final Furnace furnace;
    private boolean exitAfter = false;
    private boolean batchMode = false;
+   private Integer exitStatus;
 
    public static void main(final String[] args) throws InterruptedException, ExecutionException
    {
       final List<String> bootstrapArgs = new ArrayList<>();
       final Properties systemProperties = System.getProperties();
+      // A running daemon was started with its own system properties
+      boolean daemonAllowed = true;
       // Set system properties
       for (String arg : args)
       {
@@ -72,6 +75,7 @@ public class Bootstrap
                value = arg.substring(index + 1);
             }
             systemProperties.setProperty(name, value);
+            daemonAllowed &= name.startsWith(DaemonClient.PROPERTY_PREFIX);
          }
          else
          {
@@ -91,17 +95,23 @@ public class Bootstrap
       {
          systemProperties.setProperty("java.util.logging.manager", logManagerName);
       }
-      Bootstrap bootstrap = new Bootstrap(bootstrapArgs.toArray(new String[bootstrapArgs.size()]));
+      Bootstrap bootstrap = new Bootstrap(bootstrapArgs.toArray(new String[bootstrapArgs.size()]), daemonAllowed);
       bootstrap.start();
+      if (bootstrap.exitStatus != null)
+      {
+         System.exit(bootstrap.exitStatus);
+      }
    }
 
-   private Bootstrap(String[] args)
+   private Bootstrap(String[] args, boolean daemonAllowed)
    {
       boolean listInstalled = false;
       String installAddon = null;
       String removeAddon = null;
       furnace = ServiceLoader.load(Furnace.class).iterator().next();
       boolean showHelp = false;
+      String evaluate = null;
+      String daemonRequest = null;
       furnace.setArgs(args);
 
       if (args.length > 0)
@@ -133,22 +143,38 @@ public class Bootstrap
             else if ("--addonDir".equals(args[i]) || "-a".equals(args[i]))
             {
                furnace.addRepository(AddonRepositoryMode.MUTABLE, new File(args[++i]));
+               // The daemon does not see the addons of this repository
+               daemonAllowed = false;
             }
             else if ("--immutableAddonDir".equals(args[i]) || "-m".equals(args[i]))
             {
                furnace.addRepository(AddonRepositoryMode.IMMUTABLE, new File(args[++i]));
+               daemonAllowed = false;
             }
             else if ("--batchMode".equals(args[i]) || "-b".equals(args[i]))
             {
                batchMode = true;
                furnace.setServerMode(false);
+               daemonAllowed = false;
             }
             else if ("--evaluate".equals(args[i]) || "-e".equals(args[i]))
             {
                furnace.setServerMode(true);
                System.setProperty("INTERACTIVE", "false");
                System.setProperty("forge.shell.evaluate", "true");
-               i++;
+               evaluate = args[++i];
+            }
+            else if ("--daemon".equals(args[i]))
+            {
+               furnace.setServerMode(true);
+               System.setProperty("INTERACTIVE", "false");
+               System.setProperty("forge.shell.daemon", "true");
+               daemonAllowed = false;
+            }
+            else if ("--daemonStatus".equals(args[i]) || "--daemonStop".equals(args[i]))
+            {
+               daemonRequest = args[i];
+               exitAfter = true;
             }
             else if ("--debug".equals(args[i]) || "-d".equals(args[i]))
             {
@@ -189,6 +215,28 @@ public class Bootstrap
       {
          remove(removeAddon);
       }
+      if (daemonRequest != null)
+      {
+         DaemonClient client = DaemonClient.find();
+         exitStatus = (client == null) ? null
+                  : ("--daemonStop".equals(daemonRequest) ? client.shutdown() : client.health());
+         if (exitStatus == null)
+         {
+            System.out.println("forge: no daemon is running");
+            exitStatus = 1;
+         }
+      }
+      else if (evaluate != null && daemonAllowed && !exitAfter && !Boolean.getBoolean(DaemonClient.DISABLED_PROPERTY))
+      {
+         // Let a running daemon evaluate the commands, so Furnace does not need to be started. Any other option or
+         // system property is only honored by this process.
+         DaemonClient client = DaemonClient.find();
+         if (client != null)
+         {
+            exitStatus = client.evaluate(evaluate);
+            exitAfter = exitStatus != null;
+         }
+      }
    }
 
    private String help()
@@ -219,6 +267,18 @@ public class Bootstrap
                .append("\t make sure to use double quotes if your command has arguments (eg. ./forge -e \"run script.fsh\")")
                .append("\n");
 
+      sb.append("\t commands are sent to the daemon started with --daemon, if any, unless other options or system ")
+               .append("properties are given (or -Dforge.daemon.disabled=true)\n");
+
+      sb.append("--daemon\n");
+      sb.append("\t run Forge as a daemon evaluating the commands given to `forge -e` (listens on a local port) \n");
+
+      sb.append("--daemonStatus\n");
+      sb.append("\t display the status of the running daemon and exit \n");
+
+      sb.append("--daemonStop\n");
+      sb.append("\t stop the running daemon and exit \n");
+
       sb.append("-m, --immutableAddonDir [dir]\n");
       sb.append("\t add the given directory for use as a custom immutable addon repository (read only) \n");
 
@@ -0,0 +1,263 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.bootstrap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
+
+/**
+ * Sends requests to a Forge daemon started with <code>forge --daemon</code>, and copies its replies to the standard
+ * output and error streams.
+ *
+ * The port and token of the daemon are read from the <code>daemon</code> file in the user Forge directory. That file may
+ * be left behind by a daemon that did not stop cleanly, and its port reused by another process, so a request is only
+ * sent to a daemon acknowledging the token. Every request the daemon did not acknowledge, or handed back because it
+ * can only be run by the console, must be handled by this process. The wire format must be kept in sync with
+ * <code>org.jboss.forge.addon.shell.daemon.ShellDaemon</code> in the shell addon.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class DaemonClient
+{
+   /**
+    * The prefix of the system properties configuring the client, which can be given to <code>forge -e</code> without
+    * bypassing the daemon
+    */
+   static final String PROPERTY_PREFIX = "forge.daemon.";
+   /**
+    * When set to <code>true</code>, <code>forge -e</code> never uses a running daemon
+    */
+   static final String DISABLED_PROPERTY = PROPERTY_PREFIX + "disabled";
+   /**
+    * When set to <code>true</code>, the time taken by each request is printed to the standard error stream
+    */
+   static final String TIMING_PROPERTY = PROPERTY_PREFIX + "timing";
+
+   private static final String DAEMON_FILE = "daemon";
+   private static final int CONNECT_TIMEOUT = 1000;
+   private static final int READY_TIMEOUT = 2000;
+
+   private static final byte EXIT = 0;
+   private static final byte STDOUT = 1;
+   private static final byte STDERR = 2;
+   private static final byte READY = 3;
+   private static final byte FALLBACK = 4;
+
+   private final int port;
+   private final String token;
+   private final PrintStream stdout;
+   private final PrintStream stderr;
+
+   DaemonClient(int port, String token, PrintStream stdout, PrintStream stderr)
+   {
+      this.port = port;
+      this.token = token;
+      this.stdout = stdout;
+      this.stderr = stderr;
+   }
+
+   /**
+    * Returns a client for the running daemon, or <code>null</code> if no daemon was started
+    */
+   static DaemonClient find()
+   {
+      return find(new File(OperatingSystemUtils.getUserForgeDir(), DAEMON_FILE));
+   }
+
+   /**
+    * Returns a client for the daemon published in the given file, or <code>null</code> if the file does not exist or
+    * cannot be read
+    */
+   static DaemonClient find(File daemonFile)
+   {
+      if (!daemonFile.isFile())
+      {
+         return null;
+      }
+      Properties properties = new Properties();
+      try (Reader reader = Files.newBufferedReader(daemonFile.toPath(), StandardCharsets.UTF_8))
+      {
+         properties.load(reader);
+         return new DaemonClient(Integer.parseInt(properties.getProperty("port")), properties.getProperty("token"),
+                  System.out, System.err);
+      }
+      catch (IOException | RuntimeException e)
+      {
+         return null;
+      }
+   }
+
+   /**
+    * Evaluates the given commands in the daemon, from the current working directory
+    *
+    * @return the exit status, or <code>null</code> if the commands must be evaluated by this process
+    */
+   Integer evaluate(String commands)
+   {
+      return evaluate(commands, OperatingSystemUtils.getWorkingDir());
+   }
+
+   /**
+    * Evaluates the given commands in the daemon, from the given working directory
+    *
+    * @return the exit status, or <code>null</code> if the commands must be evaluated by this process
+    */
+   Integer evaluate(String commands, File workingDir)
+   {
+      byte[] script = commands.getBytes(StandardCharsets.UTF_8);
+      return send("EVAL", out -> {
+         out.writeUTF(workingDir.getAbsolutePath());
+         out.writeInt(script.length);
+         out.write(script);
+      });
+   }
+
+   /**
+    * Prints the health of the daemon
+    *
+    * @return the exit status, or <code>null</code> if the daemon could not be reached
+    */
+   Integer health()
+   {
+      return send("HEALTH", null);
+   }
+
+   /**
+    * Stops the daemon
+    *
+    * @return the exit status, or <code>null</code> if the daemon could not be reached
+    */
+   Integer shutdown()
+   {
+      return send("SHUTDOWN", null);
+   }
+
+   private Integer send(String verb, RequestBody body)
+   {
+      long start = System.nanoTime();
+      Socket socket = new Socket();
+      try
+      {
+         socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECT_TIMEOUT);
+      }
+      catch (IOException e)
+      {
+         // The daemon is gone: the request must be handled by this process
+         close(socket);
+         return null;
+      }
+      try (Socket s = socket;
+               DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+               DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream())))
+      {
+         if (!handshake(s, out, in, verb, body))
+         {
+            // Not a daemon, or not the one that wrote the daemon file
+            return null;
+         }
+         while (true)
+         {
+            byte type = in.readByte();
+            if (type == EXIT)
+            {
+               int status = in.readInt();
+               long elapsed = in.readLong();
+               if (Boolean.getBoolean(TIMING_PROPERTY))
+               {
+                  stderr.printf("%s handled by daemon in %d ms (%d ms round trip)%n", verb,
+                           TimeUnit.NANOSECONDS.toMillis(elapsed),
+                           TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+               }
+               return status;
+            }
+            else if (type == FALLBACK)
+            {
+               // Nothing was run: the commands need the console of this process
+               return null;
+            }
+            else if (type != STDOUT && type != STDERR)
+            {
+               stderr.println("forge: unexpected reply from the daemon: " + type);
+               return 1;
+            }
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            PrintStream target = (type == STDOUT) ? stdout : stderr;
+            target.write(bytes);
+            target.flush();
+         }
+      }
+      catch (EOFException e)
+      {
+         stderr.println("forge: the daemon closed the connection");
+         return 1;
+      }
+      catch (IOException e)
+      {
+         stderr.println("forge: error while talking to the daemon: " + e.getMessage());
+         return 1;
+      }
+   }
+
+   /**
+    * Sends the request, and returns <code>true</code> if the daemon acknowledged the token
+    */
+   private boolean handshake(Socket socket, DataOutputStream out, DataInputStream in, String verb, RequestBody body)
+   {
+      try
+      {
+         socket.setSoTimeout(READY_TIMEOUT);
+         out.writeUTF(token);
+         out.writeUTF(verb);
+         if (body != null)
+         {
+            body.writeTo(out);
+         }
+         out.flush();
+         boolean ready = in.readByte() == READY;
+         socket.setSoTimeout(0);
+         return ready;
+      }
+      catch (IOException e)
+      {
+         return false;
+      }
+   }
+
+   private static void close(Socket socket)
+   {
+      try
+      {
+         socket.close();
+      }
+      catch (IOException ignore)
+      {
+      }
+   }
+
+   @FunctionalInterface
+   private interface RequestBody
+   {
+      void writeTo(DataOutputStream out) throws IOException;
+   }
+}
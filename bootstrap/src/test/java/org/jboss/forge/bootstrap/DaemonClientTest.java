@@ -0,0 +1,211 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.bootstrap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for {@link DaemonClient}, against a fake daemon speaking the wire protocol of the shell addon
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class DaemonClientTest
+{
+   private static final String TOKEN = "secret";
+
+   private final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+   private final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+   private final List<String> requests = new CopyOnWriteArrayList<>();
+   private File directory;
+   private ServerSocket server;
+
+   @Before
+   public void setUp() throws IOException
+   {
+      directory = Files.createTempDirectory("forge-daemon-client").toFile();
+      server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+   }
+
+   @After
+   public void tearDown() throws IOException
+   {
+      server.close();
+      for (File file : directory.listFiles())
+      {
+         Files.delete(file.toPath());
+      }
+      Files.delete(directory.toPath());
+   }
+
+   @Test
+   public void testEvaluateRoundTrip() throws Exception
+   {
+      serve((in, out) -> {
+         String workingDir = in.readUTF();
+         byte[] script = new byte[in.readInt()];
+         in.readFully(script);
+         requests.add(workingDir + ":" + new String(script, StandardCharsets.UTF_8));
+         out.writeByte(3);
+         frame(out, 1, "hello\n");
+         frame(out, 2, "warning\n");
+         out.writeByte(0);
+         out.writeInt(3);
+         out.writeLong(42);
+      });
+      Integer status = client(TOKEN).evaluate("project-new --named demo", directory);
+      assertEquals(Integer.valueOf(3), status);
+      assertEquals("hello\n", stdout.toString("UTF-8"));
+      assertEquals("warning\n", stderr.toString("UTF-8"));
+      assertEquals(Arrays.asList("EVAL", directory.getAbsolutePath() + ":project-new --named demo"), requests);
+   }
+
+   @Test
+   public void testFallbackIsHandledByThisProcess() throws Exception
+   {
+      serve((in, out) -> {
+         in.readUTF();
+         in.readFully(new byte[in.readInt()]);
+         out.writeByte(3);
+         out.writeByte(4);
+      });
+      assertNull(client(TOKEN).evaluate("ls | grep src", directory));
+      assertEquals(0, stdout.size());
+      assertEquals(0, stderr.size());
+   }
+
+   @Test
+   public void testRejectedTokenIsHandledByThisProcess() throws Exception
+   {
+      // A daemon closes the connections with an invalid token without acknowledging them
+      serve(null);
+      assertNull(client("stale").health());
+   }
+
+   @Test
+   public void testStalePortWithNothingListening() throws Exception
+   {
+      File daemonFile = writeDaemonFile(server.getLocalPort());
+      server.close();
+      DaemonClient client = DaemonClient.find(daemonFile);
+      assertNotNull(client);
+      assertNull(client.evaluate("version", directory));
+   }
+
+   @Test
+   public void testStalePortHeldByAnotherProcess() throws Exception
+   {
+      Thread thread = new Thread(() -> {
+         try (Socket socket = server.accept())
+         {
+            socket.getOutputStream().write("HTTP/1.1 400 Bad Request\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+         }
+         catch (IOException e)
+         {
+            requests.add(e.toString());
+         }
+      });
+      thread.start();
+      DaemonClient client = DaemonClient.find(writeDaemonFile(server.getLocalPort()));
+      assertNull(client.evaluate("version", directory));
+      thread.join(10_000);
+      assertEquals(0, stderr.size());
+   }
+
+   @Test
+   public void testMissingOrInvalidDaemonFile() throws Exception
+   {
+      assertNull(DaemonClient.find(new File(directory, "daemon")));
+      File daemonFile = new File(directory, "daemon");
+      Files.write(daemonFile.toPath(), "port=none".getBytes(StandardCharsets.UTF_8));
+      assertNull(DaemonClient.find(daemonFile));
+   }
+
+   private DaemonClient client(String token)
+   {
+      return new DaemonClient(server.getLocalPort(), token, new PrintStream(stdout, true),
+               new PrintStream(stderr, true));
+   }
+
+   private File writeDaemonFile(int port) throws IOException
+   {
+      Properties properties = new Properties();
+      properties.setProperty("port", String.valueOf(port));
+      properties.setProperty("token", TOKEN);
+      File daemonFile = new File(directory, "daemon");
+      try (Writer writer = Files.newBufferedWriter(daemonFile.toPath(), StandardCharsets.UTF_8))
+      {
+         properties.store(writer, null);
+      }
+      return daemonFile;
+   }
+
+   /**
+    * Answers the next connection with the given handler if the token is valid, otherwise closes it
+    */
+   private void serve(Handler handler)
+   {
+      Thread thread = new Thread(() -> {
+         try (Socket socket = server.accept();
+                  DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                  DataOutputStream out = new DataOutputStream(socket.getOutputStream()))
+         {
+            String token = in.readUTF();
+            String verb = in.readUTF();
+            if (TOKEN.equals(token))
+            {
+               requests.add(verb);
+               handler.handle(in, out);
+               out.flush();
+            }
+         }
+         catch (IOException e)
+         {
+            requests.add(e.toString());
+         }
+      });
+      thread.setDaemon(true);
+      thread.start();
+   }
+
+   private static void frame(DataOutputStream out, int type, String contents) throws IOException
+   {
+      byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+      out.writeByte(type);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+   }
+
+   @FunctionalInterface
+   private interface Handler
+   {
+      void handle(DataInputStream in, DataOutputStream out) throws IOException;
+   }
+}
@@ -8,15 +8,23 @@ package org.jboss.forge.addon.configuration;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.inject.Produces;
 import javax.enterprise.inject.spi.Annotated;
 import javax.enterprise.inject.spi.InjectionPoint;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
-import org.apache.commons.configuration.PropertiesConfiguration;
-import org.apache.commons.configuration.reloading.FileChangedReloadingStrategy;
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.furnace.Furnace;
 import org.jboss.forge.furnace.util.OperatingSystemUtils;
@@ -26,11 +34,87 @@ public class ConfigurationFactoryImpl implements ConfigurationFactory
 {
    static final String USER_CONFIG_PATH = "org.jboss.forge.addon.configuration.USER_CONFIG_PATH";
 
+   private static final Logger log = Logger.getLogger(ConfigurationFactoryImpl.class.getName());
+
    private Configuration userConfiguration;
 
+   private final Map<File, ConfigurationFile> files = new HashMap<>();
+   private ScheduledExecutorService writer;
+   private ConfigurationFileWatcher watcher;
+   private Thread shutdownHook;
+
    @Inject
    private Furnace furnace;
 
+   @PostConstruct
+   void start()
+   {
+      writer = Executors.newSingleThreadScheduledExecutor(r -> {
+         Thread thread = new Thread(r, "Forge configuration writer");
+         thread.setDaemon(true);
+         return thread;
+      });
+      try
+      {
+         watcher = new ConfigurationFileWatcher();
+      }
+      catch (IOException e)
+      {
+         log.log(Level.FINE, "Cannot watch configuration files, they will be checked for changes when read", e);
+      }
+      shutdownHook = new Thread(this::flush, "Forge configuration flush");
+      Runtime.getRuntime().addShutdownHook(shutdownHook);
+   }
+
+   @PreDestroy
+   void stop()
+   {
+      try
+      {
+         Runtime.getRuntime().removeShutdownHook(shutdownHook);
+      }
+      catch (IllegalStateException e)
+      {
+         // The JVM is shutting down: the hook is running
+      }
+      writer.shutdownNow();
+      flush();
+      if (watcher != null)
+      {
+         try
+         {
+            watcher.close();
+         }
+         catch (IOException e)
+         {
+            log.log(Level.FINE, "Error while closing the configuration watcher", e);
+         }
+      }
+   }
+
+   /**
+    * Writes the pending changes of every configuration file
+    */
+   void flush()
+   {
+      List<ConfigurationFile> pending;
+      synchronized (files)
+      {
+         pending = new ArrayList<>(files.values());
+      }
+      for (ConfigurationFile file : pending)
+      {
+         try
+         {
+            file.flush();
+         }
+         catch (ConfigurationException e)
+         {
+            log.log(Level.WARNING, e.getMessage(), e.getCause());
+         }
+      }
+   }
+
    @Produces
    Configuration getUserConfiguration(InjectionPoint ip) throws ConfigurationException
    {
@@ -91,19 +175,29 @@ public class ConfigurationFactoryImpl implements ConfigurationFactory
       return getConfiguration(configFile.getUnderlyingResourceObject());
    }
 
+   /**
+    * Returns the configuration of the given file, shared by every caller so that they all see the changes not written
+    * yet
+    */
    private Configuration getConfiguration(File file)
    {
-      try
+      File key = file.getAbsoluteFile();
+      synchronized (files)
       {
-         PropertiesConfiguration commonsConfig = new PropertiesConfiguration(file);
-         commonsConfig.setEncoding("UTF-8");
-         commonsConfig.setReloadingStrategy(new FileChangedReloadingStrategy());
-         commonsConfig.setAutoSave(true);
-         return new ConfigurationAdapter(commonsConfig);
-      }
-      catch (org.apache.commons.configuration.ConfigurationException e)
-      {
-         throw new ConfigurationException("Error while creating configuration from " + file, e);
+         ConfigurationFile configFile = files.get(key);
+         if (configFile == null)
+         {
+            try
+            {
+               configFile = new ConfigurationFile(key, watcher, writer);
+            }
+            catch (org.apache.commons.configuration.ConfigurationException e)
+            {
+               throw new ConfigurationException("Error while creating configuration from " + file, e);
+            }
+            files.put(key, configFile);
+         }
+         return configFile.getConfiguration();
       }
    }
 
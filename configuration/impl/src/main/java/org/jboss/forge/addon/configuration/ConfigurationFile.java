@@ -0,0 +1,288 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.enterprise.inject.Vetoed;
+
+import org.apache.commons.configuration.AbstractConfiguration;
+import org.apache.commons.configuration.FileConfiguration;
+import org.apache.commons.configuration.PropertiesConfiguration;
+import org.apache.commons.configuration.event.ConfigurationEvent;
+import org.apache.commons.configuration.event.ConfigurationListener;
+import org.apache.commons.configuration.reloading.FileChangedReloadingStrategy;
+import org.apache.commons.configuration.reloading.ReloadingStrategy;
+import org.jboss.forge.addon.resource.util.FileStamp;
+
+/**
+ * A properties file kept in memory, written behind the changes made to it.
+ *
+ * Changes are written at most {@link #FLUSH_DELAY} milliseconds after the first of them, or when {@link #flush()} is
+ * called at the end of a command, by writing the whole file next to it and renaming it over the previous one. A file
+ * which does not exist yet is written as soon as it is changed.
+ *
+ * The file is loaded again when its version in the {@link ConfigurationFileWatcher} is incremented by a change made by
+ * someone else. When changes are still to be written, they are written over the changes made by someone else.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@Vetoed
+class ConfigurationFile implements ConfigurationListener
+{
+   private static final Logger log = Logger.getLogger(ConfigurationFile.class.getName());
+
+   static final long FLUSH_DELAY = 500;
+
+   private static final long MISSING = -1L;
+
+   private final File file;
+   private final PropertiesConfiguration config;
+   private final Configuration configuration;
+   private final ScheduledExecutorService writer;
+   private final Object lock;
+
+   private boolean dirty;
+   private boolean scheduled;
+   private long lastModified;
+   private long length;
+   private long checkedAt;
+
+   ConfigurationFile(File file, ConfigurationFileWatcher watcher, ScheduledExecutorService writer)
+            throws org.apache.commons.configuration.ConfigurationException
+   {
+      this.file = file;
+      this.writer = writer;
+      this.config = new PropertiesConfiguration(file);
+      this.config.setEncoding("UTF-8");
+      this.lock = config.getReloadLock();
+      this.configuration = new ConfigurationAdapter(config);
+      remember();
+      AtomicLong version = null;
+      if (watcher != null)
+      {
+         try
+         {
+            version = watcher.watch(file);
+         }
+         catch (IOException e)
+         {
+            log.log(Level.FINE, "Cannot watch " + file + ", it will be checked for changes when read", e);
+         }
+      }
+      config.setReloadingStrategy(version == null ? new FileChangedReloadingStrategy()
+               : new WatchedReloadingStrategy(version));
+      config.addConfigurationListener(this);
+   }
+
+   Configuration getConfiguration()
+   {
+      return configuration;
+   }
+
+   @Override
+   public void configurationChanged(ConfigurationEvent event)
+   {
+      if (event.isBeforeUpdate())
+      {
+         return;
+      }
+      int type = event.getType();
+      if (type == AbstractConfiguration.EVENT_ADD_PROPERTY || type == AbstractConfiguration.EVENT_SET_PROPERTY
+               || type == AbstractConfiguration.EVENT_CLEAR_PROPERTY || type == AbstractConfiguration.EVENT_CLEAR)
+      {
+         synchronized (lock)
+         {
+            dirty = true;
+            if (lastModified == MISSING)
+            {
+               flush();
+            }
+            else if (!scheduled)
+            {
+               try
+               {
+                  writer.schedule(this::scheduledFlush, FLUSH_DELAY, TimeUnit.MILLISECONDS);
+                  scheduled = true;
+               }
+               catch (RejectedExecutionException e)
+               {
+                  // The factory is stopped
+                  flush();
+               }
+            }
+         }
+      }
+   }
+
+   /**
+    * Writes the pending changes, if any
+    */
+   void flush() throws ConfigurationException
+   {
+      synchronized (lock)
+      {
+         if (!dirty)
+         {
+            return;
+         }
+         try
+         {
+            write();
+         }
+         catch (IOException | org.apache.commons.configuration.ConfigurationException e)
+         {
+            throw new ConfigurationException("Error while saving configuration to " + file, e);
+         }
+         dirty = false;
+         remember();
+      }
+   }
+
+   private void scheduledFlush()
+   {
+      synchronized (lock)
+      {
+         scheduled = false;
+      }
+      try
+      {
+         flush();
+      }
+      catch (ConfigurationException e)
+      {
+         log.log(Level.WARNING, e.getMessage(), e.getCause());
+      }
+   }
+
+   private void write() throws IOException, org.apache.commons.configuration.ConfigurationException
+   {
+      Path target = file.toPath().toAbsolutePath();
+      Path directory = target.getParent();
+      Files.createDirectories(directory);
+      Path temp = directory.resolve("." + file.getName() + "." + System.nanoTime() + ".tmp");
+      try
+      {
+         try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW))
+         {
+            config.save(out);
+         }
+         try
+         {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+         }
+         catch (AtomicMoveNotSupportedException e)
+         {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+         }
+      }
+      finally
+      {
+         Files.deleteIfExists(temp);
+      }
+   }
+
+   /**
+    * Remembers the timestamp and length of the file as it was loaded or written
+    */
+   private void remember()
+   {
+      long now = System.currentTimeMillis();
+      remember(file.isFile() ? file.lastModified() : MISSING, file.length(), now);
+   }
+
+   private void remember(long lastModified, long length, long checkedAt)
+   {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.checkedAt = checkedAt;
+   }
+
+   /**
+    * Returns <code>true</code> if the file certainly was not modified since it was last loaded or written. The same
+    * timestamp and length are not enough when the timestamp was not {@link FileStamp#isSettled(long, long) settled}
+    * then, since someone else may have written the file again within the same timestamp tick.
+    */
+   private boolean isUnchanged(long modified, long size)
+   {
+      return modified == lastModified && size == length && FileStamp.isSettled(lastModified, checkedAt);
+   }
+
+   /**
+    * Reloads the file when its watched version changed, unless the file was only written by {@link #flush()}
+    */
+   private class WatchedReloadingStrategy implements ReloadingStrategy
+   {
+      private final AtomicLong version;
+      private long seen;
+      private long observed;
+      private long observedLastModified;
+      private long observedLength;
+      private long observedAt;
+
+      WatchedReloadingStrategy(AtomicLong version)
+      {
+         this.version = version;
+         this.seen = version.get();
+      }
+
+      @Override
+      public void setConfiguration(FileConfiguration configuration)
+      {
+      }
+
+      @Override
+      public void init()
+      {
+      }
+
+      @Override
+      public boolean reloadingRequired()
+      {
+         long current = version.get();
+         if (current == seen || dirty)
+         {
+            return false;
+         }
+         long now = System.currentTimeMillis();
+         long modified = file.lastModified();
+         long size = file.length();
+         if (!file.isFile() || isUnchanged(modified, size))
+         {
+            seen = current;
+            return false;
+         }
+         // Remembered before loading, so that a change made while loading is loaded again
+         observed = current;
+         observedLastModified = modified;
+         observedLength = size;
+         observedAt = now;
+         return true;
+      }
+
+      @Override
+      public void reloadingPerformed()
+      {
+         seen = observed;
+         remember(observedLastModified, observedLength, observedAt);
+      }
+   }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.configuration;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.enterprise.inject.Vetoed;
+
+/**
+ * Watches the directories of the configuration files, and increments the version of a file each time it is created,
+ * modified or deleted. Checking whether a file may have changed is then a comparison of two numbers.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@Vetoed
+class ConfigurationFileWatcher implements Closeable
+{
+   private static final Logger log = Logger.getLogger(ConfigurationFileWatcher.class.getName());
+
+   private final WatchService watchService;
+   private final Map<Path, AtomicLong> versions = new ConcurrentHashMap<>();
+   private final Map<Path, WatchKey> directories = new ConcurrentHashMap<>();
+
+   ConfigurationFileWatcher() throws IOException
+   {
+      this.watchService = FileSystems.getDefault().newWatchService();
+      Thread thread = new Thread(this::run, "Forge configuration watcher");
+      thread.setDaemon(true);
+      thread.start();
+   }
+
+   /**
+    * Returns the version of the given file, incremented each time the file changes
+    */
+   synchronized AtomicLong watch(File file) throws IOException
+   {
+      Path path = file.toPath().toAbsolutePath().normalize();
+      Path directory = path.getParent();
+      if (!directories.containsKey(directory))
+      {
+         directories.put(directory, directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                  StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE));
+      }
+      AtomicLong version = versions.get(path);
+      if (version == null)
+      {
+         version = new AtomicLong();
+         versions.put(path, version);
+      }
+      return version;
+   }
+
+   private void run()
+   {
+      try
+      {
+         while (true)
+         {
+            WatchKey key = watchService.take();
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents())
+            {
+               if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+               {
+                  // Events were lost: any file of the directory may have changed
+                  changed(directory);
+               }
+               else
+               {
+                  AtomicLong version = versions.get(directory.resolve((Path) event.context()));
+                  if (version != null)
+                  {
+                     version.incrementAndGet();
+                  }
+               }
+            }
+            if (!key.reset())
+            {
+               // The directory is gone, and so are its files
+               directories.remove(directory);
+               changed(directory);
+            }
+         }
+      }
+      catch (InterruptedException | ClosedWatchServiceException e)
+      {
+         // Closed
+      }
+      catch (RuntimeException e)
+      {
+         log.log(Level.WARNING, "Configuration watcher stopped", e);
+      }
+   }
+
+   private void changed(Path directory)
+   {
+      for (Entry<Path, AtomicLong> entry : versions.entrySet())
+      {
+         if (directory.equals(entry.getKey().getParent()))
+         {
+            entry.getValue().incrementAndGet();
+         }
+      }
+   }
+
+   @Override
+   public void close() throws IOException
+   {
+      watchService.close();
+   }
+}
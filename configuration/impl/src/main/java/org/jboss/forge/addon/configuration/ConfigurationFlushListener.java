@@ -0,0 +1,38 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.configuration;
+
+import javax.inject.Inject;
+
+import org.jboss.forge.addon.ui.command.AbstractCommandExecutionListener;
+import org.jboss.forge.addon.ui.command.UICommand;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.result.Result;
+
+/**
+ * Writes the configuration changes made by a command once it is executed, instead of waiting for
+ * {@link ConfigurationFile#FLUSH_DELAY}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class ConfigurationFlushListener extends AbstractCommandExecutionListener
+{
+   @Inject
+   private ConfigurationFactoryImpl configurationFactory;
+
+   @Override
+   public void postCommandExecuted(UICommand command, UIExecutionContext context, Result result)
+   {
+      configurationFactory.flush();
+   }
+
+   @Override
+   public void postCommandFailure(UICommand command, UIExecutionContext context, Throwable failure)
+   {
+      configurationFactory.flush();
+   }
+}
@@ -7,6 +7,9 @@
 package org.jboss.forge.addon.configuration;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 
@@ -68,4 +71,64 @@ public class ConfigurationFactoryTest
       // Check if the file was written
       Assert.assertTrue(resource.getSize() > 0L);
    }
-}
\ No newline at end of file
+
+   @Test
+   public void testChangesAreWrittenBehind() throws Exception
+   {
+      File file = File.createTempFile("configfactorytest", ".properties");
+      file.deleteOnExit();
+      FileResource<?> resource = resourceFactory.create(file).reify(FileResource.class);
+      Configuration config = configurationFactory.getConfiguration(resource);
+      for (int i = 0; i < 100; i++)
+      {
+         config.setProperty("key" + i, "value" + i);
+      }
+      Assert.assertEquals("value99", config.getString("key99"));
+      Assert.assertSame(config, configurationFactory.getConfiguration(resource));
+      waitFor(() -> resource.getContents().contains("key99 = value99"));
+   }
+
+   @Test
+   public void testExternalChangesAreLoaded() throws Exception
+   {
+      File file = File.createTempFile("configfactorytest", ".properties");
+      file.deleteOnExit();
+      FileResource<?> resource = resourceFactory.create(file).reify(FileResource.class);
+      Configuration config = configurationFactory.getConfiguration(resource);
+      Assert.assertNull(config.getString("key"));
+      Files.write(file.toPath(), "key = external".getBytes(StandardCharsets.UTF_8));
+      waitFor(() -> "external".equals(config.getString("key")));
+   }
+
+   @Test
+   public void testExternalChangesWithSameLengthAndTimestampAreLoaded() throws Exception
+   {
+      File file = File.createTempFile("configfactorytest", ".properties");
+      file.deleteOnExit();
+      FileResource<?> resource = resourceFactory.create(file).reify(FileResource.class);
+      Configuration config = configurationFactory.getConfiguration(resource);
+      config.setProperty("key", "ours");
+      waitFor(() -> resource.getContents().contains("key = ours"));
+      long lastModified = file.lastModified();
+      String contents = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+      Files.write(file.toPath(), contents.replace("key = ours", "key = them").getBytes(StandardCharsets.UTF_8));
+      Assert.assertTrue(file.setLastModified(lastModified));
+      waitFor(() -> "them".equals(config.getString("key")));
+   }
+
+   private void waitFor(Condition condition) throws Exception
+   {
+      long timeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(15);
+      while (!condition.isMet())
+      {
+         Assert.assertTrue("Timed out", System.nanoTime() < timeout);
+         Thread.sleep(50);
+      }
+   }
+
+   @FunctionalInterface
+   private interface Condition
+   {
+      boolean isMet() throws Exception;
+   }
+}
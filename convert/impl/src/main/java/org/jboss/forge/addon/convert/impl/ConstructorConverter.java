@@ -6,6 +6,9 @@
  */
 package org.jboss.forge.addon.convert.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 
 import javax.enterprise.inject.Vetoed;
@@ -27,22 +30,52 @@ import org.jboss.forge.addon.convert.exception.ConversionException;
 public class ConstructorConverter<SOURCETYPE, TARGETTYPE> extends AbstractConverter<SOURCETYPE, TARGETTYPE>
 {
    private final Constructor<TARGETTYPE> constructor;
+   private final MethodHandle handle;
 
    public ConstructorConverter(Class<SOURCETYPE> sourceType, Class<TARGETTYPE> targetType, Constructor<TARGETTYPE> constructor)
    {
       super(sourceType, targetType);
       this.constructor = constructor;
+      this.handle = bind(constructor);
+   }
+
+   /**
+    * Returns a handle of the given constructor taking the source object, or <code>null</code> if the constructor must be
+    * invoked through reflection
+    */
+   private static MethodHandle bind(Constructor<?> constructor)
+   {
+      try
+      {
+         return MethodHandles.publicLookup().unreflectConstructor(constructor)
+                  .asType(MethodType.methodType(Object.class, Object.class));
+      }
+      catch (IllegalAccessException | RuntimeException e)
+      {
+         return null;
+      }
    }
 
    @Override
+   @SuppressWarnings("unchecked")
    public TARGETTYPE convert(SOURCETYPE source)
    {
       try
       {
-         return constructor.newInstance(source);
+         if (handle == null)
+         {
+            return constructor.newInstance(source);
+         }
+         Object result = handle.invokeExact((Object) source);
+         return (TARGETTYPE) result;
+      }
+      catch (Error e)
+      {
+         throw e;
       }
-      catch (Exception e)
+      catch (Throwable e)
       {
+         // Exceptions thrown by the converting member, the handle declaring Throwable
          throw new ConversionException("Could not convert [" + source + "] to type [" + getTargetType() + "]", e);
       }
    }
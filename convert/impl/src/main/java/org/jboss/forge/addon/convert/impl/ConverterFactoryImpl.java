@@ -8,6 +8,8 @@ package org.jboss.forge.addon.convert.impl;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -26,9 +28,13 @@ import org.jboss.forge.furnace.addons.AddonRegistry;
 @Singleton
 public class ConverterFactoryImpl implements ConverterFactory
 {
+   private static final int MAX_CONVERTER_ENTRIES = 1024;
+
    @Inject
    private AddonRegistry registry;
 
+   private volatile ConverterTable table;
+
    private Map<Class<?>, Class<?>> primitiveToWrapperMap = new HashMap<>();
 
    public ConverterFactoryImpl()
@@ -45,8 +51,41 @@ public class ConverterFactoryImpl implements ConverterFactory
    }
 
    @Override
-   @SuppressWarnings({ "unchecked", "rawtypes" })
+   @SuppressWarnings("unchecked")
    public <S, T> Converter<S, T> getConverter(Class<S> source, Class<T> target)
+   {
+      ConverterTable current = getConverterTable();
+      ConverterKey key = new ConverterKey(source, target);
+      Converter<S, T> result = (Converter<S, T>) current.converters.get(key);
+      if (result == null)
+      {
+         result = createConverter(source, target);
+         if (current.converters.size() >= MAX_CONVERTER_ENTRIES)
+         {
+            current.converters.clear();
+         }
+         current.converters.put(key, result);
+      }
+      return result;
+   }
+
+   /**
+    * Returns the {@link ConverterTable} for the current {@link AddonRegistry} version
+    */
+   private ConverterTable getConverterTable()
+   {
+      long registryVersion = registry.getVersion();
+      ConverterTable current = table;
+      if (current == null || current.version != registryVersion)
+      {
+         current = new ConverterTable(registryVersion);
+         table = current;
+      }
+      return current;
+   }
+
+   @SuppressWarnings({ "unchecked", "rawtypes" })
+   private <S, T> Converter<S, T> createConverter(Class<S> source, Class<T> target)
    {
       Converter<S, T> result = null;
       for (ConverterGenerator generator : registry.getServices(ConverterGenerator.class))
@@ -125,4 +164,49 @@ public class ConverterFactoryImpl implements ConverterFactory
          return source == primitiveToWrapperMap.get(target);
       }
    }
-}
\ No newline at end of file
+
+   /**
+    * The converters created for a given {@link AddonRegistry} version
+    */
+   private static class ConverterTable
+   {
+      private final long version;
+      private final Map<ConverterKey, Converter<?, ?>> converters = new ConcurrentHashMap<>();
+
+      ConverterTable(long version)
+      {
+         this.version = version;
+      }
+   }
+
+   private static final class ConverterKey
+   {
+      private final Class<?> source;
+      private final Class<?> target;
+      private final int hash;
+
+      ConverterKey(Class<?> source, Class<?> target)
+      {
+         this.source = source;
+         this.target = target;
+         this.hash = Objects.hash(source, target);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hash;
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (this == obj)
+            return true;
+         if (!(obj instanceof ConverterKey))
+            return false;
+         ConverterKey other = (ConverterKey) obj;
+         return source == other.source && target == other.target;
+      }
+   }
+}
@@ -6,7 +6,11 @@
  */
 package org.jboss.forge.addon.convert.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 import javax.enterprise.inject.Vetoed;
 
@@ -18,6 +22,7 @@ public class MethodConverter<S, T> extends AbstractConverter<S, T>
 {
    private final Object instance;
    private final Method method;
+   private final MethodHandle handle;
 
    /**
     * Creates a converter based in a method
@@ -32,6 +37,28 @@ public class MethodConverter<S, T> extends AbstractConverter<S, T>
       super(sourceType, targetType);
       this.instance = instance;
       this.method = method;
+      this.handle = bind(instance, method);
+   }
+
+   /**
+    * Returns a handle of the given method taking the source object, or <code>null</code> if the method must be invoked
+    * through reflection
+    */
+   private static MethodHandle bind(Object instance, Method method)
+   {
+      try
+      {
+         MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+         if (!Modifier.isStatic(method.getModifiers()) && instance != null)
+         {
+            handle = handle.bindTo(instance);
+         }
+         return handle.asType(MethodType.methodType(Object.class, Object.class));
+      }
+      catch (IllegalAccessException | RuntimeException e)
+      {
+         return null;
+      }
    }
 
    @Override
@@ -40,10 +67,20 @@ public class MethodConverter<S, T> extends AbstractConverter<S, T>
    {
       try
       {
-         return (T) method.invoke(instance, source);
+         if (handle == null)
+         {
+            return (T) method.invoke(instance, source);
+         }
+         Object result = handle.invokeExact((Object) source);
+         return (T) result;
+      }
+      catch (Error e)
+      {
+         throw e;
       }
-      catch (Exception e)
+      catch (Throwable e)
       {
+         // Exceptions thrown by the converting member, the handle declaring Throwable
          throw new ConversionException("Could not convert [" + source + "] to type [" + getTargetType() + "]", e);
       }
    }
@@ -6,6 +6,8 @@
  */
 package org.jboss.forge.addon.dependencies;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -27,6 +29,21 @@ public interface DependencyResolver
     */
    Set<Dependency> resolveDependencies(DependencyQuery query);
 
+   /**
+    * Resolve all dependencies for each of the given {@link DependencyQuery} objects, as in
+    * {@link #resolveDependencies(DependencyQuery)}. The returned {@link List} contains the result of each query in the
+    * iteration order of the given {@link Collection}. Implementations may resolve the queries concurrently.
+    */
+   default List<Set<Dependency>> resolveAll(Collection<DependencyQuery> queries)
+   {
+      List<Set<Dependency>> result = new ArrayList<>(queries.size());
+      for (DependencyQuery query : queries)
+      {
+         result.add(resolveDependencies(query));
+      }
+      return result;
+   }
+
    /**
     * Resolve the entire dependency hierarchy for the given {@link DependencyQuery}. Return results as a graph of
     * {@link DependencyNode} instances.
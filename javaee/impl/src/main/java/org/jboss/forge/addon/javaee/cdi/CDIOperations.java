@@ -6,10 +6,10 @@
  */
 package org.jboss.forge.addon.javaee.cdi;
 
-import java.io.FileNotFoundException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javax.decorator.Decorator;
 import javax.ejb.MessageDriven;
@@ -28,13 +28,9 @@ import javax.validation.Payload;
 import javax.ws.rs.Path;
 
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.parser.java.index.JavaTypeIndexEntry;
 import org.jboss.forge.addon.parser.java.resources.JavaResource;
-import org.jboss.forge.addon.parser.java.resources.JavaResourceVisitor;
 import org.jboss.forge.addon.projects.Project;
-import org.jboss.forge.addon.resource.ResourceException;
-import org.jboss.forge.addon.resource.visit.VisitContext;
-import org.jboss.forge.roaster.model.JavaType;
-import org.jboss.forge.roaster.model.source.JavaSource;
 
 /**
  * This class contains CDI specific operations
@@ -54,52 +50,28 @@ public class CDIOperations
     */
    public List<JavaResource> getProjectInjectableBeans(Project project)
    {
-      final List<JavaResource> beans = new ArrayList<>();
-      if (project != null)
-      {
-         project.getFacet(JavaSourceFacet.class).visitJavaSources(new JavaResourceVisitor()
-         {
-            @Override
-            public void visit(VisitContext context, JavaResource resource)
-            {
-               try
-               {
-                  JavaSource<?> javaSource = resource.getJavaType();
-                  if (!javaSource.isAnnotation() && !javaSource.isEnum()
-                           // CDI
-                           && !javaSource.hasAnnotation(Decorator.class)
-                           && !javaSource.hasAnnotation(Interceptor.class)
-                           // EJB
-                           && !javaSource.hasAnnotation(MessageDriven.class)
-                           // JPA
-                           && !javaSource.hasAnnotation(Entity.class)
-                           && !javaSource.hasAnnotation(Embeddable.class)
-                           && !javaSource.hasAnnotation(MappedSuperclass.class)
-                           // JSF
-                           && !javaSource.hasAnnotation(FacesConverter.class)
-                           && !javaSource.hasAnnotation(FacesValidator.class)
-                           // REST
-                           && !javaSource.hasAnnotation(Path.class)
-                           // Servlet
-                           && !javaSource.hasAnnotation(WebServlet.class)
-                           && !javaSource.hasAnnotation(WebFilter.class)
-                           && !javaSource.hasAnnotation(WebListener.class)
-                           // Bean Validation
-                           && !javaSource.hasImport(ConstraintValidator.class)
-                           && !javaSource.hasImport(Payload.class)
-                  )
-                  {
-                     beans.add(resource);
-                  }
-               }
-               catch (ResourceException | FileNotFoundException e)
-               {
-                  // ignore
-               }
-            }
-         });
-      }
-      return beans;
+      return getProjectSources(project, (entry) -> entry.isParsed() && !entry.isAnnotation() && !entry.isEnum()
+               // CDI
+               && !entry.hasAnnotation(Decorator.class)
+               && !entry.hasAnnotation(Interceptor.class)
+               // EJB
+               && !entry.hasAnnotation(MessageDriven.class)
+               // JPA
+               && !entry.hasAnnotation(Entity.class)
+               && !entry.hasAnnotation(Embeddable.class)
+               && !entry.hasAnnotation(MappedSuperclass.class)
+               // JSF
+               && !entry.hasAnnotation(FacesConverter.class)
+               && !entry.hasAnnotation(FacesValidator.class)
+               // REST
+               && !entry.hasAnnotation(Path.class)
+               // Servlet
+               && !entry.hasAnnotation(WebServlet.class)
+               && !entry.hasAnnotation(WebFilter.class)
+               && !entry.hasAnnotation(WebListener.class)
+               // Bean Validation
+               && !entry.hasImport(ConstraintValidator.class)
+               && !entry.hasImport(Payload.class));
    }
 
    /**
@@ -108,37 +80,13 @@ public class CDIOperations
     */
    public List<JavaResource> getProjectInjectionPointBeans(Project project)
    {
-      final List<JavaResource> beans = new ArrayList<>();
-      if (project != null)
-      {
-         project.getFacet(JavaSourceFacet.class).visitJavaSources(new JavaResourceVisitor()
-         {
-            @Override
-            public void visit(VisitContext context, JavaResource resource)
-            {
-               try
-               {
-                  JavaSource<?> javaSource = resource.getJavaType();
-                  if (javaSource.isClass()
-                           // JPA
-                           && !javaSource.hasAnnotation(Entity.class)
-                           && !javaSource.hasAnnotation(MappedSuperclass.class)
-                           && !javaSource.hasAnnotation(Embeddable.class)
-                           // Bean Validation
-                           && !javaSource.hasImport(Payload.class)
-                  )
-                  {
-                     beans.add(resource);
-                  }
-               }
-               catch (FileNotFoundException e)
-               {
-                  // ignore
-               }
-            }
-         });
-      }
-      return beans;
+      return getProjectSources(project, (entry) -> entry.isClass()
+               // JPA
+               && !entry.hasAnnotation(Entity.class)
+               && !entry.hasAnnotation(MappedSuperclass.class)
+               && !entry.hasAnnotation(Embeddable.class)
+               // Bean Validation
+               && !entry.hasImport(Payload.class));
    }
 
    /**
@@ -146,30 +94,7 @@ public class CDIOperations
     */
    public List<JavaResource> getProjectQualifiers(Project project)
    {
-      final List<JavaResource> qualifiers = new ArrayList<>();
-      if (project != null)
-      {
-         project.getFacet(JavaSourceFacet.class).visitJavaSources(new JavaResourceVisitor()
-         {
-            @Override
-            public void visit(VisitContext context, JavaResource resource)
-            {
-               try
-               {
-                  JavaType<?> javaType = resource.getJavaType();
-                  if (javaType.isAnnotation() && javaType.hasAnnotation(Qualifier.class))
-                  {
-                     qualifiers.add(resource);
-                  }
-               }
-               catch (FileNotFoundException e)
-               {
-                  // ignore
-               }
-            }
-         });
-      }
-      return qualifiers;
+      return getProjectSources(project, (entry) -> entry.isAnnotation() && entry.hasAnnotation(Qualifier.class));
    }
 
    /**
@@ -177,18 +102,15 @@ public class CDIOperations
     */
    public List<JavaResource> getProjectEventTypes(Project project)
    {
-      final List<JavaResource> eventTypes = new ArrayList<>();
-      if (project != null)
+      return getProjectSources(project, (entry) -> true);
+   }
+
+   private List<JavaResource> getProjectSources(Project project, Predicate<JavaTypeIndexEntry> filter)
+   {
+      if (project == null)
       {
-         project.getFacet(JavaSourceFacet.class).visitJavaSources(new JavaResourceVisitor()
-         {
-            @Override
-            public void visit(VisitContext context, JavaResource resource)
-            {
-               eventTypes.add(resource);
-            }
-         });
+         return new ArrayList<>();
       }
-      return eventTypes;
+      return project.getFacet(JavaSourceFacet.class).getJavaSources(filter);
    }
-}
\ No newline at end of file
+}
@@ -17,12 +17,10 @@ import org.jboss.forge.addon.javaee.AbstractJavaEEFacet;
 import org.jboss.forge.addon.javaee.JavaEEPackageConstants;
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
 import org.jboss.forge.addon.parser.java.resources.JavaResource;
-import org.jboss.forge.addon.parser.java.resources.JavaResourceVisitor;
 import org.jboss.forge.addon.projects.dependencies.DependencyInstaller;
 import org.jboss.forge.addon.projects.facets.ResourcesFacet;
 import org.jboss.forge.addon.resource.DirectoryResource;
 import org.jboss.forge.addon.resource.FileResource;
-import org.jboss.forge.addon.resource.visit.VisitContext;
 import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.shrinkwrap.descriptor.api.persistence.PersistenceCommonDescriptor;
@@ -111,25 +109,22 @@ public abstract class AbstractJPAFacetImpl<DESCRIPTOR extends PersistenceCommonD
    {
       final List<JavaClassSource> result = new ArrayList<>();
       JavaSourceFacet javaSourceFacet = getFaceted().getFacet(JavaSourceFacet.class);
-      javaSourceFacet.visitJavaSources(new JavaResourceVisitor()
+      for (JavaResource resource : javaSourceFacet
+               .getJavaSources((entry) -> entry.isClass() && entry.hasAnnotation(Entity.class)))
       {
-         @Override
-         public void visit(VisitContext context, JavaResource resource)
+         try
          {
-            try
+            JavaType<?> type = resource.getJavaType();
+            if (type.hasAnnotation(Entity.class) && type.isClass())
             {
-               JavaType<?> type = resource.getJavaType();
-               if (type.hasAnnotation(Entity.class) && type.isClass())
-               {
-                  result.add((JavaClassSource) type);
-               }
-            }
-            catch (FileNotFoundException e)
-            {
-               throw new IllegalStateException(e);
+               result.add((JavaClassSource) type);
             }
          }
-      });
+         catch (FileNotFoundException e)
+         {
+            throw new IllegalStateException(e);
+         }
+      }
 
       return result;
    }
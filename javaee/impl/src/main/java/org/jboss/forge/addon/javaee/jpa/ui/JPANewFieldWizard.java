@@ -58,6 +58,7 @@ import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.result.Results;
 import org.jboss.forge.addon.ui.result.navigation.NavigationResultBuilder;
 import org.jboss.forge.addon.ui.util.Categories;
+import org.jboss.forge.addon.ui.util.Memoization;
 import org.jboss.forge.addon.ui.util.Metadata;
 import org.jboss.forge.addon.ui.wizard.UIWizard;
 import org.jboss.forge.furnace.util.Strings;
@@ -151,7 +152,7 @@ public class JPANewFieldWizard extends AbstractJavaEECommand implements UIWizard
       setupRelationshipType();
       final List<String> types = Arrays.asList("byte", "float", "char", "double", "int", "long", "short", "boolean",
                "String", "java.util.Date");
-      type.setCompleter(new UICompleter<String>()
+      type.setCompleter(Memoization.memoize(new UICompleter<String>()
       {
          @Override
          public Iterable<String> getCompletionProposals(final UIContext context, final InputComponent<?, String> input,
@@ -201,7 +202,7 @@ public class JPANewFieldWizard extends AbstractJavaEECommand implements UIWizard
             }
             return options;
          }
-      });
+      }));
 
       relationshipType.setEnabled(new Callable<Boolean>()
       {
@@ -212,7 +213,7 @@ public class JPANewFieldWizard extends AbstractJavaEECommand implements UIWizard
          }
       });
 
-      relationshipType.setValueChoices(new Callable<Iterable<RelationshipType>>()
+      relationshipType.setValueChoices(Memoization.memoize(new Callable<Iterable<RelationshipType>>()
       {
          @Override
          public Iterable<RelationshipType> call() throws Exception
@@ -258,7 +259,7 @@ public class JPANewFieldWizard extends AbstractJavaEECommand implements UIWizard
             }
             return options;
          }
-      });
+      }));
 
       lob.setEnabled(new Callable<Boolean>()
       {
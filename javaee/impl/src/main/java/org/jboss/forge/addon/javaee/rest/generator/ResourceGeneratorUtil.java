@@ -12,6 +12,7 @@ import java.util.List;
 import org.jboss.forge.addon.javaee.jpa.JPAEntityUtil;
 import org.jboss.forge.addon.javaee.rest.generation.RestGenerationContext;
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.parser.java.resources.JavaResource;
 import org.jboss.forge.addon.projects.Project;
 
 /**
@@ -32,9 +33,13 @@ public class ResourceGeneratorUtil
       resourceTypeVisitor.setFound(false);
       resourceTypeVisitor.setProposedPath(proposedResourcePath);
       JavaSourceFacet facet = project.getFacet(JavaSourceFacet.class);
+      List<JavaResource> resources = facet.getJavaSources((entry) -> entry.hasAnnotation("javax.ws.rs.Path"));
       while (true)
       {
-         facet.visitJavaSources(resourceTypeVisitor);
+         for (JavaResource resource : resources)
+         {
+            resourceTypeVisitor.visit(resource);
+         }
          if (resourceTypeVisitor.isFound())
          {
             if (proposedQualifiedClassName.equals(resourceTypeVisitor.getQualifiedClassNameForMatch()))
@@ -45,6 +45,11 @@ class RestResourceTypeVisitor extends JavaResourceVisitor
 
    @Override
    public void visit(VisitContext context, JavaResource javaResource)
+   {
+      visit(javaResource);
+   }
+
+   void visit(JavaResource javaResource)
    {
       if (!found)
       {
@@ -22,6 +22,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Id;
@@ -48,9 +53,12 @@ import org.jboss.forge.addon.projects.facets.DependencyFacet;
 import org.jboss.forge.addon.projects.facets.WebResourcesFacet;
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.resource.ResourceFactory;
 import org.jboss.forge.addon.resource.ResourceFilter;
+import org.jboss.forge.addon.resource.transaction.ResourceTransaction;
 import org.jboss.forge.addon.scaffold.faces.freemarker.FreemarkerTemplateProcessor;
 import org.jboss.forge.addon.scaffold.faces.metawidget.config.ForgeConfigReader;
+import org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.SourceInspectionCache;
 import org.jboss.forge.addon.scaffold.spi.AccessStrategy;
 import org.jboss.forge.addon.scaffold.spi.ScaffoldGenerationContext;
 import org.jboss.forge.addon.scaffold.spi.ScaffoldProvider;
@@ -99,6 +107,13 @@ import freemarker.template.Template;
  */
 public class FacesScaffoldProvider implements ScaffoldProvider
 {
+   /**
+    * The {@link ScaffoldGenerationContext} attribute enabling the generation of the entities in parallel. When the
+    * attribute is not set, the {@link #PARALLEL_PROPERTY} system property is used.
+    */
+   public static final String PARALLEL_ATTRIBUTE = "parallel";
+   public static final String PARALLEL_PROPERTY = "org.jboss.forge.addon.scaffold.faces.parallel";
+
    private static final String JBOSS_COMMUNITY_PNG = "/resources/jboss-community.png";
    private static final String SCAFFOLD_JBOSS_COMMUNITY_PNG = "/scaffold/faces/jboss-community.png";
    private static final String TRUE_PNG = "/resources/true.png";
@@ -170,9 +185,13 @@ public class FacesScaffoldProvider implements ScaffoldProvider
 
    private Project project;
 
+   private SourceInspectionCache sourceInspectionCache;
+
    private void setProject(Project project)
    {
       this.project = project;
+      // The sources inspected by the Metawidgets are parsed once per scaffold run
+      this.sourceInspectionCache = new SourceInspectionCache();
       resetMetaWidgets();
    }
 
@@ -272,7 +291,7 @@ public class FacesScaffoldProvider implements ScaffoldProvider
    public List<Resource<?>> generateFrom(ScaffoldGenerationContext generationContext)
    {
       setProject(generationContext.getProject());
-      List<Resource<?>> generatedResources = new ArrayList<>();
+      List<JavaClassSource> entities = new ArrayList<>();
       Collection<?> resources = generationContext.getResources();
       for (Object resource : resources)
       {
@@ -293,12 +312,25 @@ public class FacesScaffoldProvider implements ScaffoldProvider
          {
             continue;
          }
+         entities.add((JavaClassSource) javaSource);
+      }
+      if (entities.isEmpty())
+      {
+         return new ArrayList<>();
+      }
+
+      String targetDir = generationContext.getTargetDirectory();
+      targetDir = (targetDir == null) ? "" : targetDir;
+      getConfig().setProperty(FacesScaffoldProvider.class.getName() + "_targetDir", targetDir);
+      Resource<?> template = (Resource<?>) generationContext.getAttribute("pageTemplate");
+      if (isParallel(generationContext, entities))
+      {
+         return generateInParallel(targetDir, template, entities);
+      }
 
-         JavaClassSource entity = (JavaClassSource) javaSource;
-         String targetDir = generationContext.getTargetDirectory();
-         targetDir = (targetDir == null) ? "" : targetDir;
-         getConfig().setProperty(FacesScaffoldProvider.class.getName() + "_targetDir", targetDir);
-         Resource<?> template = (Resource<?>) generationContext.getAttribute("pageTemplate");
+      List<Resource<?>> generatedResources = new ArrayList<>();
+      for (JavaClassSource entity : entities)
+      {
          List<Resource<?>> generatedResourcesForEntity = this.generateFromEntity(targetDir, template, entity);
 
          // TODO give plugins a chance to react to generated resources, use event bus?
@@ -696,145 +728,331 @@ public class FacesScaffoldProvider implements ScaffoldProvider
 
    private void resetMetaWidgets()
    {
-      ForgeConfigReader configReader = new ForgeConfigReader(getConfig(), this.project);
-
-      this.entityMetawidget = new StaticHtmlMetawidget();
-      this.entityMetawidget.setConfigReader(configReader);
-      this.entityMetawidget.setConfig(SCAFFOLD_META_WIDGET_ENTITY);
+      ForgeConfigReader configReader = new ForgeConfigReader(getConfig(), this.project, this.sourceInspectionCache);
 
-      this.searchMetawidget = new StaticHtmlMetawidget();
-      this.searchMetawidget.setConfigReader(configReader);
-      this.searchMetawidget.setConfig(SCAFFOLD_META_WIDGET_SEARCH);
-
-      this.beanMetawidget = new StaticHtmlMetawidget();
-      this.beanMetawidget.setConfigReader(configReader);
-      this.beanMetawidget.setConfig(SCAFFOLD_META_WIDGET_BEAN);
+      this.entityMetawidget = createHtmlMetawidget(configReader, SCAFFOLD_META_WIDGET_ENTITY);
+      this.searchMetawidget = createHtmlMetawidget(configReader, SCAFFOLD_META_WIDGET_SEARCH);
+      this.beanMetawidget = createHtmlMetawidget(configReader, SCAFFOLD_META_WIDGET_BEAN);
+      this.qbeMetawidget = createJavaMetawidget(configReader, SCAFFOLD_META_WIDGET_QBE);
+      this.rmEntityMetawidget = createJavaMetawidget(configReader, SCAFFOLD_META_WIDGET_REMOVE_ENTITY);
+   }
 
-      this.qbeMetawidget = new StaticJavaMetawidget();
-      this.qbeMetawidget.setConfigReader(configReader);
-      this.qbeMetawidget.setConfig(SCAFFOLD_META_WIDGET_QBE);
+   private static StaticHtmlMetawidget createHtmlMetawidget(ForgeConfigReader configReader, String config)
+   {
+      StaticHtmlMetawidget metawidget = new StaticHtmlMetawidget();
+      metawidget.setConfigReader(configReader);
+      metawidget.setConfig(config);
+      return metawidget;
+   }
 
-      this.rmEntityMetawidget = new StaticJavaMetawidget();
-      this.rmEntityMetawidget.setConfigReader(configReader);
-      this.rmEntityMetawidget.setConfig(SCAFFOLD_META_WIDGET_REMOVE_ENTITY);
+   private static StaticJavaMetawidget createJavaMetawidget(ForgeConfigReader configReader, String config)
+   {
+      StaticJavaMetawidget metawidget = new StaticJavaMetawidget();
+      metawidget.setConfigReader(configReader);
+      metawidget.setConfig(config);
+      return metawidget;
    }
 
-   @SuppressWarnings({ "unchecked", "rawtypes" })
    private List<Resource<?>> generateFromEntity(String targetDir, final Resource<?> template,
             final JavaClassSource entity)
    {
       resetMetaWidgets();
-
-      // Track the list of resources generated
-
-      List<Resource<?>> result = new ArrayList<>();
+      EntityScaffold scaffold = new EntityScaffold(entity, this.entityMetawidget, this.searchMetawidget,
+               this.beanMetawidget, this.qbeMetawidget, this.rmEntityMetawidget);
       try
       {
-         JavaSourceFacet java = this.project.getFacet(JavaSourceFacet.class);
-         WebResourcesFacet web = this.project.getFacet(WebResourcesFacet.class);
-         JPAFacet<PersistenceCommonDescriptor> jpa = this.project.getFacet(JPAFacet.class);
-
          loadTemplates();
-         Map<Object, Object> context = CollectionUtils.newHashMap();
-         context.put("entity", entity);
-         String ccEntity = StringUtils.decapitalize(entity.getName());
-         context.put("ccEntity", ccEntity);
-         context.put("rmEntity", ccEntity + "ToDelete");
-         setPrimaryKeyMetaData(context, entity);
-
-         // Prepare qbeMetawidget
-         this.qbeMetawidget.setPath(entity.getQualifiedName());
-         StringWriter stringWriter = new StringWriter();
-         this.qbeMetawidget.write(stringWriter, this.backingBeanTemplateQbeMetawidgetIndent);
-         context.put("qbeMetawidget", stringWriter.toString().trim());
-
-         // Prepare removeEntityMetawidget
-         this.rmEntityMetawidget.setPath(entity.getQualifiedName());
-         stringWriter = new StringWriter();
-         this.rmEntityMetawidget.write(stringWriter, this.backingBeanTemplateRmEntityMetawidgetIndent);
-         context.put("rmEntityMetawidget", stringWriter.toString().trim());
-
-         // Prepare Java imports
-         Set<String> qbeMetawidgetImports = this.qbeMetawidget.getImports();
-         Set<String> rmEntityMetawidgetImports = this.rmEntityMetawidget.getImports();
-         Set<String> metawidgetImports = CollectionUtils.newHashSet();
-         metawidgetImports.addAll(qbeMetawidgetImports);
-         metawidgetImports.addAll(rmEntityMetawidgetImports);
-         metawidgetImports.remove(entity.getQualifiedName());
-         context.put("metawidgetImports",
-                  CollectionUtils.toString(metawidgetImports, ";\r\nimport ", true, false));
-
-         // Prepare JPA Persistence Unit
-         context.put("persistenceUnitName", jpa.getConfig().getOrCreatePersistenceUnit().getName());
-
-         // Create the Backing Bean for this entity
-         JavaClassSource viewBean = Roaster.parse(JavaClassSource.class,
-                  FreemarkerTemplateProcessor.processTemplate(context, this.backingBeanTemplate));
-         viewBean.setPackage(java.getBasePackage() + "." + DEFAULT_FACES_PACKAGE);
-         result.add(ScaffoldUtil.createOrOverwrite(java.getJavaResource(viewBean), viewBean.toString()));
-
-         // Set new context for view generation
-         context = getTemplateContext(targetDir, template);
-         String beanName = StringUtils.decapitalize(viewBean.getName());
-         context.put("beanName", beanName);
-         context.put("ccEntity", ccEntity);
-         context.put("entityName", StringUtils.uncamelCase(entity.getName()));
-         setPrimaryKeyMetaData(context, entity);
-
-         // Prepare entityMetawidget
-         this.entityMetawidget.setValue(StaticFacesUtils.wrapExpression(beanName + "." + ccEntity));
-         this.entityMetawidget.setPath(entity.getQualifiedName());
-         this.entityMetawidget.setReadOnly(false);
-         this.entityMetawidget.setStyle(null);
-
-         // Generate create
-         writeEntityMetawidget(context, this.createTemplateEntityMetawidgetIndent, this.createTemplateNamespaces);
-
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource(targetDir + "/" + ccEntity + "/create.xhtml"),
-                  FreemarkerTemplateProcessor.processTemplate(context, this.createTemplate)));
-
-         // Generate view
-         this.entityMetawidget.setReadOnly(true);
-         writeEntityMetawidget(context, this.viewTemplateEntityMetawidgetIndent, this.viewTemplateNamespaces);
-
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource(targetDir + "/" + ccEntity + "/view.xhtml"),
-                  FreemarkerTemplateProcessor.processTemplate(context, this.viewTemplate)));
-
-         // Generate search
-         this.searchMetawidget.setValue(StaticFacesUtils.wrapExpression(beanName + ".example"));
-         this.searchMetawidget.setPath(entity.getQualifiedName());
-         this.beanMetawidget.setValue(StaticFacesUtils.wrapExpression(beanName + ".pageItems"));
-         this.beanMetawidget.setPath(viewBean.getQualifiedName() + "/pageItems");
-         writeSearchAndBeanMetawidget(context, this.searchTemplateSearchMetawidgetIndent,
-                  this.searchTemplateBeanMetawidgetIndent, this.searchTemplateNamespaces);
-
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource(targetDir + "/" + ccEntity + "/search.xhtml"),
-                  FreemarkerTemplateProcessor.processTemplate(context, this.searchTemplate)));
-
-         // Generate navigation
-         result.add(generateNavigation(targetDir));
+         prepareViewContext(scaffold, targetDir, template);
+         renderBackingBean(scaffold, getPersistenceUnitName(), getViewPackage());
+         writeBackingBean(scaffold);
+         renderCreateAndView(scaffold);
+         renderSearch(scaffold);
+         writePages(scaffold, targetDir);
+      }
+      catch (Exception e)
+      {
+         throw new RuntimeException("Error generating default scaffolding: " + e.getMessage(), e);
+      }
+      return scaffold.resources;
+   }
 
-         // Need ViewUtils and forge.taglib.xml for forgeview:asList
-         JavaClassSource viewUtils = Roaster.parse(JavaClassSource.class,
-                  FreemarkerTemplateProcessor.processTemplate(context, this.viewUtilsTemplate));
-         viewUtils.setPackage(viewBean.getPackage());
-         result.add(ScaffoldUtil.createOrOverwrite(java.getJavaResource(viewUtils), viewUtils.toString()));
+   /**
+    * Generates the given entities with a bounded {@link ForkJoinPool}, in a single resource transaction.
+    *
+    * The backing beans, create and view pages only inspect the entities, so they are rendered in parallel. The search
+    * pages inspect the backing beans, so they are rendered in parallel once all the backing beans are written. The
+    * pages are then written in the order of the entities, so that the navigation and the returned resources are the
+    * same as in {@link #generateFromEntity(String, Resource, JavaClassSource)}.
+    */
+   private List<Resource<?>> generateInParallel(String targetDir, final Resource<?> template,
+            List<JavaClassSource> entities)
+   {
+      // Templates and project metadata are loaded by the calling thread, the workers only read them
+      loadTemplates();
+      String persistenceUnitName = getPersistenceUnitName();
+      String viewPackage = getViewPackage();
+      List<EntityScaffold> scaffolds = new ArrayList<>();
+      for (JavaClassSource entity : entities)
+      {
+         // Each entity has its own Metawidgets, reset like in serial generation
+         ForgeConfigReader configReader = new ForgeConfigReader(getConfig(), this.project,
+                  this.sourceInspectionCache);
+         EntityScaffold scaffold = new EntityScaffold(entity,
+                  createHtmlMetawidget(configReader, SCAFFOLD_META_WIDGET_ENTITY),
+                  createHtmlMetawidget(configReader, SCAFFOLD_META_WIDGET_SEARCH),
+                  createHtmlMetawidget(configReader, SCAFFOLD_META_WIDGET_BEAN),
+                  createJavaMetawidget(configReader, SCAFFOLD_META_WIDGET_QBE),
+                  createJavaMetawidget(configReader, SCAFFOLD_META_WIDGET_REMOVE_ENTITY));
+         prepareViewContext(scaffold, targetDir, template);
+         scaffolds.add(scaffold);
+      }
 
-         context.put("viewPackage", viewBean.getPackage());
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource("WEB-INF/classes/META-INF/forge.taglib.xml"),
-                  FreemarkerTemplateProcessor.processTemplate(context, this.taglibTemplate)));
+      ResourceTransaction transaction = getResourceFactory().getTransaction();
+      boolean ownTransaction = !transaction.isStarted();
+      if (ownTransaction)
+      {
+         transaction.begin();
+      }
+      ForkJoinPool pool = createPool(scaffolds.size());
+      try
+      {
+         invokeAll(pool, scaffolds, scaffold -> {
+            renderBackingBean(scaffold, persistenceUnitName, viewPackage);
+            renderCreateAndView(scaffold);
+         });
+         for (EntityScaffold scaffold : scaffolds)
+         {
+            writeBackingBean(scaffold);
+         }
+         invokeAll(pool, scaffolds, this::renderSearch);
 
-         createInitializers(entity);
+         List<Resource<?>> result = new ArrayList<>();
+         for (EntityScaffold scaffold : scaffolds)
+         {
+            writePages(scaffold, targetDir);
+            result.addAll(scaffold.resources);
+         }
+         if (ownTransaction)
+         {
+            transaction.commit();
+         }
+         return result;
       }
       catch (Exception e)
       {
+         if (ownTransaction && transaction.isStarted())
+         {
+            transaction.rollback();
+         }
          throw new RuntimeException("Error generating default scaffolding: " + e.getMessage(), e);
       }
-      return result;
+      finally
+      {
+         pool.shutdown();
+      }
+   }
+
+   /**
+    * Returns <code>true</code> if the entities may be generated in parallel. Entities with {@link OneToOne} members
+    * are modified by {@link #createInitializers(JavaClassSource)} while the other entities are generated, so they are
+    * always generated serially.
+    */
+   private boolean isParallel(ScaffoldGenerationContext generationContext, List<JavaClassSource> entities)
+   {
+      Object parallel = generationContext.getAttribute(PARALLEL_ATTRIBUTE);
+      boolean enabled = (parallel == null) ? Boolean.getBoolean(PARALLEL_PROPERTY)
+               : Boolean.parseBoolean(parallel.toString());
+      if (!enabled || entities.size() < 2)
+      {
+         return false;
+      }
+      for (JavaClassSource entity : entities)
+      {
+         for (MemberSource<JavaClassSource, ?> member : entity.getMembers())
+         {
+            if (member.hasAnnotation(OneToOne.class))
+            {
+               return false;
+            }
+         }
+      }
+      return true;
+   }
+
+   private static ForkJoinPool createPool(int tasks)
+   {
+      ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+      int parallelism = Math.min(tasks, Runtime.getRuntime().availableProcessors());
+      return new ForkJoinPool(parallelism, pool -> {
+         ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+         thread.setName("Faces Scaffold " + thread.getPoolIndex());
+         thread.setContextClassLoader(contextClassLoader);
+         return thread;
+      }, null, false);
+   }
+
+   private static void invokeAll(ForkJoinPool pool, List<EntityScaffold> scaffolds, ScaffoldStep step)
+            throws Exception
+   {
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (EntityScaffold scaffold : scaffolds)
+      {
+         tasks.add(() -> {
+            step.apply(scaffold);
+            return null;
+         });
+      }
+      for (Future<Void> future : pool.invokeAll(tasks))
+      {
+         try
+         {
+            future.get();
+         }
+         catch (ExecutionException e)
+         {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception)
+            {
+               throw (Exception) cause;
+            }
+            throw (Error) cause;
+         }
+      }
+   }
+
+   private void renderBackingBean(EntityScaffold scaffold, String persistenceUnitName, String viewPackage)
+   {
+      JavaClassSource entity = scaffold.entity;
+      Map<Object, Object> context = CollectionUtils.newHashMap();
+      context.put("entity", entity);
+      context.put("ccEntity", scaffold.ccEntity);
+      context.put("rmEntity", scaffold.ccEntity + "ToDelete");
+      setPrimaryKeyMetaData(context, entity);
+
+      // Prepare qbeMetawidget
+      scaffold.qbeMetawidget.setPath(entity.getQualifiedName());
+      StringWriter stringWriter = new StringWriter();
+      scaffold.qbeMetawidget.write(stringWriter, this.backingBeanTemplateQbeMetawidgetIndent);
+      context.put("qbeMetawidget", stringWriter.toString().trim());
+
+      // Prepare removeEntityMetawidget
+      scaffold.rmEntityMetawidget.setPath(entity.getQualifiedName());
+      stringWriter = new StringWriter();
+      scaffold.rmEntityMetawidget.write(stringWriter, this.backingBeanTemplateRmEntityMetawidgetIndent);
+      context.put("rmEntityMetawidget", stringWriter.toString().trim());
+
+      // Prepare Java imports
+      Set<String> qbeMetawidgetImports = scaffold.qbeMetawidget.getImports();
+      Set<String> rmEntityMetawidgetImports = scaffold.rmEntityMetawidget.getImports();
+      Set<String> metawidgetImports = CollectionUtils.newHashSet();
+      metawidgetImports.addAll(qbeMetawidgetImports);
+      metawidgetImports.addAll(rmEntityMetawidgetImports);
+      metawidgetImports.remove(entity.getQualifiedName());
+      context.put("metawidgetImports",
+               CollectionUtils.toString(metawidgetImports, ";\r\nimport ", true, false));
+
+      // Prepare JPA Persistence Unit
+      context.put("persistenceUnitName", persistenceUnitName);
+
+      // Create the Backing Bean for this entity
+      scaffold.viewBean = Roaster.parse(JavaClassSource.class,
+               FreemarkerTemplateProcessor.processTemplate(context, this.backingBeanTemplate));
+      scaffold.viewBean.setPackage(viewPackage);
+      scaffold.beanName = StringUtils.decapitalize(scaffold.viewBean.getName());
+      scaffold.context.put("beanName", scaffold.beanName);
+   }
+
+   private void writeBackingBean(EntityScaffold scaffold)
+   {
+      JavaSourceFacet java = this.project.getFacet(JavaSourceFacet.class);
+      scaffold.resources.add(ScaffoldUtil.createOrOverwrite(java.getJavaResource(scaffold.viewBean),
+               scaffold.viewBean.toString()));
+   }
+
+   private void prepareViewContext(EntityScaffold scaffold, String targetDir, final Resource<?> template)
+   {
+      scaffold.context = getTemplateContext(targetDir, template);
+      scaffold.context.put("ccEntity", scaffold.ccEntity);
+      scaffold.context.put("entityName", StringUtils.uncamelCase(scaffold.entity.getName()));
+      setPrimaryKeyMetaData(scaffold.context, scaffold.entity);
+   }
+
+   private void renderCreateAndView(EntityScaffold scaffold)
+   {
+      // Prepare entityMetawidget
+      scaffold.entityMetawidget
+               .setValue(StaticFacesUtils.wrapExpression(scaffold.beanName + "." + scaffold.ccEntity));
+      scaffold.entityMetawidget.setPath(scaffold.entity.getQualifiedName());
+      scaffold.entityMetawidget.setReadOnly(false);
+      scaffold.entityMetawidget.setStyle(null);
+
+      // Generate create
+      writeEntityMetawidget(scaffold.entityMetawidget, scaffold.context, this.createTemplateEntityMetawidgetIndent,
+               this.createTemplateNamespaces);
+      scaffold.create = FreemarkerTemplateProcessor.processTemplate(scaffold.context, this.createTemplate);
+
+      // Generate view
+      scaffold.entityMetawidget.setReadOnly(true);
+      writeEntityMetawidget(scaffold.entityMetawidget, scaffold.context, this.viewTemplateEntityMetawidgetIndent,
+               this.viewTemplateNamespaces);
+      scaffold.view = FreemarkerTemplateProcessor.processTemplate(scaffold.context, this.viewTemplate);
+   }
+
+   /**
+    * Renders the search page, which inspects the backing bean written by {@link #writeBackingBean(EntityScaffold)}.
+    */
+   private void renderSearch(EntityScaffold scaffold)
+   {
+      scaffold.searchMetawidget.setValue(StaticFacesUtils.wrapExpression(scaffold.beanName + ".example"));
+      scaffold.searchMetawidget.setPath(scaffold.entity.getQualifiedName());
+      scaffold.beanMetawidget.setValue(StaticFacesUtils.wrapExpression(scaffold.beanName + ".pageItems"));
+      scaffold.beanMetawidget.setPath(scaffold.viewBean.getQualifiedName() + "/pageItems");
+      writeSearchAndBeanMetawidget(scaffold.searchMetawidget, scaffold.beanMetawidget, scaffold.context,
+               this.searchTemplateSearchMetawidgetIndent, this.searchTemplateBeanMetawidgetIndent,
+               this.searchTemplateNamespaces);
+      scaffold.search = FreemarkerTemplateProcessor.processTemplate(scaffold.context, this.searchTemplate);
+   }
+
+   private void writePages(EntityScaffold scaffold, String targetDir) throws Exception
+   {
+      JavaSourceFacet java = this.project.getFacet(JavaSourceFacet.class);
+      WebResourcesFacet web = this.project.getFacet(WebResourcesFacet.class);
+      List<Resource<?>> result = scaffold.resources;
+
+      result.add(ScaffoldUtil.createOrOverwrite(
+               web.getWebResource(targetDir + "/" + scaffold.ccEntity + "/create.xhtml"), scaffold.create));
+      result.add(ScaffoldUtil.createOrOverwrite(
+               web.getWebResource(targetDir + "/" + scaffold.ccEntity + "/view.xhtml"), scaffold.view));
+      result.add(ScaffoldUtil.createOrOverwrite(
+               web.getWebResource(targetDir + "/" + scaffold.ccEntity + "/search.xhtml"), scaffold.search));
+
+      // Generate navigation
+      result.add(generateNavigation(targetDir));
+
+      // Need ViewUtils and forge.taglib.xml for forgeview:asList
+      JavaClassSource viewUtils = Roaster.parse(JavaClassSource.class,
+               FreemarkerTemplateProcessor.processTemplate(scaffold.context, this.viewUtilsTemplate));
+      viewUtils.setPackage(scaffold.viewBean.getPackage());
+      result.add(ScaffoldUtil.createOrOverwrite(java.getJavaResource(viewUtils), viewUtils.toString()));
+
+      scaffold.context.put("viewPackage", scaffold.viewBean.getPackage());
+      result.add(ScaffoldUtil.createOrOverwrite(
+               web.getWebResource("WEB-INF/classes/META-INF/forge.taglib.xml"),
+               FreemarkerTemplateProcessor.processTemplate(scaffold.context, this.taglibTemplate)));
+
+      createInitializers(scaffold.entity);
+   }
+
+   @SuppressWarnings({ "unchecked", "rawtypes" })
+   private String getPersistenceUnitName()
+   {
+      JPAFacet<PersistenceCommonDescriptor> jpa = this.project.getFacet(JPAFacet.class);
+      return jpa.getConfig().getOrCreatePersistenceUnit().getName();
+   }
+
+   private String getViewPackage()
+   {
+      return this.project.getFacet(JavaSourceFacet.class).getBasePackage() + "." + DEFAULT_FACES_PACKAGE;
    }
 
    /**
@@ -842,12 +1060,18 @@ public class FacesScaffoldProvider implements ScaffoldProvider
     */
    protected void writeEntityMetawidget(final Map<Object, Object> context, final int entityMetawidgetIndent,
             final Map<String, String> existingNamespaces)
+   {
+      writeEntityMetawidget(this.entityMetawidget, context, entityMetawidgetIndent, existingNamespaces);
+   }
+
+   private void writeEntityMetawidget(final StaticHtmlMetawidget entityMetawidget, final Map<Object, Object> context,
+            final int entityMetawidgetIndent, final Map<String, String> existingNamespaces)
    {
       StringWriter stringWriter = new StringWriter();
-      this.entityMetawidget.write(stringWriter, entityMetawidgetIndent);
+      entityMetawidget.write(stringWriter, entityMetawidgetIndent);
       context.put("metawidget", stringWriter.toString().trim());
 
-      Map<String, String> namespaces = this.entityMetawidget.getNamespaces();
+      Map<String, String> namespaces = entityMetawidget.getNamespaces();
       namespaces.keySet().removeAll(existingNamespaces.keySet());
       context.put("metawidgetNamespaces", namespacesToString(namespaces));
    }
@@ -858,17 +1082,26 @@ public class FacesScaffoldProvider implements ScaffoldProvider
    protected void writeSearchAndBeanMetawidget(final Map<Object, Object> context, final int searchMetawidgetIndent,
             final int beanMetawidgetIndent,
             final Map<String, String> existingNamespaces)
+   {
+      writeSearchAndBeanMetawidget(this.searchMetawidget, this.beanMetawidget, context, searchMetawidgetIndent,
+               beanMetawidgetIndent, existingNamespaces);
+   }
+
+   private void writeSearchAndBeanMetawidget(final StaticHtmlMetawidget searchMetawidget,
+            final StaticHtmlMetawidget beanMetawidget, final Map<Object, Object> context,
+            final int searchMetawidgetIndent, final int beanMetawidgetIndent,
+            final Map<String, String> existingNamespaces)
    {
       StringWriter stringWriter = new StringWriter();
-      this.searchMetawidget.write(stringWriter, searchMetawidgetIndent);
+      searchMetawidget.write(stringWriter, searchMetawidgetIndent);
       context.put("searchMetawidget", stringWriter.toString().trim());
 
       stringWriter = new StringWriter();
-      this.beanMetawidget.write(stringWriter, beanMetawidgetIndent);
+      beanMetawidget.write(stringWriter, beanMetawidgetIndent);
       context.put("beanMetawidget", stringWriter.toString().trim());
 
-      Map<String, String> namespaces = this.searchMetawidget.getNamespaces();
-      namespaces.putAll(this.beanMetawidget.getNamespaces());
+      Map<String, String> namespaces = searchMetawidget.getNamespaces();
+      namespaces.putAll(beanMetawidget.getNamespaces());
       namespaces.keySet().removeAll(existingNamespaces.keySet());
       context.put("metawidgetNamespaces", namespacesToString(namespaces));
    }
@@ -1019,4 +1252,50 @@ public class FacesScaffoldProvider implements ScaffoldProvider
    {
       return SimpleContainer.getServices(getClass().getClassLoader(), Configuration.class).get();
    }
+
+   private ResourceFactory getResourceFactory()
+   {
+      return SimpleContainer.getServices(getClass().getClassLoader(), ResourceFactory.class).get();
+   }
+
+   @FunctionalInterface
+   private interface ScaffoldStep
+   {
+      void apply(EntityScaffold scaffold) throws Exception;
+   }
+
+   /**
+    * The Metawidgets and the rendered pages of an entity, which are confined to the thread generating the entity at a
+    * given time.
+    */
+   private static class EntityScaffold
+   {
+      final JavaClassSource entity;
+      final String ccEntity;
+      final StaticHtmlMetawidget entityMetawidget;
+      final StaticHtmlMetawidget searchMetawidget;
+      final StaticHtmlMetawidget beanMetawidget;
+      final StaticJavaMetawidget qbeMetawidget;
+      final StaticJavaMetawidget rmEntityMetawidget;
+      final List<Resource<?>> resources = new ArrayList<>();
+      JavaClassSource viewBean;
+      String beanName;
+      Map<Object, Object> context;
+      String create;
+      String view;
+      String search;
+
+      EntityScaffold(JavaClassSource entity, StaticHtmlMetawidget entityMetawidget,
+               StaticHtmlMetawidget searchMetawidget, StaticHtmlMetawidget beanMetawidget,
+               StaticJavaMetawidget qbeMetawidget, StaticJavaMetawidget rmEntityMetawidget)
+      {
+         this.entity = entity;
+         this.ccEntity = StringUtils.decapitalize(entity.getName());
+         this.entityMetawidget = entityMetawidget;
+         this.searchMetawidget = searchMetawidget;
+         this.beanMetawidget = beanMetawidget;
+         this.qbeMetawidget = qbeMetawidget;
+         this.rmEntityMetawidget = rmEntityMetawidget;
+      }
+   }
 }
@@ -99,7 +99,7 @@ public class FreemarkerTemplateProcessor
    /**
     * @return the freemarkerConfig
     */
-   private static freemarker.template.Configuration getFreemarkerConfig()
+   private static synchronized freemarker.template.Configuration getFreemarkerConfig()
    {
       if (freemarkerConfig == null)
       {
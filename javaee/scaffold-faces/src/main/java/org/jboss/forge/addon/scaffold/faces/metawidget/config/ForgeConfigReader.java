@@ -8,6 +8,7 @@ package org.jboss.forge.addon.scaffold.faces.metawidget.config;
 
 import org.jboss.forge.addon.configuration.Configuration;
 import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.SourceInspectionCache;
 import org.metawidget.config.impl.BaseConfigReader;
 
 /**
@@ -27,6 +28,8 @@ public class ForgeConfigReader
 
    private static final String PROJECT_ELEMENT_NAME = "forgeProject";
 
+   private static final String SOURCE_INSPECTION_CACHE_ELEMENT_NAME = "forgeSourceInspectionCache";
+
    //
    // Private members
    //
@@ -35,14 +38,22 @@ public class ForgeConfigReader
 
    private Project project;
 
+   private SourceInspectionCache sourceInspectionCache;
+
    //
    // Constructor
    //
 
    public ForgeConfigReader(Configuration config, Project project)
+   {
+      this(config, project, new SourceInspectionCache());
+   }
+
+   public ForgeConfigReader(Configuration config, Project project, SourceInspectionCache sourceInspectionCache)
    {
       this.config = config;
       this.project = project;
+      this.sourceInspectionCache = sourceInspectionCache;
    }
 
    //
@@ -62,6 +73,11 @@ public class ForgeConfigReader
          return true;
       }
 
+      if (SOURCE_INSPECTION_CACHE_ELEMENT_NAME.equals(name))
+      {
+         return true;
+      }
+
       return super.isNative(name);
    }
 
@@ -78,6 +94,11 @@ public class ForgeConfigReader
          return this.config;
       }
 
+      if (SOURCE_INSPECTION_CACHE_ELEMENT_NAME.equals(name))
+      {
+         return this.sourceInspectionCache;
+      }
+
       return super.createNative(name, namespace, recordedText);
    }
 }
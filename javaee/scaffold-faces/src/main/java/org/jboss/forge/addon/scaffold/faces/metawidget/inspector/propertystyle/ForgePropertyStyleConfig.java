@@ -9,6 +9,7 @@ package org.jboss.forge.addon.scaffold.faces.metawidget.inspector.propertystyle;
 import java.text.MessageFormat;
 
 import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.SourceInspectionCache;
 import org.metawidget.inspector.impl.propertystyle.javabean.JavaBeanPropertyStyleConfig;
 import org.metawidget.util.simple.ObjectUtils;
 
@@ -28,6 +29,8 @@ public class ForgePropertyStyleConfig
 
    private Project project;
 
+   private SourceInspectionCache sourceInspectionCache;
+
    //
    // Public methods
    //
@@ -38,6 +41,17 @@ public class ForgePropertyStyleConfig
       return this;
    }
 
+   /**
+    * Sets the sources inspected during the current scaffold run. If not set, each <tt>ForgePropertyStyle</tt> parses
+    * the sources it inspects itself.
+    */
+
+   public ForgePropertyStyleConfig setSourceInspectionCache(SourceInspectionCache sourceInspectionCache)
+   {
+      this.sourceInspectionCache = sourceInspectionCache;
+      return this;
+   }
+
    /**
     * Overridden to use covariant return type.
     *
@@ -70,6 +84,11 @@ public class ForgePropertyStyleConfig
          return false;
       }
 
+      if (this.sourceInspectionCache != ((ForgePropertyStyleConfig) that).sourceInspectionCache)
+      {
+         return false;
+      }
+
       return super.equals(that);
    }
 
@@ -79,6 +98,7 @@ public class ForgePropertyStyleConfig
 
       int hashCode = super.hashCode();
       hashCode = 31 * hashCode + ObjectUtils.nullSafeHashCode(this.project);
+      hashCode = 31 * hashCode + ObjectUtils.nullSafeHashCode(this.sourceInspectionCache);
 
       return hashCode;
    }
@@ -92,6 +112,11 @@ public class ForgePropertyStyleConfig
       return this.project;
    }
 
+   protected SourceInspectionCache getSourceInspectionCache()
+   {
+      return this.sourceInspectionCache;
+   }
+
    /**
     * Overridden so that is exposed to ForgePropertyStyle.
     */
@@ -10,16 +10,29 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import javax.persistence.CascadeType;
+import javax.persistence.FetchType;
+
 import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.javaee.jpa.JPAFieldOperations;
 import org.jboss.forge.addon.javaee.servlet.ServletFacet_3_1;
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.parser.java.resources.JavaResource;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFacet;
 import org.jboss.forge.addon.projects.ProjectFactory;
 import org.jboss.forge.addon.projects.facets.WebResourcesFacet;
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.scaffold.spi.ScaffoldGenerationContext;
 import org.jboss.forge.addon.shell.test.ShellTest;
 import org.jboss.forge.addon.ui.result.CompositeResult;
 import org.jboss.forge.addon.ui.result.Failed;
@@ -116,6 +129,67 @@ public class FacesScaffoldTest
       Assert.assertThat(result, not(instanceOf(Failed.class)));
    }
 
+   @Test
+   public void shouldGenerateSameResourcesInParallel() throws Exception
+   {
+      Assert.assertThat(shellTest.execute("javaee-setup --java-ee-version 7", 10, TimeUnit.SECONDS),
+               not(instanceOf(Failed.class)));
+      Assert.assertThat(shellTest.execute("jpa-setup", 10, TimeUnit.SECONDS), not(instanceOf(Failed.class)));
+      for (String entity : Arrays.asList("Customer", "Publisher", "Author", "Book"))
+      {
+         Assert.assertThat(shellTest.execute("jpa-new-entity --named " + entity, 10, TimeUnit.SECONDS),
+                  not(instanceOf(Failed.class)));
+         Assert.assertThat(shellTest.execute("jpa-new-field --named name", 10, TimeUnit.SECONDS),
+                  not(instanceOf(Failed.class)));
+      }
+      Project project = projectFactory.findProject(shellTest.getShell().getCurrentResource());
+      JavaSourceFacet java = project.getFacet(JavaSourceFacet.class);
+      String entityPackageName = java.getBasePackage() + ".model";
+      JPAFieldOperations fieldOperations = SimpleContainer
+               .getServices(getClass().getClassLoader(), JPAFieldOperations.class).get();
+      JavaResource book = java.getJavaResource(entityPackageName + ".Book");
+      fieldOperations.newManyToOneRelationship(project, book, "publisher", entityPackageName + ".Publisher", "books",
+               FetchType.EAGER, false, Collections.<CascadeType> emptyList());
+      fieldOperations.newManyToOneRelationship(project, book, "author", entityPackageName + ".Author", "books",
+               FetchType.EAGER, false, Collections.<CascadeType> emptyList());
+      Assert.assertThat(shellTest.execute("scaffold-setup --provider Faces", 10, TimeUnit.SECONDS),
+               not(instanceOf(Failed.class)));
+
+      List<Resource<?>> entities = new ArrayList<>();
+      for (String entity : Arrays.asList("Customer", "Publisher", "Author", "Book"))
+      {
+         entities.add(java.getJavaResource(entityPackageName + "." + entity));
+      }
+      FacesScaffoldProvider provider = SimpleContainer
+               .getServices(getClass().getClassLoader(), FacesScaffoldProvider.class).get();
+
+      // The parallel run goes first, on a project where nothing has been generated yet
+      Map<String, String> parallel = generate(provider, project, entities, true);
+      for (String generated : parallel.keySet())
+      {
+         project.getRoot().getResourceFactory().create(new File(generated)).delete();
+      }
+      Map<String, String> serial = generate(provider, project, entities, false);
+      Assert.assertEquals(serial.keySet().toString(), parallel.keySet().toString());
+      for (Map.Entry<String, String> entry : serial.entrySet())
+      {
+         Assert.assertEquals(entry.getKey(), entry.getValue(), parallel.get(entry.getKey()));
+      }
+   }
+
+   private Map<String, String> generate(FacesScaffoldProvider provider, Project project, List<Resource<?>> entities,
+            boolean parallel)
+   {
+      ScaffoldGenerationContext generationContext = new ScaffoldGenerationContext("/admin", entities, project);
+      generationContext.addAttribute(FacesScaffoldProvider.PARALLEL_ATTRIBUTE, parallel);
+      Map<String, String> contents = new LinkedHashMap<>();
+      for (Resource<?> resource : provider.generateFrom(generationContext))
+      {
+         contents.put(resource.getFullyQualifiedName(), resource.getContents());
+      }
+      return contents;
+   }
+
    @After
    public void tearDown() throws Exception
    {
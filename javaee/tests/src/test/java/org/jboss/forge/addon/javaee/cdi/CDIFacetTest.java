@@ -9,6 +9,10 @@ package org.jboss.forge.addon.javaee.cdi;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
 import javax.inject.Inject;
 
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -17,6 +21,7 @@ import org.jboss.forge.addon.facets.FacetFactory;
 import org.jboss.forge.addon.facets.FacetIsAmbiguousException;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFactory;
+import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.arquillian.AddonDependencies;
 import org.jboss.forge.arquillian.AddonDependency;
 import org.jboss.forge.arquillian.archive.AddonArchive;
@@ -106,4 +111,36 @@ public class CDIFacetTest
       Assert.assertFalse(project.hasFacet(CDIFacet_1_1.class));
    }
 
+   @Test
+   public void testBeansXMLChangedOutsideForge() throws Exception
+   {
+      CDIFacet<?> cdiFacet = facetFactory.install(project, CDIFacet_1_0.class);
+      Path beansXml = cdiFacet.getConfigFile().getUnderlyingResourceObject().toPath();
+      byte[] contents = Files.readAllBytes(beansXml);
+      Resource<?> root = project.getRoot();
+      try
+      {
+         // As done by a git checkout, without going through the resources API
+         Files.delete(beansXml);
+         waitFor(() -> !projectFactory.findProject(root).hasFacet(CDIFacet.class));
+
+         Files.write(beansXml, contents);
+         waitFor(() -> projectFactory.findProject(root).hasFacet(CDIFacet.class));
+      }
+      finally
+      {
+         root.delete(true);
+      }
+   }
+
+   private static void waitFor(BooleanSupplier condition) throws InterruptedException
+   {
+      long deadline = System.currentTimeMillis() + 15_000;
+      while (!condition.getAsBoolean())
+      {
+         Assert.assertTrue("Timed out waiting for the project to be discovered again",
+                  System.currentTimeMillis() < deadline);
+         Thread.sleep(50);
+      }
+   }
 }
\ No newline at end of file
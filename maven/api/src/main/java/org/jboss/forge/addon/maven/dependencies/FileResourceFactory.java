@@ -75,6 +75,12 @@ class FileResourceFactory implements ResourceFactory
       throw new UnsupportedOperationException();
    }
 
+   @Override
+   public ResourceMonitor monitor(Resource<?> resource, ResourceFilter resourceFilter, boolean recursive)
+   {
+      throw new UnsupportedOperationException();
+   }
+
    @Override
    public ResourceTransaction getTransaction()
    {
@@ -121,7 +121,7 @@ public class MavenPluginAdapter extends org.apache.maven.model.Plugin implements
       setGroupId(clone.getGroupId());
       setArtifactId(clone.getArtifactId());
       setVersion(clone.getVersion());
-      setConfiguration(plugin.getConfiguration());
+      setConfiguration(clone.getConfiguration());
       setExecutions(clone.getExecutions());
       setExtensions(clone.getExtensions());
       setDependencies(clone.getDependencies());
@@ -9,6 +9,7 @@ package org.jboss.forge.addon.maven.projects;
 import java.io.PrintStream;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.maven.model.Model;
 import org.jboss.forge.addon.maven.resources.MavenModelResource;
@@ -39,6 +40,34 @@ public interface MavenFacet extends ProvidedProjectFacet
     */
    void setModel(Model pom);
 
+   /**
+    * Get the current Maven {@link Model} for this {@link Project} without copying it. The returned instance is shared
+    * and must not be modified. See {@link MavenModelResource#getReadOnlyModel()}.
+    */
+   default Model getReadOnlyModel()
+   {
+      return getModelResource().getReadOnlyModel();
+   }
+
+   /**
+    * Returns the version of the current Maven {@link Model} for this {@link Project}. See
+    * {@link MavenModelResource#getModelVersion()}.
+    */
+   default long getModelVersion()
+   {
+      return getModelResource().getModelVersion();
+   }
+
+   /**
+    * Applies the given changes to a copy of the current Maven {@link Model} for this {@link Project} and sets it once.
+    */
+   default void updateModel(Consumer<Model> editor)
+   {
+      Model pom = getModel();
+      editor.accept(pom);
+      setModel(pom);
+   }
+
    /**
     * Get a {@link Map} of all resolvable project properties.
     */
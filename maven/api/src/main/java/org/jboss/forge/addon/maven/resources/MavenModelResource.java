@@ -6,6 +6,8 @@
  */
 package org.jboss.forge.addon.maven.resources;
 
+import java.util.function.Consumer;
+
 import org.apache.maven.model.Model;
 import org.jboss.forge.addon.parser.xml.resources.XMLResource;
 import org.jboss.forge.addon.resource.FileResource;
@@ -25,6 +27,21 @@ public interface MavenModelResource extends XMLResource
     */
    Model getCurrentModel();
 
+   /**
+    * Get the current project {@link Model} without copying it. The returned instance is shared with other callers and
+    * must not be modified: use {@link #getCurrentModel()} or {@link #updateModel(Consumer)} to make changes.
+    * <p>
+    * Modifications are not detected. They are seen by every other caller until the POM changes, and they are also used
+    * as the baseline of the next {@link #setCurrentModel(Model)}, so the sections they touched may not be written.
+    */
+   Model getReadOnlyModel();
+
+   /**
+    * Returns the version of the current project {@link Model}. The version changes whenever the POM contents change,
+    * so it may be used as a key for data derived from the {@link Model}.
+    */
+   long getModelVersion();
+
    /**
     * Sets the current project {@link Model}
     * 
@@ -33,4 +50,17 @@ public interface MavenModelResource extends XMLResource
     */
    MavenModelResource setCurrentModel(Model model);
 
+   /**
+    * Applies the given changes to a copy of the current project {@link Model} and writes it to disk once
+    * 
+    * @param editor the changes to be made
+    * @return this {@link MavenModelResource} instance
+    */
+   default MavenModelResource updateModel(Consumer<Model> editor)
+   {
+      Model model = getCurrentModel();
+      editor.accept(model);
+      return setCurrentModel(model);
+   }
+
 }
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects;
+
+import org.apache.maven.project.ProjectBuildingResult;
+
+/**
+ * A snapshot of the statistics of the cache of {@link ProjectBuildingResult} objects used by the Maven projects.
+ *
+ * @see MavenFacetImpl#getBuildCacheStatistics()
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class BuildCacheStatistics
+{
+   private final int size;
+   private final long hits;
+   private final long misses;
+   private final long evictions;
+   private final long builds;
+   private final long buildTimeMillis;
+
+   BuildCacheStatistics(int size, long hits, long misses, long evictions, long builds, long buildTimeMillis)
+   {
+      this.size = size;
+      this.hits = hits;
+      this.misses = misses;
+      this.evictions = evictions;
+      this.builds = builds;
+      this.buildTimeMillis = buildTimeMillis;
+   }
+
+   /**
+    * Returns the number of results currently cached
+    */
+   public int getSize()
+   {
+      return size;
+   }
+
+   /**
+    * Returns how many times a cached result was returned
+    */
+   public long getHits()
+   {
+      return hits;
+   }
+
+   /**
+    * Returns how many times no valid result was cached
+    */
+   public long getMisses()
+   {
+      return misses;
+   }
+
+   /**
+    * Returns how many results were discarded, either because a POM changed or to keep the cache bounded
+    */
+   public long getEvictions()
+   {
+      return evictions;
+   }
+
+   /**
+    * Returns how many times a project was built
+    */
+   public long getBuilds()
+   {
+      return builds;
+   }
+
+   /**
+    * Returns the total time spent building projects, in milliseconds
+    */
+   public long getBuildTimeMillis()
+   {
+      return buildTimeMillis;
+   }
+
+   @Override
+   public String toString()
+   {
+      return "size=" + size + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", builds="
+               + builds + ", buildTime=" + buildTimeMillis + "ms";
+   }
+}
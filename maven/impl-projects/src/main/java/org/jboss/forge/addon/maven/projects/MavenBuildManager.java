@@ -8,14 +8,19 @@ package org.jboss.forge.addon.maven.projects;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.execution.DefaultMavenExecutionRequest;
 import org.apache.maven.execution.MavenExecutionRequest;
 import org.apache.maven.execution.MavenExecutionRequestPopulator;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
@@ -26,6 +31,7 @@ import org.apache.maven.settings.Profile;
 import org.apache.maven.settings.Proxy;
 import org.apache.maven.settings.Repository;
 import org.apache.maven.settings.Settings;
+import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.repository.LocalRepository;
@@ -33,9 +39,13 @@ import org.eclipse.aether.util.repository.DefaultMirrorSelector;
 import org.eclipse.aether.util.repository.DefaultProxySelector;
 import org.jboss.forge.addon.environment.Environment;
 import org.jboss.forge.addon.maven.environment.Network;
+import org.jboss.forge.addon.maven.projects.util.PropertyInterpolator;
 import org.jboss.forge.addon.maven.projects.util.RepositoryUtils;
 import org.jboss.forge.addon.maven.resources.MavenModelResource;
+import org.jboss.forge.addon.maven.util.MavenSettingsUtils;
 import org.jboss.forge.addon.resource.monitor.ResourceMonitor;
+import org.jboss.forge.addon.resource.util.FileStamp;
+import org.jboss.forge.addon.resource.util.ResourceUtil;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
 import org.jboss.forge.furnace.manager.maven.MavenContainer;
 import org.jboss.forge.furnace.util.Assert;
@@ -47,8 +57,15 @@ import org.jboss.forge.furnace.util.Assert;
  */
 public class MavenBuildManager
 {
-   // TODO: Replace this with a Cache implementation
-   private Map<MavenModelResource, ProjectBuildingResult> cache = new WeakHashMap<>();
+   private static final Logger log = Logger.getLogger(MavenBuildManager.class.getName());
+
+   private final ProjectBuildingResultCache cache = new ProjectBuildingResultCache();
+   private final Map<String, ResourceMonitor> monitors = new ConcurrentHashMap<>();
+   private final Map<String, PomDigest> digests = new ConcurrentHashMap<>();
+   private final ReactorWorkspaceReader workspaceReader = new ReactorWorkspaceReader();
+   private final Map<ProjectBuildingResult, PropertyInterpolator> interpolators = Collections
+            .synchronizedMap(new WeakHashMap<>());
+   private volatile RequestTemplate template;
    private MavenContainer container = new MavenContainer();
    private Environment environment;
    private PlexusContainer plexus;
@@ -57,50 +74,98 @@ public class MavenBuildManager
 
    ProjectBuildingResult getProjectBuildingResult(MavenModelResource pomResource) throws ProjectBuildingException
    {
-      ProjectBuildingResult result = cache.get(pomResource);
-      if (result == null)
-      {
+      File pomFile = pomResource.getUnderlyingResourceObject();
+      String path = ProjectBuildingResultCache.canonicalPath(pomFile);
+      // FORGE-1287
+      boolean inTransaction = !pomFile.exists();
+      return cache.get(path, getDigest(path, pomResource, inTransaction), () -> {
+         ProjectBuildingRequest request = getProjectBuildingRequest();
+         Assert.notNull(request, "Project building request was null");
+         request.setResolveDependencies(true);
+         long start = System.currentTimeMillis();
          try
          {
-            ProjectBuildingRequest request = getProjectBuildingRequest();
-            Assert.notNull(request, "Project building request was null");
-            request.setResolveDependencies(true);
-            boolean inTransaction = !pomResource.getUnderlyingResourceObject().exists();
-            // FORGE-1287
             if (inTransaction)
             {
-               result = getBuilder().build(new FileResourceModelSource(pomResource), request);
                // If under a transaction, don't start monitoring
+               return getBuilder().build(new FileResourceModelSource(pomResource), request);
             }
             else
             {
-               result = getBuilder().build(pomResource.getUnderlyingResourceObject(), request);
-               monitorResource(pomResource);
+               ProjectBuildingResult result = getBuilder().build(pomFile, request);
+               workspaceReader.register(result.getProject());
+               monitorResource(path, pomResource);
+               return result;
             }
          }
-         catch (ProjectBuildingException pbe)
+         finally
          {
-            List<ProjectBuildingResult> results = pbe.getResults();
-            if (results != null && results.size() > 0)
-               result = results.get(0);
-            throw pbe;
+            if (log.isLoggable(Level.FINE))
+            {
+               log.fine("Built " + path + " in " + (System.currentTimeMillis() - start) + "ms. Cache statistics: "
+                        + cache.getStatistics());
+            }
          }
-         finally
+      });
+   }
+
+   /**
+    * Returns the digest of the POM contents. The digest is only recalculated when the file size or last modified time
+    * changes, or when the contents are held by a transaction.
+    */
+   private String getDigest(String path, MavenModelResource pomResource, boolean inTransaction)
+   {
+      File pomFile = pomResource.getUnderlyingResourceObject();
+      long length = pomFile.length();
+      long lastModified = pomFile.lastModified();
+      PomDigest digest = digests.get(path);
+      if (inTransaction || digest == null || !digest.stamp.isValidFor(length, lastModified))
+      {
+         byte[] bytes = ResourceUtil.getDigest(pomResource);
+         StringBuilder sb = new StringBuilder(bytes.length * 2);
+         for (byte b : bytes)
+         {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+         }
+         digest = new PomDigest(sb.toString(), length, lastModified);
+         if (!inTransaction)
          {
-            if (result != null)
-               cache.put(pomResource, result);
+            digests.put(path, digest);
          }
       }
-      return result;
+      return digest.value;
    }
 
-   private void monitorResource(final MavenModelResource pomResource)
+   private void monitorResource(final String path, final MavenModelResource pomResource)
    {
-      final ResourceMonitor monitor = pomResource.monitor();
-      monitor.addResourceListener((event) -> {
-         cache.remove(pomResource);
-         monitor.cancel();
-      });
+      if (!monitors.containsKey(path))
+      {
+         final ResourceMonitor monitor = pomResource.monitor();
+         if (monitors.putIfAbsent(path, monitor) != null)
+         {
+            monitor.cancel();
+            return;
+         }
+         monitor.addResourceListener((event) -> {
+            monitors.remove(path, monitor);
+            monitor.cancel();
+            evictFromCache(path);
+         });
+      }
+   }
+
+   /**
+    * Returns the {@link PropertyInterpolator} for the properties of the given {@link ProjectBuildingResult}
+    */
+   PropertyInterpolator getPropertyInterpolator(ProjectBuildingResult result)
+   {
+      return interpolators.computeIfAbsent(result,
+               (key) -> new PropertyInterpolator(key.getProject().getProperties()));
+   }
+
+   BuildCacheStatistics getCacheStatistics()
+   {
+      return cache.getStatistics();
    }
 
    ProjectBuildingRequest getProjectBuildingRequest()
@@ -109,6 +174,46 @@ public class MavenBuildManager
    }
 
    ProjectBuildingRequest getProjectBuildingRequest(final boolean offline)
+   {
+      RequestTemplate current = getRequestTemplate();
+      ProjectBuildingRequest request = new DefaultProjectBuildingRequest(current.request);
+      request.setRemoteRepositories(new ArrayList<>(current.request.getRemoteRepositories()));
+      request.setSystemProperties(System.getProperties());
+      DefaultRepositorySystemSession repositorySession = new DefaultRepositorySystemSession(current.session);
+      repositorySession.setOffline(offline);
+      // Resolved descriptors are only shared by the POM files of one build, so that artifacts installed in the local
+      // repository since are read again. Reactor modules resolve each other through the workspace reader.
+      repositorySession.setCache(new DefaultRepositoryCache());
+      request.setRepositorySession(repositorySession);
+      request.setProcessPlugins(false);
+      request.setResolveDependencies(false);
+      return request;
+   }
+
+   /**
+    * Returns the settings-derived part of the {@link ProjectBuildingRequest}, creating it again only if the settings
+    * files changed
+    */
+   private RequestTemplate getRequestTemplate()
+   {
+      String settingsStamp = MavenSettingsUtils.getSettingsStamp();
+      RequestTemplate current = template;
+      if (current == null || !current.settingsStamp.equals(settingsStamp))
+      {
+         synchronized (this)
+         {
+            current = template;
+            if (current == null || !current.settingsStamp.equals(settingsStamp))
+            {
+               current = createRequestTemplate(settingsStamp);
+               template = current;
+            }
+         }
+      }
+      return current;
+   }
+
+   private RequestTemplate createRequestTemplate(String settingsStamp)
    {
       ClassLoader cl = Thread.currentThread().getContextClassLoader();
       try
@@ -146,7 +251,6 @@ public class MavenBuildManager
             }
          }
          request.setRemoteRepositories(settingsRepos);
-         request.setSystemProperties(System.getProperties());
 
          DefaultRepositorySystemSession repositorySession = MavenRepositorySystemUtils.newSession();
          Proxy activeProxy = settings.getActiveProxy();
@@ -158,7 +262,7 @@ public class MavenBuildManager
          }
          LocalRepository localRepo = new LocalRepository(settings.getLocalRepository());
          repositorySession.setLocalRepositoryManager(system.newLocalRepositoryManager(repositorySession, localRepo));
-         repositorySession.setOffline(offline);
+         repositorySession.setWorkspaceReader(workspaceReader);
          List<Mirror> mirrors = executionRequest.getMirrors();
          if (mirrors != null)
          {
@@ -172,9 +276,7 @@ public class MavenBuildManager
          }
 
          request.setRepositorySession(repositorySession);
-         request.setProcessPlugins(false);
-         request.setResolveDependencies(false);
-         return request;
+         return new RequestTemplate(settingsStamp, request, repositorySession);
       }
       catch (RuntimeException e)
       {
@@ -209,7 +311,14 @@ public class MavenBuildManager
 
    void evictFromCache(MavenModelResource pom)
    {
-      cache.remove(pom);
+      evictFromCache(ProjectBuildingResultCache.canonicalPath(pom.getUnderlyingResourceObject()));
+   }
+
+   private void evictFromCache(String path)
+   {
+      digests.remove(path);
+      cache.invalidate(path);
+      workspaceReader.unregister(new File(path));
    }
 
    /**
@@ -222,6 +331,35 @@ public class MavenBuildManager
       return plexus;
    }
 
+   /**
+    * The settings-derived part of a {@link ProjectBuildingRequest}
+    */
+   private static class RequestTemplate
+   {
+      private final String settingsStamp;
+      private final ProjectBuildingRequest request;
+      private final DefaultRepositorySystemSession session;
+
+      RequestTemplate(String settingsStamp, ProjectBuildingRequest request, DefaultRepositorySystemSession session)
+      {
+         this.settingsStamp = settingsStamp;
+         this.request = request;
+         this.session = session;
+      }
+   }
+
+   private static class PomDigest
+   {
+      private final String value;
+      private final FileStamp stamp;
+
+      PomDigest(String value, long length, long lastModified)
+      {
+         this.value = value;
+         this.stamp = new FileStamp(length, lastModified);
+      }
+   }
+
    private Environment getEnvironment()
    {
       if (environment == null)
@@ -6,6 +6,8 @@
  */
 package org.jboss.forge.addon.maven.projects;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
@@ -14,6 +16,9 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Plugin;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.jboss.forge.addon.facets.FacetFactory;
 import org.jboss.forge.addon.maven.projects.facets.MavenDependencyFacet;
 import org.jboss.forge.addon.maven.projects.facets.MavenEnterpriseResourcesFacet;
@@ -36,6 +41,8 @@ import org.jboss.forge.addon.projects.facets.PackagingFacet;
 import org.jboss.forge.addon.projects.facets.ResourcesFacet;
 import org.jboss.forge.addon.projects.facets.WebResourcesFacet;
 import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.resource.events.ResourceEvent;
+import org.jboss.forge.addon.resource.events.ResourceModified;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
 
 /**
@@ -58,7 +65,7 @@ public class MavenBuildSystemImpl extends AbstractProjectProvider implements Mav
    @Override
    public Project createProject(final Resource<?> target)
    {
-      Project project = new MavenProject(target);
+      MavenProject project = new MavenProject(target);
       FacetFactory factory = SimpleContainer.getServices(getClass().getClassLoader(), FacetFactory.class).get();
       try
       {
@@ -76,6 +83,15 @@ public class MavenBuildSystemImpl extends AbstractProjectProvider implements Mav
             log.log(Level.FINE, "Could not install [" + MavenWebResourcesFacet.class.getName() + "] into project ["
                      + project + "]", e);
          }
+         try
+         {
+            project.setFacetDirectories(getFacetDirectories(project));
+            project.setFacetDescriptorDirectories(getFacetDescriptorDirectories(project));
+         }
+         catch (RuntimeException e)
+         {
+            log.log(Level.FINE, "Could not read the facet directories of project [" + project + "]", e);
+         }
       }
       catch (RuntimeException e)
       {
@@ -110,6 +126,125 @@ public class MavenBuildSystemImpl extends AbstractProjectProvider implements Mav
       return Collections.unmodifiableSet(result);
    }
 
+   @Override
+   public boolean isFacetRegistrationChange(Project project, ResourceEvent event)
+   {
+      Resource<?> resource = event.getResource();
+      Path path = Paths.get(resource.getFullyQualifiedName());
+      Path root = Paths.get(project.getRoot().getFullyQualifiedName());
+      if (path.equals(root.resolve("pom.xml")))
+      {
+         return true;
+      }
+      Set<Path> facetDirectories = project instanceof MavenProject ? ((MavenProject) project).getFacetDirectories()
+               : null;
+      Set<Path> descriptorDirectories = project instanceof MavenProject
+               ? ((MavenProject) project).getFacetDescriptorDirectories() : null;
+      if (facetDirectories == null || descriptorDirectories == null)
+      {
+         // The POM could not be read when the project was created
+         return true;
+      }
+      // Facets such as CDI or JPA are installed by the presence and the contents of their descriptors
+      for (Path directory : descriptorDirectories)
+      {
+         if (path.startsWith(directory))
+         {
+            return true;
+         }
+      }
+      if (event instanceof ResourceModified)
+      {
+         // Other facets are only installed by the presence of directories
+         return false;
+      }
+      // A directory installing a facet or holding descriptors, or one of its parents, was created or deleted
+      for (Path directory : facetDirectories)
+      {
+         if (directory.startsWith(path))
+         {
+            return true;
+         }
+      }
+      for (Path directory : descriptorDirectories)
+      {
+         if (directory.startsWith(path))
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Returns the directories whose presence decides whether a facet is installed in the given project. They are read
+    * from the POM when the project is created, so changes can be checked without reading the POM again.
+    */
+   private Set<Path> getFacetDirectories(Project project)
+   {
+      Path root = Paths.get(project.getRoot().getFullyQualifiedName());
+      MavenFacet mavenFacet = project.getFacet(MavenFacet.class);
+      Build build = mavenFacet.getReadOnlyModel().getBuild();
+      Set<Path> result = new HashSet<>();
+      addFacetDirectory(result, root, mavenFacet, build == null ? null : build.getSourceDirectory(), "src/main/java");
+      addFacetDirectory(result, root, mavenFacet, build == null ? null : build.getTestSourceDirectory(),
+               "src/test/java");
+      addFacetDirectory(result, root, mavenFacet, build == null ? null : build.getOutputDirectory(),
+               "target/classes");
+      addFacetDirectory(result, root, mavenFacet, build == null ? null : build.getTestOutputDirectory(),
+               "target/test-classes");
+      addFacetDirectory(result, root, mavenFacet, build == null || build.getResources().isEmpty() ? null
+               : build.getResources().get(0).getDirectory(), "src/main/resources");
+      addFacetDirectory(result, root, mavenFacet, build == null || build.getTestResources().isEmpty() ? null
+               : build.getTestResources().get(0).getDirectory(), "src/test/resources");
+      addFacetDirectory(result, root, mavenFacet, getWarSourceDirectory(build), "src/main/webapp");
+      addFacetDirectory(result, root, mavenFacet, null, "src/main/templates");
+      return Collections.unmodifiableSet(result);
+   }
+
+   /**
+    * Returns the META-INF and WEB-INF directories of the resources and web root directories of the given project, where
+    * facets such as CDI, JPA, Bean Validation, Servlet and JSF read their descriptors from
+    */
+   private Set<Path> getFacetDescriptorDirectories(Project project)
+   {
+      Path root = Paths.get(project.getRoot().getFullyQualifiedName());
+      MavenFacet mavenFacet = project.getFacet(MavenFacet.class);
+      Build build = mavenFacet.getReadOnlyModel().getBuild();
+      Set<Path> roots = new HashSet<>();
+      addFacetDirectory(roots, root, mavenFacet, build == null || build.getResources().isEmpty() ? null
+               : build.getResources().get(0).getDirectory(), "src/main/resources");
+      addFacetDirectory(roots, root, mavenFacet, getWarSourceDirectory(build), "src/main/webapp");
+      Set<Path> result = new HashSet<>();
+      for (Path directory : roots)
+      {
+         result.add(directory.resolve("META-INF"));
+         result.add(directory.resolve("WEB-INF"));
+      }
+      return Collections.unmodifiableSet(result);
+   }
+
+   private void addFacetDirectory(Set<Path> directories, Path root, MavenFacet mavenFacet, String configured,
+            String defaultDirectory)
+   {
+      String directory = configured == null ? defaultDirectory : mavenFacet.resolveProperties(configured);
+      directories.add(root.resolve(directory).normalize());
+   }
+
+   private String getWarSourceDirectory(Build build)
+   {
+      Plugin plugin = build == null ? null : build.getPluginsAsMap().get("org.apache.maven.plugins:maven-war-plugin");
+      if (plugin != null && plugin.getConfiguration() instanceof Xpp3Dom)
+      {
+         Xpp3Dom directory = ((Xpp3Dom) plugin.getConfiguration()).getChild("warSourceDirectory");
+         if (directory != null && directory.getValue() != null)
+         {
+            return directory.getValue().trim();
+         }
+      }
+      return null;
+   }
+
    @Override
    public int priority()
    {
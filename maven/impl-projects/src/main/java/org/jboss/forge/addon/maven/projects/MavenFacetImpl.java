@@ -37,6 +37,7 @@ import org.apache.maven.project.ProjectBuildingResult;
 import org.codehaus.plexus.classworlds.ClassWorld;
 import org.jboss.forge.addon.facets.AbstractFacet;
 import org.jboss.forge.addon.maven.projects.util.NativeSystemCall;
+import org.jboss.forge.addon.maven.projects.util.PropertyInterpolator;
 import org.jboss.forge.addon.maven.resources.MavenModelResource;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFacet;
@@ -131,6 +132,14 @@ public class MavenFacetImpl extends AbstractFacet<Project> implements ProjectFac
       return BUILD_MANAGER.getProjectBuildingResult(getModelResource());
    }
 
+   /**
+    * Returns the statistics of the cache of {@link ProjectBuildingResult} objects shared by all the Maven projects
+    */
+   public BuildCacheStatistics getBuildCacheStatistics()
+   {
+      return BUILD_MANAGER.getCacheStatistics();
+   }
+
    @Override
    public Map<String, String> getProperties()
    {
@@ -161,16 +170,9 @@ public class MavenFacetImpl extends AbstractFacet<Project> implements ProjectFac
       String result = input;
       try
       {
-         if (input != null)
+         if (input != null && input.contains("${"))
          {
-            Properties properties = getProjectBuildingResult().getProject().getProperties();
-
-            for (Entry<Object, Object> e : properties.entrySet())
-            {
-               String key = "\\$\\{" + e.getKey().toString() + "\\}";
-               Object value = e.getValue();
-               result = result.replaceAll(key, value.toString());
-            }
+            result = getPropertyInterpolator().interpolate(input);
          }
       }
       catch (Exception e)
@@ -184,6 +186,15 @@ public class MavenFacetImpl extends AbstractFacet<Project> implements ProjectFac
       return result;
    }
 
+   /**
+    * Returns the {@link PropertyInterpolator} for the properties of the current {@link ProjectBuildingResult}. The
+    * returned instance is shared until the project model changes.
+    */
+   public PropertyInterpolator getPropertyInterpolator() throws ProjectBuildingException
+   {
+      return BUILD_MANAGER.getPropertyInterpolator(getProjectBuildingResult());
+   }
+
    @Override
    public boolean executeMavenEmbedded(final List<String> parameters)
    {
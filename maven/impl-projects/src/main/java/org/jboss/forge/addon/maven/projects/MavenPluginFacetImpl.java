@@ -317,7 +317,7 @@ public class MavenPluginFacetImpl extends AbstractFacet<Project>implements Maven
       {
          String trimmedUrl = url.trim();
          MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-         Model pom = maven.getModel();
+         Model pom = maven.getReadOnlyModel();
          for (Repository repo : pom.getPluginRepositories())
          {
             if (repo.getUrl().trim().equals(trimmedUrl))
@@ -340,7 +340,7 @@ public class MavenPluginFacetImpl extends AbstractFacet<Project>implements Maven
          {
             String trimmedUrl = url.trim();
             MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-            Model pom = maven.getModel();
+            Model pom = maven.getReadOnlyModel();
             Profile profile = getProfile(pom, profileParam);
             if (profile != null)
             {
@@ -416,7 +416,7 @@ public class MavenPluginFacetImpl extends AbstractFacet<Project>implements Maven
    {
       List<DependencyRepository> results = new ArrayList<>();
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
+      Model pom = maven.getReadOnlyModel();
       List<Repository> repos = pom.getPluginRepositories();
 
       if (repos != null)
@@ -438,7 +438,7 @@ public class MavenPluginFacetImpl extends AbstractFacet<Project>implements Maven
       {
          List<DependencyRepository> results = new ArrayList<>();
          MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-         Model pom = maven.getModel();
+         Model pom = maven.getReadOnlyModel();
          Profile profile = getProfile(pom, profileParam);
          if (profile != null)
          {
@@ -570,7 +570,7 @@ public class MavenPluginFacetImpl extends AbstractFacet<Project>implements Maven
             org.jboss.forge.addon.maven.profiles.Profile profileParam)
    {
       MavenFacet mavenCoreFacet = getFaceted().getFacet(MavenFacet.class);
-      BuildBase build = getBuild(mavenCoreFacet.getModel(), profileParam);
+      BuildBase build = getBuild(mavenCoreFacet.getReadOnlyModel(), profileParam);
       if (build != null)
       {
          if (managedPlugin)
@@ -6,6 +6,9 @@
  */
 package org.jboss.forge.addon.maven.projects;
 
+import java.nio.file.Path;
+import java.util.Set;
+
 import org.jboss.forge.addon.projects.AbstractProject;
 import org.jboss.forge.addon.projects.ProjectFacet;
 import org.jboss.forge.addon.resource.Resource;
@@ -13,6 +16,8 @@ import org.jboss.forge.addon.resource.Resource;
 class MavenProject extends AbstractProject
 {
    private final Resource<?> root;
+   private volatile Set<Path> facetDirectories;
+   private volatile Set<Path> facetDescriptorDirectories;
 
    public MavenProject(Resource<?> projectRoot)
    {
@@ -31,6 +36,34 @@ class MavenProject extends AbstractProject
       return root;
    }
 
+   /**
+    * Returns the directories whose creation or deletion may change the facets installed in this project, or
+    * <code>null</code> if they are unknown
+    */
+   Set<Path> getFacetDirectories()
+   {
+      return facetDirectories;
+   }
+
+   void setFacetDirectories(Set<Path> facetDirectories)
+   {
+      this.facetDirectories = facetDirectories;
+   }
+
+   /**
+    * Returns the directories holding descriptors whose creation, deletion or contents may change the facets installed
+    * in this project (such as beans.xml or persistence.xml), or <code>null</code> if they are unknown
+    */
+   Set<Path> getFacetDescriptorDirectories()
+   {
+      return facetDescriptorDirectories;
+   }
+
+   void setFacetDescriptorDirectories(Set<Path> facetDescriptorDirectories)
+   {
+      this.facetDescriptorDirectories = facetDescriptorDirectories;
+   }
+
    @Override
    public String toString()
    {
@@ -0,0 +1,363 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingException;
+import org.apache.maven.project.ProjectBuildingResult;
+
+/**
+ * A thread-safe cache of {@link ProjectBuildingResult} objects.
+ *
+ * Entries are keyed by the canonical path of the POM file and validated against the digest of its contents. Each entry
+ * also records the POM files it was built from (parents and BOMs imported from the reactor) and is discarded as soon
+ * as one of them changes. Concurrent requests for the same POM share a single build.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class ProjectBuildingResultCache
+{
+   private static final int MAX_ENTRIES = 128;
+   private static final long MAX_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+   private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+   private final AtomicLong hits = new AtomicLong();
+   private final AtomicLong misses = new AtomicLong();
+   private final AtomicLong evictions = new AtomicLong();
+   private final AtomicLong builds = new AtomicLong();
+   private final AtomicLong buildTimeNanos = new AtomicLong();
+
+   /**
+    * Returns the cached {@link ProjectBuildingResult} for the given POM, calling the builder if there is no valid entry
+    *
+    * @param path the canonical path of the POM file
+    * @param digest the digest of the current POM contents
+    * @param builder builds the result if it is not cached
+    */
+   ProjectBuildingResult get(String path, String digest, Builder builder) throws ProjectBuildingException
+   {
+      evictIdleEntries();
+      Entry candidate = new Entry(path, digest, builder);
+      Entry entry = entries.compute(path, (key, existing) -> {
+         if (existing != null && existing.isValidFor(digest))
+         {
+            return existing;
+         }
+         return candidate;
+      });
+      if (entry == candidate)
+      {
+         misses.incrementAndGet();
+         entry.task.run();
+         trimToSize();
+      }
+      else
+      {
+         hits.incrementAndGet();
+      }
+      entry.lastAccess = System.currentTimeMillis();
+      try
+      {
+         BuildOutcome outcome = entry.task.get();
+         if (outcome.result == null)
+         {
+            entries.remove(path, entry);
+         }
+         if (outcome.failure != null && (entry == candidate || outcome.result == null))
+         {
+            throw outcome.failure;
+         }
+         return outcome.result;
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         throw new IllegalStateException("Interrupted while building " + path, e);
+      }
+      catch (ExecutionException e)
+      {
+         entries.remove(path, entry);
+         Throwable cause = e.getCause();
+         if (cause instanceof RuntimeException)
+            throw (RuntimeException) cause;
+         if (cause instanceof Error)
+            throw (Error) cause;
+         throw new IllegalStateException("Error while building " + path, cause);
+      }
+   }
+
+   /**
+    * Removes the entry for the given POM path and every entry that was built from it
+    */
+   void invalidate(String path)
+   {
+      Set<String> invalidated = new LinkedHashSet<>();
+      List<String> pending = new ArrayList<>();
+      pending.add(path);
+      while (!pending.isEmpty())
+      {
+         String current = pending.remove(pending.size() - 1);
+         if (!invalidated.add(current))
+         {
+            continue;
+         }
+         if (entries.remove(current) != null)
+         {
+            evictions.incrementAndGet();
+         }
+         for (Entry entry : entries.values())
+         {
+            if (entry.dependencies.containsKey(current))
+            {
+               pending.add(entry.path);
+            }
+         }
+      }
+   }
+
+   BuildCacheStatistics getStatistics()
+   {
+      return new BuildCacheStatistics(entries.size(), hits.get(), misses.get(), evictions.get(), builds.get(),
+               TimeUnit.NANOSECONDS.toMillis(buildTimeNanos.get()));
+   }
+
+   private void evictIdleEntries()
+   {
+      long now = System.currentTimeMillis();
+      for (Iterator<Entry> it = entries.values().iterator(); it.hasNext();)
+      {
+         Entry entry = it.next();
+         if (entry.task.isDone() && now - entry.lastAccess > MAX_IDLE_MILLIS)
+         {
+            it.remove();
+            evictions.incrementAndGet();
+         }
+      }
+   }
+
+   private void trimToSize()
+   {
+      while (entries.size() > MAX_ENTRIES)
+      {
+         Entry eldest = null;
+         for (Entry entry : entries.values())
+         {
+            if (entry.task.isDone() && (eldest == null || entry.lastAccess < eldest.lastAccess))
+            {
+               eldest = entry;
+            }
+         }
+         if (eldest == null || !entries.remove(eldest.path, eldest))
+         {
+            break;
+         }
+         evictions.incrementAndGet();
+      }
+   }
+
+   /**
+    * Returns the POM files (other than the project's own POM) that the given result was built from, along with their
+    * current stamps
+    */
+   private Map<String, Long> findDependencies(String path, ProjectBuildingResult result)
+   {
+      Map<String, Long> dependencies = new HashMap<>();
+      MavenProject project = result.getProject();
+      if (project == null)
+      {
+         return dependencies;
+      }
+      for (MavenProject parent = project.getParent(); parent != null; parent = parent.getParent())
+      {
+         addDependency(dependencies, parent.getFile());
+      }
+      Model model = project.getOriginalModel();
+      DependencyManagement dependencyManagement = model == null ? null : model.getDependencyManagement();
+      if (dependencyManagement != null)
+      {
+         for (Dependency dependency : dependencyManagement.getDependencies())
+         {
+            if ("import".equals(dependency.getScope()))
+            {
+               for (Entry entry : entries.values())
+               {
+                  MavenProject candidate = entry.getProject();
+                  if (candidate != null && !entry.path.equals(path)
+                           && candidate.getGroupId().equals(resolve(project, dependency.getGroupId()))
+                           && candidate.getArtifactId().equals(resolve(project, dependency.getArtifactId()))
+                           && candidate.getVersion().equals(resolve(project, dependency.getVersion())))
+                  {
+                     addDependency(dependencies, candidate.getFile());
+                  }
+               }
+            }
+         }
+      }
+      dependencies.remove(path);
+      return dependencies;
+   }
+
+   private static String resolve(MavenProject project, String value)
+   {
+      if (value != null && value.startsWith("${") && value.endsWith("}"))
+      {
+         String key = value.substring(2, value.length() - 1);
+         if ("project.version".equals(key))
+            return project.getVersion();
+         if ("project.groupId".equals(key))
+            return project.getGroupId();
+         return project.getProperties().getProperty(key, value);
+      }
+      return value;
+   }
+
+   private static void addDependency(Map<String, Long> dependencies, File file)
+   {
+      if (file != null && file.isFile())
+      {
+         dependencies.put(canonicalPath(file), stamp(file));
+      }
+   }
+
+   static String canonicalPath(File file)
+   {
+      try
+      {
+         return file.getCanonicalPath();
+      }
+      catch (IOException e)
+      {
+         return file.getAbsolutePath();
+      }
+   }
+
+   private static long stamp(File file)
+   {
+      return file.lastModified() * 31 + file.length();
+   }
+
+   /**
+    * Builds a {@link ProjectBuildingResult}
+    */
+   @FunctionalInterface
+   interface Builder
+   {
+      ProjectBuildingResult build() throws ProjectBuildingException;
+   }
+
+   private static class BuildOutcome
+   {
+      private final ProjectBuildingResult result;
+      private final ProjectBuildingException failure;
+
+      BuildOutcome(ProjectBuildingResult result, ProjectBuildingException failure)
+      {
+         this.result = result;
+         this.failure = failure;
+      }
+   }
+
+   private class Entry
+   {
+      private final String path;
+      private final String digest;
+      private final FutureTask<BuildOutcome> task;
+      private volatile Map<String, Long> dependencies = Collections.emptyMap();
+      private volatile long lastAccess = System.currentTimeMillis();
+
+      Entry(String path, String digest, Builder builder)
+      {
+         this.path = path;
+         this.digest = digest;
+         this.task = new FutureTask<>(new Callable<BuildOutcome>()
+         {
+            @Override
+            public BuildOutcome call() throws Exception
+            {
+               long start = System.nanoTime();
+               BuildOutcome outcome;
+               try
+               {
+                  outcome = new BuildOutcome(builder.build(), null);
+               }
+               catch (ProjectBuildingException pbe)
+               {
+                  List<ProjectBuildingResult> results = pbe.getResults();
+                  ProjectBuildingResult result = (results != null && results.size() > 0) ? results.get(0) : null;
+                  outcome = new BuildOutcome(result, pbe);
+               }
+               finally
+               {
+                  builds.incrementAndGet();
+                  buildTimeNanos.addAndGet(System.nanoTime() - start);
+               }
+               if (outcome.result != null)
+               {
+                  dependencies = findDependencies(path, outcome.result);
+               }
+               return outcome;
+            }
+         });
+      }
+
+      boolean isValidFor(String currentDigest)
+      {
+         if (!digest.equals(currentDigest))
+         {
+            return false;
+         }
+         if (!task.isDone())
+         {
+            return true;
+         }
+         for (Map.Entry<String, Long> dependency : dependencies.entrySet())
+         {
+            if (stamp(new File(dependency.getKey())) != dependency.getValue())
+            {
+               return false;
+            }
+         }
+         return true;
+      }
+
+      MavenProject getProject()
+      {
+         if (!task.isDone())
+            return null;
+         try
+         {
+            BuildOutcome outcome = task.get();
+            return outcome.result == null ? null : outcome.result.getProject();
+         }
+         catch (InterruptedException | ExecutionException e)
+         {
+            return null;
+         }
+      }
+   }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.repository.WorkspaceRepository;
+
+/**
+ * A {@link WorkspaceReader} that resolves the POM files of the projects already built by the
+ * {@link MavenBuildManager}. Sibling modules in a reactor then resolve each other (parents and imported BOMs) from the
+ * workspace instead of the local repository.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class ReactorWorkspaceReader implements WorkspaceReader
+{
+   private final WorkspaceRepository repository = new WorkspaceRepository("forge-reactor");
+   private final Map<String, File> poms = new ConcurrentHashMap<>();
+
+   /**
+    * Makes the POM of the given project available for resolution
+    */
+   void register(MavenProject project)
+   {
+      if (project != null && project.getFile() != null && project.getFile().isFile())
+      {
+         poms.put(key(project.getGroupId(), project.getArtifactId(), project.getVersion()),
+                  new File(ProjectBuildingResultCache.canonicalPath(project.getFile())));
+      }
+   }
+
+   /**
+    * Removes the given POM file from the workspace
+    */
+   void unregister(File pomFile)
+   {
+      File file = new File(ProjectBuildingResultCache.canonicalPath(pomFile));
+      poms.values().removeIf(file::equals);
+   }
+
+   @Override
+   public WorkspaceRepository getRepository()
+   {
+      return repository;
+   }
+
+   @Override
+   public File findArtifact(Artifact artifact)
+   {
+      if (!"pom".equals(artifact.getExtension()))
+      {
+         return null;
+      }
+      File file = poms.get(key(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion()));
+      return (file != null && file.isFile()) ? file : null;
+   }
+
+   @Override
+   public List<String> findVersions(Artifact artifact)
+   {
+      List<String> versions = new ArrayList<>();
+      String prefix = artifact.getGroupId() + ":" + artifact.getArtifactId() + ":";
+      for (String key : poms.keySet())
+      {
+         if (key.startsWith(prefix))
+         {
+            versions.add(key.substring(prefix.length()));
+         }
+      }
+      return versions;
+   }
+
+   private static String key(String groupId, String artifactId, String version)
+   {
+      return groupId + ":" + artifactId + ":" + version;
+   }
+}
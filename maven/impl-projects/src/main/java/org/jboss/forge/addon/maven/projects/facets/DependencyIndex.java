@@ -0,0 +1,116 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects.facets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jboss.forge.addon.dependencies.Coordinate;
+import org.jboss.forge.addon.dependencies.Dependency;
+import org.jboss.forge.addon.dependencies.util.Dependencies;
+
+/**
+ * An immutable index of {@link Dependency} objects keyed by <code>groupId:artifactId[:classifier:type]</code>, using
+ * the same notion of equivalence as {@link Dependencies#areEquivalent(Coordinate, Coordinate)}. When several
+ * dependencies are equivalent, the first one is kept.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class DependencyIndex
+{
+   static final DependencyIndex EMPTY = new DependencyIndex(Collections.<Dependency> emptyList());
+
+   private final List<Dependency> dependencies;
+   private final Map<Key, Dependency> index;
+
+   DependencyIndex(List<Dependency> dependencies)
+   {
+      this.dependencies = Collections.unmodifiableList(new ArrayList<>(dependencies));
+      this.index = new LinkedHashMap<>(dependencies.size() * 2);
+      for (Dependency dependency : dependencies)
+      {
+         index.putIfAbsent(Key.of(dependency.getCoordinate()), dependency);
+      }
+   }
+
+   /**
+    * Returns the first indexed {@link Dependency} equivalent to the given one, or <code>null</code> if there is none
+    */
+   Dependency get(Dependency dependency)
+   {
+      return dependency == null ? null : index.get(Key.of(dependency.getCoordinate()));
+   }
+
+   boolean contains(Dependency dependency)
+   {
+      return get(dependency) != null;
+   }
+
+   /**
+    * Returns all the indexed dependencies, in their original order
+    */
+   List<Dependency> getDependencies()
+   {
+      return dependencies;
+   }
+
+   /**
+    * The identity of a {@link Coordinate}, as compared by {@link Dependencies#areEquivalent(Coordinate, Coordinate)}
+    */
+   static final class Key
+   {
+      private final String groupId;
+      private final String artifactId;
+      private final String classifier;
+      private final String packaging;
+      private final int hash;
+
+      private Key(String groupId, String artifactId, String classifier, String packaging)
+      {
+         this.groupId = groupId;
+         this.artifactId = artifactId;
+         this.classifier = classifier;
+         this.packaging = packaging == null ? "jar" : packaging;
+         this.hash = Objects.hash(this.groupId, this.artifactId, this.classifier, this.packaging);
+      }
+
+      static Key of(Coordinate coordinate)
+      {
+         return new Key(coordinate.getGroupId(), coordinate.getArtifactId(), coordinate.getClassifier(),
+                  coordinate.getPackaging());
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hash;
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (this == obj)
+            return true;
+         if (!(obj instanceof Key))
+            return false;
+         Key other = (Key) obj;
+         return hash == other.hash && Objects.equals(groupId, other.groupId)
+                  && Objects.equals(artifactId, other.artifactId) && Objects.equals(classifier, other.classifier)
+                  && packaging.equals(other.packaging);
+      }
+
+      @Override
+      public String toString()
+      {
+         return groupId + ":" + artifactId + ":" + classifier + ":" + packaging;
+      }
+   }
+}
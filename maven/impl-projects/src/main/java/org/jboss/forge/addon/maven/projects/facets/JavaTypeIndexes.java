@@ -0,0 +1,81 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects.facets;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import org.jboss.forge.addon.parser.java.index.JavaTypeIndex;
+import org.jboss.forge.addon.resource.DirectoryResource;
+import org.jboss.forge.furnace.container.simple.AbstractEventListener;
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
+
+/**
+ * Keeps a single {@link JavaTypeIndex} per project root, however many {@link MavenJavaSourceFacet} instances are
+ * created for the project. An index is closed when the source directory of its project changes, when the root
+ * directory of its project is deleted, or when this addon stops.
+ *
+ * The indexes are stored in the Forge cache directory of the user, in a file named after the project root, so that
+ * nothing is written in the project itself.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class JavaTypeIndexes extends AbstractEventListener
+{
+   private static final String TYPE_INDEX_DIRECTORY = "cache" + File.separator + "java-type-indexes";
+
+   private final Map<File, JavaTypeIndex> indexes = new HashMap<>();
+
+   /**
+    * Returns the index of the given source directory of the project in the given root directory
+    */
+   synchronized JavaTypeIndex get(File root, DirectoryResource sourceDirectory)
+   {
+      Iterator<Entry<File, JavaTypeIndex>> it = indexes.entrySet().iterator();
+      while (it.hasNext())
+      {
+         Entry<File, JavaTypeIndex> entry = it.next();
+         if (!entry.getKey().isDirectory())
+         {
+            entry.getValue().close();
+            it.remove();
+         }
+      }
+      File key = root.getAbsoluteFile();
+      JavaTypeIndex index = indexes.get(key);
+      if (index == null || !index.getSourceDirectory().getFullyQualifiedName()
+               .equals(sourceDirectory.getFullyQualifiedName()))
+      {
+         if (index != null)
+            index.close();
+         index = new JavaTypeIndex(sourceDirectory, getIndexFile(key));
+         indexes.put(key, index);
+      }
+      return index;
+   }
+
+   @Override
+   protected synchronized void handleThisPreShutdown()
+   {
+      for (JavaTypeIndex index : indexes.values())
+      {
+         index.close();
+      }
+      indexes.clear();
+   }
+
+   private static File getIndexFile(File root)
+   {
+      String name = UUID.nameUUIDFromBytes(root.getPath().getBytes(StandardCharsets.UTF_8)).toString();
+      return new File(new File(OperatingSystemUtils.getUserForgeDir(), TYPE_INDEX_DIRECTORY), name);
+   }
+}
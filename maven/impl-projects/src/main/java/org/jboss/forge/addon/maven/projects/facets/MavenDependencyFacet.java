@@ -8,9 +8,12 @@ package org.jboss.forge.addon.maven.projects.facets;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -18,6 +21,7 @@ import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Repository;
 import org.apache.maven.project.DependencyResolutionResult;
+import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingResult;
 import org.jboss.forge.addon.dependencies.Coordinate;
 import org.jboss.forge.addon.dependencies.Dependency;
@@ -26,13 +30,13 @@ import org.jboss.forge.addon.dependencies.DependencyRepository;
 import org.jboss.forge.addon.dependencies.DependencyResolver;
 import org.jboss.forge.addon.dependencies.builder.DependencyBuilder;
 import org.jboss.forge.addon.dependencies.builder.DependencyQueryBuilder;
-import org.jboss.forge.addon.dependencies.util.Dependencies;
 import org.jboss.forge.addon.dependencies.util.NonSnapshotDependencyFilter;
 import org.jboss.forge.addon.facets.AbstractFacet;
 import org.jboss.forge.addon.facets.constraints.FacetConstraint;
 import org.jboss.forge.addon.maven.dependencies.MavenDependencyAdapter;
 import org.jboss.forge.addon.maven.projects.MavenFacet;
 import org.jboss.forge.addon.maven.projects.MavenFacetImpl;
+import org.jboss.forge.addon.maven.resources.MavenModelResource;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.facets.DependencyFacet;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
@@ -47,6 +51,9 @@ public class MavenDependencyFacet extends AbstractFacet<Project>implements Depen
    private static final Logger log = Logger.getLogger(MavenDependencyFacet.class.getName());
 
    private DependencyResolver resolver;
+   private volatile ModelIndex modelIndex;
+   private volatile ResultIndex effectiveIndex;
+   private volatile ResultIndex effectiveManagedIndex;
 
    @Override
    public boolean isInstalled()
@@ -63,24 +70,43 @@ public class MavenDependencyFacet extends AbstractFacet<Project>implements Depen
    @Override
    public void addDirectDependency(final Dependency dep)
    {
+      addDirectDependencies(Collections.singletonList(dep));
+   }
+
+   @Override
+   public void addDirectDependencies(final Collection<Dependency> deps)
+   {
+      if (deps.isEmpty())
+      {
+         return;
+      }
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
       Model pom = maven.getModel();
       List<org.apache.maven.model.Dependency> dependencies = pom.getDependencies();
-      Coordinate depCoordinate = dep.getCoordinate();
-      boolean exists = false;
+      Map<DependencyIndex.Key, List<org.apache.maven.model.Dependency>> existing = new HashMap<>();
       for (org.apache.maven.model.Dependency dependency : dependencies)
       {
-         Coordinate dependencyCoordinate = new MavenDependencyAdapter(dependency).getCoordinate();
-         if (Dependencies.areEquivalent(depCoordinate, dependencyCoordinate))
-         {
-            dependency.setVersion(depCoordinate.getVersion());
-            exists = true;
-         }
+         existing.computeIfAbsent(keyOf(dependency), (key) -> new ArrayList<>()).add(dependency);
       }
-      if (!exists)
+      for (Dependency dep : deps)
       {
-         org.apache.maven.model.Dependency dependency = MavenDependencyAdapter.toMavenList(Arrays.asList(dep)).get(0);
-         dependencies.add(dependency);
+         Coordinate depCoordinate = dep.getCoordinate();
+         DependencyIndex.Key key = DependencyIndex.Key.of(depCoordinate);
+         List<org.apache.maven.model.Dependency> matches = existing.get(key);
+         if (matches != null)
+         {
+            for (org.apache.maven.model.Dependency dependency : matches)
+            {
+               dependency.setVersion(depCoordinate.getVersion());
+            }
+         }
+         else
+         {
+            org.apache.maven.model.Dependency dependency = MavenDependencyAdapter.toMavenList(Arrays.asList(dep))
+                     .get(0);
+            dependencies.add(dependency);
+            existing.put(key, new ArrayList<>(Arrays.asList(dependency)));
+         }
       }
       maven.setModel(pom);
    }
@@ -88,123 +114,93 @@ public class MavenDependencyFacet extends AbstractFacet<Project>implements Depen
    @Override
    public boolean hasDirectDependency(final Dependency dependency)
    {
-      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
-      List<Dependency> dependencies = MavenDependencyAdapter.fromMavenList(pom.getDependencies());
+      return getModelIndex().getDirectDependencies().contains(resolveProperties(dependency));
+   }
 
-      for (Dependency dep : dependencies)
+   @Override
+   public boolean hasDirectDependencies(final Collection<Dependency> dependencies)
+   {
+      DependencyIndex index = getModelIndex().getDirectDependencies();
+      for (Dependency dependency : dependencies)
       {
-         if (Dependencies.areEquivalent(resolveProperties(dependency), dep))
+         if (!index.contains(resolveProperties(dependency)))
          {
-            return true;
+            return false;
          }
       }
-      return false;
+      return true;
    }
 
    @Override
    public void removeDependency(final Dependency dep)
    {
-      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
-      List<Dependency> dependencies = MavenDependencyAdapter.fromMavenList(pom.getDependencies());
-
-      List<Dependency> toBeRemoved = new ArrayList<>();
-      for (Dependency dependency : dependencies)
+      Dependency resolved = resolveProperties(dep);
+      if (!getModelIndex().getDirectDependencies().contains(resolved))
       {
-         if (Dependencies.areEquivalent(dependency, resolveProperties(dep)))
-         {
-            toBeRemoved.add(dependency);
-         }
+         return;
       }
-      dependencies.removeAll(toBeRemoved);
-      pom.setDependencies(MavenDependencyAdapter.toMavenList(dependencies));
+      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
+      Model pom = maven.getModel();
+      DependencyIndex.Key key = DependencyIndex.Key.of(resolved.getCoordinate());
+      pom.getDependencies().removeIf((dependency) -> key.equals(keyOf(dependency)));
       maven.setModel(pom);
    }
 
    @Override
    public List<Dependency> getDependencies()
    {
-      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
-      List<Dependency> dependencies = MavenDependencyAdapter.fromMavenList(pom.getDependencies());
-
       List<Dependency> result = new ArrayList<>();
-      for (Dependency dependency : dependencies)
+      for (Dependency dependency : getModelIndex().getDirectDependencies().getDependencies())
       {
          result.add(resolveProperties(dependency));
       }
-
       return result;
    }
 
    @Override
    public Dependency getDirectDependency(final Dependency dependency)
    {
-      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
-      List<Dependency> dependencies = MavenDependencyAdapter.fromMavenList(pom.getDependencies());
-
-      for (Dependency dep : dependencies)
-      {
-         if (Dependencies.areEquivalent(resolveProperties(dependency), dep))
-         {
-            return resolveProperties(dep);
-         }
-      }
-      return null;
+      Dependency found = getModelIndex().getDirectDependencies().get(resolveProperties(dependency));
+      return found == null ? null : resolveProperties(found);
    }
 
    @Override
    public boolean hasEffectiveDependency(final Dependency dependency)
    {
-      return getEffectiveDependency(resolveProperties(dependency)) != null;
+      return getEffectiveDependency(dependency) != null;
    }
 
    @Override
-   public Dependency getEffectiveDependency(final Dependency manDep)
+   public boolean hasEffectiveDependencies(final Collection<Dependency> dependencies)
    {
-      for (Dependency dependency : getEffectiveDependencies())
+      DependencyIndex index = getEffectiveDependencyIndex();
+      for (Dependency dependency : dependencies)
       {
-         if (Dependencies.areEquivalent(dependency, resolveProperties(manDep)))
+         if (!index.contains(resolveProperties(dependency)))
          {
-            return resolveProperties(dependency);
+            return false;
          }
       }
-      return null;
+      return true;
    }
 
    @Override
-   public List<Dependency> getEffectiveDependencies()
+   public Dependency getEffectiveDependency(final Dependency manDep)
    {
-      List<Dependency> result = new ArrayList<>();
-
-      MavenFacetImpl maven = getFaceted().getFacet(MavenFacetImpl.class);
-      try
-      {
-         ProjectBuildingResult projectBuildingResult = maven.getProjectBuildingResult();
-         DependencyResolutionResult dependencyResolutionResult = projectBuildingResult.getDependencyResolutionResult();
-         List<Dependency> deps = MavenDependencyAdapter.fromAetherList(dependencyResolutionResult.getDependencies());
-
-         for (Dependency dependency : deps)
-         {
-            result.add(resolveProperties(dependency));
-         }
-
-      }
-      catch (Exception e)
-      {
-         log.log(Level.SEVERE, "Could not resolve managed dependencies in project ["
-                  + maven.getModelResource().getFullyQualifiedName() + "]. ", e);
-      }
+      // Effective dependencies have their properties already resolved
+      return getEffectiveDependencyIndex().get(resolveProperties(manDep));
+   }
 
-      return result;
+   @Override
+   public List<Dependency> getEffectiveDependencies()
+   {
+      return new ArrayList<>(getEffectiveDependencyIndex().getDependencies());
    }
 
    @Override
    public void addManagedDependency(final Dependency manDep)
    {
-      if (!hasEffectiveManagedDependency(resolveProperties(manDep)))
+      if (!hasEffectiveManagedDependency(manDep))
       {
          addDirectManagedDependency(manDep);
       }
@@ -213,26 +209,44 @@ public class MavenDependencyFacet extends AbstractFacet<Project>implements Depen
    @Override
    public void addDirectManagedDependency(final Dependency dep)
    {
+      addDirectManagedDependencies(Collections.singletonList(dep));
+   }
+
+   @Override
+   public void addDirectManagedDependencies(final Collection<Dependency> deps)
+   {
+      if (deps.isEmpty())
+      {
+         return;
+      }
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
       Model pom = maven.getModel();
       DependencyManagement depMan = pom.getDependencyManagement();
       depMan = depMan != null ? depMan : new DependencyManagement();
 
       List<Dependency> managedDependencies = MavenDependencyAdapter.fromMavenList(depMan.getDependencies());
-      ListIterator<Dependency> managedDepsIterator = managedDependencies.listIterator();
-      boolean found = false;
-      while (managedDepsIterator.hasNext())
+      Map<DependencyIndex.Key, List<Integer>> positions = new HashMap<>();
+      for (int i = 0; i < managedDependencies.size(); i++)
       {
-         Dependency managedDependency = managedDepsIterator.next();
-         if (Dependencies.areEquivalent(managedDependency, dep))
-         {
-            managedDepsIterator.set(dep);
-            found = true;
-         }
+         positions.computeIfAbsent(DependencyIndex.Key.of(managedDependencies.get(i).getCoordinate()),
+                  (key) -> new ArrayList<>()).add(i);
       }
-      if (!found)
+      for (Dependency dep : deps)
       {
-         managedDependencies.add(dep);
+         DependencyIndex.Key key = DependencyIndex.Key.of(dep.getCoordinate());
+         List<Integer> matches = positions.get(key);
+         if (matches != null)
+         {
+            for (Integer position : matches)
+            {
+               managedDependencies.set(position, dep);
+            }
+         }
+         else
+         {
+            positions.put(key, new ArrayList<>(Arrays.asList(managedDependencies.size())));
+            managedDependencies.add(dep);
+         }
       }
       depMan.setDependencies(MavenDependencyAdapter.toMavenList(managedDependencies));
       pom.setDependencyManagement(depMan);
@@ -242,30 +256,20 @@ public class MavenDependencyFacet extends AbstractFacet<Project>implements Depen
    @Override
    public boolean hasEffectiveManagedDependency(final Dependency manDep)
    {
-      return (getEffectiveManagedDependency(resolveProperties(manDep)) != null);
+      return (getEffectiveManagedDependency(manDep) != null);
    }
 
    @Override
    public Dependency getEffectiveManagedDependency(final Dependency manDep)
    {
-      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
       try
       {
-         DependencyManagement depMan = ((MavenFacetImpl) maven).getProjectBuildingResult().getProject()
-                  .getDependencyManagement();
-         List<Dependency> managedDependencies = (depMan != null ? MavenDependencyAdapter.fromMavenList(depMan
-                  .getDependencies()) : new ArrayList<Dependency>());
-
-         for (Dependency managedDependency : managedDependencies)
-         {
-            if (Dependencies.areEquivalent(managedDependency, resolveProperties(manDep)))
-            {
-               return resolveProperties(managedDependency);
-            }
-         }
+         Dependency found = getEffectiveManagedDependencyIndex().get(resolveProperties(manDep));
+         return found == null ? null : resolveProperties(found);
       }
       catch (Exception e)
       {
+         MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
          log.log(Level.SEVERE, "Could not resolve managed dependencies in project ["
                   + maven.getModelResource().getFullyQualifiedName() + "]. ", e);
       }
@@ -275,62 +279,33 @@ public class MavenDependencyFacet extends AbstractFacet<Project>implements Depen
    @Override
    public boolean hasDirectManagedDependency(final Dependency managedDependency)
    {
-      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
-      DependencyManagement depMan = pom.getDependencyManagement();
-
-      List<Dependency> managedDependencies = depMan != null ? MavenDependencyAdapter.fromMavenList(depMan
-               .getDependencies()) : new ArrayList<Dependency>();
-
-      for (Dependency manDep : managedDependencies)
-      {
-         if (Dependencies.areEquivalent(resolveProperties(managedDependency), manDep))
-         {
-            return true;
-         }
-      }
-      return false;
+      return getModelIndex().getManagedDependencies().contains(resolveProperties(managedDependency));
    }
 
    @Override
    public void removeManagedDependency(final Dependency manDep)
    {
-      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
-      DependencyManagement depMan = pom.getDependencyManagement();
-      depMan = depMan != null ? depMan : new DependencyManagement();
-
-      List<Dependency> managedDependencies = MavenDependencyAdapter.fromMavenList(depMan.getDependencies());
-
-      List<Dependency> toBeRemoved = new ArrayList<>();
-      for (Dependency managedDependency : managedDependencies)
+      if (!getModelIndex().getManagedDependencies().contains(manDep))
       {
-         if (Dependencies.areEquivalent(managedDependency, manDep))
-         {
-            toBeRemoved.add(managedDependency);
-         }
+         return;
       }
-      managedDependencies.removeAll(toBeRemoved);
-      depMan.setDependencies(MavenDependencyAdapter.toMavenList(managedDependencies));
-      pom.setDependencyManagement(depMan);
+      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
+      Model pom = maven.getModel();
+      DependencyIndex.Key key = DependencyIndex.Key.of(manDep.getCoordinate());
+      pom.getDependencyManagement().getDependencies().removeIf((dependency) -> key.equals(keyOf(dependency)));
       maven.setModel(pom);
    }
 
+   private static DependencyIndex.Key keyOf(org.apache.maven.model.Dependency dependency)
+   {
+      return DependencyIndex.Key.of(new MavenDependencyAdapter(dependency).getCoordinate());
+   }
+
    @Override
    public List<Dependency> getManagedDependencies()
    {
-      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
-      DependencyManagement depMan = pom.getDependencyManagement();
-
-      List<Dependency> managedDependencies = null;
-      if (depMan != null)
-         managedDependencies = MavenDependencyAdapter.fromMavenList(depMan.getDependencies());
-      else
-         managedDependencies = new ArrayList<>();
-
       List<Dependency> result = new ArrayList<>();
-      for (Dependency dependency : managedDependencies)
+      for (Dependency dependency : getModelIndex().getManagedDependencies().getDependencies())
       {
          result.add(resolveProperties(dependency));
       }
@@ -340,35 +315,111 @@ public class MavenDependencyFacet extends AbstractFacet<Project>implements Depen
    @Override
    public Dependency getDirectManagedDependency(final Dependency manDep)
    {
-      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
-      DependencyManagement depMan = pom.getDependencyManagement();
+      Dependency found = getModelIndex().getManagedDependencies().get(resolveProperties(manDep));
+      return found == null ? null : resolveProperties(found);
+   }
 
-      List<Dependency> managedDependencies = depMan != null ? MavenDependencyAdapter.fromMavenList(depMan
-               .getDependencies()) : new ArrayList<Dependency>();
+   /**
+    * Returns the index of the direct and managed dependencies declared in the current POM, rebuilding it if the POM
+    * changed since it was last built
+    */
+   private ModelIndex getModelIndex()
+   {
+      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
+      MavenModelResource pomResource = maven.getModelResource();
+      long version = pomResource.getModelVersion();
+      ModelIndex index = modelIndex;
+      if (index == null || index.version != version)
+      {
+         Model pom = pomResource.getReadOnlyModel();
+         DependencyManagement depMan = pom.getDependencyManagement();
+         index = new ModelIndex(version,
+                  new DependencyIndex(MavenDependencyAdapter.fromMavenList(pom.getDependencies())),
+                  depMan != null ? new DependencyIndex(MavenDependencyAdapter.fromMavenList(depMan.getDependencies()))
+                           : DependencyIndex.EMPTY);
+         modelIndex = index;
+      }
+      return index;
+   }
 
-      for (Dependency managedDependency : managedDependencies)
+   /**
+    * Returns the index of the effective dependencies (with their properties resolved) of the current
+    * {@link ProjectBuildingResult}. Returns an empty index if the project could not be built.
+    */
+   private DependencyIndex getEffectiveDependencyIndex()
+   {
+      MavenFacetImpl maven = getFaceted().getFacet(MavenFacetImpl.class);
+      try
       {
-         if (Dependencies.areEquivalent(managedDependency, resolveProperties(manDep)))
+         ProjectBuildingResult projectBuildingResult = maven.getProjectBuildingResult();
+         ResultIndex index = effectiveIndex;
+         if (index == null || index.result != projectBuildingResult)
          {
-            return resolveProperties(managedDependency);
+            DependencyResolutionResult dependencyResolutionResult = projectBuildingResult
+                     .getDependencyResolutionResult();
+            List<Dependency> deps = MavenDependencyAdapter.fromAetherList(dependencyResolutionResult.getDependencies());
+            List<Dependency> resolved = new ArrayList<>(deps.size());
+            for (Dependency dependency : deps)
+            {
+               resolved.add(resolveProperties(dependency));
+            }
+            index = new ResultIndex(projectBuildingResult, new DependencyIndex(resolved));
+            effectiveIndex = index;
          }
+         return index.dependencies;
       }
-      return null;
+      catch (Exception e)
+      {
+         log.log(Level.SEVERE, "Could not resolve managed dependencies in project ["
+                  + maven.getModelResource().getFullyQualifiedName() + "]. ", e);
+      }
+      return DependencyIndex.EMPTY;
+   }
+
+   /**
+    * Returns the index of the managed dependencies of the current {@link ProjectBuildingResult}
+    */
+   private DependencyIndex getEffectiveManagedDependencyIndex() throws ProjectBuildingException
+   {
+      MavenFacetImpl maven = getFaceted().getFacet(MavenFacetImpl.class);
+      ProjectBuildingResult projectBuildingResult = maven.getProjectBuildingResult();
+      ResultIndex index = effectiveManagedIndex;
+      if (index == null || index.result != projectBuildingResult)
+      {
+         DependencyManagement depMan = projectBuildingResult.getProject().getDependencyManagement();
+         index = new ResultIndex(projectBuildingResult,
+                  depMan != null ? new DependencyIndex(MavenDependencyAdapter.fromMavenList(depMan.getDependencies()))
+                           : DependencyIndex.EMPTY);
+         effectiveManagedIndex = index;
+      }
+      return index.dependencies;
    }
 
    @Override
    public Dependency resolveProperties(final Dependency dependency)
    {
       MavenFacet mvn = getFaceted().getFacet(MavenFacet.class);
+      Function<String, String> resolver = mvn::resolveProperties;
+      if (mvn instanceof MavenFacetImpl)
+      {
+         try
+         {
+            // Look up the interpolator once instead of once per coordinate field
+            resolver = ((MavenFacetImpl) mvn).getPropertyInterpolator()::interpolate;
+         }
+         catch (Exception e)
+         {
+            log.log(Level.FINE, "Could not create property interpolator", e);
+         }
+      }
       DependencyBuilder builder = DependencyBuilder.create(dependency);
 
-      builder.setGroupId(mvn.resolveProperties(dependency.getCoordinate().getGroupId()));
-      builder.setArtifactId(mvn.resolveProperties(dependency.getCoordinate().getArtifactId()));
-      builder.setVersion(mvn.resolveProperties(dependency.getCoordinate().getVersion()));
-      builder.setClassifier(mvn.resolveProperties(dependency.getCoordinate().getClassifier()));
-      builder.setPackaging(mvn.resolveProperties(dependency.getCoordinate().getPackaging()));
-      builder.setScopeType(mvn.resolveProperties(dependency.getScopeType()));
+      builder.setGroupId(resolver.apply(dependency.getCoordinate().getGroupId()));
+      builder.setArtifactId(resolver.apply(dependency.getCoordinate().getArtifactId()));
+      builder.setVersion(resolver.apply(dependency.getCoordinate().getVersion()));
+      builder.setClassifier(resolver.apply(dependency.getCoordinate().getClassifier()));
+      builder.setPackaging(resolver.apply(dependency.getCoordinate().getPackaging()));
+      builder.setScopeType(resolver.apply(dependency.getScopeType()));
 
       return builder;
    }
@@ -420,7 +471,7 @@ public class MavenDependencyFacet extends AbstractFacet<Project>implements Depen
    {
       List<DependencyRepository> results = new ArrayList<>();
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
+      Model pom = maven.getReadOnlyModel();
       List<Repository> repos = pom.getRepositories();
       for (Repository repo : repos)
       {
@@ -435,7 +486,7 @@ public class MavenDependencyFacet extends AbstractFacet<Project>implements Depen
       if (url != null)
       {
          MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-         Model pom = maven.getModel();
+         Model pom = maven.getReadOnlyModel();
          List<Repository> repositories = pom.getRepositories();
          for (Repository repo : repositories)
          {
@@ -519,4 +570,46 @@ public class MavenDependencyFacet extends AbstractFacet<Project>implements Depen
          resolver = SimpleContainer.getServices(getClass().getClassLoader(), DependencyResolver.class).get();
       return resolver;
    }
+
+   /**
+    * The direct and managed dependencies declared in a given version of the POM
+    */
+   private static class ModelIndex
+   {
+      private final long version;
+      private final DependencyIndex directDependencies;
+      private final DependencyIndex managedDependencies;
+
+      ModelIndex(long version, DependencyIndex directDependencies, DependencyIndex managedDependencies)
+      {
+         this.version = version;
+         this.directDependencies = directDependencies;
+         this.managedDependencies = managedDependencies;
+      }
+
+      DependencyIndex getDirectDependencies()
+      {
+         return directDependencies;
+      }
+
+      DependencyIndex getManagedDependencies()
+      {
+         return managedDependencies;
+      }
+   }
+
+   /**
+    * Dependencies computed from a given {@link ProjectBuildingResult}
+    */
+   private static class ResultIndex
+   {
+      private final ProjectBuildingResult result;
+      private final DependencyIndex dependencies;
+
+      ResultIndex(ProjectBuildingResult result, DependencyIndex dependencies)
+      {
+         this.result = result;
+         this.dependencies = dependencies;
+      }
+   }
 }
@@ -36,7 +36,7 @@ public class MavenJavaCompilerFacet extends AbstractFacet<Project>implements Jav
    public boolean isInstalled()
    {
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
+      Model pom = maven.getReadOnlyModel();
       Properties properties = pom.getProperties();
       List<String> keys = Arrays.asList(MAVEN_COMPILER_SOURCE_KEY, MAVEN_COMPILER_TARGET_KEY,
                MAVEN_COMPILER_ENCODING_KEY);
@@ -81,7 +81,7 @@ public class MavenJavaCompilerFacet extends AbstractFacet<Project>implements Jav
    public CompilerVersion getSourceCompilerVersion()
    {
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
+      Model pom = maven.getReadOnlyModel();
       String sourceVersion = pom.getProperties().getProperty(MAVEN_COMPILER_SOURCE_KEY);
       return sourceVersion != null ? CompilerVersion.getValue(sourceVersion) : DEFAULT_COMPILER_VERSION;
    }
@@ -90,7 +90,7 @@ public class MavenJavaCompilerFacet extends AbstractFacet<Project>implements Jav
    public CompilerVersion getTargetCompilerVersion()
    {
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
+      Model pom = maven.getReadOnlyModel();
       String targetVersion = pom.getProperties().getProperty(MAVEN_COMPILER_TARGET_KEY);
       return targetVersion != null ? CompilerVersion.getValue(targetVersion) : DEFAULT_COMPILER_VERSION;
    }
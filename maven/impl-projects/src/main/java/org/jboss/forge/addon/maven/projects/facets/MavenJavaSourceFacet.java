@@ -9,6 +9,7 @@ package org.jboss.forge.addon.maven.projects.facets;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.apache.maven.model.Build;
 import org.apache.maven.model.Model;
@@ -16,6 +17,8 @@ import org.jboss.forge.addon.facets.AbstractFacet;
 import org.jboss.forge.addon.facets.constraints.FacetConstraint;
 import org.jboss.forge.addon.maven.projects.MavenFacet;
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.parser.java.index.JavaTypeIndex;
+import org.jboss.forge.addon.parser.java.index.JavaTypeIndexEntry;
 import org.jboss.forge.addon.parser.java.resources.JavaResource;
 import org.jboss.forge.addon.parser.java.resources.JavaResourceVisitor;
 import org.jboss.forge.addon.parser.java.utils.Packages;
@@ -25,6 +28,7 @@ import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.resource.ResourceException;
 import org.jboss.forge.addon.resource.ResourceFilter;
 import org.jboss.forge.addon.resource.visit.ResourceVisit;
+import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
 import org.jboss.forge.furnace.util.Strings;
 import org.jboss.forge.roaster.Roaster;
 import org.jboss.forge.roaster.model.source.JavaPackageInfoSource;
@@ -78,7 +82,7 @@ public class MavenJavaSourceFacet extends AbstractFacet<Project>implements JavaS
    @Override
    public String getBasePackage()
    {
-      Model model = getFaceted().getFacet(MavenFacet.class).getModel();
+      Model model = getFaceted().getFacet(MavenFacet.class).getReadOnlyModel();
       String groupId = model.getGroupId();
       if (groupId == null)
       {
@@ -97,7 +101,7 @@ public class MavenJavaSourceFacet extends AbstractFacet<Project>implements JavaS
    public DirectoryResource getSourceDirectory()
    {
       MavenFacet mavenFacet = getFaceted().getFacet(MavenFacet.class);
-      Build build = mavenFacet.getModel().getBuild();
+      Build build = mavenFacet.getReadOnlyModel().getBuild();
       String srcFolderName;
       if (build != null && build.getSourceDirectory() != null)
       {
@@ -115,7 +119,7 @@ public class MavenJavaSourceFacet extends AbstractFacet<Project>implements JavaS
    public DirectoryResource getTestSourceDirectory()
    {
       MavenFacet mavenFacet = getFaceted().getFacet(MavenFacet.class);
-      Build build = mavenFacet.getModel().getBuild();
+      Build build = mavenFacet.getReadOnlyModel().getBuild();
       String srcFolderName;
       if (build != null && build.getTestSourceDirectory() != null)
       {
@@ -189,7 +193,10 @@ public class MavenJavaSourceFacet extends AbstractFacet<Project>implements JavaS
    @Override
    public JavaResource saveJavaSource(final JavaSource<?> source)
    {
-      return getJavaResource(source.getQualifiedName()).setContents(source);
+      JavaResource resource = getJavaResource(source.getQualifiedName()).setContents(source);
+      // Seen by the next lookup, without waiting for the monitor of the source directory
+      getTypeIndex().changed(resource.getUnderlyingResourceObject());
+      return resource;
    }
 
    @Override
@@ -219,6 +226,24 @@ public class MavenJavaSourceFacet extends AbstractFacet<Project>implements JavaS
       });
    }
 
+   @Override
+   public List<JavaResource> getJavaSources(Predicate<JavaTypeIndexEntry> filter)
+   {
+      if (getFaceted().getRoot().getResourceFactory().getTransaction().isStarted())
+      {
+         // Changes inside a transaction are not visible on disk yet
+         return JavaSourceFacet.super.getJavaSources(filter);
+      }
+      return getTypeIndex().find(filter);
+   }
+
+   private JavaTypeIndex getTypeIndex()
+   {
+      File root = getFaceted().getRoot().reify(DirectoryResource.class).getUnderlyingResourceObject();
+      return SimpleContainer.getServices(getClass().getClassLoader(), JavaTypeIndexes.class).get()
+               .get(root, getSourceDirectory());
+   }
+
    @Override
    public void visitJavaTestSources(final JavaResourceVisitor visitor)
    {
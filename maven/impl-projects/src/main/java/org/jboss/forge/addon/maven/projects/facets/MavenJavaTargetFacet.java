@@ -40,7 +40,7 @@ public class MavenJavaTargetFacet extends AbstractFacet<Project> implements Java
    public DirectoryResource getTargetDirectory()
    {
       MavenFacet mavenFacet = getFaceted().getFacet(MavenFacet.class);
-      Build build = mavenFacet.getModel().getBuild();
+      Build build = mavenFacet.getReadOnlyModel().getBuild();
       String targetFolderName;
       if (build != null && build.getOutputDirectory() != null)
       {
@@ -58,7 +58,7 @@ public class MavenJavaTargetFacet extends AbstractFacet<Project> implements Java
    public DirectoryResource getTestTargetDirectory()
    {
       MavenFacet mavenFacet = getFaceted().getFacet(MavenFacet.class);
-      Build build = mavenFacet.getModel().getBuild();
+      Build build = mavenFacet.getReadOnlyModel().getBuild();
       String targetFolderName;
       if (build != null && build.getTestOutputDirectory() != null)
       {
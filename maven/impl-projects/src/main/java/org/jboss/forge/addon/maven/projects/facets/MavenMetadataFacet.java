@@ -40,7 +40,7 @@ public class MavenMetadataFacet extends AbstractFacet<Project>implements Metadat
    public String getProjectName()
    {
       MavenFacet mvn = getFaceted().getFacet(MavenFacet.class);
-      Model pom = mvn.getModel();
+      Model pom = mvn.getReadOnlyModel();
       return pom.getArtifactId();
    }
 
@@ -48,7 +48,7 @@ public class MavenMetadataFacet extends AbstractFacet<Project>implements Metadat
    public String getProjectVersion()
    {
       MavenFacet mvn = getFaceted().getFacet(MavenFacet.class);
-      Model pom = mvn.getModel();
+      Model pom = mvn.getReadOnlyModel();
       String version = pom.getVersion();
       if (version == null)
       {
@@ -123,7 +123,7 @@ public class MavenMetadataFacet extends AbstractFacet<Project>implements Metadat
    @Override
    public String getProjectGroupName()
    {
-      Model pom = getFaceted().getFacet(MavenFacet.class).getModel();
+      Model pom = getFaceted().getFacet(MavenFacet.class).getReadOnlyModel();
       String groupId = pom.getGroupId();
 
       // If groupId is null, try to grab the parent's groupId
@@ -142,7 +142,7 @@ public class MavenMetadataFacet extends AbstractFacet<Project>implements Metadat
    @Deprecated
    public String getTopLevelPackage()
    {
-      Model pom = getFaceted().getFacet(MavenFacet.class).getModel();
+      Model pom = getFaceted().getFacet(MavenFacet.class).getReadOnlyModel();
       String groupId = pom.getGroupId();
 
       // If groupId is null, try to grab the parent's groupId
@@ -175,7 +175,7 @@ public class MavenMetadataFacet extends AbstractFacet<Project>implements Metadat
    public Map<String, String> getDirectProperties()
    {
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
+      Model pom = maven.getReadOnlyModel();
 
       Properties properties = pom.getProperties();
       Map<String, String> result = new HashMap<>();
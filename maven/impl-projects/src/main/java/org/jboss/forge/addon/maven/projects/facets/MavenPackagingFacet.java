@@ -58,7 +58,7 @@ public class MavenPackagingFacet extends AbstractFacet<Project>implements Packag
    public String getPackagingType()
    {
       MavenFacet mavenFacet = getFaceted().getFacet(MavenFacet.class);
-      Model pom = mavenFacet.getModel();
+      Model pom = mavenFacet.getReadOnlyModel();
       String packaging = pom.getPackaging();
       if (packaging != null)
       {
@@ -131,7 +131,7 @@ public class MavenPackagingFacet extends AbstractFacet<Project>implements Packag
    public String getFinalName()
    {
       MavenFacet mavenFacet = getFaceted().getFacet(MavenFacet.class);
-      Model pom = mavenFacet.getModel();
+      Model pom = mavenFacet.getReadOnlyModel();
       Build build = pom.getBuild();
       return build != null ? build.getFinalName() : getDefaultFinalName();
    }
@@ -142,7 +142,7 @@ public class MavenPackagingFacet extends AbstractFacet<Project>implements Packag
    private String getDefaultFinalName()
    {
       MavenFacet mavenFacet = getFaceted().getFacet(MavenFacet.class);
-      Model pom = mavenFacet.getModel();
+      Model pom = mavenFacet.getReadOnlyModel();
       String version = pom.getVersion();
       if (version == null && pom.getParent() != null)
          version = pom.getParent().getVersion();
@@ -45,7 +45,7 @@ public class MavenResourcesFacet extends AbstractFacet<Project>implements Resour
    public DirectoryResource getResourceDirectory()
    {
       MavenFacet mavenFacet = getFaceted().getFacet(MavenFacet.class);
-      Build build = mavenFacet.getModel().getBuild();
+      Build build = mavenFacet.getReadOnlyModel().getBuild();
       final String resFolderName;
       if (build != null && !build.getResources().isEmpty() && build.getResources().get(0).getDirectory() != null)
       {
@@ -63,7 +63,7 @@ public class MavenResourcesFacet extends AbstractFacet<Project>implements Resour
    public DirectoryResource getTestResourceDirectory()
    {
       MavenFacet mavenFacet = getFaceted().getFacet(MavenFacet.class);
-      Build build = mavenFacet.getModel().getBuild();
+      Build build = mavenFacet.getReadOnlyModel().getBuild();
       final String resFolderName;
       if (build != null && !build.getTestResources().isEmpty()
                && build.getTestResources().get(0).getDirectory() != null)
@@ -0,0 +1,149 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects.util;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces <code>${...}</code> expressions with the values of a fixed set of properties in a single pass.
+ *
+ * Property values may reference other properties (recursively) and expressions may be nested, as in
+ * <code>${version.${module}}</code>. Resolved property values and interpolated inputs are cached, so an instance should
+ * be discarded once the underlying properties change. Expressions that cannot be resolved (including cyclic
+ * references) are kept as they are.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class PropertyInterpolator
+{
+   private static final int MAX_CACHED_INPUTS = 10_000;
+
+   private final Properties properties;
+   private final Map<String, String> resolvedProperties = new ConcurrentHashMap<>();
+   private final Map<String, String> interpolatedInputs = new ConcurrentHashMap<>();
+
+   public PropertyInterpolator(Properties properties)
+   {
+      this.properties = properties;
+   }
+
+   /**
+    * Returns the given input with all the resolvable <code>${...}</code> expressions replaced
+    */
+   public String interpolate(String input)
+   {
+      if (input == null || input.indexOf("${") < 0)
+      {
+         return input;
+      }
+      String result = interpolatedInputs.get(input);
+      if (result == null)
+      {
+         result = interpolate(input, new HashSet<String>());
+         if (interpolatedInputs.size() < MAX_CACHED_INPUTS)
+         {
+            interpolatedInputs.put(input, result);
+         }
+      }
+      return result;
+   }
+
+   private String interpolate(String input, Set<String> resolving)
+   {
+      int start = input.indexOf("${");
+      if (start < 0)
+      {
+         return input;
+      }
+      StringBuilder result = new StringBuilder(input.length());
+      int position = 0;
+      while (start >= 0)
+      {
+         int end = findClosingBrace(input, start + 2);
+         if (end < 0)
+         {
+            break;
+         }
+         result.append(input, position, start);
+         String expression = input.substring(start + 2, end);
+         String key = expression.indexOf("${") < 0 ? expression : interpolate(expression, resolving);
+         String value = resolveProperty(key, resolving);
+         if (value == null)
+         {
+            result.append("${").append(key).append('}');
+         }
+         else
+         {
+            result.append(value);
+         }
+         position = end + 1;
+         start = input.indexOf("${", position);
+      }
+      result.append(input, position, input.length());
+      return result.toString();
+   }
+
+   private String resolveProperty(String key, Set<String> resolving)
+   {
+      String value = resolvedProperties.get(key);
+      if (value != null)
+      {
+         return value;
+      }
+      Object raw = properties.get(key);
+      if (raw == null || !resolving.add(key))
+      {
+         // Unknown or cyclic property
+         return null;
+      }
+      try
+      {
+         value = interpolate(raw.toString(), resolving);
+      }
+      finally
+      {
+         resolving.remove(key);
+      }
+      if (resolving.isEmpty())
+      {
+         // Values computed while resolving a cycle depend on where the cycle was entered
+         resolvedProperties.put(key, value);
+      }
+      return value;
+   }
+
+   /**
+    * Returns the index of the brace closing the expression starting at the given index, taking nested expressions into
+    * account. Returns -1 if there is none.
+    */
+   private static int findClosingBrace(String input, int from)
+   {
+      int depth = 0;
+      for (int i = from; i < input.length(); i++)
+      {
+         char c = input.charAt(i);
+         if (c == '$' && i + 1 < input.length() && input.charAt(i + 1) == '{')
+         {
+            depth++;
+            i++;
+         }
+         else if (c == '}')
+         {
+            if (depth == 0)
+            {
+               return i;
+            }
+            depth--;
+         }
+      }
+      return -1;
+   }
+}
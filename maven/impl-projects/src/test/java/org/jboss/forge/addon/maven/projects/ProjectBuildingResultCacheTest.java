@@ -0,0 +1,199 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.model.building.ModelProblem;
+import org.apache.maven.project.DependencyResolutionResult;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ProjectBuildingResultCache}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class ProjectBuildingResultCacheTest
+{
+   private File directory;
+   private ProjectBuildingResultCache cache;
+
+   @Before
+   public void setUp() throws IOException
+   {
+      directory = Files.createTempDirectory("forge-build-cache").toFile();
+      cache = new ProjectBuildingResultCache();
+   }
+
+   @After
+   public void tearDown() throws IOException
+   {
+      for (File file : directory.listFiles())
+      {
+         Files.delete(file.toPath());
+      }
+      Files.delete(directory.toPath());
+   }
+
+   @Test
+   public void testHitOnUnchangedPom() throws Exception
+   {
+      File pom = write("child.xml", "<project/>");
+      AtomicInteger builds = new AtomicInteger();
+      ProjectBuildingResult first = get(pom, "digest", builds, null);
+      ProjectBuildingResult second = get(pom, "digest", builds, null);
+      assertSame(first, second);
+      assertEquals(1, builds.get());
+      BuildCacheStatistics statistics = cache.getStatistics();
+      assertEquals(1, statistics.getHits());
+      assertEquals(1, statistics.getMisses());
+      assertEquals(1, statistics.getBuilds());
+      assertEquals(1, statistics.getSize());
+   }
+
+   @Test
+   public void testMissAfterChildPomEdit() throws Exception
+   {
+      File pom = write("child.xml", "<project/>");
+      AtomicInteger builds = new AtomicInteger();
+      ProjectBuildingResult first = get(pom, "digest", builds, null);
+      ProjectBuildingResult second = get(pom, "changed digest", builds, null);
+      assertNotSame(first, second);
+      assertEquals(2, builds.get());
+      assertEquals(0, cache.getStatistics().getHits());
+   }
+
+   @Test
+   public void testMissAfterParentPomEdit() throws Exception
+   {
+      File parent = write("parent.xml", "<project/>");
+      File pom = write("child.xml", "<project/>");
+      AtomicInteger builds = new AtomicInteger();
+      ProjectBuildingResult first = get(pom, "digest", builds, parent);
+      assertSame(first, get(pom, "digest", builds, parent));
+
+      write("parent.xml", "<project><modules/></project>");
+      ProjectBuildingResult second = get(pom, "digest", builds, parent);
+      assertNotSame(first, second);
+      assertEquals(2, builds.get());
+   }
+
+   @Test
+   public void testInvalidatingParentEvictsChildren() throws Exception
+   {
+      File parent = write("parent.xml", "<project/>");
+      File pom = write("child.xml", "<project/>");
+      AtomicInteger builds = new AtomicInteger();
+      get(parent, "parent digest", builds, null);
+      get(pom, "digest", builds, parent);
+      assertEquals(2, cache.getStatistics().getSize());
+
+      cache.invalidate(ProjectBuildingResultCache.canonicalPath(parent));
+      BuildCacheStatistics statistics = cache.getStatistics();
+      assertEquals(0, statistics.getSize());
+      assertEquals(2, statistics.getEvictions());
+   }
+
+   @Test
+   public void testEvictsLeastRecentlyUsedEntries() throws Exception
+   {
+      AtomicInteger builds = new AtomicInteger();
+      File eldest = write("pom0.xml", "<project/>");
+      ProjectBuildingResult first = get(eldest, "digest", builds, null);
+      Thread.sleep(5);
+      for (int i = 1; i <= 128; i++)
+      {
+         get(write("pom" + i + ".xml", "<project/>"), "digest", builds, null);
+      }
+      BuildCacheStatistics statistics = cache.getStatistics();
+      assertEquals(128, statistics.getSize());
+      assertEquals(1, statistics.getEvictions());
+
+      assertNotSame(first, get(eldest, "digest", builds, null));
+      assertEquals(130, builds.get());
+   }
+
+   private ProjectBuildingResult get(File pom, String digest, AtomicInteger builds, File parent) throws Exception
+   {
+      return cache.get(ProjectBuildingResultCache.canonicalPath(pom), digest, () -> {
+         builds.incrementAndGet();
+         MavenProject project = new MavenProject();
+         project.setGroupId("org.example");
+         project.setArtifactId(pom.getName());
+         project.setVersion("1.0");
+         project.setFile(pom);
+         if (parent != null)
+         {
+            MavenProject parentProject = new MavenProject();
+            parentProject.setFile(parent);
+            project.setParent(parentProject);
+         }
+         return new StubProjectBuildingResult(project);
+      });
+   }
+
+   private File write(String name, String contents) throws IOException
+   {
+      File file = new File(directory, name);
+      Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+      return file;
+   }
+
+   private static class StubProjectBuildingResult implements ProjectBuildingResult
+   {
+      private final MavenProject project;
+
+      StubProjectBuildingResult(MavenProject project)
+      {
+         this.project = project;
+      }
+
+      @Override
+      public String getProjectId()
+      {
+         return project.getId();
+      }
+
+      @Override
+      public File getPomFile()
+      {
+         return project.getFile();
+      }
+
+      @Override
+      public MavenProject getProject()
+      {
+         return project;
+      }
+
+      @Override
+      public List<ModelProblem> getProblems()
+      {
+         return Collections.emptyList();
+      }
+
+      @Override
+      public DependencyResolutionResult getDependencyResolutionResult()
+      {
+         return null;
+      }
+   }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.maven.addon.projects.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Properties;
+
+import org.jboss.forge.addon.maven.projects.util.PropertyInterpolator;
+import org.junit.Test;
+
+/**
+ * Test case for {@link PropertyInterpolator} class
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class PropertyInterpolatorTest
+{
+   @Test
+   public void testSimpleProperties()
+   {
+      Properties properties = new Properties();
+      properties.setProperty("version.forge", "3.3.3.Final");
+      properties.setProperty("project.groupId", "org.jboss.forge");
+      PropertyInterpolator interpolator = new PropertyInterpolator(properties);
+      assertEquals("3.3.3.Final", interpolator.interpolate("${version.forge}"));
+      assertEquals("org.jboss.forge:forge:3.3.3.Final",
+               interpolator.interpolate("${project.groupId}:forge:${version.forge}"));
+      assertEquals("no expressions", interpolator.interpolate("no expressions"));
+      assertNull(interpolator.interpolate(null));
+   }
+
+   @Test
+   public void testRecursiveAndNestedProperties()
+   {
+      Properties properties = new Properties();
+      properties.setProperty("version.major", "3");
+      properties.setProperty("version.forge", "${version.major}.3.3");
+      properties.setProperty("module", "forge");
+      PropertyInterpolator interpolator = new PropertyInterpolator(properties);
+      assertEquals("3.3.3", interpolator.interpolate("${version.forge}"));
+      assertEquals("3.3.3", interpolator.interpolate("${version.${module}}"));
+   }
+
+   @Test
+   public void testUnresolvableProperties()
+   {
+      Properties properties = new Properties();
+      properties.setProperty("a", "${b}");
+      properties.setProperty("b", "${a}");
+      properties.setProperty("special", "$1\\");
+      PropertyInterpolator interpolator = new PropertyInterpolator(properties);
+      assertEquals("${unknown}", interpolator.interpolate("${unknown}"));
+      assertEquals("${a}", interpolator.interpolate("${a}"));
+      assertEquals("${unclosed", interpolator.interpolate("${unclosed"));
+      assertEquals("$1\\", interpolator.interpolate("${special}"));
+   }
+}
@@ -6,12 +6,22 @@
  */
 package org.jboss.forge.addon.maven.dependencies;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import org.apache.maven.settings.Settings;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.artifact.Artifact;
@@ -32,6 +42,7 @@ import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResult;
 import org.eclipse.aether.util.graph.selector.ScopeDependencySelector;
 import org.eclipse.aether.version.Version;
+import org.jboss.forge.addon.configuration.Configuration;
 import org.jboss.forge.addon.dependencies.Coordinate;
 import org.jboss.forge.addon.dependencies.Dependency;
 import org.jboss.forge.addon.dependencies.DependencyException;
@@ -41,19 +52,41 @@ import org.jboss.forge.addon.dependencies.DependencyResolver;
 import org.jboss.forge.addon.dependencies.builder.CoordinateBuilder;
 import org.jboss.forge.addon.dependencies.builder.DependencyBuilder;
 import org.jboss.forge.addon.dependencies.builder.DependencyNodeBuilder;
+import org.jboss.forge.addon.environment.Environment;
+import org.jboss.forge.addon.maven.environment.Network;
 import org.jboss.forge.addon.maven.util.MavenConvertUtils;
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.resource.ResourceFactory;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
 import org.jboss.forge.furnace.manager.maven.MavenContainer;
 import org.jboss.forge.furnace.manager.maven.MavenOperationException;
-import org.jboss.forge.furnace.manager.maven.util.MavenRepositories;
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
 import org.jboss.forge.furnace.util.Predicate;
 import org.jboss.forge.furnace.util.Strings;
 
+/**
+ * Maven implementation of the {@link DependencyResolver}.
+ *
+ * Repository sessions are pooled by default (see {@link RepositorySessionPool}). Set the
+ * <code>org.jboss.forge.addon.maven.dependencies.disableSessionPool</code> system property to <code>true</code> to
+ * create a new session for every query.
+ */
 public class MavenDependencyResolver implements DependencyResolver
 {
+   /**
+    * The configuration key holding the number of seconds during which resolved versions are considered fresh
+    */
+   private static final String VERSION_RANGE_CACHE_TTL_KEY = "maven.versionRangeCache.ttl";
+   private static final long DEFAULT_VERSION_RANGE_CACHE_TTL = TimeUnit.HOURS.toSeconds(1);
+   private static final int MAX_PARALLEL_RESOLUTIONS = Math.max(2,
+            Math.min(8, Runtime.getRuntime().availableProcessors()));
+
    private final MavenContainer container = new MavenContainer();
+   private final RepositorySessionPool sessions = new RepositorySessionPool(container,
+            !Boolean.getBoolean("org.jboss.forge.addon.maven.dependencies.disableSessionPool"));
+   private volatile ExecutorService executor;
+   private volatile VersionRangeCache versionRangeCache;
+   private Environment environment;
    private ResourceFactory resourceFactory;
 
    public MavenDependencyResolver()
@@ -70,17 +103,12 @@ public class MavenDependencyResolver implements DependencyResolver
    {
       Set<Dependency> result = new HashSet<>();
       Predicate<Dependency> filter = query.getDependencyFilter();
-      RepositorySystem system = container.getRepositorySystem();
-      Settings settings = container.getSettings();
-
-      DefaultRepositorySystemSession session = container.setupRepoSession(system, settings);
+      RepositorySystem system = sessions.getRepositorySystem();
+      List<RemoteRepository> remoteRepos = sessions.getRemoteRepositories(query.getDependencyRepositories());
+      DefaultRepositorySystemSession session = sessions.getSession(remoteRepos);
 
       Artifact queryArtifact = MavenConvertUtils.coordinateToMavenArtifact(query.getCoordinate());
 
-      List<RemoteRepository> remoteRepos = MavenConvertUtils.convertToMavenRepos(query.getDependencyRepositories(),
-               settings);
-      remoteRepos.addAll(MavenRepositories.getRemoteRepositories(container, settings));
-
       CollectRequest collectRequest = new CollectRequest(new org.eclipse.aether.graph.Dependency(queryArtifact,
                query.getScopeType()), remoteRepos);
 
@@ -114,15 +142,77 @@ public class MavenDependencyResolver implements DependencyResolver
       return result;
    }
 
+   /**
+    * Resolves the given queries concurrently on a bounded executor. Results are returned in the iteration order of the
+    * given queries, regardless of the order in which they complete.
+    */
+   @Override
+   public List<Set<Dependency>> resolveAll(Collection<DependencyQuery> queries)
+   {
+      List<DependencyQuery> pending = new ArrayList<>(queries);
+      if (pending.size() < 2)
+      {
+         return DependencyResolver.super.resolveAll(pending);
+      }
+      Executor executor = getContextExecutor();
+      List<Future<Set<Dependency>>> futures = new ArrayList<>(pending.size());
+      for (final DependencyQuery query : pending)
+      {
+         FutureTask<Set<Dependency>> task = new FutureTask<>(() -> resolveDependencies(query));
+         executor.execute(task);
+         futures.add(task);
+      }
+      List<Set<Dependency>> result = new ArrayList<>(futures.size());
+      try
+      {
+         for (Future<Set<Dependency>> future : futures)
+         {
+            result.add(future.get());
+         }
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         throw new DependencyException("Interrupted while resolving dependencies", e);
+      }
+      catch (ExecutionException e)
+      {
+         Throwable cause = e.getCause();
+         if (cause instanceof RuntimeException)
+            throw (RuntimeException) cause;
+         throw new DependencyException("Could not resolve dependencies", cause);
+      }
+      finally
+      {
+         // Cancel the remaining queries if one of them failed
+         for (Future<Set<Dependency>> future : futures)
+         {
+            future.cancel(true);
+         }
+      }
+      return result;
+   }
+
    @Override
    public List<Coordinate> resolveVersions(DependencyQuery query)
    {
-      VersionRangeResult r = getVersions(query);
+      Coordinate range = toVersionRange(query.getCoordinate());
+      boolean offline = isOffline();
+      String key = VersionRangeCache.key(range, sessions.getRemoteRepositories(query.getDependencyRepositories()),
+               sessions.getSettings().getMirrors(), offline);
+      List<String> versions = getVersionRangeCache().get(key, getMetadataDirectory(range), offline, () -> {
+         List<String> resolved = new ArrayList<>();
+         for (Version v : getVersions(query, offline).getVersions())
+         {
+            resolved.add(v.toString());
+         }
+         return resolved;
+      }, getContextExecutor());
       List<Coordinate> result = new ArrayList<>();
       Predicate<Dependency> filter = query.getDependencyFilter();
-      for (Version v : r.getVersions())
+      for (String v : versions)
       {
-         CoordinateBuilder coord = CoordinateBuilder.create(query.getCoordinate()).setVersion(v.toString());
+         CoordinateBuilder coord = CoordinateBuilder.create(query.getCoordinate()).setVersion(v);
          DependencyBuilder versionedDep = DependencyBuilder.create().setCoordinate(coord);
          if (filter == null || filter.accept(versionedDep))
          {
@@ -139,28 +229,25 @@ public class MavenDependencyResolver implements DependencyResolver
     * @return
     */
    VersionRangeResult getVersions(DependencyQuery query)
+   {
+      return getVersions(query, isOffline());
+   }
+
+   private VersionRangeResult getVersions(DependencyQuery query, boolean offline)
    {
       Coordinate dep = query.getCoordinate();
       try
       {
-         String version = dep.getVersion();
-         if (version == null || version.isEmpty())
-         {
-            dep = CoordinateBuilder.create(dep).setVersion("[,)");
-         }
-         else if (!version.matches("(\\(|\\[).*?(\\)|\\])"))
+         dep = toVersionRange(dep);
+
+         RepositorySystem maven = sessions.getRepositorySystem();
+         List<RemoteRepository> remoteRepos = sessions.getRemoteRepositories(query.getDependencyRepositories());
+         DefaultRepositorySystemSession session = sessions.getSession(remoteRepos);
+         if (offline)
          {
-            dep = CoordinateBuilder.create(dep).setVersion("[" + version + "]");
+            session.setOffline(true);
          }
-
-         RepositorySystem maven = container.getRepositorySystem();
-         Settings settings = container.getSettings();
-
-         DefaultRepositorySystemSession session = container.setupRepoSession(maven, settings);
          Artifact artifact = MavenConvertUtils.coordinateToMavenArtifact(dep);
-         List<RemoteRepository> remoteRepos = MavenConvertUtils.convertToMavenRepos(query.getDependencyRepositories(),
-                  settings);
-         remoteRepos.addAll(MavenRepositories.getRemoteRepositories(container, settings));
 
          VersionRangeRequest rangeRequest = new VersionRangeRequest(artifact, remoteRepos, null);
 
@@ -173,17 +260,91 @@ public class MavenDependencyResolver implements DependencyResolver
       }
    }
 
-   @Override
-   public Dependency resolveArtifact(DependencyQuery query)
+   /**
+    * Returns the given {@link Coordinate} with its version turned into a version range
+    */
+   private static Coordinate toVersionRange(Coordinate dep)
+   {
+      String version = dep.getVersion();
+      if (version == null || version.isEmpty())
+      {
+         return CoordinateBuilder.create(dep).setVersion("[,)");
+      }
+      else if (!version.matches("(\\(|\\[).*?(\\)|\\])"))
+      {
+         return CoordinateBuilder.create(dep).setVersion("[" + version + "]");
+      }
+      return dep;
+   }
+
+   /**
+    * Returns the directory holding the maven-metadata files of the given artifact in the local repository
+    */
+   private File getMetadataDirectory(Coordinate coordinate)
    {
-      RepositorySystem system = container.getRepositorySystem();
-      Settings settings = container.getSettings();
+      String localRepository = sessions.getSettings().getLocalRepository();
+      File baseDir = localRepository != null ? new File(localRepository)
+               : new File(OperatingSystemUtils.getUserHomePath(), ".m2" + File.separator + "repository");
+      return new File(baseDir, coordinate.getGroupId().replace('.', File.separatorChar) + File.separator
+               + coordinate.getArtifactId());
+   }
 
-      List<RemoteRepository> remoteRepos = MavenConvertUtils.convertToMavenRepos(query.getDependencyRepositories(),
-               settings);
-      remoteRepos.addAll(MavenRepositories.getRemoteRepositories(container, settings));
+   private VersionRangeCache getVersionRangeCache()
+   {
+      if (versionRangeCache == null)
+      {
+         synchronized (this)
+         {
+            if (versionRangeCache == null)
+            {
+               long timeToLive = DEFAULT_VERSION_RANGE_CACHE_TTL;
+               try
+               {
+                  timeToLive = SimpleContainer.getServices(getClass().getClassLoader(), Configuration.class).get()
+                           .getLong(VERSION_RANGE_CACHE_TTL_KEY, DEFAULT_VERSION_RANGE_CACHE_TTL);
+               }
+               catch (RuntimeException e)
+               {
+                  // Not running inside Furnace
+               }
+               versionRangeCache = new VersionRangeCache(new File(OperatingSystemUtils.getUserForgeDir(),
+                        "cache" + File.separator + "maven-version-ranges"), TimeUnit.SECONDS.toMillis(timeToLive));
+            }
+         }
+      }
+      return versionRangeCache;
+   }
 
-      DefaultRepositorySystemSession session = container.setupRepoSession(system, settings);
+   /**
+    * Returns <code>true</code> if the settings or the Forge {@link Environment} are offline
+    */
+   private boolean isOffline()
+   {
+      if (sessions.getSettings().isOffline())
+      {
+         return true;
+      }
+      try
+      {
+         if (environment == null)
+         {
+            environment = SimpleContainer.getServices(getClass().getClassLoader(), Environment.class).get();
+         }
+         return Network.isOffline(environment);
+      }
+      catch (RuntimeException e)
+      {
+         // Not running inside Furnace
+         return false;
+      }
+   }
+
+   @Override
+   public Dependency resolveArtifact(DependencyQuery query)
+   {
+      RepositorySystem system = sessions.getRepositorySystem();
+      List<RemoteRepository> remoteRepos = sessions.getRemoteRepositories(query.getDependencyRepositories());
+      DefaultRepositorySystemSession session = sessions.getSession(remoteRepos);
       Artifact queryArtifact = MavenConvertUtils.coordinateToMavenArtifact(query.getCoordinate());
       ArtifactRequest request = new ArtifactRequest(queryArtifact, remoteRepos, null);
       try
@@ -213,9 +374,9 @@ public class MavenDependencyResolver implements DependencyResolver
    {
       try
       {
-         RepositorySystem system = container.getRepositorySystem();
-         Settings settings = container.getSettings();
-         DefaultRepositorySystemSession session = container.setupRepoSession(system, settings);
+         RepositorySystem system = sessions.getRepositorySystem();
+         List<RemoteRepository> remoteRepos = sessions.getRemoteRepositories(query.getDependencyRepositories());
+         DefaultRepositorySystemSession session = sessions.getSession(remoteRepos);
          session.setDependencyTraverser(new DependencyTraverser()
          {
             @Override
@@ -237,10 +398,6 @@ public class MavenDependencyResolver implements DependencyResolver
 
          final CoordinateBuilder coord = CoordinateBuilder.create(query.getCoordinate());
          Artifact queryArtifact = MavenConvertUtils.coordinateToMavenArtifact(coord);
-
-         List<RemoteRepository> remoteRepos = MavenConvertUtils.convertToMavenRepos(query.getDependencyRepositories(),
-                  settings);
-         remoteRepos.addAll(MavenRepositories.getRemoteRepositories(container, settings));
          CollectRequest collectRequest = new CollectRequest(new org.eclipse.aether.graph.Dependency(queryArtifact,
                   null), remoteRepos);
 
@@ -267,15 +424,10 @@ public class MavenDependencyResolver implements DependencyResolver
             throw new IllegalArgumentException("Dependency query coordinate version must be specified.");
          }
 
-         RepositorySystem system = container.getRepositorySystem();
-         Settings settings = container.getSettings();
-
-         DefaultRepositorySystemSession session = container.setupRepoSession(system, settings);
+         RepositorySystem system = sessions.getRepositorySystem();
+         List<RemoteRepository> remoteRepos = sessions.getRemoteRepositories(query.getDependencyRepositories());
+         DefaultRepositorySystemSession session = sessions.getSession(remoteRepos);
          Artifact artifact = MavenConvertUtils.coordinateToMavenArtifact(query.getCoordinate());
-
-         List<RemoteRepository> remoteRepos = MavenConvertUtils.convertToMavenRepos(query.getDependencyRepositories(),
-                  settings);
-         remoteRepos.addAll(MavenRepositories.getRemoteRepositories(container, settings));
          ArtifactDescriptorRequest ar = new ArtifactDescriptorRequest(artifact, remoteRepos, null);
          ArtifactDescriptorResult results = system.readArtifactDescriptor(session, ar);
 
@@ -291,6 +443,53 @@ public class MavenDependencyResolver implements DependencyResolver
       }
    }
 
+   /**
+    * Returns an {@link Executor} running tasks on the resolver threads with the context {@link ClassLoader} of the
+    * calling thread
+    */
+   private Executor getContextExecutor()
+   {
+      final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+      final ExecutorService pool = getExecutor();
+      return (task) -> pool.execute(() -> {
+         Thread thread = Thread.currentThread();
+         ClassLoader previous = thread.getContextClassLoader();
+         thread.setContextClassLoader(contextClassLoader);
+         try
+         {
+            task.run();
+         }
+         finally
+         {
+            thread.setContextClassLoader(previous);
+         }
+      });
+   }
+
+   private ExecutorService getExecutor()
+   {
+      if (executor == null)
+      {
+         synchronized (this)
+         {
+            if (executor == null)
+            {
+               AtomicInteger count = new AtomicInteger();
+               ThreadPoolExecutor pool = new ThreadPoolExecutor(MAX_PARALLEL_RESOLUTIONS, MAX_PARALLEL_RESOLUTIONS,
+                        60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), (runnable) -> {
+                           Thread thread = new Thread(runnable,
+                                    "Forge dependency resolver " + count.incrementAndGet());
+                           thread.setDaemon(true);
+                           return thread;
+                        });
+               pool.allowCoreThreadTimeOut(true);
+               executor = pool;
+            }
+         }
+      }
+      return executor;
+   }
+
    private ResourceFactory getResourceFactory()
    {
       if (resourceFactory == null)
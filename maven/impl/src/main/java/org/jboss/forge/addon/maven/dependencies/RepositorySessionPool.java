@@ -0,0 +1,213 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.dependencies;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.settings.Settings;
+import org.eclipse.aether.DefaultRepositoryCache;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.jboss.forge.addon.dependencies.DependencyRepository;
+import org.jboss.forge.addon.maven.util.MavenConvertUtils;
+import org.jboss.forge.addon.maven.util.MavenSettingsUtils;
+import org.jboss.forge.furnace.manager.maven.MavenContainer;
+import org.jboss.forge.furnace.manager.maven.util.MavenRepositories;
+
+/**
+ * Keeps long-lived repository sessions for the {@link MavenDependencyResolver}.
+ *
+ * Sessions are keyed by the set of remote repositories and the offline flag, and share an Aether cache and session
+ * data, so artifact descriptors, version ranges and update checks are only resolved once per session. The
+ * {@link Settings} and the default remote repositories are read again only when the settings files change, and pooled
+ * sessions are discarded after {@link #MAX_SESSION_AGE} so that newly deployed artifacts are eventually seen.
+ *
+ * When pooling is disabled, a new session is created for every request, as in previous versions.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class RepositorySessionPool
+{
+   private static final long MAX_SESSION_AGE = TimeUnit.MINUTES.toMillis(10);
+   private static final int MAX_SESSIONS = 16;
+
+   private final MavenContainer container;
+   private final boolean pooling;
+   private final Map<SessionKey, PooledSession> sessions = new ConcurrentHashMap<>();
+   private volatile SettingsSnapshot snapshot;
+
+   RepositorySessionPool(MavenContainer container, boolean pooling)
+   {
+      this.container = container;
+      this.pooling = pooling;
+   }
+
+   RepositorySystem getRepositorySystem()
+   {
+      return getSnapshot().system;
+   }
+
+   Settings getSettings()
+   {
+      return getSnapshot().settings;
+   }
+
+   /**
+    * Returns the given repositories followed by the remote repositories configured in the settings
+    */
+   List<RemoteRepository> getRemoteRepositories(List<DependencyRepository> repositories)
+   {
+      SettingsSnapshot current = getSnapshot();
+      List<RemoteRepository> remoteRepos = MavenConvertUtils.convertToMavenRepos(repositories, current.settings);
+      remoteRepos.addAll(current.remoteRepositories);
+      return remoteRepos;
+   }
+
+   /**
+    * Returns a session to resolve artifacts from the given remote repositories. The returned session is a copy of the
+    * pooled session, so it may be customized by the caller without affecting other requests.
+    */
+   DefaultRepositorySystemSession getSession(List<RemoteRepository> remoteRepositories)
+   {
+      SettingsSnapshot current = getSnapshot();
+      if (!pooling)
+      {
+         return container.setupRepoSession(current.system, current.settings);
+      }
+      SessionKey key = new SessionKey(current.settings.isOffline(), remoteRepositories);
+      long now = System.currentTimeMillis();
+      PooledSession pooled = sessions.compute(key, (k, existing) -> {
+         if (existing != null && existing.snapshot == current && now - existing.createdAt < MAX_SESSION_AGE)
+         {
+            return existing;
+         }
+         DefaultRepositorySystemSession session = container.setupRepoSession(current.system, current.settings);
+         session.setCache(new DefaultRepositoryCache());
+         session.setData(new DefaultSessionData());
+         return new PooledSession(current, session, now);
+      });
+      pooled.lastAccess = now;
+      trimToSize();
+      return new DefaultRepositorySystemSession(pooled.session);
+   }
+
+   private SettingsSnapshot getSnapshot()
+   {
+      String stamp = MavenSettingsUtils.getSettingsStamp();
+      SettingsSnapshot current = snapshot;
+      if (current == null || !current.stamp.equals(stamp))
+      {
+         synchronized (this)
+         {
+            current = snapshot;
+            if (current == null || !current.stamp.equals(stamp))
+            {
+               Settings settings = container.getSettings();
+               current = new SettingsSnapshot(stamp, container.getRepositorySystem(), settings,
+                        Collections.unmodifiableList(new ArrayList<>(
+                                 MavenRepositories.getRemoteRepositories(container, settings))));
+               snapshot = current;
+               sessions.clear();
+            }
+         }
+      }
+      return current;
+   }
+
+   private void trimToSize()
+   {
+      while (sessions.size() > MAX_SESSIONS)
+      {
+         Map.Entry<SessionKey, PooledSession> eldest = null;
+         for (Iterator<Map.Entry<SessionKey, PooledSession>> it = sessions.entrySet().iterator(); it.hasNext();)
+         {
+            Map.Entry<SessionKey, PooledSession> entry = it.next();
+            if (eldest == null || entry.getValue().lastAccess < eldest.getValue().lastAccess)
+            {
+               eldest = entry;
+            }
+         }
+         if (eldest == null || !sessions.remove(eldest.getKey(), eldest.getValue()))
+         {
+            break;
+         }
+      }
+   }
+
+   /**
+    * The settings read for a given settings stamp
+    */
+   private static class SettingsSnapshot
+   {
+      private final String stamp;
+      private final RepositorySystem system;
+      private final Settings settings;
+      private final List<RemoteRepository> remoteRepositories;
+
+      SettingsSnapshot(String stamp, RepositorySystem system, Settings settings,
+               List<RemoteRepository> remoteRepositories)
+      {
+         this.stamp = stamp;
+         this.system = system;
+         this.settings = settings;
+         this.remoteRepositories = remoteRepositories;
+      }
+   }
+
+   private static class SessionKey
+   {
+      private final boolean offline;
+      private final List<RemoteRepository> repositories;
+
+      SessionKey(boolean offline, List<RemoteRepository> repositories)
+      {
+         this.offline = offline;
+         this.repositories = new ArrayList<>(repositories);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return 31 * repositories.hashCode() + (offline ? 1 : 0);
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (this == obj)
+            return true;
+         if (!(obj instanceof SessionKey))
+            return false;
+         SessionKey other = (SessionKey) obj;
+         return offline == other.offline && repositories.equals(other.repositories);
+      }
+   }
+
+   private static class PooledSession
+   {
+      private final SettingsSnapshot snapshot;
+      private final DefaultRepositorySystemSession session;
+      private final long createdAt;
+      private volatile long lastAccess;
+
+      PooledSession(SettingsSnapshot snapshot, DefaultRepositorySystemSession session, long createdAt)
+      {
+         this.snapshot = snapshot;
+         this.session = session;
+         this.createdAt = createdAt;
+         this.lastAccess = createdAt;
+      }
+   }
+}
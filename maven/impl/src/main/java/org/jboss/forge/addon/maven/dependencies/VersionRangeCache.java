@@ -0,0 +1,286 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.dependencies;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.maven.settings.Mirror;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.jboss.forge.addon.dependencies.Coordinate;
+
+/**
+ * A cache of the versions available for a given artifact and version range, persisted to disk.
+ *
+ * Entries are fresh for a configurable amount of time. Stale entries are still returned, but trigger a revalidation in
+ * the background (unless offline). An entry is discarded as soon as the <code>maven-metadata*.xml</code> files of the
+ * artifact in the local repository change, since that means the versions were resolved again by another process.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class VersionRangeCache
+{
+   private static final Logger log = Logger.getLogger(VersionRangeCache.class.getName());
+
+   private static final String HEADER = "# Forge version range cache v1";
+   private static final int MAX_ENTRIES = 1000;
+
+   private final File cacheFile;
+   private final long timeToLive;
+   private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+   private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+   private volatile boolean loaded;
+
+   /**
+    * @param cacheFile the file the entries are persisted to, may be <code>null</code>
+    * @param timeToLive the time in milliseconds during which an entry is considered fresh
+    */
+   VersionRangeCache(File cacheFile, long timeToLive)
+   {
+      this.cacheFile = cacheFile;
+      this.timeToLive = timeToLive;
+   }
+
+   /**
+    * Returns the key of a query for the versions of the given range. The key identifies the remote repositories
+    * (including the ones configured in the settings), the mirrors and the offline mode the versions are resolved with,
+    * so changing one of them in the settings does not return the versions resolved with the previous configuration.
+    */
+   static String key(Coordinate range, List<RemoteRepository> repositories, List<Mirror> mirrors, boolean offline)
+   {
+      StringBuilder key = new StringBuilder();
+      key.append(range.getGroupId()).append(':').append(range.getArtifactId()).append(':')
+               .append(range.getPackaging()).append(':').append(range.getClassifier()).append(':')
+               .append(range.getVersion());
+      for (RemoteRepository repository : repositories)
+      {
+         key.append(' ').append(repository.getId()).append('=').append(repository.getUrl());
+      }
+      if (mirrors != null)
+      {
+         for (Mirror mirror : mirrors)
+         {
+            key.append(" mirror:").append(mirror.getId()).append('=').append(mirror.getUrl()).append('>')
+                     .append(mirror.getMirrorOf());
+         }
+      }
+      if (offline)
+      {
+         key.append(" offline");
+      }
+      return key.toString().replaceAll("\\s+", " ");
+   }
+
+   /**
+    * Returns the versions for the given key, calling the loader if there is no valid entry
+    *
+    * @param key identifies the artifact, version range and repositories of the query
+    * @param metadataDirectory the directory of the artifact in the local repository
+    * @param offline if <code>true</code>, stale entries are returned without being revalidated
+    * @param loader resolves the versions
+    * @param executor runs the background revalidations
+    */
+   List<String> get(String key, File metadataDirectory, boolean offline, Supplier<List<String>> loader,
+            Executor executor)
+   {
+      load();
+      Entry entry = entries.get(key);
+      if (entry != null && entry.metadataStamp == getMetadataStamp(metadataDirectory))
+      {
+         if (!offline && System.currentTimeMillis() - entry.resolvedAt > timeToLive && revalidating.add(key))
+         {
+            try
+            {
+               executor.execute(() -> {
+                  try
+                  {
+                     resolve(key, metadataDirectory, loader);
+                  }
+                  catch (RuntimeException e)
+                  {
+                     log.log(Level.FINE, "Could not revalidate versions for [" + key + "]", e);
+                  }
+                  finally
+                  {
+                     revalidating.remove(key);
+                  }
+               });
+            }
+            catch (RuntimeException e)
+            {
+               revalidating.remove(key);
+               log.log(Level.FINE, "Could not schedule revalidation of versions for [" + key + "]", e);
+            }
+         }
+         return entry.versions;
+      }
+      return resolve(key, metadataDirectory, loader);
+   }
+
+   private List<String> resolve(String key, File metadataDirectory, Supplier<List<String>> loader)
+   {
+      List<String> versions = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+      if (versions.isEmpty())
+      {
+         // Usually a transient failure (eg. no network), so it is not worth remembering
+         entries.remove(key);
+      }
+      else
+      {
+         // Resolving may update the local metadata, so the stamp is read afterwards
+         entries.put(key, new Entry(versions, System.currentTimeMillis(), getMetadataStamp(metadataDirectory)));
+         trimToSize();
+      }
+      save();
+      return versions;
+   }
+
+   private void trimToSize()
+   {
+      while (entries.size() > MAX_ENTRIES)
+      {
+         Map.Entry<String, Entry> eldest = null;
+         for (Map.Entry<String, Entry> candidate : entries.entrySet())
+         {
+            if (eldest == null || candidate.getValue().resolvedAt < eldest.getValue().resolvedAt)
+            {
+               eldest = candidate;
+            }
+         }
+         if (eldest == null)
+         {
+            break;
+         }
+         entries.remove(eldest.getKey());
+      }
+   }
+
+   static long getMetadataStamp(File metadataDirectory)
+   {
+      File[] files = metadataDirectory == null ? null
+               : metadataDirectory.listFiles((dir, name) -> name.startsWith("maven-metadata")
+                        && name.endsWith(".xml"));
+      long stamp = 0;
+      if (files != null)
+      {
+         Arrays.sort(files);
+         for (File file : files)
+         {
+            stamp = stamp * 31 + file.lastModified();
+            stamp = stamp * 31 + file.length();
+         }
+      }
+      return stamp;
+   }
+
+   private void load()
+   {
+      if (loaded)
+      {
+         return;
+      }
+      synchronized (this)
+      {
+         if (loaded)
+         {
+            return;
+         }
+         if (cacheFile != null && cacheFile.isFile())
+         {
+            try (BufferedReader reader = Files.newBufferedReader(cacheFile.toPath(), StandardCharsets.UTF_8))
+            {
+               if (HEADER.equals(reader.readLine()))
+               {
+                  String line;
+                  while ((line = reader.readLine()) != null)
+                  {
+                     String[] columns = line.split("\t");
+                     if (columns.length == 4 && !columns[3].isEmpty())
+                     {
+                        List<String> versions = Collections.unmodifiableList(Arrays.asList(columns[3].split(",")));
+                        entries.putIfAbsent(columns[0], new Entry(versions, Long.parseLong(columns[1]),
+                                 Long.parseLong(columns[2])));
+                     }
+                  }
+               }
+            }
+            catch (IOException | RuntimeException e)
+            {
+               log.log(Level.FINE, "Could not read version range cache from " + cacheFile, e);
+               entries.clear();
+            }
+         }
+         loaded = true;
+      }
+   }
+
+   private synchronized void save()
+   {
+      if (cacheFile == null)
+      {
+         return;
+      }
+      try
+      {
+         cacheFile.getParentFile().mkdirs();
+         File tmp = new File(cacheFile.getParentFile(), cacheFile.getName() + ".tmp");
+         try (BufferedWriter writer = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8))
+         {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Map.Entry<String, Entry> item : entries.entrySet())
+            {
+               Entry entry = item.getValue();
+               writer.write(item.getKey());
+               writer.write('\t');
+               writer.write(Long.toString(entry.resolvedAt));
+               writer.write('\t');
+               writer.write(Long.toString(entry.metadataStamp));
+               writer.write('\t');
+               writer.write(String.join(",", entry.versions));
+               writer.newLine();
+            }
+         }
+         Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                  StandardCopyOption.ATOMIC_MOVE);
+      }
+      catch (IOException | RuntimeException e)
+      {
+         log.log(Level.FINE, "Could not write version range cache to " + cacheFile, e);
+      }
+   }
+
+   private static class Entry
+   {
+      private final List<String> versions;
+      private final long resolvedAt;
+      private final long metadataStamp;
+
+      Entry(List<String> versions, long resolvedAt, long metadataStamp)
+      {
+         this.versions = versions;
+         this.resolvedAt = resolvedAt;
+         this.metadataStamp = metadataStamp;
+      }
+   }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.resources;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.model.Model;
+import org.jboss.forge.addon.resource.util.FileStamp;
+import org.jdom.Document;
+
+/**
+ * A bounded cache of parsed {@link Model} objects, shared by all the {@link MavenModelResource} instances pointing to
+ * the same POM file. Each parsed model is given a version number that is unique across all the POM files, so it can be
+ * used as a key by caches of data derived from the model.
+ *
+ * The JDOM {@link Document} of the last written POM files are kept as well, so they don't need to be parsed again the
+ * next time the model is written.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class MavenModelCache
+{
+   private static final int MAX_ENTRIES = 256;
+   private static final int MAX_DOCUMENTS = 32;
+
+   private final AtomicLong versions = new AtomicLong();
+
+   private final Map<String, CachedModel> entries = lru(MAX_ENTRIES);
+   private final Map<String, CachedDocument> documents = lru(MAX_DOCUMENTS);
+
+   private static <T> Map<String, T> lru(int maxEntries)
+   {
+      return new LinkedHashMap<String, T>(16, 0.75f, true)
+      {
+         private static final long serialVersionUID = 1L;
+
+         @Override
+         protected boolean removeEldestEntry(Map.Entry<String, T> eldest)
+         {
+            return size() > maxEntries;
+         }
+      };
+   }
+
+   synchronized CachedModel get(String path)
+   {
+      return entries.get(path);
+   }
+
+   synchronized void put(String path, CachedModel model)
+   {
+      entries.put(path, model);
+   }
+
+   synchronized void invalidate(String path)
+   {
+      entries.remove(path);
+   }
+
+   /**
+    * Removes and returns the {@link Document} cached for the given path, so that only the caller may change it
+    */
+   synchronized CachedDocument takeDocument(String path)
+   {
+      return documents.remove(path);
+   }
+
+   synchronized void putDocument(String path, CachedDocument document)
+   {
+      documents.put(path, document);
+   }
+
+   long nextVersion()
+   {
+      return versions.incrementAndGet();
+   }
+
+   /**
+    * The digest and file attributes of the contents something was parsed from
+    */
+   abstract static class CachedContents
+   {
+      private final byte[] digest;
+      private final FileStamp stamp;
+
+      CachedContents(byte[] digest, long length, long lastModified)
+      {
+         this.digest = digest;
+         this.stamp = new FileStamp(length, lastModified);
+      }
+
+      /**
+       * Returns <code>true</code> if a file with the given attributes certainly has the contents this was parsed from.
+       * A <code>false</code> result means the digest of the file must be checked.
+       *
+       * @see FileStamp#isValidFor(long, long)
+       */
+      boolean isValidFor(long length, long lastModified)
+      {
+         return stamp.isValidFor(length, lastModified);
+      }
+
+      byte[] getDigest()
+      {
+         return digest;
+      }
+   }
+
+   /**
+    * A parsed {@link Model} along with the file attributes and digest of the contents it was parsed from.
+    *
+    * The model is shared by all the {@link MavenModelResource} instances and must not be modified.
+    */
+   static class CachedModel extends CachedContents
+   {
+      private final Model model;
+      private final long version;
+
+      CachedModel(Model model, byte[] digest, long length, long lastModified, long version)
+      {
+         super(digest, length, lastModified);
+         this.model = model;
+         this.version = version;
+      }
+
+      /**
+       * Returns a copy of this model, for a file with the same digest and the given attributes
+       */
+      CachedModel revalidate(long length, long lastModified)
+      {
+         return new CachedModel(model, getDigest(), length, lastModified, version);
+      }
+
+      Model getModel()
+      {
+         return model;
+      }
+
+      long getVersion()
+      {
+         return version;
+      }
+   }
+
+   /**
+    * A parsed JDOM {@link Document} along with the file attributes and digest of the contents it matches
+    */
+   static class CachedDocument extends CachedContents
+   {
+      private final Document document;
+
+      CachedDocument(Document document, byte[] digest, long length, long lastModified)
+      {
+         super(digest, length, lastModified);
+         this.document = document;
+      }
+
+      Document getDocument()
+      {
+         return document;
+      }
+   }
+}
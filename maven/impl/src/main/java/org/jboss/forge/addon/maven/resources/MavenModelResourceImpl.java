@@ -13,7 +13,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.maven.model.Dependency;
@@ -21,6 +27,9 @@ import org.apache.maven.model.Model;
 import org.apache.maven.model.Profile;
 import org.apache.maven.model.Repository;
 import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.jboss.forge.addon.maven.resources.MavenModelCache.CachedDocument;
+import org.jboss.forge.addon.maven.resources.MavenModelCache.CachedModel;
+import org.jboss.forge.addon.maven.util.IncrementalMavenJDOMWriter;
 import org.jboss.forge.addon.maven.util.MavenJDOMWriter;
 import org.jboss.forge.addon.parser.xml.resources.AbstractXMLResource;
 import org.jboss.forge.addon.resource.Resource;
@@ -36,11 +45,18 @@ import org.jdom.input.SAXBuilder;
  */
 public class MavenModelResourceImpl extends AbstractXMLResource implements MavenModelResource
 {
-   private Model currentModel;
+   private final MavenModelCache modelCache;
+   private CachedModel currentModel;
 
    public MavenModelResourceImpl(final ResourceFactory factory, final File file)
+   {
+      this(factory, file, new MavenModelCache());
+   }
+
+   public MavenModelResourceImpl(final ResourceFactory factory, final File file, final MavenModelCache modelCache)
    {
       super(factory, file);
+      this.modelCache = modelCache;
    }
 
    @Override
@@ -60,7 +76,7 @@ public class MavenModelResourceImpl extends AbstractXMLResource implements Maven
    @Override
    protected List<Resource<?>> doListResources()
    {
-      Model model = getCurrentModel();
+      Model model = getReadOnlyModel();
       List<Resource<?>> children = new ArrayList<>();
       listDependencies(model, children);
       listProfiles(model, children);
@@ -97,17 +113,175 @@ public class MavenModelResourceImpl extends AbstractXMLResource implements Maven
    @Override
    public Model getCurrentModel()
    {
-      initialize();
-      return currentModel.clone();
+      return getReadOnlyModel().clone();
+   }
+
+   @Override
+   public Model getReadOnlyModel()
+   {
+      return initialize().getModel();
+   }
+
+   @Override
+   public long getModelVersion()
+   {
+      return initialize().getVersion();
    }
 
    @Override
    public MavenModelResource setCurrentModel(final Model pom)
    {
-      Document document;
-      try (InputStream is = getResourceInputStream())
+      String path = getUnderlyingResourceObject().getAbsolutePath();
+      boolean transaction = getResourceFactory().getTransaction().isStarted();
+      CachedModel previous = initialize();
+      CachedDocument cached = modelCache.takeDocument(path);
+      try
+      {
+         BasicFileAttributes attributes = transaction ? null : readAttributes();
+         if (cached == null || attributes == null
+                  || !cached.isValidFor(attributes.size(), attributes.lastModifiedTime().toMillis()))
+         {
+            byte[] contents = readContents();
+            byte[] digest = digest(contents);
+            if (cached == null || !Arrays.equals(cached.getDigest(), digest))
+            {
+               cached = new CachedDocument(parseDocument(contents), digest, -1, -1);
+            }
+         }
+         // Only the sections that changed since the document was read need to be updated
+         Model previousModel = Arrays.equals(previous.getDigest(), cached.getDigest()) ? previous.getModel() : null;
+         Document document = cached.getDocument();
+         cached = null;
+         MavenJDOMWriter writer = new IncrementalMavenJDOMWriter(previousModel);
+         writer.update(pom, document);
+
+         // Rendered before the file is opened, so that a failure leaves the POM untouched
+         ByteArrayOutputStream baos = new ByteArrayOutputStream(8192);
+         try (OutputStreamWriter os = new OutputStreamWriter(baos, StandardCharsets.UTF_8))
+         {
+            writer.output(document, "UTF-8", os);
+         }
+         catch (IOException e)
+         {
+            throw new RuntimeException("Could not write POM file: " + getFullyQualifiedName(), e);
+         }
+         byte[] contents = baos.toByteArray();
+         try (OutputStream resourceOutputStream = getResourceOutputStream())
+         {
+            resourceOutputStream.write(contents);
+         }
+         catch (IOException e)
+         {
+            throw new RuntimeException("Error while writing to resource stream: " + getFullyQualifiedName(), e);
+         }
+         byte[] written = digest(contents);
+         attributes = transaction ? null : readAttributes();
+         modelCache.putDocument(path, attributes == null ? new CachedDocument(document, written, -1, -1)
+                  : new CachedDocument(document, written, attributes.size(),
+                           attributes.lastModifiedTime().toMillis()));
+      }
+      finally
+      {
+         if (cached != null)
+         {
+            // The document was not changed, so it may still be reused
+            modelCache.putDocument(path, cached);
+         }
+         synchronized (this)
+         {
+            currentModel = null;
+            modelCache.invalidate(path);
+         }
+      }
+
+      return this;
+   }
+
+   @Override
+   public Resource<File> createFrom(File file)
+   {
+      return new MavenModelResourceImpl(getResourceFactory(), file, modelCache);
+   }
+
+   /**
+    * Returns the parsed model for the current contents of the POM. The file is read again only if its size or last
+    * modified time changed, and parsed again only if its digest changed.
+    */
+   private synchronized CachedModel initialize()
+   {
+      String path = getUnderlyingResourceObject().getAbsolutePath();
+      if (getResourceFactory().getTransaction().isStarted())
+      {
+         // File attributes are not reliable while the contents are held by a transaction
+         byte[] contents = readContents();
+         byte[] digest = digest(contents);
+         if (currentModel == null || !Arrays.equals(currentModel.getDigest(), digest))
+         {
+            currentModel = new CachedModel(parse(contents), digest, -1, -1, modelCache.nextVersion());
+         }
+         modelCache.invalidate(path);
+         return currentModel;
+      }
+      BasicFileAttributes attributes = readAttributes();
+      long length = attributes.size();
+      long lastModified = attributes.lastModifiedTime().toMillis();
+      if (currentModel != null && currentModel.isValidFor(length, lastModified))
       {
-         document = new SAXBuilder().build(is);
+         return currentModel;
+      }
+      CachedModel shared = modelCache.get(path);
+      if (shared != null && shared.isValidFor(length, lastModified))
+      {
+         currentModel = shared;
+         return currentModel;
+      }
+      CachedModel previous = currentModel != null ? currentModel : shared;
+      try
+      {
+         byte[] contents = readContents();
+         byte[] digest = digest(contents);
+         if (previous != null && Arrays.equals(previous.getDigest(), digest))
+         {
+            currentModel = previous.revalidate(length, lastModified);
+         }
+         else
+         {
+            currentModel = new CachedModel(parse(contents), digest, length, lastModified, modelCache.nextVersion());
+         }
+         modelCache.put(path, currentModel);
+         return currentModel;
+      }
+      finally
+      {
+         refresh();
+      }
+   }
+
+   private Model parse(byte[] contents)
+   {
+      try
+      {
+         MavenXpp3Reader reader = new MavenXpp3Reader();
+         Model model = reader.read(new ByteArrayInputStream(contents));
+         model.setPomFile(getUnderlyingResourceObject());
+
+         // FORGE-2273: Making properties sortable
+         SortedProperties sortedProps = new SortedProperties();
+         sortedProps.putAll(model.getProperties());
+         model.setProperties(sortedProps);
+         return model;
+      }
+      catch (Exception e)
+      {
+         throw new RuntimeException(e);
+      }
+   }
+
+   private Document parseDocument(byte[] contents)
+   {
+      try
+      {
+         return new SAXBuilder().build(new ByteArrayInputStream(contents));
       }
       catch (JDOMException e)
       {
@@ -117,57 +291,48 @@ public class MavenModelResourceImpl extends AbstractXMLResource implements Maven
       {
          throw new RuntimeException("Could not read POM file: " + getFullyQualifiedName(), e);
       }
-      ByteArrayOutputStream baos = new ByteArrayOutputStream();
-      try (OutputStreamWriter os = new OutputStreamWriter(baos))
+   }
+
+   private BasicFileAttributes readAttributes()
+   {
+      try
       {
-         MavenJDOMWriter writer = new MavenJDOMWriter();
-         writer.write(pom, document, "UTF-8", os);
+         return Files.readAttributes(getUnderlyingResourceObject().toPath(), BasicFileAttributes.class);
       }
       catch (IOException e)
       {
-         throw new RuntimeException("Could not write POM file: " + getFullyQualifiedName(), e);
+         throw new RuntimeException("Could not read POM file: " + getFullyQualifiedName(), e);
       }
-      try (OutputStream resourceOutputStream = getResourceOutputStream())
+   }
+
+   private byte[] readContents()
+   {
+      try (InputStream stream = getResourceInputStream())
       {
-         Streams.write(new ByteArrayInputStream(baos.toByteArray()), resourceOutputStream);
+         ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+         Streams.write(stream, out);
+         return out.toByteArray();
       }
       catch (IOException e)
       {
-         throw new RuntimeException("Error while writing to resource stream: " + getFullyQualifiedName(), e);
+         throw new RuntimeException("Could not read POM file: " + getFullyQualifiedName(), e);
       }
-
-      return this;
    }
 
-   @Override
-   public Resource<File> createFrom(File file)
+   private static byte[] digest(byte[] contents)
    {
-      return new MavenModelResourceImpl(getResourceFactory(), file);
+      return newDigest().digest(contents);
    }
 
-   private void initialize()
+   private static MessageDigest newDigest()
    {
-      if (isStale() || currentModel == null)
+      try
       {
-         try (InputStream stream = getResourceInputStream())
-         {
-            MavenXpp3Reader reader = new MavenXpp3Reader();
-            currentModel = reader.read(stream);
-            currentModel.setPomFile(getUnderlyingResourceObject());
-
-            // FORGE-2273: Making properties sortable
-            SortedProperties sortedProps = new SortedProperties();
-            sortedProps.putAll(currentModel.getProperties());
-            currentModel.setProperties(sortedProps);
-         }
-         catch (Exception e)
-         {
-            throw new RuntimeException(e);
-         }
-         finally
-         {
-            refresh();
-         }
+         return MessageDigest.getInstance("MD5");
+      }
+      catch (NoSuchAlgorithmException e)
+      {
+         throw new IllegalStateException("MD5 digest is not available", e);
       }
    }
 }
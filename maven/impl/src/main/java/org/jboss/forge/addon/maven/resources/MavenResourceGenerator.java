@@ -14,6 +14,8 @@ import org.jboss.forge.addon.resource.ResourceGenerator;
 
 public class MavenResourceGenerator implements ResourceGenerator<MavenModelResource, File>
 {
+   private final MavenModelCache modelCache = new MavenModelCache();
+
    @Override
    public boolean handles(Class<?> type, Object resource)
    {
@@ -29,7 +31,7 @@ public class MavenResourceGenerator implements ResourceGenerator<MavenModelResou
    public <T extends Resource<File>> T getResource(ResourceFactory factory, Class<MavenModelResource> type,
             File resource)
    {
-      return (T) new MavenModelResourceImpl(factory, resource);
+      return (T) new MavenModelResourceImpl(factory, resource, modelCache);
    }
 
    @Override
@@ -0,0 +1,256 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.maven.model.Model;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.jdom.Document;
+import org.jdom.Element;
+
+/**
+ * A {@link MavenJDOMWriter} that only updates the top-level sections of the POM that differ between the {@link Model}
+ * the {@link Document} was read from and the {@link Model} being written. Unchanged sections are left untouched, so
+ * their formatting is preserved and they are not walked at all.
+ *
+ * The previous {@link Model} <b>must</b> have been parsed from the same contents as the {@link Document}, otherwise
+ * changes made directly to the file would be lost. When it is <code>null</code>, the whole document is updated, as
+ * with {@link MavenJDOMWriter}.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class IncrementalMavenJDOMWriter extends MavenJDOMWriter
+{
+   private static final String MODEL_PACKAGE = Model.class.getPackage().getName();
+
+   private static final ClassValue<List<Method>> PROPERTIES = new ClassValue<List<Method>>()
+   {
+      @Override
+      protected List<Method> computeValue(Class<?> type)
+      {
+         List<Method> getters = new ArrayList<>();
+         for (Method method : type.getMethods())
+         {
+            String name = method.getName();
+            if (method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers())
+                     && method.getReturnType() != void.class && !"getClass".equals(name)
+                     && !"clone".equals(name) && !"hashCode".equals(name) && !"toString".equals(name)
+                     && (name.startsWith("get") || name.startsWith("is"))
+                     && !isLocation(method.getReturnType()))
+            {
+               getters.add(method);
+            }
+         }
+         return getters;
+      }
+   };
+
+   private final Model previous;
+
+   /**
+    * @param previous the {@link Model} the {@link Document} to be updated was parsed from, may be <code>null</code>
+    */
+   public IncrementalMavenJDOMWriter(Model previous)
+   {
+      this.previous = previous;
+   }
+
+   @Override
+   protected void updateModel(Model value, String xmlTag, Counter counter, Element element)
+   {
+      if (previous == null)
+      {
+         super.updateModel(value, xmlTag, counter, element);
+         return;
+      }
+      Model old = previous;
+      Element root = element;
+      Counter innerCount = new Counter(counter.getDepth() + 1);
+      if (changed(old.getParent(), value.getParent()))
+         updateParent(value.getParent(), "parent", innerCount, root);
+      else
+         skip(innerCount, root, "parent");
+      findAndReplaceSimpleElement(innerCount, root, "modelVersion", value.getModelVersion(), null);
+      findAndReplaceSimpleElement(innerCount, root, "groupId", value.getGroupId(), null);
+      findAndReplaceSimpleElement(innerCount, root, "artifactId", value.getArtifactId(), null);
+      findAndReplaceSimpleElement(innerCount, root, "packaging", value.getPackaging(), "jar");
+      findAndReplaceSimpleElement(innerCount, root, "name", value.getName(), null);
+      findAndReplaceSimpleElement(innerCount, root, "version", value.getVersion(), null);
+      findAndReplaceSimpleElement(innerCount, root, "description", value.getDescription(), null);
+      findAndReplaceSimpleElement(innerCount, root, "url", value.getUrl(), null);
+      if (changed(old.getPrerequisites(), value.getPrerequisites()))
+         updatePrerequisites(value.getPrerequisites(), "prerequisites", innerCount, root);
+      else
+         skip(innerCount, root, "prerequisites");
+      if (changed(old.getIssueManagement(), value.getIssueManagement()))
+         updateIssueManagement(value.getIssueManagement(), "issueManagement", innerCount, root);
+      else
+         skip(innerCount, root, "issueManagement");
+      if (changed(old.getCiManagement(), value.getCiManagement()))
+         updateCiManagement(value.getCiManagement(), "ciManagement", innerCount, root);
+      else
+         skip(innerCount, root, "ciManagement");
+      findAndReplaceSimpleElement(innerCount, root, "inceptionYear", value.getInceptionYear(), null);
+      if (changed(old.getMailingLists(), value.getMailingLists()))
+         iterateMailingList(innerCount, root, value.getMailingLists(), "mailingLists", "mailingList");
+      else
+         skip(innerCount, root, "mailingLists");
+      if (changed(old.getDevelopers(), value.getDevelopers()))
+         iterateDeveloper(innerCount, root, value.getDevelopers(), "developers", "developer");
+      else
+         skip(innerCount, root, "developers");
+      if (changed(old.getContributors(), value.getContributors()))
+         iterateContributor(innerCount, root, value.getContributors(), "contributors", "contributor");
+      else
+         skip(innerCount, root, "contributors");
+      if (changed(old.getLicenses(), value.getLicenses()))
+         iterateLicense(innerCount, root, value.getLicenses(), "licenses", "license");
+      else
+         skip(innerCount, root, "licenses");
+      if (changed(old.getScm(), value.getScm()))
+         updateScm(value.getScm(), "scm", innerCount, root);
+      else
+         skip(innerCount, root, "scm");
+      if (changed(old.getOrganization(), value.getOrganization()))
+         updateOrganization(value.getOrganization(), "organization", innerCount, root);
+      else
+         skip(innerCount, root, "organization");
+      if (changed(old.getBuild(), value.getBuild()))
+         updateBuild(value.getBuild(), "build", innerCount, root);
+      else
+         skip(innerCount, root, "build");
+      if (changed(old.getProfiles(), value.getProfiles()))
+         iterateProfile(innerCount, root, value.getProfiles(), "profiles", "profile");
+      else
+         skip(innerCount, root, "profiles");
+      if (changed(old.getModules(), value.getModules()))
+         findAndReplaceSimpleLists(innerCount, root, value.getModules(), "modules", "module");
+      else
+         skip(innerCount, root, "modules");
+      if (changed(old.getRepositories(), value.getRepositories()))
+         iterateRepository(innerCount, root, value.getRepositories(), "repositories", "repository");
+      else
+         skip(innerCount, root, "repositories");
+      if (changed(old.getPluginRepositories(), value.getPluginRepositories()))
+         iterateRepository(innerCount, root, value.getPluginRepositories(), "pluginRepositories",
+                  "pluginRepository");
+      else
+         skip(innerCount, root, "pluginRepositories");
+      if (changed(old.getDependencies(), value.getDependencies()))
+         iterateDependency(innerCount, root, value.getDependencies(), "dependencies", "dependency");
+      else
+         skip(innerCount, root, "dependencies");
+      if (changed(old.getReports(), value.getReports()))
+         findAndReplaceXpp3DOM(innerCount, root, "reports", (Xpp3Dom) value.getReports());
+      else
+         skip(innerCount, root, "reports");
+      if (changed(old.getReporting(), value.getReporting()))
+         updateReporting(value.getReporting(), "reporting", innerCount, root);
+      else
+         skip(innerCount, root, "reporting");
+      if (changed(old.getDependencyManagement(), value.getDependencyManagement()))
+         updateDependencyManagement(value.getDependencyManagement(), "dependencyManagement", innerCount, root);
+      else
+         skip(innerCount, root, "dependencyManagement");
+      if (changed(old.getDistributionManagement(), value.getDistributionManagement()))
+         updateDistributionManagement(value.getDistributionManagement(), "distributionManagement", innerCount,
+                  root);
+      else
+         skip(innerCount, root, "distributionManagement");
+      if (changed(old.getProperties(), value.getProperties()))
+         findAndReplaceProperties(innerCount, root, "properties", value.getProperties());
+      else
+         skip(innerCount, root, "properties");
+   }
+
+   /**
+    * Moves the counter past an unchanged section, as {@link #updateElement(Counter, Element, String, boolean)} would
+    */
+   private void skip(Counter counter, Element parent, String name)
+   {
+      if (parent.getChild(name, parent.getNamespace()) != null)
+      {
+         counter.increaseCount();
+      }
+   }
+
+   /**
+    * Returns <code>true</code> if the given values of a section are not structurally equal
+    */
+   static boolean changed(Object oldValue, Object newValue)
+   {
+      return !deepEquals(oldValue, newValue);
+   }
+
+   private static boolean deepEquals(Object a, Object b)
+   {
+      if (a == b)
+         return true;
+      if (a == null || b == null)
+         return false;
+      if (a instanceof Collection && b instanceof Collection)
+      {
+         Collection<?> first = (Collection<?>) a;
+         Collection<?> second = (Collection<?>) b;
+         if (first.size() != second.size())
+            return false;
+         Iterator<?> it = second.iterator();
+         for (Object item : first)
+         {
+            if (!deepEquals(item, it.next()))
+               return false;
+         }
+         return true;
+      }
+      if (a instanceof Map && b instanceof Map)
+      {
+         Map<?, ?> first = (Map<?, ?>) a;
+         Map<?, ?> second = (Map<?, ?>) b;
+         if (first.size() != second.size())
+            return false;
+         for (Map.Entry<?, ?> entry : first.entrySet())
+         {
+            if (!second.containsKey(entry.getKey()) || !deepEquals(entry.getValue(), second.get(entry.getKey())))
+               return false;
+         }
+         return true;
+      }
+      if (a.getClass() != b.getClass())
+         return false;
+      if (!a.getClass().getName().startsWith(MODEL_PACKAGE))
+         // Strings, primitive wrappers and Xpp3Dom all implement a structural equals
+         return Objects.equals(a, b);
+      for (Method getter : PROPERTIES.get(a.getClass()))
+      {
+         try
+         {
+            if (!deepEquals(getter.invoke(a), getter.invoke(b)))
+               return false;
+         }
+         catch (ReflectiveOperationException | RuntimeException e)
+         {
+            // Be conservative and rewrite the section
+            return false;
+         }
+      }
+      return true;
+   }
+
+   private static boolean isLocation(Class<?> type)
+   {
+      String name = type.getName();
+      return name.equals(MODEL_PACKAGE + ".InputLocation") || name.equals(MODEL_PACKAGE + ".InputSource");
+   }
+}
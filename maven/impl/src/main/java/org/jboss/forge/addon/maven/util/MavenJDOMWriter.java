@@ -131,10 +131,36 @@ public class MavenJDOMWriter
    public void write(Model project, Document document, String encoding, OutputStreamWriter writer)
             throws java.io.IOException
    {
-      Format format = Format.getRawFormat().setEncoding(encoding).setLineSeparator(LS);
-      write(project, document, writer, format);
+      update(project, document);
+      output(document, encoding, writer);
    } // -- void write(Model, Document, OutputStreamWriter)
 
+   /**
+    * Method update. Changes the given document to match the given project, without writing it.
+    *
+    * @param project
+    * @param document
+    */
+   public void update(Model project, Document document)
+   {
+      updateModel(project, "project", new Counter(0), document.getRootElement());
+   } // -- void update(Model, Document)
+
+   /**
+    * Method output. Writes the given document as is, using the same format as
+    * {@link #write(Model, Document, String, OutputStreamWriter)}.
+    *
+    * @param document
+    * @param encoding
+    * @param writer
+    */
+   public void output(Document document, String encoding, Writer writer) throws java.io.IOException
+   {
+      XMLOutputter outputter = new XMLOutputter();
+      outputter.setFormat(Format.getRawFormat().setEncoding(encoding).setLineSeparator(LS));
+      outputter.output(document, writer);
+   } // -- void output(Document, String, Writer)
+
    /**
     * Method write.
     *
@@ -0,0 +1,56 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.util;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.settings.Settings;
+import org.jboss.forge.furnace.manager.maven.MavenContainer;
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
+
+/**
+ * Utility methods for the Maven {@link Settings}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class MavenSettingsUtils
+{
+   private MavenSettingsUtils()
+   {
+   }
+
+   /**
+    * Returns a stamp of the user and global settings.xml files used by the {@link MavenContainer}. The stamp changes
+    * whenever one of these files (or their location) changes, so it can be used to decide when the {@link Settings}
+    * must be read again.
+    */
+   public static String getSettingsStamp()
+   {
+      List<File> files = new ArrayList<>();
+      String userSettings = System.getProperty(MavenContainer.ALT_USER_SETTINGS_XML_LOCATION);
+      files.add(userSettings != null ? new File(userSettings)
+               : new File(OperatingSystemUtils.getUserHomePath(), ".m2" + File.separator + "settings.xml"));
+      String globalSettings = System.getProperty(MavenContainer.ALT_GLOBAL_SETTINGS_XML_LOCATION);
+      if (globalSettings != null)
+      {
+         files.add(new File(globalSettings));
+      }
+      else if (System.getenv("M2_HOME") != null)
+      {
+         files.add(new File(System.getenv("M2_HOME"), "conf" + File.separator + "settings.xml"));
+      }
+      StringBuilder stamp = new StringBuilder();
+      for (File file : files)
+      {
+         stamp.append(file.getAbsolutePath()).append(':').append(file.lastModified()).append(':')
+                  .append(file.length()).append(';');
+      }
+      return stamp.toString();
+   }
+}
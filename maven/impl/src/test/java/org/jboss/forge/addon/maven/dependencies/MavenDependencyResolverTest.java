@@ -6,6 +6,7 @@
  */
 package org.jboss.forge.addon.maven.dependencies;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -58,6 +59,19 @@ public class MavenDependencyResolverTest
       Assert.assertNotNull(dependency.getScopeType());
    }
 
+   @Test
+   public void testResolveAllKeepsQueryOrder() throws Exception
+   {
+      DependencyQuery resources = DependencyQueryBuilder.create(CoordinateBuilder.create(
+               "org.jboss.forge:resources:2.0.0.Alpha3").setClassifier("forge-addon")).setFilter(addonFilter);
+      DependencyQuery junit = DependencyQueryBuilder.create("junit:junit:4.11");
+      List<Set<Dependency>> results = resolver.resolveAll(Arrays.asList(resources, junit, resources));
+      Assert.assertEquals(3, results.size());
+      Assert.assertEquals(resolver.resolveDependencies(resources), results.get(0));
+      Assert.assertEquals(resolver.resolveDependencies(junit), results.get(1));
+      Assert.assertEquals(results.get(0), results.get(2));
+   }
+
    @Test(expected = RuntimeException.class)
    public void testResolveWildcardArtifactId() throws Exception
    {
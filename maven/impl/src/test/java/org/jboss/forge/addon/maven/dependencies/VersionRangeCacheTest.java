@@ -0,0 +1,143 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.dependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.maven.settings.Mirror;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.jboss.forge.addon.dependencies.Coordinate;
+import org.jboss.forge.addon.dependencies.builder.CoordinateBuilder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for {@link VersionRangeCache}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class VersionRangeCacheTest
+{
+   private static final String KEY = "org.example:example:jar:null:[,)";
+
+   private File tempDir;
+   private File cacheFile;
+   private File metadataDir;
+   private final List<Runnable> scheduled = new ArrayList<>();
+
+   @Before
+   public void setUp() throws IOException
+   {
+      tempDir = Files.createTempDirectory("version-range-cache").toFile();
+      cacheFile = new File(tempDir, "cache");
+      metadataDir = new File(tempDir, "org/example/example");
+      metadataDir.mkdirs();
+   }
+
+   @After
+   public void tearDown() throws IOException
+   {
+      Files.walk(tempDir.toPath()).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+   }
+
+   @Test
+   public void testKeyDependsOnRepositoriesMirrorsAndOfflineMode()
+   {
+      Coordinate range = CoordinateBuilder.create("org.example:example:[,)");
+      List<RemoteRepository> central = Arrays.asList(
+               new RemoteRepository.Builder("central", "default", "https://repo1.maven.org/maven2/").build());
+      List<RemoteRepository> other = Arrays.asList(
+               new RemoteRepository.Builder("other", "default", "https://repo.example.org/maven2/").build());
+      Mirror mirror = new Mirror();
+      mirror.setId("internal");
+      mirror.setUrl("https://mirror.example.org/maven2/");
+      mirror.setMirrorOf("*");
+
+      String key = VersionRangeCache.key(range, central, Collections.<Mirror> emptyList(), false);
+      Assert.assertEquals(key, VersionRangeCache.key(range, central, Collections.<Mirror> emptyList(), false));
+      Assert.assertNotEquals(key, VersionRangeCache.key(range, other, Collections.<Mirror> emptyList(), false));
+      Assert.assertNotEquals(key, VersionRangeCache.key(range, central, Arrays.asList(mirror), false));
+      Assert.assertNotEquals(key, VersionRangeCache.key(range, central, Collections.<Mirror> emptyList(), true));
+   }
+
+   @Test
+   public void testFreshEntryIsServedFromCache()
+   {
+      VersionRangeCache cache = new VersionRangeCache(cacheFile, 60_000);
+      AtomicInteger calls = new AtomicInteger();
+      Supplier<List<String>> loader = counting(calls, "1.0", "2.0");
+      Assert.assertEquals(Arrays.asList("1.0", "2.0"), cache.get(KEY, metadataDir, false, loader, scheduled::add));
+      Assert.assertEquals(Arrays.asList("1.0", "2.0"), cache.get(KEY, metadataDir, false, loader, scheduled::add));
+      Assert.assertEquals(1, calls.get());
+      Assert.assertTrue(scheduled.isEmpty());
+   }
+
+   @Test
+   public void testStaleEntryIsRevalidatedInBackground()
+   {
+      VersionRangeCache cache = new VersionRangeCache(cacheFile, -1);
+      cache.get(KEY, metadataDir, false, () -> Arrays.asList("1.0"), scheduled::add);
+      Assert.assertEquals(Arrays.asList("1.0"),
+               cache.get(KEY, metadataDir, false, () -> Arrays.asList("1.0", "2.0"), scheduled::add));
+      Assert.assertEquals(1, scheduled.size());
+      scheduled.get(0).run();
+      Assert.assertEquals(Arrays.asList("1.0", "2.0"),
+               cache.get(KEY, metadataDir, true, () -> Arrays.asList("3.0"), scheduled::add));
+   }
+
+   @Test
+   public void testStaleEntryIsNotRevalidatedWhenOffline()
+   {
+      VersionRangeCache cache = new VersionRangeCache(cacheFile, -1);
+      cache.get(KEY, metadataDir, true, () -> Arrays.asList("1.0"), scheduled::add);
+      Assert.assertEquals(Arrays.asList("1.0"),
+               cache.get(KEY, metadataDir, true, () -> Arrays.asList("2.0"), scheduled::add));
+      Assert.assertTrue(scheduled.isEmpty());
+   }
+
+   @Test
+   public void testLocalMetadataChangeInvalidatesEntry() throws IOException
+   {
+      VersionRangeCache cache = new VersionRangeCache(cacheFile, 60_000);
+      cache.get(KEY, metadataDir, false, () -> Arrays.asList("1.0"), scheduled::add);
+      Files.write(new File(metadataDir, "maven-metadata-central.xml").toPath(), "<metadata/>".getBytes());
+      Assert.assertEquals(Arrays.asList("1.0", "2.0"),
+               cache.get(KEY, metadataDir, false, () -> Arrays.asList("1.0", "2.0"), scheduled::add));
+   }
+
+   @Test
+   public void testEntriesArePersisted()
+   {
+      new VersionRangeCache(cacheFile, 60_000).get(KEY, metadataDir, false, () -> Arrays.asList("1.0", "2.0"),
+               scheduled::add);
+      Assert.assertTrue(cacheFile.isFile());
+      AtomicInteger calls = new AtomicInteger();
+      Assert.assertEquals(Arrays.asList("1.0", "2.0"), new VersionRangeCache(cacheFile, 60_000).get(KEY,
+               metadataDir, false, counting(calls, "3.0"), scheduled::add));
+      Assert.assertEquals(0, calls.get());
+   }
+
+   private static Supplier<List<String>> counting(AtomicInteger calls, String... versions)
+   {
+      return () -> {
+         calls.incrementAndGet();
+         return Arrays.asList(versions);
+      };
+   }
+}
@@ -11,10 +11,13 @@ import java.util.List;
 import org.apache.maven.model.Model;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.dependencies.Dependency;
+import org.jboss.forge.addon.dependencies.builder.DependencyBuilder;
 import org.jboss.forge.addon.maven.projects.MavenBuildSystem;
 import org.jboss.forge.addon.maven.projects.MavenFacet;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFactory;
+import org.jboss.forge.addon.projects.facets.DependencyFacet;
 import org.jboss.forge.addon.projects.facets.MetadataFacet;
 import org.jboss.forge.addon.projects.facets.PackagingFacet;
 import org.jboss.forge.addon.resource.DirectoryResource;
@@ -126,4 +129,36 @@ public class MavenMultiModuleProviderTest
       Assert.assertEquals(parentModel.getGroupId(), subModel.getParent().getGroupId());
 
    }
+
+   @Test
+   public void testDependentModuleSeesReactorPomChange() throws Exception
+   {
+      Project parentProject = projectFactory.createTempProject(buildSystem);
+      parentProject.getFacet(PackagingFacet.class).setPackagingType("pom");
+      parentProject.getFacet(MetadataFacet.class).setProjectGroupName("com.project.parent");
+      DirectoryResource root = parentProject.getRoot().reify(DirectoryResource.class);
+
+      Project bomProject = projectFactory.createProject(root.getChildDirectory("bom"), buildSystem);
+      bomProject.getFacet(PackagingFacet.class).setPackagingType("pom");
+      bomProject.getFacet(DependencyFacet.class)
+               .addDirectManagedDependency(DependencyBuilder.create("org.example:managed:1.0"));
+      MetadataFacet bomMetadata = bomProject.getFacet(MetadataFacet.class);
+
+      Project appProject = projectFactory.createProject(root.getChildDirectory("app"), buildSystem);
+      appProject.getFacet(DependencyFacet.class).addDirectManagedDependency(
+               DependencyBuilder.create().setGroupId(bomMetadata.getProjectGroupName())
+                        .setArtifactId(bomMetadata.getProjectName()).setVersion(bomMetadata.getProjectVersion())
+                        .setPackaging("pom").setScopeType("import"));
+
+      Dependency managed = DependencyBuilder.create("org.example:managed");
+      // Builds the BOM first, so the app module resolves it from the reactor
+      Assert.assertEquals("1.0", bomProject.getFacet(DependencyFacet.class).getEffectiveManagedDependency(managed)
+               .getCoordinate().getVersion());
+      DependencyFacet appDependencies = appProject.getFacet(DependencyFacet.class);
+      Assert.assertEquals("1.0", appDependencies.getEffectiveManagedDependency(managed).getCoordinate().getVersion());
+
+      bomProject.getFacet(MavenFacet.class).updateModel((model) -> model.getDependencyManagement().getDependencies()
+               .get(0).setVersion("2.0"));
+      Assert.assertEquals("2.0", appDependencies.getEffectiveManagedDependency(managed).getCoordinate().getVersion());
+   }
 }
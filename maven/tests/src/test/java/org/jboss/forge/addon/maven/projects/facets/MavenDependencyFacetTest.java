@@ -11,6 +11,7 @@ import static org.jboss.forge.addon.dependencies.util.Dependencies.areEquivalent
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.List;
 
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -163,6 +164,44 @@ public class MavenDependencyFacetTest
       assertDependencies(dependencyTwo, dependencies.get(1));
    }
 
+   @Test
+   public void testAddDirectDependenciesInBatch() throws Exception
+   {
+      final DependencyFacet facet = project.getFacet(DependencyFacet.class);
+      DependencyBuilder dependencyOne = DependencyBuilder.create("groupId:artifactId:1.0.0.Final");
+      DependencyBuilder dependencyTwo = DependencyBuilder.create("anotherGroupId:anotherArtifactId:1.0.0.Final");
+      DependencyBuilder dependencyOneV2 = DependencyBuilder.create("groupId:artifactId:2.0.0.Final");
+      DependencyBuilder missing = DependencyBuilder.create("missingGroupId:missingArtifactId:1.0.0.Final");
+      facet.addDirectDependencies(Arrays.<Dependency> asList(dependencyOne, dependencyTwo, dependencyOneV2));
+      List<Dependency> dependencies = facet.getDependencies();
+      Assert.assertEquals(2, dependencies.size());
+      assertDependencies(dependencyOneV2, dependencies.get(0));
+      assertDependencies(dependencyTwo, dependencies.get(1));
+      Assert.assertTrue(facet.hasDirectDependencies(Arrays.<Dependency> asList(dependencyOne, dependencyTwo)));
+      Assert.assertFalse(facet.hasDirectDependencies(Arrays.<Dependency> asList(dependencyOne, missing)));
+      assertDependencies(dependencyOneV2, facet.getDirectDependency(dependencyOne));
+
+      facet.removeDependency(dependencyTwo);
+      Assert.assertFalse(facet.hasDirectDependency(dependencyTwo));
+      Assert.assertNull(facet.getDirectDependency(dependencyTwo));
+   }
+
+   @Test
+   public void testAddDirectManagedDependenciesInBatch() throws Exception
+   {
+      final DependencyFacet facet = project.getFacet(DependencyFacet.class);
+      DependencyBuilder dependencyOne = DependencyBuilder.create("groupId:artifactId:1.0.0.Final");
+      DependencyBuilder dependencyTwo = DependencyBuilder.create("anotherGroupId:anotherArtifactId:1.0.0.Final");
+      DependencyBuilder dependencyOneV2 = DependencyBuilder.create("groupId:artifactId:2.0.0.Final");
+      facet.addDirectManagedDependencies(Arrays.<Dependency> asList(dependencyOne, dependencyTwo, dependencyOneV2));
+      List<Dependency> dependencies = facet.getManagedDependencies();
+      Assert.assertEquals(2, dependencies.size());
+      assertDependencies(dependencyOneV2, dependencies.get(0));
+      assertDependencies(dependencyTwo, dependencies.get(1));
+      Assert.assertTrue(facet.hasDirectManagedDependency(dependencyTwo));
+      assertDependencies(dependencyOneV2, facet.getDirectManagedDependency(dependencyOne));
+   }
+
    @Test
    public void testResolveAvailableVersions() throws Exception
    {
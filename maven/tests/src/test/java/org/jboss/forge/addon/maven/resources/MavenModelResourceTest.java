@@ -7,13 +7,21 @@
 
 package org.jboss.forge.addon.maven.resources;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 
+import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
 import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.maven.projects.MavenPluginFacet;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFacet;
 import org.jboss.forge.addon.projects.ProjectFactory;
+import org.jboss.forge.addon.projects.facets.DependencyFacet;
+import org.jboss.forge.addon.projects.facets.MetadataFacet;
+import org.jboss.forge.addon.projects.facets.PackagingFacet;
 import org.jboss.forge.addon.projects.facets.WebResourcesFacet;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
 import org.junit.Assert;
@@ -49,4 +57,74 @@ public class MavenModelResourceTest
       Assert.assertNotSame(currentModel, modelResource.getCurrentModel());
    }
 
+   @Test
+   public void testGetReadOnlyModelIsSharedUntilModelChanges()
+   {
+      MavenModelResource modelResource = project.getRoot().getChild("pom.xml").reify(MavenModelResource.class);
+      MavenModelResource otherResource = project.getRoot().getChild("pom.xml").reify(MavenModelResource.class);
+      Model readOnlyModel = modelResource.getReadOnlyModel();
+      long version = modelResource.getModelVersion();
+      Assert.assertSame(readOnlyModel, otherResource.getReadOnlyModel());
+      Assert.assertEquals(version, otherResource.getModelVersion());
+
+      modelResource.updateModel(model -> model.setInceptionYear("2016"));
+      Assert.assertEquals("2016", otherResource.getReadOnlyModel().getInceptionYear());
+      Assert.assertNotEquals(version, otherResource.getModelVersion());
+      Assert.assertNull(readOnlyModel.getInceptionYear());
+   }
+
+   @Test
+   public void testFacetQueriesDoNotModifyReadOnlyModel() throws Exception
+   {
+      MavenModelResource modelResource = project.getRoot().getChild("pom.xml").reify(MavenModelResource.class);
+      Model readOnlyModel = modelResource.getReadOnlyModel();
+      String before = serialize(readOnlyModel);
+
+      MetadataFacet metadata = project.getFacet(MetadataFacet.class);
+      metadata.getProjectName();
+      metadata.getProjectGroupName();
+      metadata.getProjectVersion();
+      metadata.getTopLevelPackage();
+      metadata.getDirectProperties();
+      metadata.getEffectiveProperties();
+      project.getFacet(PackagingFacet.class).getPackagingType();
+      project.getFacet(PackagingFacet.class).getFinalName();
+      DependencyFacet dependencies = project.getFacet(DependencyFacet.class);
+      dependencies.getDependencies();
+      dependencies.getManagedDependencies();
+      dependencies.getRepositories();
+      project.getFacet(WebResourcesFacet.class).getWebRootDirectories();
+      project.getFacet(MavenPluginFacet.class).listConfiguredPlugins();
+      project.getFacet(MavenPluginFacet.class).listConfiguredManagedPlugins();
+
+      Assert.assertSame(readOnlyModel, modelResource.getReadOnlyModel());
+      Assert.assertEquals(before, serialize(readOnlyModel));
+   }
+
+   private static String serialize(Model model) throws IOException
+   {
+      StringWriter writer = new StringWriter();
+      new MavenXpp3Writer().write(writer, model);
+      return writer.toString();
+   }
+
+   @Test
+   public void testSetCurrentModelOnlyChangesModifiedSections()
+   {
+      MavenModelResource modelResource = project.getRoot().getChild("pom.xml").reify(MavenModelResource.class);
+      String contents = modelResource.getContents();
+      modelResource.setContents(contents.replace("</project>",
+               "<licenses><license>  <name>EPL</name>  </license></licenses></project>"));
+
+      modelResource.updateModel(model -> {
+         Dependency dependency = new Dependency();
+         dependency.setGroupId("org.example");
+         dependency.setArtifactId("example");
+         model.addDependency(dependency);
+      });
+      contents = modelResource.getContents();
+      Assert.assertTrue(contents.contains("<licenses><license>  <name>EPL</name>  </license></licenses>"));
+      Assert.assertTrue(contents.contains("<artifactId>example</artifactId>"));
+   }
+
 }
@@ -8,14 +8,19 @@ package org.jboss.forge.addon.parser.java.facets;
 
 import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
+import org.jboss.forge.addon.parser.java.index.JavaTypeIndexEntry;
 import org.jboss.forge.addon.parser.java.resources.JavaResource;
 import org.jboss.forge.addon.parser.java.resources.JavaResourceVisitor;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFacet;
 import org.jboss.forge.addon.resource.DirectoryResource;
+import org.jboss.forge.addon.resource.visit.VisitContext;
 import org.jboss.forge.roaster.model.JavaClass;
+import org.jboss.forge.roaster.model.JavaType;
 import org.jboss.forge.roaster.model.source.JavaSource;
 
 /**
@@ -161,6 +166,39 @@ public interface JavaSourceFacet extends ProjectFacet
     */
    void visitJavaTestSources(JavaResourceVisitor visitor);
 
+   /**
+    * Returns the {@link JavaResource} objects found in the source directories whose {@link JavaTypeIndexEntry} matches
+    * the given filter. Implementations may answer this from a persistent index, so only the matching sources need to
+    * be parsed by the caller.
+    *
+    * @param filter The {@link Predicate} used to select the java files. Cannot be null.
+    */
+   default List<JavaResource> getJavaSources(Predicate<JavaTypeIndexEntry> filter)
+   {
+      final List<JavaResource> result = new ArrayList<>();
+      visitJavaSources(new JavaResourceVisitor()
+      {
+         @Override
+         public void visit(VisitContext context, JavaResource resource)
+         {
+            try
+            {
+               JavaType<?> type = resource.getJavaType();
+               if (filter.test(JavaTypeIndexEntry.of(resource.getName(), type, "", resource.getSize(),
+                        resource.getLastModified())))
+               {
+                  result.add(resource);
+               }
+            }
+            catch (FileNotFoundException | RuntimeException e)
+            {
+               // ignore
+            }
+         }
+      });
+      return result;
+   }
+
    /**
     * Create a package in the specified path under the {@link DirectoryResource} returned in
     * {@link #getSourceDirectory()}
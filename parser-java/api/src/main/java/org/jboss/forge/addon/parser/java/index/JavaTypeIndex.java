@@ -0,0 +1,429 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.parser.java.index;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.forge.addon.parser.java.resources.JavaResource;
+import org.jboss.forge.addon.resource.DirectoryResource;
+import org.jboss.forge.addon.resource.ResourceFactory;
+import org.jboss.forge.addon.resource.events.ResourceEvent;
+import org.jboss.forge.addon.resource.monitor.ResourceMonitor;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.JavaType;
+
+/**
+ * A persistent index of the java types declared in a source directory.
+ *
+ * Each source file is recorded with its size, last modified time and digest. The whole directory is only walked the
+ * first time the index is used, or when the {@link ResourceMonitor} of the directory may have missed events. Otherwise
+ * only the files and directories reported by the monitor (or passed to {@link #changed(File)}) are read again, and
+ * only the files whose digest actually changed are parsed again. The index is stored in the given index file so it
+ * survives restarts.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class JavaTypeIndex
+{
+   private static final Logger log = Logger.getLogger(JavaTypeIndex.class.getName());
+
+   private static final String HEADER = "# Forge java type index v1";
+   private static final String SEPARATOR = "\t";
+   private static final String LIST_SEPARATOR = ",";
+
+   private final DirectoryResource sourceDirectory;
+   private final File indexFile;
+   private final NavigableMap<String, JavaTypeIndexEntry> entries = new TreeMap<>();
+   private final Set<String> modifiedPaths = ConcurrentHashMap.newKeySet();
+
+   private ResourceMonitor monitor;
+   private boolean loaded;
+   private volatile boolean rescan = true;
+
+   public JavaTypeIndex(DirectoryResource sourceDirectory, File indexFile)
+   {
+      this.sourceDirectory = sourceDirectory;
+      this.indexFile = indexFile;
+   }
+
+   /**
+    * The source directory covered by this index
+    */
+   public DirectoryResource getSourceDirectory()
+   {
+      return sourceDirectory;
+   }
+
+   /**
+    * Returns the {@link JavaResource} objects whose {@link JavaTypeIndexEntry} matches the given filter
+    */
+   public List<JavaResource> find(Predicate<JavaTypeIndexEntry> filter)
+   {
+      List<JavaResource> result = new ArrayList<>();
+      ResourceFactory factory = sourceDirectory.getResourceFactory();
+      File root = sourceDirectory.getUnderlyingResourceObject();
+      for (JavaTypeIndexEntry entry : getEntries())
+      {
+         if (filter.test(entry))
+         {
+            result.add(factory.create(JavaResource.class, new File(root, entry.getPath())));
+         }
+      }
+      return result;
+   }
+
+   /**
+    * Returns an up to date snapshot of all the entries in this index
+    */
+   public synchronized List<JavaTypeIndexEntry> getEntries()
+   {
+      if (!loaded)
+      {
+         load();
+         loaded = true;
+      }
+      // Monitor before walking, so that no change made during the walk is missed
+      startMonitoring();
+      boolean changed = false;
+      if (rescan || monitor == null)
+      {
+         rescan = false;
+         modifiedPaths.clear();
+         changed = scan("");
+      }
+      else
+      {
+         Iterator<String> it = modifiedPaths.iterator();
+         while (it.hasNext())
+         {
+            String path = it.next();
+            it.remove();
+            changed |= scan(path);
+         }
+      }
+      if (changed)
+      {
+         save();
+      }
+      return Collections.unmodifiableList(new ArrayList<>(entries.values()));
+   }
+
+   /**
+    * Reads the given file or directory again on the next lookup, without waiting for the {@link ResourceMonitor} to
+    * report it
+    */
+   public void changed(File file)
+   {
+      Path root = sourceDirectory.getUnderlyingResourceObject().toPath().toAbsolutePath();
+      Path path = file.toPath().toAbsolutePath();
+      if (path.equals(root))
+      {
+         rescan = true;
+      }
+      else if (path.startsWith(root))
+      {
+         modifiedPaths.add(toIndexPath(root.relativize(path).toString()));
+      }
+   }
+
+   /**
+    * Stops listening to changes in the source directory
+    */
+   public synchronized void close()
+   {
+      if (monitor != null)
+      {
+         monitor.cancel();
+         monitor = null;
+      }
+      rescan = true;
+   }
+
+   private void startMonitoring()
+   {
+      if (monitor == null && sourceDirectory.exists())
+      {
+         try
+         {
+            monitor = sourceDirectory.monitor();
+            monitor.addResourceListener(this::processEvent);
+            // Changes made before the monitor was started were not reported
+            rescan = true;
+         }
+         catch (RuntimeException e)
+         {
+            log.log(Level.FINE, "Could not monitor " + sourceDirectory.getFullyQualifiedName(), e);
+         }
+      }
+   }
+
+   private void processEvent(ResourceEvent event)
+   {
+      // Directories are read again as a whole: they may have been created or deleted with their contents, or the
+      // events of their files may have been lost
+      Object file = event.getResource().getUnderlyingResourceObject();
+      if (file instanceof File)
+      {
+         changed((File) file);
+      }
+   }
+
+   /**
+    * Synchronizes the entries of the given file or directory with the files on disk
+    *
+    * @param path the path of a file or directory relative to the source directory, the whole source directory if
+    *           empty
+    * @return <code>true</code> if any entry changed
+    */
+   private boolean scan(String path)
+   {
+      Path root = sourceDirectory.getUnderlyingResourceObject().toPath();
+      Path start = path.isEmpty() ? root : root.resolve(path);
+      Map<String, BasicFileAttributes> files = new TreeMap<>();
+      if (Files.isDirectory(start))
+      {
+         try
+         {
+            Files.walkFileTree(start, new SimpleFileVisitor<Path>()
+            {
+               @Override
+               public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException
+               {
+                  if (attrs.isRegularFile() && file.getFileName().toString().endsWith(".java"))
+                  {
+                     files.put(toIndexPath(root.relativize(file).toString()), attrs);
+                  }
+                  return FileVisitResult.CONTINUE;
+               }
+            });
+         }
+         catch (IOException e)
+         {
+            log.log(Level.WARNING, "Error while scanning " + start, e);
+         }
+      }
+      else if (path.endsWith(".java"))
+      {
+         try
+         {
+            BasicFileAttributes attrs = Files.readAttributes(start, BasicFileAttributes.class);
+            if (attrs.isRegularFile())
+            {
+               files.put(path, attrs);
+            }
+         }
+         catch (IOException e)
+         {
+            // Deleted
+         }
+      }
+      boolean changed;
+      if (path.isEmpty())
+      {
+         changed = entries.keySet().retainAll(files.keySet());
+      }
+      else
+      {
+         changed = !files.containsKey(path) && entries.remove(path) != null;
+         changed |= entries.subMap(path + "/", true, path + "0", false).keySet().retainAll(files.keySet());
+      }
+      for (Map.Entry<String, BasicFileAttributes> file : files.entrySet())
+      {
+         String filePath = file.getKey();
+         long length = file.getValue().size();
+         long lastModified = file.getValue().lastModifiedTime().toMillis();
+         JavaTypeIndexEntry entry = entries.get(filePath);
+         if (entry != null && entry.getLength() == length && entry.getLastModified() == lastModified
+                  && !path.equals(filePath))
+         {
+            continue;
+         }
+         JavaTypeIndexEntry newEntry = index(root.resolve(filePath), filePath, entry, length, lastModified);
+         if (newEntry == null)
+         {
+            changed |= entries.remove(filePath) != null;
+         }
+         else if (newEntry != entry)
+         {
+            entries.put(filePath, newEntry);
+            changed = true;
+         }
+      }
+      return changed;
+   }
+
+   private JavaTypeIndexEntry index(Path file, String path, JavaTypeIndexEntry previous, long length,
+            long lastModified)
+   {
+      byte[] contents;
+      try
+      {
+         contents = Files.readAllBytes(file);
+      }
+      catch (IOException e)
+      {
+         log.log(Level.FINE, "Could not read " + file, e);
+         return null;
+      }
+      String digest = digest(contents);
+      if (previous != null && previous.getDigest().equals(digest))
+      {
+         if (previous.getLength() == length && previous.getLastModified() == lastModified)
+            return previous;
+         return previous.withAttributes(length, lastModified);
+      }
+      try
+      {
+         JavaType<?> type = Roaster.parse(new ByteArrayInputStream(contents));
+         return JavaTypeIndexEntry.of(path, type, digest, length, lastModified);
+      }
+      catch (RuntimeException e)
+      {
+         log.log(Level.FINE, "Could not parse " + file, e);
+         return JavaTypeIndexEntry.unparseable(path, digest, length, lastModified);
+      }
+   }
+
+   private void load()
+   {
+      if (indexFile == null || !indexFile.isFile())
+         return;
+      try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8))
+      {
+         String header = reader.readLine();
+         String directory = reader.readLine();
+         if (!HEADER.equals(header) || !sourceDirectory.getFullyQualifiedName().equals(directory))
+         {
+            return;
+         }
+         String line;
+         while ((line = reader.readLine()) != null)
+         {
+            JavaTypeIndexEntry entry = parseEntry(line);
+            if (entry != null)
+               entries.put(entry.getPath(), entry);
+         }
+      }
+      catch (IOException | RuntimeException e)
+      {
+         log.log(Level.FINE, "Discarding unreadable java type index " + indexFile, e);
+         entries.clear();
+      }
+   }
+
+   private void save()
+   {
+      if (indexFile == null)
+         return;
+      try
+      {
+         File parent = indexFile.getParentFile();
+         if (parent != null)
+            parent.mkdirs();
+         File tmp = new File(parent, indexFile.getName() + ".tmp");
+         try (BufferedWriter writer = Files.newBufferedWriter(tmp.toPath(), StandardCharsets.UTF_8))
+         {
+            writer.write(HEADER);
+            writer.newLine();
+            writer.write(sourceDirectory.getFullyQualifiedName());
+            writer.newLine();
+            for (JavaTypeIndexEntry entry : entries.values())
+            {
+               writer.write(formatEntry(entry));
+               writer.newLine();
+            }
+         }
+         Files.move(tmp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      catch (IOException e)
+      {
+         log.log(Level.FINE, "Could not store java type index " + indexFile, e);
+      }
+   }
+
+   private static String formatEntry(JavaTypeIndexEntry entry)
+   {
+      return String.join(SEPARATOR,
+               entry.getPath(),
+               String.valueOf(entry.getLength()),
+               String.valueOf(entry.getLastModified()),
+               entry.getDigest(),
+               entry.getKind().name(),
+               entry.getQualifiedName() == null ? "" : entry.getQualifiedName(),
+               String.join(LIST_SEPARATOR, entry.getAnnotations()),
+               String.join(LIST_SEPARATOR, entry.getSuperTypes()),
+               String.join(LIST_SEPARATOR, entry.getImports()));
+   }
+
+   private static JavaTypeIndexEntry parseEntry(String line)
+   {
+      String[] fields = line.split(SEPARATOR, -1);
+      if (fields.length != 9)
+         return null;
+      return new JavaTypeIndexEntry(fields[0],
+               fields[5].isEmpty() ? null : fields[5],
+               JavaTypeIndexEntry.Kind.valueOf(fields[4]),
+               split(fields[6]), split(fields[7]), split(fields[8]),
+               fields[3], Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+   }
+
+   private static List<String> split(String value)
+   {
+      if (value.isEmpty())
+         return Collections.emptyList();
+      return Arrays.asList(value.split(LIST_SEPARATOR));
+   }
+
+   private static String toIndexPath(String path)
+   {
+      return path.replace(File.separatorChar, '/');
+   }
+
+   private static String digest(byte[] contents)
+   {
+      try
+      {
+         byte[] digest = MessageDigest.getInstance("MD5").digest(contents);
+         StringBuilder sb = new StringBuilder(digest.length * 2);
+         for (byte b : digest)
+         {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+         }
+         return sb.toString();
+      }
+      catch (NoSuchAlgorithmException e)
+      {
+         throw new IllegalStateException("MD5 digest is not available", e);
+      }
+   }
+}
@@ -0,0 +1,259 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.parser.java.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.forge.roaster.model.Annotation;
+import org.jboss.forge.roaster.model.AnnotationTarget;
+import org.jboss.forge.roaster.model.Extendable;
+import org.jboss.forge.roaster.model.InterfaceCapable;
+import org.jboss.forge.roaster.model.JavaType;
+import org.jboss.forge.roaster.model.source.Import;
+import org.jboss.forge.roaster.model.source.Importer;
+import org.jboss.forge.roaster.model.util.Types;
+
+/**
+ * The information recorded by a {@link JavaTypeIndex} about a single java source file.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public final class JavaTypeIndexEntry
+{
+   /**
+    * The kind of the top level type declared in a java source file
+    */
+   public enum Kind
+   {
+      CLASS, INTERFACE, ENUM, ANNOTATION, OTHER
+   }
+
+   private final String path;
+   private final String qualifiedName;
+   private final Kind kind;
+   private final List<String> annotations;
+   private final List<String> superTypes;
+   private final List<String> imports;
+   private final String digest;
+   private final long length;
+   private final long lastModified;
+
+   public JavaTypeIndexEntry(String path, String qualifiedName, Kind kind, List<String> annotations,
+            List<String> superTypes, List<String> imports, String digest, long length, long lastModified)
+   {
+      this.path = path;
+      this.qualifiedName = qualifiedName;
+      this.kind = kind;
+      this.annotations = Collections.unmodifiableList(new ArrayList<>(annotations));
+      this.superTypes = Collections.unmodifiableList(new ArrayList<>(superTypes));
+      this.imports = Collections.unmodifiableList(new ArrayList<>(imports));
+      this.digest = digest;
+      this.length = length;
+      this.lastModified = lastModified;
+   }
+
+   /**
+    * Creates a {@link JavaTypeIndexEntry} describing the given parsed {@link JavaType}
+    */
+   @SuppressWarnings({ "rawtypes", "unchecked" })
+   public static JavaTypeIndexEntry of(String path, JavaType<?> type, String digest, long length, long lastModified)
+   {
+      Kind kind;
+      if (type.isClass())
+         kind = Kind.CLASS;
+      else if (type.isInterface())
+         kind = Kind.INTERFACE;
+      else if (type.isEnum())
+         kind = Kind.ENUM;
+      else if (type.isAnnotation())
+         kind = Kind.ANNOTATION;
+      else
+         kind = Kind.OTHER;
+
+      List<String> annotations = new ArrayList<>();
+      if (type instanceof AnnotationTarget)
+      {
+         for (Annotation<?> annotation : ((AnnotationTarget<?>) type).getAnnotations())
+         {
+            annotations.add(annotation.getQualifiedName());
+         }
+      }
+      List<String> superTypes = new ArrayList<>();
+      if (type instanceof Extendable)
+      {
+         String superType = ((Extendable) type).getSuperType();
+         if (superType != null)
+            superTypes.add(superType);
+      }
+      if (type instanceof InterfaceCapable)
+      {
+         superTypes.addAll(((InterfaceCapable) type).getInterfaces());
+      }
+      List<String> imports = new ArrayList<>();
+      if (type instanceof Importer)
+      {
+         for (Import imprt : ((Importer<?>) type).getImports())
+         {
+            imports.add(imprt.getQualifiedName());
+         }
+      }
+      return new JavaTypeIndexEntry(path, type.getQualifiedName(), kind, annotations, superTypes, imports, digest,
+               length, lastModified);
+   }
+
+   /**
+    * Creates an entry for a file that could not be parsed. It is kept in the index so the file is only parsed again
+    * once its contents change.
+    */
+   public static JavaTypeIndexEntry unparseable(String path, String digest, long length, long lastModified)
+   {
+      List<String> empty = Collections.emptyList();
+      return new JavaTypeIndexEntry(path, null, Kind.OTHER, empty, empty, empty, digest, length, lastModified);
+   }
+
+   /**
+    * Returns a copy of this entry with the given file attributes
+    */
+   JavaTypeIndexEntry withAttributes(long length, long lastModified)
+   {
+      return new JavaTypeIndexEntry(path, qualifiedName, kind, annotations, superTypes, imports, digest, length,
+               lastModified);
+   }
+
+   /**
+    * The path of the source file, relative to the indexed source directory
+    */
+   public String getPath()
+   {
+      return path;
+   }
+
+   /**
+    * The fully qualified name of the top level type. <code>null</code> if the file could not be parsed
+    */
+   public String getQualifiedName()
+   {
+      return qualifiedName;
+   }
+
+   public Kind getKind()
+   {
+      return kind;
+   }
+
+   /**
+    * The qualified names of the annotations present in the top level type
+    */
+   public List<String> getAnnotations()
+   {
+      return annotations;
+   }
+
+   /**
+    * The super class (if any) and the implemented interfaces of the top level type
+    */
+   public List<String> getSuperTypes()
+   {
+      return superTypes;
+   }
+
+   /**
+    * The qualified names of the imports declared in the source file
+    */
+   public List<String> getImports()
+   {
+      return imports;
+   }
+
+   /**
+    * The hex encoded MD5 digest of the source file contents
+    */
+   public String getDigest()
+   {
+      return digest;
+   }
+
+   public long getLength()
+   {
+      return length;
+   }
+
+   public long getLastModified()
+   {
+      return lastModified;
+   }
+
+   public boolean isParsed()
+   {
+      return qualifiedName != null;
+   }
+
+   public boolean isClass()
+   {
+      return isParsed() && kind == Kind.CLASS;
+   }
+
+   public boolean isInterface()
+   {
+      return isParsed() && kind == Kind.INTERFACE;
+   }
+
+   public boolean isEnum()
+   {
+      return isParsed() && kind == Kind.ENUM;
+   }
+
+   public boolean isAnnotation()
+   {
+      return isParsed() && kind == Kind.ANNOTATION;
+   }
+
+   /**
+    * Returns <code>true</code> if the top level type is annotated with the given annotation type
+    */
+   public boolean hasAnnotation(Class<? extends java.lang.annotation.Annotation> type)
+   {
+      return hasAnnotation(type.getName());
+   }
+
+   /**
+    * Returns <code>true</code> if the top level type is annotated with the given annotation type name
+    */
+   public boolean hasAnnotation(String type)
+   {
+      for (String annotation : annotations)
+      {
+         if (Types.areEquivalent(annotation, type))
+            return true;
+      }
+      return false;
+   }
+
+   /**
+    * Returns <code>true</code> if the source file imports the given type
+    */
+   public boolean hasImport(Class<?> type)
+   {
+      return hasImport(type.getName());
+   }
+
+   /**
+    * Returns <code>true</code> if the source file imports the given type name
+    */
+   public boolean hasImport(String type)
+   {
+      return imports.contains(type);
+   }
+
+   @Override
+   public String toString()
+   {
+      return path + " [" + qualifiedName + "]";
+   }
+}
@@ -21,6 +21,9 @@ public class JavaResourceGenerator implements ResourceGenerator<JavaResource, Fi
    @Inject
    private Configuration userConfig;
 
+   @Inject
+   private JavaSourceCache sourceCache;
+
    @Override
    public boolean handles(Class<?> type, Object resource)
    {
@@ -31,6 +34,12 @@ public class JavaResourceGenerator implements ResourceGenerator<JavaResource, Fi
       return false;
    }
 
+   @Override
+   public boolean isCacheable()
+   {
+      return true;
+   }
+
    @Override
    @SuppressWarnings("unchecked")
    public <T extends Resource<File>> T getResource(ResourceFactory factory, Class<JavaResource> type, File resource)
@@ -38,7 +47,8 @@ public class JavaResourceGenerator implements ResourceGenerator<JavaResource, Fi
       // TODO: Formatter may be set in project-level configuration.
       String formatterProfileName = userConfig.getString(JavaResource.FORMATTER_PROFILE_NAME_KEY);
       String formatterProfilePath = userConfig.getString(JavaResource.FORMATTER_PROFILE_PATH_KEY);
-      return (T) new JavaResourceImpl(factory, resource, formatterProfileName, formatterProfilePath);
+      return (T) new JavaResourceImpl(factory, resource, formatterProfileName, formatterProfilePath,
+               sourceCache);
    }
 
    @Override
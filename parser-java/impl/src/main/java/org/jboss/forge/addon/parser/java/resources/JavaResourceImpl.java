@@ -7,11 +7,14 @@
 package org.jboss.forge.addon.parser.java.resources;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -21,6 +24,7 @@ import java.util.Properties;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.jboss.forge.addon.parser.java.resources.JavaSourceCache.Source;
 import org.jboss.forge.addon.resource.AbstractFileResource;
 import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.resource.ResourceException;
@@ -50,15 +54,18 @@ public class JavaResourceImpl extends AbstractFileResource<JavaResource> impleme
    private final String formatterProfilePath;
    private final String formatterProfileName;
 
+   private final JavaSourceCache sourceCache;
+
    private JavaType<?> javaType;
-   private byte[] lastDigest;
+   private Source source;
 
    public JavaResourceImpl(final ResourceFactory factory, final File file, String formatterProfileName,
-            String formatterProfilePath)
+            String formatterProfilePath, JavaSourceCache sourceCache)
    {
       super(factory, file);
       this.formatterProfileName = formatterProfileName;
       this.formatterProfilePath = formatterProfilePath;
+      this.sourceCache = sourceCache;
    }
 
    @Override
@@ -76,20 +83,91 @@ public class JavaResourceImpl extends AbstractFileResource<JavaResource> impleme
    @Override
    public boolean isStale()
    {
-      if (javaType == null || super.isStale()
-               || (lastDigest != null && !Arrays.equals(lastDigest, ResourceUtil.getDigest(this))))
+      if (javaType == null || super.isStale())
       {
          return true;
       }
-      return false;
+      if (isInTransaction())
+      {
+         // File attributes are not reliable while the contents are held by a transaction
+         return !Arrays.equals(source.getDigest(), ResourceUtil.getDigest(this));
+      }
+      return !source.isValidFor(getSize(), getLastModified());
    }
 
    @Override
    public void refresh()
    {
       super.refresh();
-      lastDigest = ResourceUtil.getDigest(this);
-      javaType = Roaster.parse(getResourceInputStream());
+      boolean inTransaction = isInTransaction();
+      String path = getUnderlyingResourceObject().getAbsolutePath();
+      long length = getSize();
+      long lastModified = getLastModified();
+      Source current = null;
+      if (!inTransaction)
+      {
+         Source cached = sourceCache.get(path);
+         if (cached != null && cached.isValidFor(length, lastModified))
+         {
+            current = cached;
+         }
+      }
+      if (current == null)
+      {
+         // Read the contents only once, for both the digest and the parser
+         byte[] contents = readContents();
+         current = new Source(contents, digest(contents), length, lastModified);
+         if (inTransaction)
+         {
+            sourceCache.invalidate(path);
+         }
+         else
+         {
+            sourceCache.put(path, current);
+         }
+      }
+      if (javaType == null || !Arrays.equals(source.getDigest(), current.getDigest()))
+      {
+         // Each instance parses its own copy, the parsed types are mutable and not thread-safe
+         javaType = Roaster.parse(new ByteArrayInputStream(current.getContents()));
+      }
+      source = current;
+   }
+
+   private boolean isInTransaction()
+   {
+      return getResourceFactory().getTransaction().isStarted();
+   }
+
+   private byte[] readContents()
+   {
+      try (InputStream stream = getResourceInputStream())
+      {
+         ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.max(getSize(), 32));
+         byte[] buffer = new byte[16384];
+         int read;
+         while ((read = stream.read(buffer)) != -1)
+         {
+            out.write(buffer, 0, read);
+         }
+         return out.toByteArray();
+      }
+      catch (IOException e)
+      {
+         throw new ResourceException("Error while reading " + getFullyQualifiedName(), e);
+      }
+   }
+
+   private static byte[] digest(byte[] contents)
+   {
+      try
+      {
+         return MessageDigest.getInstance("MD5").digest(contents);
+      }
+      catch (NoSuchAlgorithmException e)
+      {
+         throw new IllegalStateException("MD5 digest is not available", e);
+      }
    }
 
    @Override
@@ -183,7 +261,7 @@ public class JavaResourceImpl extends AbstractFileResource<JavaResource> impleme
    @Override
    public JavaResourceImpl createFrom(final File file)
    {
-      return new JavaResourceImpl(getResourceFactory(), file, formatterProfileName, formatterProfilePath);
+      return new JavaResourceImpl(getResourceFactory(), file, formatterProfileName, formatterProfilePath, sourceCache);
    }
 
    @Override
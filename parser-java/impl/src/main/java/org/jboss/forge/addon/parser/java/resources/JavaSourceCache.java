@@ -0,0 +1,117 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.parser.java.resources;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.inject.Singleton;
+
+import org.jboss.forge.addon.resource.util.FileStamp;
+
+/**
+ * A bounded cache of the contents and digests of java source files, shared by all the {@link JavaResource} instances
+ * pointing to the same file. The cache is bounded by the total size of the sources and evicts the least recently used
+ * entries first.
+ *
+ * Only the immutable contents are shared: each {@link JavaResource} parses its own copy of the type, so changes made
+ * to it and not written back to the file are not visible to other instances.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@Singleton
+public class JavaSourceCache
+{
+   /**
+    * The maximum total size (in bytes) of the sources kept
+    */
+   private static final long MAX_WEIGHT = 32 * 1024 * 1024;
+
+   private final Map<String, Source> entries = new LinkedHashMap<>(64, 0.75f, true);
+   private long weight;
+
+   synchronized Source get(String path)
+   {
+      return entries.get(path);
+   }
+
+   synchronized void put(String path, Source source)
+   {
+      Source previous = entries.put(path, source);
+      if (previous != null)
+      {
+         weight -= previous.getWeight();
+      }
+      weight += source.getWeight();
+      Iterator<Source> it = entries.values().iterator();
+      while (weight > MAX_WEIGHT && it.hasNext())
+      {
+         Source eldest = it.next();
+         if (eldest != source)
+         {
+            weight -= eldest.getWeight();
+            it.remove();
+         }
+      }
+   }
+
+   synchronized void invalidate(String path)
+   {
+      Source previous = entries.remove(path);
+      if (previous != null)
+      {
+         weight -= previous.getWeight();
+      }
+   }
+
+   /**
+    * The contents of a java source file, along with their digest and the file attributes they were read with
+    */
+   static class Source
+   {
+      private final byte[] contents;
+      private final byte[] digest;
+      private final FileStamp stamp;
+
+      Source(byte[] contents, byte[] digest, long length, long lastModified)
+      {
+         this.contents = contents;
+         this.digest = digest;
+         this.stamp = new FileStamp(length, lastModified);
+      }
+
+      /**
+       * Returns <code>true</code> if a file with the given attributes certainly has these contents. A
+       * <code>false</code> result means the digest of the file must be checked.
+       *
+       * @see FileStamp#isValidFor(long, long)
+       */
+      boolean isValidFor(long length, long lastModified)
+      {
+         return stamp.isValidFor(length, lastModified);
+      }
+
+      /**
+       * The contents of the file. Must not be modified.
+       */
+      byte[] getContents()
+      {
+         return contents;
+      }
+
+      byte[] getDigest()
+      {
+         return digest;
+      }
+
+      int getWeight()
+      {
+         return contents.length;
+      }
+   }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.parser.java.index;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.facets.FacetFactory;
+import org.jboss.forge.addon.parser.java.beans.ProjectOperations;
+import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.parser.java.resources.JavaResource;
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.projects.ProjectFactory;
+import org.jboss.forge.addon.resource.DirectoryResource;
+import org.jboss.forge.arquillian.AddonDeployment;
+import org.jboss.forge.arquillian.AddonDeployments;
+import org.jboss.forge.arquillian.archive.AddonArchive;
+import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
+import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
+import org.jboss.forge.roaster.model.source.JavaInterfaceSource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class JavaTypeIndexTest
+{
+   @Deployment
+   @AddonDeployments({
+            @AddonDeployment(name = "org.jboss.forge.addon:parser-java"),
+            @AddonDeployment(name = "org.jboss.forge.addon:projects"),
+            @AddonDeployment(name = "org.jboss.forge.addon:maven")
+   })
+   public static AddonArchive getDeployment()
+   {
+      return ShrinkWrap
+               .create(AddonArchive.class)
+               .addClass(JavaTypeIndexTest.class)
+               .addBeansXML()
+               .addAsAddonDependencies(
+                        AddonDependencyEntry.create("org.jboss.forge.furnace.container:cdi"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:projects"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:parser-java"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:maven")
+               );
+   }
+
+   @Inject
+   private ProjectFactory projectFactory;
+
+   @Inject
+   private FacetFactory facetFactory;
+
+   private Project project;
+
+   @Before
+   public void setUp()
+   {
+      project = projectFactory.createTempProject();
+      facetFactory.install(project, JavaSourceFacet.class);
+   }
+
+   @Test
+   public void testIndexFindsTypesByKindAndAnnotation() throws Exception
+   {
+      JavaSourceFacet facet = project.getFacet(JavaSourceFacet.class);
+      facet.saveJavaSource(Roaster.parse(JavaClassSource.class,
+               "package org.example; @Deprecated public class Customer implements java.io.Serializable {}"));
+      facet.saveJavaSource(Roaster.parse(JavaInterfaceSource.class,
+               "package org.example; public interface CustomerService {}"));
+
+      List<JavaResource> deprecated = facet.getJavaSources((entry) -> entry.hasAnnotation(Deprecated.class));
+      assertEquals(1, deprecated.size());
+      assertEquals("org.example.Customer", deprecated.get(0).getFullyQualifiedTypeName());
+
+      ProjectOperations operations = new ProjectOperations();
+      assertEquals(1, operations.getProjectClasses(project).size());
+      assertEquals(1, operations.getProjectInterfaces(project).size());
+      assertTrue(operations.getProjectEnums(project).isEmpty());
+   }
+
+   @Test
+   public void testIndexIsUpdatedWhenSourcesChange() throws Exception
+   {
+      JavaSourceFacet facet = project.getFacet(JavaSourceFacet.class);
+      JavaResource resource = facet.saveJavaSource(Roaster.parse(JavaClassSource.class,
+               "package org.example; public class Customer {}"));
+      assertTrue(facet.getJavaSources((entry) -> entry.hasAnnotation(Deprecated.class)).isEmpty());
+
+      // Changes not made through the facet are seen once the monitor of the source directory reports them
+      resource.setContents("package org.example; @Deprecated public class Customer {}");
+      waitFor(() -> facet.getJavaSources((entry) -> entry.hasAnnotation(Deprecated.class)).size() == 1);
+
+      resource.delete();
+      waitFor(() -> facet.getJavaSources((entry) -> true).isEmpty());
+   }
+
+   @Test
+   public void testIndexReadsCreatedDirectories() throws Exception
+   {
+      JavaSourceFacet facet = project.getFacet(JavaSourceFacet.class);
+      assertTrue(facet.getJavaSources((entry) -> true).isEmpty());
+
+      // A directory created with its contents is reported as a single event
+      Path staging = Files.createTempDirectory("index");
+      Path pkg = Files.createDirectories(staging.resolve("org").resolve("example"));
+      Files.write(pkg.resolve("Customer.java"),
+               "package org.example; public class Customer {}".getBytes(StandardCharsets.UTF_8));
+      Files.move(staging.resolve("org"),
+               facet.getSourceDirectory().getUnderlyingResourceObject().toPath().resolve("org"));
+      waitFor(() -> facet.getJavaSources((entry) -> true).size() == 1);
+      assertEquals("org.example.Customer", facet.getJavaSources((entry) -> true).get(0).getFullyQualifiedTypeName());
+   }
+
+   @Test
+   public void testIndexIsPersisted() throws Exception
+   {
+      JavaSourceFacet facet = project.getFacet(JavaSourceFacet.class);
+      facet.saveJavaSource(Roaster.parse(JavaClassSource.class, "package org.example; public class Customer {}"));
+      facet.getJavaSources((entry) -> true);
+
+      // The index is kept in the Forge cache directory of the user, named after the project root
+      File root = project.getRoot().reify(DirectoryResource.class).getUnderlyingResourceObject().getAbsoluteFile();
+      File indexFile = new File(OperatingSystemUtils.getUserForgeDir(), "cache" + File.separator + "java-type-indexes"
+               + File.separator + UUID.nameUUIDFromBytes(root.getPath().getBytes(StandardCharsets.UTF_8)));
+      assertThat(indexFile.isFile(), is(true));
+      assertThat(new File(root, ".forge").exists(), is(false));
+
+      JavaTypeIndex index = new JavaTypeIndex(facet.getSourceDirectory(), indexFile);
+      List<JavaTypeIndexEntry> entries = index.getEntries();
+      index.close();
+      assertEquals(1, entries.size());
+      assertEquals("org.example.Customer", entries.get(0).getQualifiedName());
+      assertEquals("org/example/Customer.java", entries.get(0).getPath());
+   }
+
+   private static void waitFor(BooleanSupplier condition) throws InterruptedException
+   {
+      long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(15);
+      while (!condition.getAsBoolean())
+      {
+         assertTrue("Timed out waiting for the index to be updated", System.currentTimeMillis() < deadline);
+         Thread.sleep(50);
+      }
+   }
+}
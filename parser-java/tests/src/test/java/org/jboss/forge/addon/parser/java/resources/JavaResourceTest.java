@@ -106,6 +106,27 @@ public class JavaResourceTest
       Assert.assertThat(javaType, instanceOf(JavaClassSource.class));
    }
 
+   @Test
+   public void testParsedTypeIsNotSharedAndRefreshedOnChange() throws Exception
+   {
+      File tmpFile = File.createTempFile("MyClass", ".java");
+      tmpFile.deleteOnExit();
+      JavaResource first = resourceFactory.create(JavaResource.class, tmpFile);
+      first.setContents("public class MyClass {}");
+      JavaResource second = resourceFactory.create(JavaResource.class, tmpFile);
+      Assert.assertNotSame(first.getJavaType(), second.getJavaType());
+
+      // Unsaved changes are not visible to other instances
+      ((JavaClassSource) first.getJavaType()).setName("Renamed");
+      Assert.assertEquals("MyClass", second.getJavaType().getName());
+
+      // Same size and timestamp, different contents
+      long lastModified = tmpFile.lastModified();
+      second.setContents("public class MyClazz {}");
+      tmpFile.setLastModified(lastModified);
+      Assert.assertEquals("MyClazz", first.getJavaType().getName());
+   }
+
    @Test
    public void testDefaultClassFormatting() throws Exception
    {
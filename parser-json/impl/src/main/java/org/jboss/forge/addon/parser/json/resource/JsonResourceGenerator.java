@@ -24,6 +24,12 @@ public class JsonResourceGenerator implements ResourceGenerator<JsonResource, Fi
       return false;
    }
 
+   @Override
+   public boolean isCacheable()
+   {
+      return true;
+   }
+
    @Override
    @SuppressWarnings("unchecked")
    public <T extends Resource<File>> T getResource(ResourceFactory factory, Class<JsonResource> type, File resource)
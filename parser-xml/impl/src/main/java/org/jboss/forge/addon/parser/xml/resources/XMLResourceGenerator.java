@@ -28,6 +28,12 @@ public class XMLResourceGenerator implements ResourceGenerator<XMLResource, File
       return false;
    }
 
+   @Override
+   public boolean isCacheable()
+   {
+      return true;
+   }
+
    @Override
    @SuppressWarnings("unchecked")
    public <T extends Resource<File>> T getResource(ResourceFactory factory, Class<XMLResource> type, File resource)
@@ -9,7 +9,9 @@ package org.jboss.forge.addon.projects;
 import java.util.Set;
 
 import org.jboss.forge.addon.facets.Facet;
+import org.jboss.forge.addon.projects.spi.ProjectCache;
 import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.resource.events.ResourceEvent;
 
 /**
  * Creates and locates {@link Project} instances for a specific technology. E.g: Maven, Gradle, JavaScript, HTML, and so
@@ -54,4 +56,17 @@ public interface ProjectProvider
     * @since 3.0
     */
    Class<? extends ProjectFacet> resolveProjectFacet(Class<? extends ProjectFacet> facet);
-}
\ No newline at end of file
+
+   /**
+    * Returns true if the given change under the root directory of a {@link Project} created by this
+    * {@link ProjectProvider} may change the {@link ProjectFacet} instances registered in it, such as a change to its
+    * build descriptor. The {@link Project} is then evicted from every {@link ProjectCache} and discovered again on the
+    * next lookup, otherwise the cached {@link Project} is kept.
+    * <p>
+    * The default implementation returns <code>true</code> for every change.
+    */
+   default boolean isFacetRegistrationChange(Project project, ResourceEvent event)
+   {
+      return true;
+   }
+}
@@ -6,6 +6,7 @@
  */
 package org.jboss.forge.addon.projects.facets;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.jboss.forge.addon.dependencies.Coordinate;
@@ -31,6 +32,18 @@ public interface DependencyFacet extends ProvidedProjectFacet
     */
    void addDirectDependency(Dependency dep);
 
+   /**
+    * Add the given {@link Dependency} objects to this {@link Project}'s immediate list of dependencies, as in
+    * {@link #addDirectDependency(Dependency)}. Implementations should write the build descriptor only once.
+    */
+   default void addDirectDependencies(Collection<Dependency> deps)
+   {
+      for (Dependency dep : deps)
+      {
+         addDirectDependency(dep);
+      }
+   }
+
    /**
     * Add the given managed {@link Dependency} to this {@link Project}'s immediate list of managed dependencies. This
     * method first calls {@link #hasEffectiveManagedDependency(Dependency)} before making changes to the managed
@@ -49,6 +62,19 @@ public interface DependencyFacet extends ProvidedProjectFacet
     */
    void addDirectManagedDependency(Dependency dep);
 
+   /**
+    * Add the given managed {@link Dependency} objects to this {@link Project}'s immediate list of managed
+    * dependencies, as in {@link #addDirectManagedDependency(Dependency)}. Implementations should write the build
+    * descriptor only once.
+    */
+   default void addDirectManagedDependencies(Collection<Dependency> deps)
+   {
+      for (Dependency dep : deps)
+      {
+         addDirectManagedDependency(dep);
+      }
+   }
+
    /**
     * Add a repository to the project build system. This is where dependencies can be found, downloaded, and installed
     * to the project build script.
@@ -149,12 +175,44 @@ public interface DependencyFacet extends ProvidedProjectFacet
     */
    boolean hasDirectDependency(Dependency dependency);
 
+   /**
+    * Return true if this {@link Project} contains a direct dependency matching each of the given {@link Dependency}
+    * objects; return false otherwise. See also: {@link #hasDirectDependency(Dependency)}.
+    */
+   default boolean hasDirectDependencies(Collection<Dependency> dependencies)
+   {
+      for (Dependency dependency : dependencies)
+      {
+         if (!hasDirectDependency(dependency))
+         {
+            return false;
+         }
+      }
+      return true;
+   }
+
    /**
     * Return true if the given {@link Dependency} exists anywhere in the project dependency hierarchy. See also:
     * {@link DependencyBuilder}. See also: {@link #getEffectiveDependency(Dependency)}.
     */
    boolean hasEffectiveDependency(Dependency dependency);
 
+   /**
+    * Return true if each of the given {@link Dependency} objects exists anywhere in the project dependency hierarchy.
+    * See also: {@link #hasEffectiveDependency(Dependency)}.
+    */
+   default boolean hasEffectiveDependencies(Collection<Dependency> dependencies)
+   {
+      for (Dependency dependency : dependencies)
+      {
+         if (!hasEffectiveDependency(dependency))
+         {
+            return false;
+         }
+      }
+      return true;
+   }
+
    /**
     * Return true if this {@link Project} contains a managed dependency matching the given {@link Dependency} at any
     * level of the project hierarchy; return false otherwise. This method ignores {@link Dependency#getScopeType()}
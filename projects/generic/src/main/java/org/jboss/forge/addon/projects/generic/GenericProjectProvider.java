@@ -21,6 +21,8 @@ import org.jboss.forge.addon.projects.generic.facets.GenericMetadataFacet;
 import org.jboss.forge.addon.projects.generic.facets.GenericProjectFacet;
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.resource.events.ResourceEvent;
+import org.jboss.forge.addon.resource.events.ResourceModified;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
 
 /**
@@ -73,6 +75,14 @@ public class GenericProjectProvider extends AbstractProjectProvider
       return result;
    }
 
+   @Override
+   public boolean isFacetRegistrationChange(Project project, ResourceEvent event)
+   {
+      // Facets are only installed by the presence of files, or by the project configuration
+      return !(event instanceof ResourceModified)
+               || ConfigurationFacet.CONFIGURATION_FILE.equals(event.getResource().getName());
+   }
+
    @Override
    public int priority()
    {
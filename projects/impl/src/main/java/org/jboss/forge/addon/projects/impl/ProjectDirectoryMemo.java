@@ -0,0 +1,94 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.projects.impl;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.forge.addon.projects.ProjectProvider;
+import org.jboss.forge.addon.resource.util.FileStamp;
+
+/**
+ * Remembers the directories where no {@link ProjectProvider} found a project, so that looking up a project from a
+ * deeply nested directory does not ask every {@link ProjectProvider} about each of its ancestors again.
+ *
+ * An entry expires as soon as the last modification time of its directory changes, which happens when a build
+ * descriptor is created or deleted in it. Directories whose timestamp cannot be trusted yet (see
+ * {@link FileStamp#isSettled(long)}) are not remembered.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class ProjectDirectoryMemo
+{
+   private static final int MAX_ENTRIES = 4096;
+
+   private final Map<String, Long> directories = new LinkedHashMap<String, Long>(16, 0.75f, true)
+   {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Long> eldest)
+      {
+         return size() > MAX_ENTRIES;
+      }
+   };
+
+   /**
+    * Returns <code>true</code> if the given directory is known not to contain a project
+    */
+   boolean isWithoutProject(File directory)
+   {
+      String path = directory.getAbsolutePath();
+      Long lastModified;
+      synchronized (directories)
+      {
+         lastModified = directories.get(path);
+      }
+      if (lastModified == null)
+      {
+         return false;
+      }
+      if (lastModified.longValue() != directory.lastModified())
+      {
+         forget(path);
+         return false;
+      }
+      return true;
+   }
+
+   /**
+    * Records that no project was found in the given directory, which had the given last modification time before it
+    * was checked
+    */
+   void recordWithoutProject(File directory, long lastModified)
+   {
+      if (lastModified > 0L && FileStamp.isSettled(lastModified))
+      {
+         synchronized (directories)
+         {
+            directories.put(directory.getAbsolutePath(), lastModified);
+         }
+      }
+   }
+
+   void forget(String path)
+   {
+      synchronized (directories)
+      {
+         directories.remove(path);
+      }
+   }
+
+   void clear()
+   {
+      synchronized (directories)
+      {
+         directories.clear();
+      }
+   }
+}
@@ -10,9 +10,10 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -32,6 +33,7 @@ import org.jboss.forge.addon.resource.ResourceFactory;
 import org.jboss.forge.addon.resource.events.ResourceEvent;
 import org.jboss.forge.addon.resource.monitor.ResourceListener;
 import org.jboss.forge.addon.resource.monitor.ResourceMonitor;
+import org.jboss.forge.addon.ui.util.Memoization;
 import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.container.simple.AbstractEventListener;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
@@ -57,7 +59,11 @@ public class ProjectFactoryImpl extends AbstractEventListener implements Project
    private Imported<ProjectListener> builtInListeners;
    private Imported<ProjectCache> caches;
 
-   private final List<ListenerRegistration<ResourceListener>> listeners = new ArrayList<>();
+   /**
+    * The {@link ProjectMonitor} of each cached {@link Project}, by the fully qualified name of its root directory
+    */
+   private final Map<String, ProjectMonitor> monitors = new ConcurrentHashMap<>();
+   private final ProjectDirectoryMemo directoryMemo = new ProjectDirectoryMemo();
    private final Set<ProjectProvider> providers = new HashSet<>();
    private long version = -1;
 
@@ -65,10 +71,11 @@ public class ProjectFactoryImpl extends AbstractEventListener implements Project
    protected void handleThisPreShutdown()
    {
       invalidateCaches();
-      for (ListenerRegistration<ResourceListener> registration : listeners)
+      for (ProjectMonitor monitor : monitors.values())
       {
-         registration.removeListener();
+         monitor.cancel();
       }
+      monitors.clear();
    }
 
    private final Predicate<ProjectFacet> notProvidedProjectFacetFilter = new Predicate<ProjectFacet>()
@@ -110,27 +117,10 @@ public class ProjectFactoryImpl extends AbstractEventListener implements Project
       {
          filter = acceptsAllProjects;
       }
-
-      Project result = null;
-
-      for (Resource<?> dir : allDirectoriesOnPath(target))
-      {
-         for (ProjectProvider projectProvider : getProviders())
-         {
-            result = findProjectInDirectory(dir, projectProvider, filter);
-
-            if (result != null)
-               break;
-         }
-
-         if (result != null)
-            break;
-      }
-
-      return result;
+      return findProject(target, getProviders(), filter, true, true);
    }
 
-   private Iterable<ProjectProvider> getProviders()
+   private Set<ProjectProvider> getProviders()
    {
       AddonRegistry addonRegistry = getAddonRegistry();
       if (addonRegistry.getVersion() != version)
@@ -141,6 +131,8 @@ public class ProjectFactoryImpl extends AbstractEventListener implements Project
          {
             providers.add(provider);
          }
+         // New providers may find projects where the previous ones did not
+         directoryMemo.clear();
       }
       return providers;
    }
@@ -153,73 +145,138 @@ public class ProjectFactoryImpl extends AbstractEventListener implements Project
       {
          filter = acceptsAllProjects;
       }
+      // The memo only knows about the registered providers
+      boolean registered = getProviders().contains(projectProvider);
+      return findProject(target, Collections.singleton(projectProvider), filter, registered, false);
+   }
 
+   /**
+    * Looks for a project in the given directory and then in each of its parents, up to the root.
+    *
+    * @param useMemo if <code>true</code>, the directories remembered in the {@link ProjectDirectoryMemo} are skipped
+    * @param allProviders if <code>true</code>, the given providers are all the registered ones, so the directories
+    *           where none of them found a project are remembered in the {@link ProjectDirectoryMemo}
+    */
+   private Project findProject(Resource<?> target, Iterable<ProjectProvider> projectProviders,
+            Predicate<Project> filter, boolean useMemo, boolean allProviders)
+   {
+      // File-based directories are walked through their files, so that only the directories that are not in the memo
+      // need a resource
+      File directory = null;
+      if (useMemo && target.getUnderlyingResourceObject() instanceof File
+               && !getResourceFactory().getTransaction().isStarted())
+      {
+         directory = (File) target.getUnderlyingResourceObject();
+      }
+      Resource<?> dir = target;
       Project result = null;
-
-      Iterator<Resource<?>> pathIterator = allDirectoriesOnPath(target).iterator();
-      while (pathIterator.hasNext() && result == null)
+      while (result == null && (dir != null || directory != null))
       {
-         result = findProjectInDirectory(pathIterator.next(), projectProvider, filter);
+         if (directory == null || !directoryMemo.isWithoutProject(directory))
+         {
+            if (dir == null)
+            {
+               dir = getResourceFactory().create(DirectoryResource.class, directory);
+            }
+            long lastModified = directory == null ? 0L : directory.lastModified();
+            result = getMonitoredProject(dir, projectProviders, filter);
+            boolean contained = result != null;
+            for (ProjectProvider projectProvider : projectProviders)
+            {
+               if (result != null)
+                  break;
+               if (projectProvider.containsProject(dir))
+               {
+                  contained = true;
+                  result = findProjectInDirectory(dir, projectProvider, filter);
+               }
+            }
+            if (!contained && allProviders && directory != null)
+            {
+               directoryMemo.recordWithoutProject(directory, lastModified);
+            }
+         }
+         if (result == null && directory == null)
+         {
+            dir = dir.getParent();
+         }
+         else if (result == null)
+         {
+            directory = directory.getParentFile();
+            dir = null;
+         }
       }
-
       return result;
    }
 
    /**
-    * Returns all directories on path starting from given directory up to the root.
+    * Returns the cached project of the given root directory, found by one of the given providers, without asking
+    * them whether the directory still contains it. Cached projects are evicted by their {@link ProjectMonitor} when
+    * they change.
     */
-   private List<Resource<?>> allDirectoriesOnPath(Resource<?> startingDir)
+   private Project getMonitoredProject(Resource<?> target, Iterable<ProjectProvider> projectProviders,
+            Predicate<Project> filter)
    {
-      List<Resource<?>> result = new ArrayList<>();
-
-      while (startingDir != null)
+      ProjectMonitor monitor = monitors.get(target.getFullyQualifiedName());
+      if (monitor != null && monitor.project != null && contains(projectProviders, monitor.provider))
       {
-         result.add(startingDir);
-         startingDir = startingDir.getParent();
+         for (ProjectCache cache : getCaches())
+         {
+            Project result = cache.get(monitor.rootDirectory);
+            if (result != null && filter.accept(result))
+            {
+               return result;
+            }
+         }
       }
+      return null;
+   }
 
-      return result;
+   private static boolean contains(Iterable<ProjectProvider> projectProviders, ProjectProvider projectProvider)
+   {
+      for (ProjectProvider provider : projectProviders)
+      {
+         if (provider == projectProvider)
+            return true;
+      }
+      return false;
    }
 
    /**
-    * Returns project residing in given directory, if no such is found then null is returned.
+    * Returns project residing in given directory, if no such is found then null is returned. The directory must
+    * contain a project for the given {@link ProjectProvider}.
     */
    private Project findProjectInDirectory(Resource<?> target, ProjectProvider projectProvider,
             Predicate<Project> filter)
    {
       Project result = null;
-      Imported<ProjectCache> caches = getCaches();
-      if (projectProvider.containsProject(target))
+      boolean cached = false;
+      for (ProjectCache cache : getCaches())
       {
-         boolean cached = false;
-         for (ProjectCache cache : caches)
-         {
-            result = cache.get(target);
-            if (result != null && !filter.accept(result))
-            {
-               result = null;
-            }
-            if (result != null)
-            {
-               cached = true;
-               break;
-            }
-         }
-         if (result == null)
-         {
-            result = projectProvider.createProject(target);
-         }
+         result = cache.get(target);
          if (result != null && !filter.accept(result))
          {
             result = null;
          }
-         if (result != null && !cached)
+         if (result != null)
          {
-            registerAvailableFacets(result);
-            cacheProject(result);
+            cached = true;
+            break;
          }
       }
-
+      if (result == null)
+      {
+         result = projectProvider.createProject(target);
+      }
+      if (result != null && !filter.accept(result))
+      {
+         result = null;
+      }
+      if (result != null && !cached)
+      {
+         registerAvailableFacets(result);
+         cacheProject(result, projectProvider);
+      }
       return result;
    }
 
@@ -295,7 +352,7 @@ public class ProjectFactoryImpl extends AbstractEventListener implements Project
 
       if (result != null)
       {
-         cacheProject(result);
+         cacheProject(result, projectProvider);
          fireProjectCreated(result);
       }
 
@@ -373,31 +430,97 @@ public class ProjectFactoryImpl extends AbstractEventListener implements Project
       }
    }
 
-   private void cacheProject(final Project project)
+   private void cacheProject(final Project project, final ProjectProvider provider)
    {
-      final Imported<ProjectCache> caches = getCaches();
-      for (ProjectCache cache : caches)
+      for (ProjectCache cache : getCaches())
       {
          cache.store(project);
       }
-      // If under a transaction, don't start monitoring
       DirectoryResource rootDirectory = project.getRoot().reify(DirectoryResource.class);
       if (rootDirectory != null && rootDirectory.getUnderlyingResourceObject().exists())
       {
-         final ResourceMonitor monitor = rootDirectory.monitor();
-         ListenerRegistration<ResourceListener> registration = monitor.addResourceListener(new ResourceListener()
+         directoryMemo.forget(rootDirectory.getUnderlyingResourceObject().getAbsolutePath());
+         // The monitor of a root directory is kept while the directory exists, even if the project is evicted
+         ProjectMonitor monitor = monitors.computeIfAbsent(rootDirectory.getFullyQualifiedName(),
+                  (root) -> new ProjectMonitor(rootDirectory));
+         monitor.setProject(project, provider);
+      }
+   }
+
+   /**
+    * Evicts the cached {@link Project} of a root directory when a change to it may change its registered
+    * {@link ProjectFacet} instances, as decided by its {@link ProjectProvider}. Other changes keep the cached
+    * {@link Project}, the facets caching data from its files are expected to monitor them.
+    */
+   private class ProjectMonitor implements ResourceListener
+   {
+      private final DirectoryResource rootDirectory;
+      private final String root;
+      private final ResourceMonitor monitor;
+      private volatile Project project;
+      private volatile ProjectProvider provider;
+
+      ProjectMonitor(DirectoryResource rootDirectory)
+      {
+         this.rootDirectory = rootDirectory;
+         this.root = rootDirectory.getFullyQualifiedName();
+         this.monitor = rootDirectory.monitor();
+         this.monitor.addResourceListener(this);
+      }
+
+      void setProject(Project project, ProjectProvider provider)
+      {
+         this.provider = provider;
+         this.project = project;
+      }
+
+      @Override
+      public void processEvent(ResourceEvent event)
+      {
+         // The memoized value choices and completions of the UI may read the files of the project
+         Memoization.invalidate();
+         if (!rootDirectory.getUnderlyingResourceObject().exists())
          {
-            @Override
-            public void processEvent(ResourceEvent event)
+            monitors.remove(root, this);
+            cancel();
+            evict();
+            return;
+         }
+         Project current = project;
+         if (current != null && provider.isFacetRegistrationChange(current, event))
+         {
+            if (log.isLoggable(Level.FINE))
+            {
+               log.fine("Evicting Project [" + current + "] after " + event);
+            }
+            evict();
+            // Projects nested in this one (e.g. modules) may inherit from its build descriptor
+            for (ProjectMonitor nested : monitors.values())
             {
-               for (ProjectCache cache : caches)
+               if (nested.root.startsWith(root + File.separator))
                {
-                  cache.evict(project);
+                  nested.evict();
                }
-               monitor.cancel();
             }
-         });
-         this.listeners.add(registration);
+         }
+      }
+
+      void evict()
+      {
+         Project current = project;
+         if (current != null)
+         {
+            project = null;
+            for (ProjectCache cache : getCaches())
+            {
+               cache.evict(current);
+            }
+         }
+      }
+
+      void cancel()
+      {
+         monitor.cancel();
       }
    }
 
@@ -542,6 +665,8 @@ public class ProjectFactoryImpl extends AbstractEventListener implements Project
    @Override
    public void invalidateCaches()
    {
+      directoryMemo.clear();
+      Memoization.invalidate();
       if (caches != null)
       {
          for (ProjectCache cache : caches)
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.projects.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ProjectDirectoryMemo}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class ProjectDirectoryMemoTest
+{
+   private File directory;
+   private final ProjectDirectoryMemo memo = new ProjectDirectoryMemo();
+
+   @Before
+   public void setUp() throws IOException
+   {
+      directory = Files.createTempDirectory("project-directory-memo").toFile();
+      directory.setLastModified(System.currentTimeMillis() - 10_000);
+   }
+
+   @After
+   public void tearDown()
+   {
+      for (File file : directory.listFiles())
+      {
+         file.delete();
+      }
+      directory.delete();
+   }
+
+   @Test
+   public void testDirectoryWithoutProjectIsRemembered()
+   {
+      Assert.assertFalse(memo.isWithoutProject(directory));
+      memo.recordWithoutProject(directory, directory.lastModified());
+      Assert.assertTrue(memo.isWithoutProject(directory));
+   }
+
+   @Test
+   public void testEntryExpiresWhenDirectoryChanges() throws IOException
+   {
+      memo.recordWithoutProject(directory, directory.lastModified());
+      Assert.assertTrue(new File(directory, "pom.xml").createNewFile());
+      directory.setLastModified(System.currentTimeMillis() - 5_000);
+      Assert.assertFalse(memo.isWithoutProject(directory));
+   }
+
+   @Test
+   public void testRecentlyModifiedDirectoryIsNotRemembered()
+   {
+      directory.setLastModified(System.currentTimeMillis());
+      memo.recordWithoutProject(directory, directory.lastModified());
+      Assert.assertFalse(memo.isWithoutProject(directory));
+   }
+}
@@ -6,11 +6,19 @@
  */
 package org.jboss.forge.addon.projects.impl.cache;
 
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.junit.Arquillian;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFactory;
 import org.jboss.forge.addon.resource.DirectoryResource;
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.addon.resource.monitor.ResourceMonitor;
 import org.jboss.forge.arquillian.AddonDependencies;
 import org.jboss.forge.arquillian.AddonDependency;
 import org.jboss.forge.arquillian.archive.AddonArchive;
@@ -79,4 +87,85 @@ public class ProjectFactoryCacheTest
       project.getRoot().delete(true);
    }
 
+   @Test
+   public void testFindProjectFromDeepDirectory() throws Exception
+   {
+      Project project = projectFactory.createTempProject();
+      DirectoryResource root = project.getRoot().reify(DirectoryResource.class);
+      DirectoryResource deep = root;
+      for (int i = 0; i < 20; i++)
+      {
+         deep = deep.getChildDirectory("level" + i);
+      }
+      deep.mkdirs();
+      // Directories modified in the last seconds are not memoized
+      long past = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1);
+      for (File dir = deep.getUnderlyingResourceObject(); !dir.equals(root.getUnderlyingResourceObject()); dir = dir
+               .getParentFile())
+      {
+         dir.setLastModified(past);
+      }
+
+      Project found = projectFactory.findProject(deep);
+      Assert.assertNotNull(found);
+      Assert.assertEquals(root.getFullyQualifiedName(), found.getRoot().getFullyQualifiedName());
+      Assert.assertSame(found, projectFactory.findProject(deep));
+      Assert.assertSame(found, projectFactory.findProject(deep.getParent()));
+
+      root.delete(true);
+   }
+
+   @Test
+   public void testOnlyFacetRegistrationChangesEvictProject() throws Exception
+   {
+      Project project = projectFactory.createTempProject();
+      DirectoryResource root = project.getRoot().reify(DirectoryResource.class);
+      List<String> events = new CopyOnWriteArrayList<>();
+      ResourceMonitor monitor = root.monitor();
+      monitor.addResourceListener((event) -> events.add(event.getResource().getName()));
+      try
+      {
+         // Events are delivered in order to every monitor, so the project saw the previous changes once a sentinel
+         // file is seen
+         writeSentinel(root, "created.txt", events);
+         Project found = projectFactory.findProject(root);
+         Assert.assertNotNull(found);
+
+         FileResource<?> readme = root.getChild("README.txt").reify(FileResource.class);
+         readme.setContents("Created");
+         readme.setContents("Modified");
+         writeSentinel(root, "modified.txt", events);
+         Assert.assertSame(found, projectFactory.findProject(root));
+
+         root.getChildDirectory("src/main/templates").mkdirs();
+         waitFor(() -> projectFactory.findProject(root) != found);
+         Project reloaded = projectFactory.findProject(root);
+
+         FileResource<?> pom = root.getChild("pom.xml").reify(FileResource.class);
+         pom.setContents(pom.getContents() + "\n");
+         waitFor(() -> projectFactory.findProject(root) != reloaded);
+      }
+      finally
+      {
+         monitor.cancel();
+         root.delete(true);
+      }
+   }
+
+   private static void writeSentinel(DirectoryResource root, String name, List<String> events)
+            throws InterruptedException
+   {
+      root.getChild(name).reify(FileResource.class).setContents(name);
+      waitFor(() -> events.contains(name));
+   }
+
+   private static void waitFor(BooleanSupplier condition) throws InterruptedException
+   {
+      long deadline = System.currentTimeMillis() + 15_000;
+      while (!condition.getAsBoolean())
+      {
+         Assert.assertTrue("Timed out waiting for file events", System.currentTimeMillis() < deadline);
+         Thread.sleep(50);
+      }
+   }
 }
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.projects.impl.cache;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.projects.ProjectFactory;
+import org.jboss.forge.addon.resource.DirectoryResource;
+import org.jboss.forge.arquillian.AddonDependencies;
+import org.jboss.forge.arquillian.AddonDependency;
+import org.jboss.forge.arquillian.archive.AddonArchive;
+import org.jboss.forge.furnace.container.simple.Service;
+import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Measures the cost of {@link ProjectFactory#findProject(org.jboss.forge.addon.resource.Resource)} from a directory
+ * nested {@link #DEPTH} levels deep, with and without the memoized project roots.
+ *
+ * Kept out of the default test run: it only runs when the <code>forge.benchmarks</code> system property is set to
+ * <code>true</code>, e.g. with <code>mvn test -Dforge.benchmarks=true</code>.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@RunWith(Arquillian.class)
+public class ProjectFactoryLookupBenchmarkTest
+{
+   private static final Logger log = Logger.getLogger(ProjectFactoryLookupBenchmarkTest.class.getName());
+
+   private static final int DEPTH = 20;
+   private static final int ITERATIONS = 2000;
+   // Each uncached lookup creates the project again
+   private static final int UNCACHED_ITERATIONS = 50;
+
+   @Deployment
+   @AddonDependencies({
+            @AddonDependency(name = "org.jboss.forge.furnace.container:simple"),
+            @AddonDependency(name = "org.jboss.forge.addon:maven"),
+            @AddonDependency(name = "org.jboss.forge.addon:projects")
+   })
+   public static AddonArchive getDeployment()
+   {
+      return ShrinkWrap
+               .create(AddonArchive.class)
+               .addAsServiceProvider(Service.class, ProjectFactoryLookupBenchmarkTest.class);
+   }
+
+   private ProjectFactory projectFactory;
+
+   @Before
+   public void setUp()
+   {
+      Assume.assumeTrue("Benchmarks only run with -Dforge.benchmarks=true", Boolean.getBoolean("forge.benchmarks"));
+      projectFactory = SimpleContainer.getServices(getClass().getClassLoader(), ProjectFactory.class).get();
+   }
+
+   @Test
+   public void testFindProjectFromDeepDirectorySpeed() throws Exception
+   {
+      Project project = projectFactory.createTempProject();
+      DirectoryResource root = project.getRoot().reify(DirectoryResource.class);
+      DirectoryResource deep = root;
+      for (int i = 0; i < DEPTH; i++)
+      {
+         deep = deep.getChildDirectory("level" + i);
+      }
+      deep.mkdirs();
+      // Directories modified in the last seconds are not memoized
+      long past = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1);
+      for (File dir = deep.getUnderlyingResourceObject(); !dir.equals(root.getUnderlyingResourceObject()); dir = dir
+               .getParentFile())
+      {
+         dir.setLastModified(past);
+      }
+
+      long uncached = 0;
+      for (int i = 0; i < UNCACHED_ITERATIONS; i++)
+      {
+         projectFactory.invalidateCaches();
+         long start = System.nanoTime();
+         Assert.assertNotNull(projectFactory.findProject(deep));
+         uncached += System.nanoTime() - start;
+      }
+
+      Project found = projectFactory.findProject(deep);
+      long cached = 0;
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         long start = System.nanoTime();
+         Assert.assertSame(found, projectFactory.findProject(deep));
+         cached += System.nanoTime() - start;
+      }
+
+      log.info(String.format("findProject() at depth %d: %d ns/op uncached, %d ns/op memoized", DEPTH,
+               uncached / UNCACHED_ITERATIONS, cached / ITERATIONS));
+      root.delete(true);
+   }
+}
@@ -51,6 +51,16 @@ public interface ResourceFactory
     */
    ResourceMonitor monitor(Resource<?> resource, ResourceFilter resourceFilter);
 
+   /**
+    * Monitors a specific resource for changes and fires the registered listeners given the specified filter
+    * 
+    * @param resource the resource to be monitored
+    * @param resourceFilter a filter for children of the specified resource
+    * @param recursive if <code>false</code> and the resource is a directory, only its direct children are monitored
+    * @return a {@link ResourceMonitor} for the specific resource
+    */
+   ResourceMonitor monitor(Resource<?> resource, ResourceFilter resourceFilter, boolean recursive);
+
    /**
     * Get the transaction associated with this {@link ResourceFactory} in the calling thread
     * 
@@ -22,6 +22,19 @@ public interface ResourceGenerator<RESOURCETYPE, UNDERLYINGTYPE>
     */
    public boolean handles(Class<?> type, final Object resource);
 
+   /**
+    * Returns <code>true</code> if the result of {@link #handles(Class, Object)} only depends on the requested
+    * {@link Class} type, the {@link Class} of the given object instance and, for {@link java.io.File} instances, the
+    * file extension (the text after the last dot of the file name). The {@link ResourceFactory} may then cache it.
+    * <p>
+    * Generators checking the whole file name, the contents or the state of the file system must return
+    * <code>false</code>, which is the default.
+    */
+   default boolean isCacheable()
+   {
+      return false;
+   }
+
    /**
     * Get an instance of a {@link Resource} to handle the given {@link Class} type and object instance.
     */
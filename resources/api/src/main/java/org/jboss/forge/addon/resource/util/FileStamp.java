@@ -0,0 +1,102 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.resource.util;
+
+import java.io.File;
+
+import org.jboss.forge.addon.resource.FileResource;
+
+/**
+ * The length and last modification time of a file, recorded when its contents were read. Caches of data derived from
+ * the contents of a {@link FileResource} use it to tell whether the file may have changed since.
+ *
+ * File systems only store the last modification time with a limited precision, so a file modified less than
+ * {@link #RACY_WINDOW} milliseconds before it was read may be modified again without changing its timestamp. Such a
+ * stamp is never trusted, and the contents of the file must be checked.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public final class FileStamp
+{
+   /**
+    * How many milliseconds must have elapsed since a file was last modified before its timestamp can be trusted
+    */
+   public static final long RACY_WINDOW = 2000;
+
+   private final long length;
+   private final long lastModified;
+   private final long checkedAt;
+
+   /**
+    * Creates a stamp of a file with the given attributes, read now
+    */
+   public FileStamp(long length, long lastModified)
+   {
+      this.length = length;
+      this.lastModified = lastModified;
+      this.checkedAt = System.currentTimeMillis();
+   }
+
+   /**
+    * Returns the stamp of the given file, read now
+    */
+   public static FileStamp of(File file)
+   {
+      return new FileStamp(file.length(), file.lastModified());
+   }
+
+   /**
+    * Returns <code>true</code> if a file with the given attributes certainly was not modified since this stamp was
+    * taken. A <code>false</code> result means the contents of the file must be checked.
+    */
+   public boolean isValidFor(long length, long lastModified)
+   {
+      return this.length == length && this.lastModified == lastModified && isSettled(lastModified, checkedAt);
+   }
+
+   /**
+    * Returns <code>true</code> if the given file certainly was not modified since this stamp was taken
+    */
+   public boolean isValidFor(File file)
+   {
+      return isValidFor(file.length(), file.lastModified());
+   }
+
+   /**
+    * Returns <code>true</code> if a file with the given last modification time cannot be modified anymore without
+    * changing its timestamp
+    */
+   public static boolean isSettled(long lastModified)
+   {
+      return isSettled(lastModified, System.currentTimeMillis());
+   }
+
+   /**
+    * Returns <code>true</code> if a file with the given last modification time, read at the given time, could not be
+    * modified afterwards without changing its timestamp
+    */
+   public static boolean isSettled(long lastModified, long checkedAt)
+   {
+      return checkedAt - lastModified >= RACY_WINDOW;
+   }
+
+   public long getLength()
+   {
+      return length;
+   }
+
+   public long getLastModified()
+   {
+      return lastModified;
+   }
+
+   @Override
+   public String toString()
+   {
+      return "FileStamp [length=" + length + ", lastModified=" + lastModified + ", checkedAt=" + checkedAt + "]";
+   }
+}
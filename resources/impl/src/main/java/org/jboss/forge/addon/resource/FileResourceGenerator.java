@@ -16,6 +16,12 @@ public class FileResourceGenerator implements ResourceGenerator<FileResource<?>,
       return (resource instanceof File);
    }
 
+   @Override
+   public boolean isCacheable()
+   {
+      return true;
+   }
+
    @Override
    @SuppressWarnings("unchecked")
    public <T extends Resource<File>> T getResource(ResourceFactory factory, Class<FileResource<?>> type, File resource)
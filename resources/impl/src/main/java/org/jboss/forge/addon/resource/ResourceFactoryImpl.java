@@ -6,8 +6,13 @@
  */
 package org.jboss.forge.addon.resource;
 
-import java.util.Set;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.forge.addon.resource.monitor.FileMonitor;
 import org.jboss.forge.addon.resource.monitor.ResourceMonitor;
@@ -19,7 +24,6 @@ import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
 import org.jboss.forge.furnace.spi.ListenerRegistration;
 import org.jboss.forge.furnace.util.Assert;
-import org.jboss.forge.furnace.util.Sets;
 
 /**
  * Implementation of {@link ResourceFactory}
@@ -31,45 +35,72 @@ import org.jboss.forge.furnace.util.Sets;
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class ResourceFactoryImpl implements ResourceFactory
 {
-   private final Set<ResourceGenerator> generators = Sets.getConcurrentSet();
-   private volatile long version = -1;
+   private static final int MAX_DISPATCH_ENTRIES = 4096;
+
+   private volatile DispatchTable table;
 
    @Override
    public <E, T extends Resource<E>> T create(final Class<T> type, final E underlyingResource)
    {
-      T result = null;
-      TreeMap<Class<?>, ResourceGenerator> generated = new TreeMap<>(new RelatedClassComparator());
-
-      for (ResourceGenerator generator : getGenerators())
+      if (underlyingResource == null)
+      {
+         return null;
+      }
+      Dispatch dispatch = getDispatchTable().get(type, underlyingResource);
+      ResourceGenerator selected = null;
+      TreeMap<Class<?>, ResourceGenerator> generated = null;
+      for (int i = 0; i < dispatch.generators.length; i++)
       {
-         if (generator.handles(type, underlyingResource))
+         ResourceGenerator generator = dispatch.generators[i];
+         if (dispatch.handled[i] || generator.handles(type, underlyingResource))
          {
+            if (selected == null && generated == null && type == Resource.class)
+            {
+               // Every generated type is a Resource, so it is only needed to rank several candidates
+               selected = generator;
+               continue;
+            }
+            if (generated == null)
+            {
+               generated = new TreeMap<>(new RelatedClassComparator());
+               if (selected != null)
+               {
+                  generated.put(selected.getResourceType(this, type, underlyingResource), selected);
+                  selected = null;
+               }
+            }
             Class resourceType = generator.getResourceType(this, type, underlyingResource);
             if (type.isAssignableFrom(resourceType))
             {
                generated.put(resourceType, generator);
             }
          }
-         if (generated.size() > 0)
-         {
-            result = (T) generated.lastEntry().getValue().getResource(this, type, underlyingResource);
-         }
       }
-      return result;
+      if (generated != null && !generated.isEmpty())
+      {
+         selected = generated.lastEntry().getValue();
+      }
+      return selected == null ? null : (T) selected.getResource(this, type, underlyingResource);
    }
 
-   private Iterable<ResourceGenerator> getGenerators()
+   /**
+    * Returns the {@link DispatchTable} for the current {@link AddonRegistry} version
+    */
+   private DispatchTable getDispatchTable()
    {
-      if (getAddonRegistry().getVersion() != version)
+      long registryVersion = getAddonRegistry().getVersion();
+      DispatchTable current = table;
+      if (current == null || current.version != registryVersion)
       {
-         version = getAddonRegistry().getVersion();
-         generators.clear();
+         List<ResourceGenerator> generators = new ArrayList<>();
          for (ResourceGenerator generator : getAddonRegistry().getServices(ResourceGenerator.class))
          {
             generators.add(generator);
          }
+         current = new DispatchTable(registryVersion, generators);
+         table = current;
       }
-      return generators;
+      return current;
    }
 
    @Override
@@ -86,6 +117,12 @@ public class ResourceFactoryImpl implements ResourceFactory
 
    @Override
    public ResourceMonitor monitor(Resource<?> resource, ResourceFilter resourceFilter)
+   {
+      return monitor(resource, resourceFilter, true);
+   }
+
+   @Override
+   public ResourceMonitor monitor(Resource<?> resource, ResourceFilter resourceFilter, boolean recursive)
    {
       Assert.notNull(resource, "Resource cannot be null");
       Assert.isTrue(resource instanceof FileResource, "Resource must be a FileResource, was "
@@ -95,7 +132,7 @@ public class ResourceFactoryImpl implements ResourceFactory
          throw new IllegalStateException("Resource must exist to be monitored");
       }
       FileResource<?> fileResource = (FileResource<?>) resource;
-      return getFileMonitor().registerMonitor(this, fileResource, resourceFilter);
+      return getFileMonitor().registerMonitor(this, fileResource, resourceFilter, recursive);
    }
 
    @Override
@@ -140,4 +177,117 @@ public class ResourceFactoryImpl implements ResourceFactory
                .getServices(getClass().getClassLoader(), FileResourceTransactionManager.class).get();
    }
 
-}
\ No newline at end of file
+   /**
+    * The {@link ResourceGenerator} instances registered for a given {@link AddonRegistry} version, along with the
+    * result of {@link ResourceGenerator#handles(Class, Object)} for the cacheable ones
+    */
+   private static class DispatchTable
+   {
+      private final long version;
+      private final ResourceGenerator[] generators;
+      private final Map<DispatchKey, Dispatch> dispatches = new ConcurrentHashMap<>();
+
+      DispatchTable(long version, List<ResourceGenerator> generators)
+      {
+         this.version = version;
+         this.generators = generators.toArray(new ResourceGenerator[generators.size()]);
+      }
+
+      Dispatch get(Class<?> type, Object underlyingResource)
+      {
+         DispatchKey key = new DispatchKey(type, underlyingResource);
+         Dispatch dispatch = dispatches.get(key);
+         if (dispatch == null)
+         {
+            dispatch = new Dispatch(generators, type, underlyingResource);
+            if (dispatches.size() >= MAX_DISPATCH_ENTRIES)
+            {
+               dispatches.clear();
+            }
+            dispatches.put(key, dispatch);
+         }
+         return dispatch;
+      }
+   }
+
+   /**
+    * The generators that may handle a given {@link DispatchKey}, in registration order. Cacheable generators that
+    * don't handle it are left out, and the ones that do are flagged as handled.
+    */
+   private static class Dispatch
+   {
+      private final ResourceGenerator[] generators;
+      private final boolean[] handled;
+
+      Dispatch(ResourceGenerator[] all, Class<?> type, Object underlyingResource)
+      {
+         List<ResourceGenerator> candidates = new ArrayList<>(all.length);
+         List<Boolean> flags = new ArrayList<>(all.length);
+         for (ResourceGenerator generator : all)
+         {
+            if (!generator.isCacheable())
+            {
+               candidates.add(generator);
+               flags.add(Boolean.FALSE);
+            }
+            else if (generator.handles(type, underlyingResource))
+            {
+               candidates.add(generator);
+               flags.add(Boolean.TRUE);
+            }
+         }
+         this.generators = candidates.toArray(new ResourceGenerator[candidates.size()]);
+         this.handled = new boolean[flags.size()];
+         for (int i = 0; i < handled.length; i++)
+         {
+            handled[i] = flags.get(i);
+         }
+      }
+   }
+
+   /**
+    * The requested type, the class of the underlying resource and, for {@link File} instances, the file extension
+    */
+   private static final class DispatchKey
+   {
+      private final Class<?> type;
+      private final Class<?> resourceType;
+      private final String extension;
+      private final int hash;
+
+      DispatchKey(Class<?> type, Object underlyingResource)
+      {
+         this.type = type;
+         this.resourceType = underlyingResource.getClass();
+         if (underlyingResource instanceof File)
+         {
+            String name = ((File) underlyingResource).getName();
+            int idx = name.lastIndexOf('.');
+            this.extension = idx > -1 ? name.substring(idx + 1) : "";
+         }
+         else
+         {
+            this.extension = null;
+         }
+         this.hash = Objects.hash(type, resourceType, extension);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hash;
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (this == obj)
+            return true;
+         if (!(obj instanceof DispatchKey))
+            return false;
+         DispatchKey other = (DispatchKey) obj;
+         return type == other.type && resourceType == other.resourceType
+                  && Objects.equals(extension, other.extension);
+      }
+   }
+}
@@ -26,7 +26,7 @@ import org.jboss.forge.furnace.event.PreShutdown;
  */
 public class FileMonitor implements EventListener
 {
-   private FileWatcher watcher;
+   private volatile FileWatcher watcher;
 
    void init() throws Exception
    {
@@ -57,7 +57,7 @@ public class FileMonitor implements EventListener
    }
 
    public ResourceMonitor registerMonitor(final ResourceFactory resourceFactory, final FileResource<?> resource,
-            final ResourceFilter resourceFilter)
+            final ResourceFilter resourceFilter, final boolean recursive)
    {
       if (watcher == null)
       {
@@ -72,10 +72,12 @@ public class FileMonitor implements EventListener
       }
       DirectoryResource dirResource = resource.reify(DirectoryResource.class);
       ResourceFilter filter = resourceFilter;
+      boolean recursiveMonitor = recursive;
       if (dirResource == null)
       {
-         // It's a file, monitor the parent and add a filter to the file
+         // It's a file, monitor the parent (but not its sub-directories) and add a filter to the file
          dirResource = resource.getParent();
+         recursiveMonitor = false;
          filter = new ResourceFilter()
          {
             @Override
@@ -97,7 +99,8 @@ public class FileMonitor implements EventListener
             }
          };
       }
-      ResourceMonitorImpl resourceMonitor = new ResourceMonitorImpl(this, dirResource, resourceFactory, filter);
+      ResourceMonitorImpl resourceMonitor = new ResourceMonitorImpl(this, dirResource, resourceFactory, filter,
+               recursiveMonitor);
       try
       {
          watcher.register(resourceMonitor);
@@ -111,6 +114,28 @@ public class FileMonitor implements EventListener
 
    void cancel(ResourceMonitorImpl monitor)
    {
-      watcher.unregister(monitor);
+      FileWatcher current = watcher;
+      if (current != null)
+      {
+         current.unregister(monitor);
+      }
+   }
+
+   /**
+    * Returns the number of directories currently watched on behalf of all the {@link ResourceMonitor} instances
+    */
+   public int getWatchedDirectoryCount()
+   {
+      FileWatcher current = watcher;
+      return current == null ? 0 : current.getRegisteredKeyCount();
+   }
+
+   /**
+    * Returns the number of file system events received during the last second
+    */
+   public long getEventsPerSecond()
+   {
+      FileWatcher current = watcher;
+      return current == null ? 0 : current.getEventsPerSecond();
    }
 }
@@ -23,19 +23,30 @@ import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.jboss.forge.furnace.util.OperatingSystemUtils;
 
 /**
- * Uses {@link WatchService} to watch files
+ * Uses {@link WatchService} to watch files.
+ *
+ * All the {@link ResourceMonitorImpl} instances share a single tree of watched directories, with a single
+ * {@link WatchKey} per directory, and events are fanned out to every monitor the changed path belongs to. Directories
+ * ignored by a monitor (see {@link IgnoreRules}) are not watched on its behalf. Events are coalesced and delivered on a
+ * dispatch thread once no other event arrived for {@link #DEBOUNCE_MILLIS}, so a burst of changes (eg. a build) is
+ * delivered as a single batch. When the events of a directory were lost, the directory itself is reported as modified.
  *
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  */
@@ -43,14 +54,34 @@ class FileWatcher implements Runnable
 {
    private static Logger log = Logger.getLogger(FileWatcher.class.getName());
 
+   private static final long DEBOUNCE_MILLIS = 50;
+   private static final long MAX_DELAY_MILLIS = 500;
+
    private final WatchService watcher;
-   private final Map<WatchKey, ResourceMonitorImpl> keys = new ConcurrentHashMap<>();
+   private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+   private final Map<Path, WatchKey> keys = new ConcurrentHashMap<>();
+   private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+   private final EventRate eventRate = new EventRate();
+
+   private final List<PendingEvent> pendingEvents = new ArrayList<>();
+   private final Map<Path, PendingEvent> lastPendingEvents = new HashMap<>();
+   private long firstPendingEventAt;
+   private long lastPendingEventAt;
+   private boolean flushScheduled;
+
+   private final ScheduledExecutorService dispatcher;
    private Thread resourceMonitorThread;
    private volatile boolean alive = true;
 
    public FileWatcher() throws IOException
    {
       this.watcher = FileSystems.getDefault().newWatchService();
+      this.dispatcher = Executors.newSingleThreadScheduledExecutor((r) -> {
+         Thread thread = new Thread(r, "Resource File Monitor Dispatcher");
+         thread.setDaemon(true);
+         thread.setContextClassLoader(null);
+         return thread;
+      });
    }
 
    public void start() throws IllegalStateException
@@ -69,6 +100,7 @@ class FileWatcher implements Runnable
    {
       this.alive = false;
       resourceMonitorThread.interrupt();
+      dispatcher.shutdownNow();
       try
       {
          this.watcher.close();
@@ -80,50 +112,107 @@ class FileWatcher implements Runnable
    }
 
    /**
-    * Register the given directory with the WatchService
+    * Returns the number of directories currently registered with the {@link WatchService}
+    */
+   int getRegisteredKeyCount()
+   {
+      return keys.size();
+   }
+
+   /**
+    * Returns the number of file system events received during the last second
     */
-   void register(ResourceMonitorImpl monitorImpl) throws IOException
+   long getEventsPerSecond()
+   {
+      return eventRate.get();
+   }
+
+   /**
+    * Register the directory of the given monitor with the WatchService
+    */
+   synchronized void register(ResourceMonitorImpl monitorImpl) throws IOException
    {
       Path path = monitorImpl.getResourcePath();
-      registerAll(path, monitorImpl);
+      Subscription subscription = new Subscription(monitorImpl, path, monitorImpl.isRecursive(),
+               monitorImpl.isRecursive() ? IgnoreRules.create(path) : null);
+      subscriptions.add(subscription);
+      try
+      {
+         registerAll(path, subscription);
+      }
+      catch (IOException | RuntimeException e)
+      {
+         unregister(monitorImpl);
+         throw e;
+      }
    }
 
    /**
-    * Register the given directory with the WatchService
+    * Unregister the given monitor, and cancel the keys of the directories no other monitor is interested in
     */
-   void unregister(ResourceMonitorImpl monitorImpl)
+   synchronized void unregister(ResourceMonitorImpl monitorImpl)
    {
-      Set<Entry<WatchKey, ResourceMonitorImpl>> entrySet = keys.entrySet();
-      Iterator<Entry<WatchKey, ResourceMonitorImpl>> iterator = entrySet.iterator();
+      subscriptions.removeIf((subscription) -> subscription.monitor == monitorImpl);
+      Iterator<Entry<Path, WatchKey>> iterator = keys.entrySet().iterator();
       while (iterator.hasNext())
       {
-         Entry<WatchKey, ResourceMonitorImpl> next = iterator.next();
-         if (next.getValue() == monitorImpl)
+         Entry<Path, WatchKey> next = iterator.next();
+         if (!isWatched(next.getKey()))
          {
-            next.getKey().cancel();
+            next.getValue().cancel();
+            directories.remove(next.getValue());
             iterator.remove();
          }
       }
    }
 
    /**
-    * Register the given directory with the WatchService
+    * Returns <code>true</code> if any monitor is interested in the given directory
+    */
+   private boolean isWatched(Path directory)
+   {
+      for (Subscription subscription : subscriptions)
+      {
+         if (subscription.covers(directory))
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Register the given directory with the WatchService, unless it is already registered
     */
-   private void register(Path path, ResourceMonitorImpl monitorImpl) throws IOException
+   private void register(Path path) throws IOException
    {
+      if (keys.containsKey(path))
+      {
+         return;
+      }
       WatchKey key = path.register(watcher, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
       if (OperatingSystemUtils.isWindows())
       {
          JDK_8029516.patch(key);
       }
-      keys.put(key, monitorImpl);
+      directories.put(key, path);
+      keys.put(path, key);
    }
 
    /**
-    * Register the given directory, and all its sub-directories, with the WatchService.
+    * Register the given directory, and all its sub-directories the given subscription is interested in, with the
+    * WatchService.
     */
-   private void registerAll(Path start, final ResourceMonitorImpl monitorImpl) throws IOException
+   private void registerAll(Path start, final Subscription subscription) throws IOException
    {
+      if (!subscription.recursive)
+      {
+         if (start.equals(subscription.root))
+         {
+            register(start);
+         }
+         return;
+      }
       // register directory and sub-directories
       Files.walkFileTree(start, new SimpleFileVisitor<Path>()
       {
@@ -131,12 +220,37 @@ class FileWatcher implements Runnable
          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
                   throws IOException
          {
-            register(dir, monitorImpl);
+            if (!subscription.covers(dir))
+            {
+               return FileVisitResult.SKIP_SUBTREE;
+            }
+            register(dir);
             return FileVisitResult.CONTINUE;
          }
       });
    }
 
+   /**
+    * Register a newly created directory for every monitor interested in it
+    */
+   private synchronized void registerCreated(Path directory)
+   {
+      for (Subscription subscription : subscriptions)
+      {
+         if (subscription.covers(directory))
+         {
+            try
+            {
+               registerAll(directory, subscription);
+            }
+            catch (IOException e)
+            {
+               log.log(Level.SEVERE, "Error while registering child directories", e);
+            }
+         }
+      }
+   }
+
    @SuppressWarnings("unchecked")
    @Override
    public void run()
@@ -152,19 +266,25 @@ class FileWatcher implements Runnable
          {
             break;
          }
+         Path directory = directories.get(key);
          List<WatchEvent<?>> pollEvents = key.pollEvents();
+         eventRate.add(pollEvents.size());
          for (WatchEvent<?> event : pollEvents)
          {
             WatchEvent.Kind<?> kind = event.kind();
             if (kind == OVERFLOW)
             {
+               // Events were lost: report the directory itself as modified, so listeners can read it again
+               if (directory != null)
+               {
+                  enqueue(directory, ENTRY_MODIFY);
+               }
                continue;
             }
 
             WatchEvent<Path> ev = (WatchEvent<Path>) event;
             Path name = ev.context();
-            ResourceMonitorImpl resourceMonitor = keys.get(key);
-            if (resourceMonitor == null)
+            if (directory == null)
             {
                if (log.isLoggable(Level.FINEST))
                {
@@ -172,38 +292,19 @@ class FileWatcher implements Runnable
                }
                continue;
             }
-            Path resourcePath = resourceMonitor.getResourcePath();
-            Path child = resourcePath.resolve(name);
+            Path child = directory.resolve(name);
             if (log.isLoggable(Level.FINE))
             {
-               log.log(Level.FINE, String.format("%s: %s %s %s\n", event.kind().name(), child, key, keys.keySet()));
-            }
-            if (kind == ENTRY_CREATE)
-            {
-               try
-               {
-                  if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS))
-                  {
-                     registerAll(child, resourceMonitor);
-                  }
-               }
-               catch (IOException e)
-               {
-                  log.log(Level.SEVERE, "Error while registering child directories", e);
-               }
-               resourceMonitor.onPathCreate(child);
-            }
-            else if (kind == ENTRY_DELETE)
-            {
-               resourceMonitor.onPathDelete(child);
+               log.log(Level.FINE, String.format("%s: %s %s\n", event.kind().name(), child, key));
             }
-            else if (kind == ENTRY_MODIFY)
+            if (kind == ENTRY_CREATE && Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS))
             {
-               resourceMonitor.onPathModify(child);
+               registerCreated(child);
             }
+            enqueue(child, kind);
          }
 
-         if (!keys.containsKey(key))
+         if (!directories.containsKey(key))
          {
             // key is no longer available in the keys Map. Cancel it
             key.cancel();
@@ -214,9 +315,178 @@ class FileWatcher implements Runnable
             boolean valid = key.reset();
             if (!valid)
             {
-               keys.remove(key);
+               synchronized (this)
+               {
+                  directories.remove(key);
+                  if (directory != null)
+                  {
+                     keys.remove(directory, key);
+                  }
+               }
             }
          }
       }
    }
+
+   /**
+    * Adds an event to the pending batch, dropping it if it is redundant with the previous event for the same path
+    */
+   private void enqueue(Path path, WatchEvent.Kind<?> kind)
+   {
+      synchronized (pendingEvents)
+      {
+         long now = System.currentTimeMillis();
+         PendingEvent last = lastPendingEvents.get(path);
+         if (last == null || (last.kind != kind && !(kind == ENTRY_MODIFY && last.kind == ENTRY_CREATE)))
+         {
+            PendingEvent event = new PendingEvent(path, kind);
+            pendingEvents.add(event);
+            lastPendingEvents.put(path, event);
+         }
+         lastPendingEventAt = now;
+         if (!flushScheduled)
+         {
+            firstPendingEventAt = now;
+            flushScheduled = true;
+            schedule(DEBOUNCE_MILLIS);
+         }
+      }
+   }
+
+   private void schedule(long delay)
+   {
+      try
+      {
+         dispatcher.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+      }
+      catch (RuntimeException e)
+      {
+         // Dispatcher was shut down
+         flushScheduled = false;
+      }
+   }
+
+   private void flush()
+   {
+      List<PendingEvent> batch;
+      synchronized (pendingEvents)
+      {
+         long now = System.currentTimeMillis();
+         long quiet = now - lastPendingEventAt;
+         if (quiet < DEBOUNCE_MILLIS && now - firstPendingEventAt < MAX_DELAY_MILLIS)
+         {
+            schedule(DEBOUNCE_MILLIS - quiet);
+            return;
+         }
+         batch = new ArrayList<>(pendingEvents);
+         pendingEvents.clear();
+         lastPendingEvents.clear();
+         flushScheduled = false;
+      }
+      for (PendingEvent event : batch)
+      {
+         Path parent = event.path.getParent();
+         for (Subscription subscription : subscriptions)
+         {
+            if ((parent != null && subscription.covers(parent)) || event.path.equals(subscription.root))
+            {
+               try
+               {
+                  if (event.kind == ENTRY_CREATE)
+                  {
+                     subscription.monitor.onPathCreate(event.path);
+                  }
+                  else if (event.kind == ENTRY_DELETE)
+                  {
+                     subscription.monitor.onPathDelete(event.path);
+                  }
+                  else if (event.kind == ENTRY_MODIFY)
+                  {
+                     subscription.monitor.onPathModify(event.path);
+                  }
+               }
+               catch (RuntimeException e)
+               {
+                  log.log(Level.SEVERE, "Error while dispatching event for " + event.path, e);
+               }
+            }
+         }
+      }
+   }
+
+   /**
+    * A monitor along with the directory it watches and its ignore rules
+    */
+   private static class Subscription
+   {
+      private final ResourceMonitorImpl monitor;
+      private final Path root;
+      private final boolean recursive;
+      private final IgnoreRules ignoreRules;
+
+      Subscription(ResourceMonitorImpl monitor, Path root, boolean recursive, IgnoreRules ignoreRules)
+      {
+         this.monitor = monitor;
+         this.root = root;
+         this.recursive = recursive;
+         this.ignoreRules = ignoreRules;
+      }
+
+      /**
+       * Returns <code>true</code> if changes in the given directory are of interest to the monitor
+       */
+      boolean covers(Path directory)
+      {
+         if (directory.equals(root))
+         {
+            return true;
+         }
+         return recursive && directory.startsWith(root) && !ignoreRules.isIgnored(directory);
+      }
+   }
+
+   private static class PendingEvent
+   {
+      private final Path path;
+      private final WatchEvent.Kind<?> kind;
+
+      PendingEvent(Path path, WatchEvent.Kind<?> kind)
+      {
+         this.path = path;
+         this.kind = kind;
+      }
+   }
+
+   /**
+    * Counts the events received in the current and in the previous second
+    */
+   private static class EventRate
+   {
+      private long second;
+      private long current;
+      private long previous;
+
+      synchronized void add(long count)
+      {
+         roll();
+         current += count;
+      }
+
+      synchronized long get()
+      {
+         roll();
+         return previous;
+      }
+
+      private void roll()
+      {
+         long now = System.currentTimeMillis() / 1000;
+         if (now != second)
+         {
+            previous = (now == second + 1) ? current : 0;
+            current = 0;
+            second = now;
+         }
+      }
+   }
 }
@@ -0,0 +1,174 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.resource.monitor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Decides which sub-directories of a monitored directory are not watched.
+ *
+ * Directories named after one of the {@link #DEFAULT_IGNORED_DIRECTORIES} (which may be replaced with the
+ * {@link #IGNORED_DIRECTORIES_PROPERTY} system property) are always ignored, as well as the directories matching the
+ * patterns in the <code>.gitignore</code> file of the monitored directory. Only plain and glob patterns are supported:
+ * if the <code>.gitignore</code> file has negated patterns, it is not used at all, since ignoring less is always safe.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class IgnoreRules
+{
+   private static final Logger log = Logger.getLogger(IgnoreRules.class.getName());
+
+   static final String IGNORED_DIRECTORIES_PROPERTY = "org.jboss.forge.addon.resource.monitor.ignoredDirectories";
+   static final List<String> DEFAULT_IGNORED_DIRECTORIES = Collections
+            .unmodifiableList(Arrays.asList(".git", ".hg", ".svn", "node_modules"));
+
+   private final Path root;
+   private final Set<String> names;
+   private final List<PathMatcher> nameMatchers = new ArrayList<>();
+   private final List<PathMatcher> pathMatchers = new ArrayList<>();
+
+   private IgnoreRules(Path root, Set<String> names)
+   {
+      this.root = root;
+      this.names = names;
+   }
+
+   /**
+    * Creates the {@link IgnoreRules} for the given monitored directory
+    */
+   static IgnoreRules create(Path root)
+   {
+      IgnoreRules rules = new IgnoreRules(root, getIgnoredDirectoryNames());
+      Path gitIgnore = root.resolve(".gitignore");
+      if (Files.isRegularFile(gitIgnore))
+      {
+         try
+         {
+            rules.addPatterns(Files.readAllLines(gitIgnore, StandardCharsets.UTF_8));
+         }
+         catch (IOException | RuntimeException e)
+         {
+            log.log(Level.FINE, "Could not read " + gitIgnore, e);
+            rules.nameMatchers.clear();
+            rules.pathMatchers.clear();
+         }
+      }
+      return rules;
+   }
+
+   private static Set<String> getIgnoredDirectoryNames()
+   {
+      String property = System.getProperty(IGNORED_DIRECTORIES_PROPERTY);
+      if (property == null)
+      {
+         return new LinkedHashSet<>(DEFAULT_IGNORED_DIRECTORIES);
+      }
+      Set<String> names = new LinkedHashSet<>();
+      for (String name : property.split(","))
+      {
+         if (!name.trim().isEmpty())
+         {
+            names.add(name.trim());
+         }
+      }
+      return names;
+   }
+
+   private void addPatterns(List<String> lines)
+   {
+      FileSystem fileSystem = root.getFileSystem();
+      for (String line : lines)
+      {
+         String pattern = line.trim();
+         if (pattern.isEmpty() || pattern.startsWith("#"))
+         {
+            continue;
+         }
+         if (pattern.startsWith("!"))
+         {
+            nameMatchers.clear();
+            pathMatchers.clear();
+            return;
+         }
+         while (pattern.endsWith("/"))
+         {
+            pattern = pattern.substring(0, pattern.length() - 1);
+         }
+         while (pattern.startsWith("**/"))
+         {
+            pattern = pattern.substring(3);
+         }
+         if (pattern.isEmpty() || pattern.equals("**"))
+         {
+            continue;
+         }
+         if (pattern.contains("/"))
+         {
+            // Patterns with a slash are relative to the directory of the .gitignore file
+            String relative = pattern.startsWith("/") ? pattern.substring(1) : pattern;
+            pathMatchers.add(fileSystem.getPathMatcher("glob:" + relative));
+         }
+         else
+         {
+            nameMatchers.add(fileSystem.getPathMatcher("glob:" + pattern));
+         }
+      }
+   }
+
+   /**
+    * Returns <code>true</code> if the given directory, or one of its parents up to the monitored directory, is ignored.
+    * The monitored directory itself is never ignored.
+    */
+   boolean isIgnored(Path directory)
+   {
+      if (!directory.startsWith(root) || directory.equals(root))
+      {
+         return false;
+      }
+      Path relative = root.relativize(directory);
+      for (int i = 0; i < relative.getNameCount(); i++)
+      {
+         Path name = relative.getName(i);
+         if (names.contains(name.toString()))
+         {
+            return true;
+         }
+         for (PathMatcher matcher : nameMatchers)
+         {
+            if (matcher.matches(name))
+            {
+               return true;
+            }
+         }
+         if (!pathMatchers.isEmpty())
+         {
+            Path prefix = relative.subpath(0, i + 1);
+            for (PathMatcher matcher : pathMatchers)
+            {
+               if (matcher.matches(prefix))
+               {
+                  return true;
+               }
+            }
+         }
+      }
+      return false;
+   }
+}
@@ -39,14 +39,25 @@ public class ResourceMonitorImpl implements ResourceMonitor
    private final Set<ResourceListener> listeners = new LinkedHashSet<>();
    private final ResourceFactory resourceFactory;
    private final ResourceFilter resourceFilter;
+   private final boolean recursive;
 
    public ResourceMonitorImpl(FileMonitor fileMonitor, DirectoryResource resource, ResourceFactory resourceFactory,
             ResourceFilter resourceFilter)
+   {
+      this(fileMonitor, resource, resourceFactory, resourceFilter, true);
+   }
+
+   /**
+    * @param recursive if <code>false</code>, only the direct children of the given directory are monitored
+    */
+   public ResourceMonitorImpl(FileMonitor fileMonitor, DirectoryResource resource, ResourceFactory resourceFactory,
+            ResourceFilter resourceFilter, boolean recursive)
    {
       this.fileMonitor = fileMonitor;
       this.resource = resource;
       this.resourceFactory = resourceFactory;
       this.resourceFilter = resourceFilter;
+      this.recursive = recursive;
    }
 
    @Override
@@ -112,6 +123,11 @@ public class ResourceMonitorImpl implements ResourceMonitor
       return resource.getUnderlyingResourceObject().toPath();
    }
 
+   boolean isRecursive()
+   {
+      return recursive;
+   }
+
    @Override
    public void cancel()
    {
@@ -29,6 +29,12 @@ public class ZipFileResourceGenerator implements ResourceGenerator<ZipFileResour
       return false;
    }
 
+   @Override
+   public boolean isCacheable()
+   {
+      return true;
+   }
+
    @SuppressWarnings("unchecked")
    @Override
    public <T extends Resource<File>> T getResource(ResourceFactory factory, Class<ZipFileResource> type, File resource)
@@ -0,0 +1,177 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.resource.monitor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for {@link FileWatcher}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class FileWatcherTest
+{
+   private Path root;
+   private FileWatcher watcher;
+
+   @Before
+   public void setUp() throws IOException
+   {
+      root = Files.createTempDirectory("file-watcher");
+      Files.createDirectories(root.resolve("src"));
+      watcher = new FileWatcher();
+      watcher.start();
+   }
+
+   @After
+   public void tearDown() throws IOException
+   {
+      watcher.stop();
+      Files.walk(root).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+   }
+
+   @Test
+   public void testMonitorsShareWatchKeys() throws Exception
+   {
+      RecordingMonitor first = new RecordingMonitor(root);
+      RecordingMonitor second = new RecordingMonitor(root);
+      watcher.register(first);
+      Assert.assertEquals(2, watcher.getRegisteredKeyCount());
+      watcher.register(second);
+      Assert.assertEquals(2, watcher.getRegisteredKeyCount());
+
+      write("src/Customer.java");
+      waitFor(() -> first.events.contains("CREATE src/Customer.java"));
+      waitFor(() -> second.events.contains("CREATE src/Customer.java"));
+   }
+
+   @Test
+   public void testCancellingOneMonitorKeepsTheOtherWorking() throws Exception
+   {
+      RecordingMonitor cancelled = new RecordingMonitor(root);
+      RecordingMonitor remaining = new RecordingMonitor(root);
+      watcher.register(cancelled);
+      watcher.register(remaining);
+
+      watcher.unregister(cancelled);
+      Assert.assertEquals(2, watcher.getRegisteredKeyCount());
+      write("src/Customer.java");
+      waitFor(() -> remaining.events.contains("CREATE src/Customer.java"));
+      Assert.assertEquals(Collections.emptyList(), cancelled.events);
+
+      watcher.unregister(remaining);
+      Assert.assertEquals(0, watcher.getRegisteredKeyCount());
+   }
+
+   @Test
+   public void testBurstOfChangesIsCoalesced() throws Exception
+   {
+      RecordingMonitor monitor = new RecordingMonitor(root);
+      watcher.register(monitor);
+
+      for (int i = 0; i < 20; i++)
+      {
+         write("src/Customer.java");
+      }
+      write("src/Order.java");
+      // Events are delivered in order, so every event about the first file was delivered once the second one is seen
+      waitFor(() -> monitor.events.contains("CREATE src/Order.java"));
+      Assert.assertEquals(Arrays.asList("CREATE src/Customer.java"), monitor.eventsFor("src/Customer.java"));
+
+      for (int i = 0; i < 20; i++)
+      {
+         write("src/Order.java");
+      }
+      write("src/Invoice.java");
+      waitFor(() -> monitor.events.contains("CREATE src/Invoice.java"));
+      Assert.assertEquals(Arrays.asList("CREATE src/Order.java", "MODIFY src/Order.java"),
+               monitor.eventsFor("src/Order.java"));
+   }
+
+   private void write(String path) throws IOException
+   {
+      Files.write(root.resolve(path), ("// " + System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+   }
+
+   private static void waitFor(BooleanSupplier condition) throws InterruptedException
+   {
+      long deadline = System.currentTimeMillis() + 15_000;
+      while (!condition.getAsBoolean())
+      {
+         Assert.assertTrue("Timed out waiting for file events", System.currentTimeMillis() < deadline);
+         Thread.sleep(50);
+      }
+   }
+
+   /**
+    * A {@link ResourceMonitorImpl} recording the events it receives, relative to its directory
+    */
+   private static class RecordingMonitor extends ResourceMonitorImpl
+   {
+      private final Path directory;
+      private final List<String> events = new CopyOnWriteArrayList<>();
+
+      RecordingMonitor(Path directory)
+      {
+         super(null, null, null, null, true);
+         this.directory = directory;
+      }
+
+      @Override
+      Path getResourcePath()
+      {
+         return directory;
+      }
+
+      @Override
+      void onPathCreate(Path path)
+      {
+         events.add("CREATE " + directory.relativize(path).toString().replace(File.separatorChar, '/'));
+      }
+
+      @Override
+      void onPathModify(Path path)
+      {
+         events.add("MODIFY " + directory.relativize(path).toString().replace(File.separatorChar, '/'));
+      }
+
+      @Override
+      void onPathDelete(Path path)
+      {
+         events.add("DELETE " + directory.relativize(path).toString().replace(File.separatorChar, '/'));
+      }
+
+      List<String> eventsFor(String path)
+      {
+         List<String> result = new ArrayList<>();
+         for (String event : events)
+         {
+            if (event.endsWith(" " + path))
+            {
+               result.add(event);
+            }
+         }
+         return result;
+      }
+   }
+}
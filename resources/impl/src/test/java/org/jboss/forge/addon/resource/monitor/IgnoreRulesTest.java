@@ -0,0 +1,78 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.resource.monitor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for {@link IgnoreRules}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class IgnoreRulesTest
+{
+   private Path root;
+
+   @Before
+   public void setUp() throws IOException
+   {
+      root = Files.createTempDirectory("ignore-rules");
+   }
+
+   @After
+   public void tearDown() throws IOException
+   {
+      Files.walk(root).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+   }
+
+   @Test
+   public void testDefaultIgnoredDirectories()
+   {
+      IgnoreRules rules = IgnoreRules.create(root);
+      Assert.assertFalse(rules.isIgnored(root));
+      Assert.assertTrue(rules.isIgnored(root.resolve(".git")));
+      Assert.assertTrue(rules.isIgnored(root.resolve(".git/objects")));
+      Assert.assertTrue(rules.isIgnored(root.resolve("web/node_modules")));
+      Assert.assertFalse(rules.isIgnored(root.resolve("src/main/java")));
+   }
+
+   @Test
+   public void testGitIgnorePatterns() throws IOException
+   {
+      Files.write(root.resolve(".gitignore"), "# build output\ntarget/\n/build\n*.tmp\nfoo/bar\n**/gen\n"
+               .getBytes(StandardCharsets.UTF_8));
+      IgnoreRules rules = IgnoreRules.create(root);
+      Assert.assertTrue(rules.isIgnored(root.resolve("target")));
+      Assert.assertTrue(rules.isIgnored(root.resolve("module/target/classes")));
+      Assert.assertTrue(rules.isIgnored(root.resolve("build")));
+      Assert.assertFalse(rules.isIgnored(root.resolve("module/build")));
+      Assert.assertTrue(rules.isIgnored(root.resolve("cache.tmp")));
+      Assert.assertTrue(rules.isIgnored(root.resolve("foo/bar")));
+      Assert.assertFalse(rules.isIgnored(root.resolve("module/foo/bar")));
+      Assert.assertTrue(rules.isIgnored(root.resolve("module/gen")));
+      Assert.assertFalse(rules.isIgnored(root.resolve("src/main/java")));
+   }
+
+   @Test
+   public void testGitIgnoreWithNegationIsNotUsed() throws IOException
+   {
+      Files.write(root.resolve(".gitignore"), "target/\n!target/keep\n".getBytes(StandardCharsets.UTF_8));
+      IgnoreRules rules = IgnoreRules.create(root);
+      Assert.assertFalse(rules.isIgnored(root.resolve("target")));
+      Assert.assertTrue(rules.isIgnored(root.resolve(".git")));
+   }
+}
@@ -12,6 +12,7 @@ import java.nio.charset.Charset;
 import java.util.UUID;
 
 import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.resource.zip.ZipFileResource;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
 import org.jboss.forge.furnace.util.OperatingSystemUtils;
 import org.junit.Assert;
@@ -64,6 +65,25 @@ public class FileResourceGeneratorTest
       Assert.assertTrue(resource instanceof DirectoryResource);
    }
 
+   @Test
+   public void testCreateResourcesWithSameExtension() throws Exception
+   {
+      File dir = File.createTempFile("forge", "testCreateResourcesWithSameExtension.zip");
+      dir.delete();
+      dir.mkdir();
+      dir.deleteOnExit();
+      File file = new File(dir, "file.zip");
+      file.createNewFile();
+      file.deleteOnExit();
+
+      for (int i = 0; i < 2; i++)
+      {
+         Assert.assertTrue(factory.create(DirectoryResource.class, dir) instanceof DirectoryResource);
+         Assert.assertNull(factory.create(DirectoryResource.class, file));
+         Assert.assertTrue(factory.create(file) instanceof ZipFileResource);
+      }
+   }
+
    @Test
    public void testCreateDirectoryResourceViaRiefy() throws Exception
    {
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.resource.convert;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.convert.Converter;
+import org.jboss.forge.addon.convert.ConverterFactory;
+import org.jboss.forge.addon.resource.DirectoryResource;
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Checks the converters cached by the {@link ConverterFactory}, and the conversions of shell arguments, looking up the
+ * converter each time as the UI inputs do.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@RunWith(Arquillian.class)
+public class ConverterCacheTest
+{
+   private ConverterFactory converterFactory;
+
+   @Before
+   public void setUp() throws Exception
+   {
+      this.converterFactory = SimpleContainer.getServices(getClass().getClassLoader(), ConverterFactory.class).get();
+   }
+
+   @Test
+   public void testConvertersAreCached() throws Exception
+   {
+      Assert.assertSame(converterFactory.getConverter(String.class, File.class),
+               converterFactory.getConverter(String.class, File.class));
+      Assert.assertSame(converterFactory.getConverter(String.class, TimeUnit.class),
+               converterFactory.getConverter(String.class, TimeUnit.class));
+      Assert.assertSame(converterFactory.getConverter(String.class, int.class),
+               converterFactory.getConverter(String.class, int.class));
+   }
+
+   @Test
+   public void testShellConversions() throws Exception
+   {
+      String tmpDir = System.getProperty("java.io.tmpdir");
+      Assert.assertEquals(new File(tmpDir), convert(String.class, File.class, tmpDir));
+      Assert.assertNotNull(convert(String.class, DirectoryResource.class, tmpDir));
+      Assert.assertNotNull(convert(String.class, FileResource.class, new File(tmpDir, "file.txt").getPath()));
+      Assert.assertEquals(TimeUnit.SECONDS, convert(String.class, TimeUnit.class, "SECONDS"));
+      Assert.assertEquals(Integer.valueOf(42), convert(String.class, int.class, "42"));
+      Assert.assertEquals(Long.valueOf(42L), convert(String.class, long.class, "42"));
+      Assert.assertEquals(Boolean.TRUE, convert(String.class, boolean.class, "true"));
+   }
+
+   private <S, T> Object convert(Class<S> source, Class<T> target, S value)
+   {
+      Converter<S, T> converter = converterFactory.getConverter(source, target);
+      return converter.convert(value);
+   }
+}
@@ -13,8 +13,10 @@ import java.io.File;
 import java.net.URL;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -611,6 +613,48 @@ public class ResourceMonitorTest
       Assert.assertThat(iterator.next(), is(instanceOf(ResourceDeleted.class)));
    }
 
+   @Test
+   public void testResourceMonitorDirectoryNotRecursive() throws Exception
+   {
+      Assume.assumeFalse("FORGE-1679", OperatingSystemUtils.isWindows());
+      File tempDir = OperatingSystemUtils.createTempDir();
+      DirectoryResource tempDirResource = resourceFactory.create(DirectoryResource.class, tempDir);
+      final DirectoryResource childDir = tempDirResource.getChildDirectory("child_dir");
+      childDir.mkdir();
+      monitor = resourceFactory.monitor(tempDirResource, null, false);
+      final List<String> eventCollector = new CopyOnWriteArrayList<>();
+      monitor.addResourceListener(new ResourceListener()
+      {
+         @Override
+         public void processEvent(ResourceEvent event)
+         {
+            eventCollector.add(event.getResource().getName());
+         }
+      });
+
+      final FileResource<?> nestedFile = childDir.getChild("nested_file.txt").reify(FileResource.class);
+      final FileResource<?> childFile = tempDirResource.getChild("child_file.txt").reify(FileResource.class);
+      waitForMonitor(new Callable<Void>()
+      {
+         @Override
+         public Void call() throws Exception
+         {
+            nestedFile.createNewFile();
+            // Events are delivered in order, so the nested file was processed once the child file is seen
+            childFile.createNewFile();
+            return null;
+         }
+      }, new Callable<Boolean>()
+      {
+         @Override
+         public Boolean call() throws Exception
+         {
+            return eventCollector.contains("child_file.txt");
+         }
+      }, 15, TimeUnit.SECONDS);
+      Assert.assertFalse(eventCollector.contains("nested_file.txt"));
+   }
+
    private void waitForMonitor(Callable<Void> task, Callable<Boolean> status, int quantity, TimeUnit unit)
             throws TimeoutException
    {
@@ -15,6 +15,7 @@ import org.jboss.forge.addon.scaffold.metawidget.inspector.ForgeInspector;
 import org.jboss.forge.addon.scaffold.metawidget.inspector.ForgeInspectorConfig;
 import org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.ForgePropertyStyle;
 import org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.ForgePropertyStyleConfig;
+import org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.SourceInspectionCache;
 import org.jboss.forge.roaster.model.JavaClass;
 import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.metawidget.inspector.beanvalidation.BeanValidationInspector;
@@ -38,6 +39,7 @@ public class MetawidgetInspectorFacade
 
    private Project project;
    private CompositeInspector compositeInspector;
+   private final SourceInspectionCache sourceInspectionCache = new SourceInspectionCache();
 
    public MetawidgetInspectorFacade(Project project)
    {
@@ -77,6 +79,8 @@ public class MetawidgetInspectorFacade
    {
       ForgePropertyStyleConfig forgePropertyStyleConfig = new ForgePropertyStyleConfig();
       forgePropertyStyleConfig.setProject(this.project);
+      // The inspectors are set up again for every inspection, but the sources they parse are kept
+      forgePropertyStyleConfig.setSourceInspectionCache(this.sourceInspectionCache);
       ForgeInspectorConfig forgeInspectorConfig = new ForgeInspectorConfig();
       forgeInspectorConfig.setProject(this.project);
       forgeInspectorConfig.setPropertyStyle(new ForgePropertyStyle(forgePropertyStyleConfig));
@@ -6,28 +6,24 @@
  */
 package org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle;
 
-import java.io.FileNotFoundException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.text.MessageFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
 import org.jboss.forge.addon.projects.Project;
-import org.jboss.forge.addon.resource.ResourceException;
-import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.SourceInspectionCache.Inspection;
 import org.jboss.forge.roaster.model.EnumConstant;
 import org.jboss.forge.roaster.model.Field;
 import org.jboss.forge.roaster.model.FieldHolder;
-import org.jboss.forge.roaster.model.JavaClass;
 import org.jboss.forge.roaster.model.JavaEnum;
 import org.jboss.forge.roaster.model.Method;
 import org.jboss.forge.roaster.model.MethodHolder;
 import org.jboss.forge.roaster.model.Parameter;
 import org.jboss.forge.roaster.model.Type;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.metawidget.inspector.iface.InspectorException;
 import org.metawidget.inspector.impl.propertystyle.BaseProperty;
@@ -55,6 +51,8 @@ public class ForgePropertyStyle
 
    private final MessageFormat privateFieldConvention;
 
+   private final SourceInspectionCache sourceInspectionCache;
+
    //
    // Constructor
    //
@@ -65,6 +63,8 @@ public class ForgePropertyStyle
 
       this.project = config.getProject();
       this.privateFieldConvention = config.getPrivateFieldConvention();
+      this.sourceInspectionCache = (config.getSourceInspectionCache() == null) ? new SourceInspectionCache()
+               : config.getSourceInspectionCache();
    }
 
    //
@@ -127,45 +127,43 @@ public class ForgePropertyStyle
    {
       try
       {
-         // LinkedHashMap so that returns ordered properties
-
-         Map<String, Property> properties = CollectionUtils.newLinkedHashMap();
+         // Each class of the hierarchy is parsed once per scaffold run, and its resolved properties are shared by the
+         // property styles of the other Metawidgets until one of the sources changes
 
-         // Lookup properties
+         List<Inspection> hierarchy = this.sourceInspectionCache.hierarchy(this.project, type);
 
-         inspectClassProperties(type, properties);
+         if (hierarchy.isEmpty())
+         {
+            return CollectionUtils.newLinkedHashMap();
+         }
 
-         return properties;
-      }
-      catch (Exception e)
-      {
-         throw InspectorException.newException(e);
-      }
-   }
+         String key = getClass().getName() + ':'
+                  + (this.privateFieldConvention == null ? "" : this.privateFieldConvention.toPattern());
+         Inspection inspection = hierarchy.get(0);
+         Map<String, Property> properties = inspection.getProperties(key, hierarchy);
 
-   /**
-    * Recursive lookup for properties from superclass in order to support inheritance
-    */
-   private void inspectClassProperties(final String type,
-            Map<String, Property> properties)
-   {
+         if (properties == null)
+         {
+            // LinkedHashMap so that returns ordered properties
 
-      JavaSource<?> clazz = sourceForName(this.project, type);
+            properties = CollectionUtils.newLinkedHashMap();
 
-      if (clazz instanceof MethodHolder<?>)
-      {
-         lookupGetters(properties, (MethodHolder<?>) clazz);
-         lookupSetters(properties, (MethodHolder<?>) clazz);
+            // Lookup properties, from the class to its superclasses in order to support inheritance
 
-         if (clazz instanceof JavaClass)
-         {
-            JavaClassSource source = Roaster.parse(JavaClassSource.class,
-                     clazz.toString());
-            if (!source.getSuperType().equals("java.lang.Object"))
+            for (Inspection each : hierarchy)
             {
-               inspectClassProperties(source.getSuperType(), properties);
+               lookupGetters(properties, (MethodHolder<?>) each.getSource());
+               lookupSetters(properties, (MethodHolder<?>) each.getSource());
             }
+
+            inspection.putProperties(key, hierarchy, properties);
          }
+
+         return new LinkedHashMap<String, Property>(properties);
+      }
+      catch (Exception e)
+      {
+         throw InspectorException.newException(e);
       }
    }
 
@@ -226,7 +224,8 @@ public class ForgePropertyStyle
 
          properties
                   .put(propertyName,
-                           new ForgeProperty(propertyName, returnType, method, null, privateField, this.project));
+                           new ForgeProperty(propertyName, returnType, method, null, privateField, this.project,
+                                    this.sourceInspectionCache));
       }
    }
 
@@ -334,7 +333,7 @@ public class ForgePropertyStyle
                      propertyName,
                      new ForgeProperty(propertyName, existingForgeProperty.getType(),
                               existingForgeProperty.getReadMethod(), method, getPrivateField((FieldHolder<?>) clazz,
-                                       propertyName), this.project));
+                                       propertyName), this.project, this.sourceInspectionCache));
             continue;
          }
 
@@ -347,7 +346,8 @@ public class ForgePropertyStyle
 
          properties
                   .put(propertyName,
-                           new ForgeProperty(propertyName, type, null, method, privateField, this.project));
+                           new ForgeProperty(propertyName, type, null, method, privateField, this.project,
+                                    this.sourceInspectionCache));
       }
    }
 
@@ -416,25 +416,19 @@ public class ForgePropertyStyle
 
    /* package private */
 
-   static JavaSource<?> sourceForName(final Project project, final String type)
+   static JavaSource<?> sourceForName(final SourceInspectionCache sourceInspectionCache, final Project project,
+            final String type)
    {
-      try
-      {
-         JavaSourceFacet javaSourceFact = project.getFacet(JavaSourceFacet.class);
-         return javaSourceFact.getJavaResource(type).getJavaType();
-      }
-      catch (FileNotFoundException e)
-      {
-         // Not a Forge-based type
+      Inspection inspection = sourceInspectionCache.lookup(project, type);
 
-         return null;
-      }
-      catch (ResourceException e)
+      if (inspection == null)
       {
          // Not a Forge-based type
 
          return null;
       }
+
+      return inspection.getSource();
    }
 
    //
@@ -456,6 +450,8 @@ public class ForgePropertyStyle
 
       private final Project project;
 
+      private final SourceInspectionCache sourceInspectionCache;
+
       //
       // Constructor
       //
@@ -464,6 +460,15 @@ public class ForgePropertyStyle
                final Method<?, ?> writeMethod,
                final Field<?> privateField,
                final Project project)
+      {
+         this(name, type, readMethod, writeMethod, privateField, project, new SourceInspectionCache());
+      }
+
+      public ForgeProperty(final String name, final String type, final Method<?, ?> readMethod,
+               final Method<?, ?> writeMethod,
+               final Field<?> privateField,
+               final Project project,
+               final SourceInspectionCache sourceInspectionCache)
       {
          super(name, type);
 
@@ -479,6 +484,7 @@ public class ForgePropertyStyle
 
          this.privateField = privateField;
          this.project = project;
+         this.sourceInspectionCache = sourceInspectionCache;
       }
 
       //
@@ -538,7 +544,7 @@ public class ForgePropertyStyle
       @SuppressWarnings({ "rawtypes", "unchecked" })
       public List<EnumConstant<?>> getEnumConstants()
       {
-         JavaSource<?> source = sourceForName(this.project, getType());
+         JavaSource<?> source = sourceForName(this.sourceInspectionCache, this.project, getType());
 
          if (source instanceof JavaEnum)
          {
@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.parser.java.resources.JavaResource;
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.resource.ResourceException;
+import org.jboss.forge.addon.resource.util.ResourceUtil;
+import org.jboss.forge.roaster.model.JavaClass;
+import org.jboss.forge.roaster.model.MethodHolder;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.metawidget.inspector.impl.propertystyle.Property;
+
+/**
+ * Remembers the Java sources inspected by the Forge property styles, so that the entities of a scaffold run and their
+ * superclasses are parsed once, however many Metawidgets inspect them. A scaffold provider creates one for each run,
+ * and gives it to its property styles through their configuration.
+ *
+ * An inspection is keyed by the source file of a type, and is only used while the digest of the file is unchanged:
+ * sources modified during a scaffold run, such as entities given initializers, are parsed again.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class SourceInspectionCache
+{
+   private final Map<String, Inspection> inspections = new ConcurrentHashMap<>();
+
+   /**
+    * Returns the inspection of the given type, or <code>null</code> if the type is not a source of the given project
+    */
+   public Inspection lookup(Project project, String type)
+   {
+      JavaResource resource;
+      byte[] digest;
+      try
+      {
+         resource = project.getFacet(JavaSourceFacet.class).getJavaResource(type);
+         if (!resource.exists())
+         {
+            // Not a Forge-based type
+
+            return null;
+         }
+         digest = ResourceUtil.getDigest(resource);
+      }
+      catch (ResourceException e)
+      {
+         // Not a Forge-based type
+
+         return null;
+      }
+
+      String path = resource.getFullyQualifiedName();
+      Inspection inspection = inspections.get(path);
+      if (inspection != null && Arrays.equals(inspection.digest, digest))
+      {
+         return inspection;
+      }
+
+      try
+      {
+         JavaSource<?> source = resource.getJavaType();
+         inspection = new Inspection(source, digest);
+      }
+      catch (FileNotFoundException | ResourceException e)
+      {
+         // Not a Forge-based type
+
+         return null;
+      }
+      inspections.put(path, inspection);
+      return inspection;
+   }
+
+   /**
+    * Returns the inspections of the given type and of its superclasses declaring methods, up to the first superclass
+    * which is not a source of the given project
+    */
+   public List<Inspection> hierarchy(Project project, String type)
+   {
+      List<Inspection> hierarchy = new ArrayList<>();
+      String current = type;
+      while (current != null)
+      {
+         Inspection inspection = lookup(project, current);
+         if (inspection == null || !(inspection.source instanceof MethodHolder<?>))
+         {
+            break;
+         }
+         hierarchy.add(inspection);
+         current = inspection.superType;
+      }
+      return hierarchy;
+   }
+
+   /**
+    * A parsed source, with its supertype and the properties resolved from its hierarchy
+    */
+   public static class Inspection
+   {
+      private final JavaSource<?> source;
+      private final byte[] digest;
+      private final String superType;
+      private final Map<String, ResolvedProperties> properties = new ConcurrentHashMap<>();
+
+      Inspection(JavaSource<?> source, byte[] digest)
+      {
+         this.source = source;
+         this.digest = digest;
+         String superType = null;
+         if (source instanceof JavaClass<?>)
+         {
+            superType = ((JavaClass<?>) source).getSuperType();
+            if ("java.lang.Object".equals(superType))
+            {
+               superType = null;
+            }
+         }
+         this.superType = superType;
+      }
+
+      public JavaSource<?> getSource()
+      {
+         return source;
+      }
+
+      /**
+       * Returns the properties resolved with the given key, or <code>null</code> if they were not resolved from the
+       * given hierarchy
+       */
+      public Map<String, Property> getProperties(String key, List<Inspection> hierarchy)
+      {
+         ResolvedProperties resolved = properties.get(key);
+         // Inspections are replaced when a source changes, so an equal hierarchy has the same sources
+         if (resolved == null || !resolved.hierarchy.equals(hierarchy))
+         {
+            return null;
+         }
+         return resolved.properties;
+      }
+
+      public void putProperties(String key, List<Inspection> hierarchy, Map<String, Property> properties)
+      {
+         this.properties.put(key, new ResolvedProperties(hierarchy, properties));
+      }
+   }
+
+   private static class ResolvedProperties
+   {
+      private final List<Inspection> hierarchy;
+      private final Map<String, Property> properties;
+
+      ResolvedProperties(List<Inspection> hierarchy, Map<String, Property> properties)
+      {
+         this.hierarchy = hierarchy;
+         this.properties = properties;
+      }
+   }
+}
@@ -7,6 +7,7 @@
 package org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.Color;
@@ -27,6 +28,7 @@ import org.jboss.forge.addon.scaffold.mock.MockProvider;
 import org.jboss.forge.addon.scaffold.mock.ScaffoldableResourceGenerator;
 import org.jboss.forge.addon.scaffold.mock.ScaffoldedResourceGenerator;
 import org.jboss.forge.addon.scaffold.util.ScaffoldUtil;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.arquillian.AddonDependencies;
 import org.jboss.forge.arquillian.AddonDependency;
 import org.jboss.forge.arquillian.archive.AddonArchive;
@@ -216,6 +218,52 @@ public class ForgePropertyStyleTest
       assertEquals(4, properties.size());
    }
 
+   @Test
+   public void testInheritanceAfterSuperclassChange()
+            throws Exception
+   {
+      Project project = projectHelper.createJavaLibraryProject();
+
+      JavaSourceFacet java = project.getFacet(JavaSourceFacet.class);
+      ScaffoldUtil
+               .createOrOverwrite(
+                        java.getJavaResource(
+                                 "org/jboss/forge/addon/scaffold/metawidget/inspector/propertystyle/ManuallyGeneratedClass.java"),
+                        getClass()
+                                 .getResourceAsStream(
+                                          "/org/jboss/forge/addon/scaffold/metawidget/inspector/propertystyle/ManuallyGeneratedClass.java"));
+      ScaffoldUtil
+               .createOrOverwrite(
+                        java.getJavaResource(
+                                 "org/jboss/forge/addon/scaffold/metawidget/inspector/propertystyle/ManuallyGeneratedSubclass.java"),
+                        getClass()
+                                 .getResourceAsStream(
+                                          "/org/jboss/forge/addon/scaffold/metawidget/inspector/propertystyle/ManuallyGeneratedSubclass.java"));
+
+      String superclass = "org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.ManuallyGeneratedClass";
+      String subclass = "org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.ManuallyGeneratedSubclass";
+
+      // Unchanged sources are parsed once per cache
+
+      SourceInspectionCache cache = new SourceInspectionCache();
+      assertSame(ForgePropertyStyle.sourceForName(cache, project, superclass),
+               ForgePropertyStyle.sourceForName(cache, project, superclass));
+      assertEquals(4, new ForgePropertyStyle(new ForgePropertyStyleConfig().setProject(project)
+               .setSourceInspectionCache(cache)).getProperties(subclass).size());
+
+      // Properties are resolved again when a superclass changes
+
+      JavaClassSource source = java.getJavaResource(superclass).getJavaType();
+      source.addProperty("String", "addedField");
+      java.saveJavaSource(source);
+
+      Map<String, Property> properties = new ForgePropertyStyle(new ForgePropertyStyleConfig().setProject(project)
+               .setSourceInspectionCache(cache)).getProperties(subclass);
+      assertEquals(5, properties.size());
+      assertEquals("public getAddedField() : String",
+               ((ForgeProperty) properties.get("addedField")).getReadMethod().toSignature());
+   }
+
    @Test
    public void testConfig()
    {
@@ -231,6 +279,12 @@ public class ForgePropertyStyleTest
       config2.setProject(project);
       assertTrue(config1.equals(config2));
       assertEquals(config1.hashCode(), config2.hashCode());
+      SourceInspectionCache cache = new SourceInspectionCache();
+      config1.setSourceInspectionCache(cache);
+      assertTrue(!config1.equals(config2));
+      config2.setSourceInspectionCache(cache);
+      assertTrue(config1.equals(config2));
+      assertEquals(config1.hashCode(), config2.hashCode());
    }
 
    //
@@ -23,6 +23,7 @@ public class ScriptContextBuilder
    public static final String ERROR_PRINTSTREAM_ATTRIBUTE = "error";
    public static final String CURRENT_RESOURCE_ATTRIBUTE = "current_resource";
    public static final String TIMEOUT_ATTRIBUTE = "timeout";
+   public static final String HEADLESS_ATTRIBUTE = "headless";
 
    private final SimpleScriptContext context = new SimpleScriptContext();
 
@@ -59,6 +60,17 @@ public class ScriptContextBuilder
       return this;
    }
 
+   /**
+    * When <code>true</code> (the default), each line that is a single Forge command is executed directly on the calling
+    * thread, and only the other lines are written to the input of a console. When <code>false</code>, each line is
+    * written to the input of a console. The {@link #timeout(Integer)} applies to the lines written to the console.
+    */
+   public ScriptContextBuilder headless(Boolean value)
+   {
+      context.setAttribute(HEADLESS_ATTRIBUTE, value, ScriptContext.ENGINE_SCOPE);
+      return this;
+   }
+
    public ScriptContext build()
    {
       return context;
@@ -46,7 +46,12 @@ import org.jboss.forge.furnace.util.Assert;
 import org.jboss.forge.furnace.util.OperatingSystemUtils;
 
 /**
- * {@link ScriptEngine} implementation for JBoss Forge
+ * {@link ScriptEngine} implementation for JBoss Forge.
+ * 
+ * By default the lines that are a single Forge command are executed through {@link Shell#execute(String)} on the
+ * calling thread, and only the other lines (using aliases, variables, pipes or native Aesh commands) are written to the
+ * console input of the {@link Shell}, where the {@link ScriptContextBuilder#TIMEOUT_ATTRIBUTE} applies. When the
+ * {@link ScriptContextBuilder#HEADLESS_ATTRIBUTE} is <code>false</code>, every line goes through the console.
  * 
  * @author <a href="mailto:ggastald@redhat.com">George Gastaldi</a>
  */
@@ -105,6 +110,7 @@ class ForgeScriptEngine extends AbstractScriptEngine
       {
          timeoutValue = 500;
       }
+      boolean headless = !Boolean.FALSE.equals(context.getAttribute(ScriptContextBuilder.HEADLESS_ATTRIBUTE));
 
       PipedOutputStream stdin = new PipedOutputStream();
       BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(stdin));
@@ -131,8 +137,15 @@ class ForgeScriptEngine extends AbstractScriptEngine
                         // Skip Comments
                         continue;
                      }
-                     result = execute(scriptShell, writer, line, timeoutValue,
-                              TimeUnit.SECONDS, startTime);
+                     if (headless && scriptShell.canExecute(line))
+                     {
+                        result = scriptShell.execute(line);
+                     }
+                     else
+                     {
+                        result = execute(scriptShell, writer, line, timeoutValue,
+                                 TimeUnit.SECONDS, startTime);
+                     }
 
                      if (result instanceof Failed)
                      {
@@ -43,6 +43,12 @@ public class ScriptFileResourceGenerator implements ResourceGenerator<ScriptFile
       return result;
    }
 
+   @Override
+   public boolean isCacheable()
+   {
+      return true;
+   }
+
    @Override
    @SuppressWarnings("unchecked")
    public <T extends Resource<File>> T getResource(ResourceFactory factory, Class<ScriptFileResource> type,
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.script;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.resource.DirectoryResource;
+import org.jboss.forge.addon.resource.ResourceFactory;
+import org.jboss.forge.addon.script.impl.ForgeScriptEngineFactory;
+import org.jboss.forge.addon.ui.result.Failed;
+import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Compares the number of script lines executed per second when each line is executed directly and when it is written
+ * to the console input of the shell.
+ *
+ * Kept out of the default test run: it only runs when the <code>forge.benchmarks</code> system property is set to
+ * <code>true</code>, e.g. with <code>mvn test -Dforge.benchmarks=true</code>.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@RunWith(Arquillian.class)
+public class ScriptEngineBenchmarkTest
+{
+   private static final Logger log = Logger.getLogger(ScriptEngineBenchmarkTest.class.getName());
+
+   private static final int LINES = 200;
+
+   private ForgeScriptEngineFactory engineFactory;
+   private ResourceFactory resourceFactory;
+
+   @Before
+   public void setUp()
+   {
+      Assume.assumeTrue("Benchmarks only run with -Dforge.benchmarks=true", Boolean.getBoolean("forge.benchmarks"));
+      engineFactory = SimpleContainer.getServices(getClass().getClassLoader(), ForgeScriptEngineFactory.class).get();
+      resourceFactory = SimpleContainer.getServices(getClass().getClassLoader(), ResourceFactory.class).get();
+   }
+
+   @Test
+   public void testLinesPerSecond() throws Exception
+   {
+      StringBuilder script = new StringBuilder();
+      for (int i = 0; i < LINES; i++)
+      {
+         script.append("touch file").append(i).append(".txt\n");
+      }
+      double piped = linesPerSecond(script.toString(), false);
+      double headless = linesPerSecond(script.toString(), true);
+      log.info(String.format("Script engine: %.1f lines/s executed directly, %.1f lines/s through the console input",
+               headless, piped));
+      Assert.assertTrue(headless > 0);
+   }
+
+   private double linesPerSecond(String script, boolean headless) throws Exception
+   {
+      File dir = OperatingSystemUtils.createTempDir();
+      DirectoryResource tmpDir = resourceFactory.create(dir).reify(DirectoryResource.class);
+      PrintStream out = new PrintStream(new ByteArrayOutputStream(), true);
+      ScriptContext context = ScriptContextBuilder.create().currentResource(tmpDir).headless(headless)
+               .stdout(out).stderr(out).build();
+      ScriptEngine scriptEngine = engineFactory.getScriptEngine();
+      long start = System.nanoTime();
+      Object result = scriptEngine.eval(script, context);
+      long elapsed = System.nanoTime() - start;
+      Assert.assertThat(result instanceof Failed, is(false));
+      Assert.assertThat(tmpDir.getChild("file" + (LINES - 1) + ".txt").exists(), is(true));
+      tmpDir.delete(true);
+      return LINES / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+   }
+}
@@ -9,16 +9,20 @@ package org.jboss.forge.addon.script;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.PrintStream;
 
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
 
 import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.resource.DirectoryResource;
 import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.resource.ResourceFactory;
 import org.jboss.forge.addon.script.impl.ForgeScriptEngineFactory;
+import org.jboss.forge.addon.ui.result.Failed;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
 import org.jboss.forge.furnace.util.OperatingSystemUtils;
 import org.junit.Assert;
@@ -68,4 +72,60 @@ public class ScriptTest
       Assert.assertThat(tmpDir.getChild("newfile.txt").exists(), is(true));
    }
 
+   @Test
+   public void testScriptExecutionTracksCurrentResource() throws Exception
+   {
+      DirectoryResource tmpDir = resourceFactory.create(OperatingSystemUtils.createTempDir())
+               .reify(DirectoryResource.class);
+      ScriptContext context = ScriptContextBuilder.create().currentResource(tmpDir).build();
+      Object result = engineFactory.getScriptEngine().eval("mkdir child\ncd child\ntouch newfile.txt", context);
+      Assert.assertThat(result instanceof Failed, is(false));
+      DirectoryResource child = tmpDir.getChildDirectory("child");
+      Assert.assertThat(child.getChild("newfile.txt").exists(), is(true));
+      Assert.assertThat(context.getAttribute(ScriptContextBuilder.CURRENT_RESOURCE_ATTRIBUTE), is((Object) child));
+      tmpDir.delete(true);
+   }
+
+   @Test
+   public void testScriptExecutionReportsMissingCommand() throws Exception
+   {
+      DirectoryResource tmpDir = resourceFactory.create(OperatingSystemUtils.createTempDir())
+               .reify(DirectoryResource.class);
+      ScriptContext context = ScriptContextBuilder.create().currentResource(tmpDir)
+               .stderr(new PrintStream(new ByteArrayOutputStream(), true)).build();
+      Object result = engineFactory.getScriptEngine().eval("nonexistingcommand\ntouch newfile.txt", context);
+      Assert.assertThat(result instanceof Failed, is(true));
+      Assert.assertThat(tmpDir.getChild("newfile.txt").exists(), is(false));
+      tmpDir.delete(true);
+   }
+
+   @Test
+   public void testScriptExecutionFallsBackToConsole() throws Exception
+   {
+      DirectoryResource tmpDir = resourceFactory.create(OperatingSystemUtils.createTempDir())
+               .reify(DirectoryResource.class);
+      ScriptContext context = ScriptContextBuilder.create().currentResource(tmpDir).build();
+      Object result = engineFactory.getScriptEngine().eval("touch first.txt; touch second.txt", context);
+      Assert.assertThat(result instanceof Failed, is(false));
+      Assert.assertThat(tmpDir.getChild("first.txt").exists(), is(true));
+      Assert.assertThat(tmpDir.getChild("second.txt").exists(), is(true));
+      tmpDir.delete(true);
+   }
+
+   @Test
+   public void testConsoleScriptExecution() throws Exception
+   {
+      DirectoryResource tmpDir = resourceFactory.create(OperatingSystemUtils.createTempDir())
+               .reify(DirectoryResource.class);
+      ScriptContext context = ScriptContextBuilder.create().currentResource(tmpDir).headless(false).build();
+      Object result = engineFactory.getScriptEngine().eval("mkdir child
+cd child
+touch newfile.txt", context);
+      Assert.assertThat(result instanceof Failed, is(false));
+      DirectoryResource child = tmpDir.getChildDirectory("child");
+      Assert.assertThat(child.getChild("newfile.txt").exists(), is(true));
+      Assert.assertThat(context.getAttribute(ScriptContextBuilder.CURRENT_RESOURCE_ATTRIBUTE), is((Object) child));
+      tmpDir.delete(true);
+   }
+
 }
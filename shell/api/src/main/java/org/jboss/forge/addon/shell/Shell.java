@@ -11,6 +11,7 @@ import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.ui.UIProvider;
 import org.jboss.forge.addon.ui.command.CommandExecutionListener;
+import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.furnace.spi.ListenerRegistration;
 
 /**
@@ -39,6 +40,30 @@ public interface Shell extends UIProvider, AutoCloseable
     */
    Resource<?> getCurrentResource();
 
+   /**
+    * Executes the given command line on the calling thread, without going through the console input, and returns its
+    * {@link Result}. Like a line typed in the console, the current resource changes to the selection of the executed
+    * command, and the {@link CommandExecutionListener} and {@link CommandNotFoundListener} instances are notified.
+    * 
+    * Only single Forge commands may be executed this way (see {@link #canExecute(String)}), and they are executed in
+    * non-interactive mode, as there is no console input to prompt for missing values.
+    * 
+    * @param line the command line to execute, without a trailing line separator
+    * @return the {@link Result} of the command, a failed {@link Result} if the command was not found, its inputs are
+    *         invalid or the line can only be run by the console
+    */
+   Result execute(String line);
+
+   /**
+    * Returns <code>true</code> if the given line is a single Forge command that {@link #execute(String)} can run. Lines
+    * that only the console can run, because they use control operators (such as <code>;</code>, <code>&&</code> or
+    * <code>|</code>), redirections, variables, aliases or native Aesh commands, must be written to the console input
+    * instead.
+    * 
+    * @param line the command line to check, without a trailing line separator
+    */
+   boolean canExecute(String line);
+
    /**
     * Add a {@link CommandExecutionListener}, returning the {@link ListenerRegistration} with which it may subsequently
     * be removed.
@@ -8,9 +8,14 @@ package org.jboss.forge.addon.shell;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -56,6 +61,8 @@ import org.jboss.forge.addon.ui.context.UIContextListener;
 import org.jboss.forge.addon.ui.context.UISelection;
 import org.jboss.forge.addon.ui.output.UIOutput;
 import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
+import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.addon.ui.result.Results;
 import org.jboss.forge.addon.ui.util.Selections;
 import org.jboss.forge.furnace.Furnace;
 import org.jboss.forge.furnace.addons.AddonRegistry;
@@ -77,7 +84,10 @@ public class ShellImpl implements Shell, UIRuntime
 
    private final AddonRegistry addonRegistry;
    private final AeshConsole console;
+   private final ForgeCommandRegistry commandRegistry;
+   private final ForgeCommandNotFoundHandler commandNotFoundHandler;
    private final UIOutput output;
+   private final Set<String> aliases;
    private UIDesktop desktop;
    private boolean embedded;
    private String name = "Shell";
@@ -95,9 +105,12 @@ public class ShellImpl implements Shell, UIRuntime
       File history = new File(forgeHome, "history");
       File alias = new File(forgeHome, "alias");
       File export = new File(forgeHome, "export");
+      this.aliases = readAliasNames(alias);
       final ForgeCommandRegistry registry = new ForgeCommandRegistry(furnace, this, addonRegistry);
+      this.commandRegistry = registry;
       // Register DidYouMeanListener
       commandNotFoundListeners.add(new DidYouMeanCommandNotFoundListener(registry));
+      this.commandNotFoundHandler = new ForgeCommandNotFoundHandler(this, commandNotFoundListeners);
       SettingsBuilder newSettings = new SettingsBuilder(settings)
                .historyFile(history)
                .aliasFile(alias)
@@ -116,7 +129,7 @@ public class ShellImpl implements Shell, UIRuntime
                .prompt(createPrompt(initialResource))
                .settings(newSettings.create())
                .commandRegistry(registry)
-               .commandNotFoundHandler(new ForgeCommandNotFoundHandler(this, commandNotFoundListeners))
+               .commandNotFoundHandler(commandNotFoundHandler)
                .create();
       this.output = new ShellUIOutputImpl(console);
       setCurrentResource(initialResource);
@@ -170,6 +183,7 @@ public class ShellImpl implements Shell, UIRuntime
    {
       this.executionListeners.clear();
       this.commandNotFoundListeners.clear();
+      this.commandRegistry.close();
       this.console.stop();
    }
 
@@ -200,9 +214,75 @@ public class ShellImpl implements Shell, UIRuntime
             console.getAeshContext().setCurrentWorkingDirectory(new org.jboss.aesh.io.FileResource(dir));
          }
       }
+      commandRegistry.currentResourceChanged(resource);
       updatePrompt();
    }
 
+   @Override
+   public Result execute(String line)
+   {
+      Assert.notNull(line, "Line to execute cannot be null.");
+      if (requiresConsole(line))
+      {
+         return Results.fail("Only the console can execute: " + line);
+      }
+      try
+      {
+         Result result = commandRegistry.execute(line);
+         if (result == null)
+         {
+            commandNotFoundHandler.handleCommandNotFound(line, console.getShell());
+            result = Results.fail("Command not found: " + line);
+         }
+         return result;
+      }
+      catch (Exception e)
+      {
+         log.log(Level.SEVERE, "Failed to execute [" + line + "] due to exception.", e);
+         return Results.fail(e.getMessage(), e);
+      }
+   }
+
+   @Override
+   public boolean canExecute(String line)
+   {
+      Assert.notNull(line, "Line to execute cannot be null.");
+      return !aliases.contains(line.trim().split("\\s+", 2)[0]) && commandRegistry.canExecute(line);
+   }
+
+   private boolean requiresConsole(String line)
+   {
+      return aliases.contains(line.trim().split("\\s+", 2)[0]) || commandRegistry.requiresConsole(line);
+   }
+
+   /**
+    * Returns the names of the aliases the console loads from the given file, written as
+    * <code>alias name='value'</code>
+    */
+   private static Set<String> readAliasNames(File aliasFile)
+   {
+      Set<String> result = new HashSet<>();
+      if (aliasFile.isFile())
+      {
+         try
+         {
+            for (String line : Files.readAllLines(aliasFile.toPath(), StandardCharsets.UTF_8))
+            {
+               int index = line.indexOf('=');
+               if (line.startsWith("alias ") && index > 0)
+               {
+                  result.add(line.substring("alias ".length(), index).trim());
+               }
+            }
+         }
+         catch (IOException e)
+         {
+            log.log(Level.FINE, "Error while reading aliases from " + aliasFile, e);
+         }
+      }
+      return Collections.unmodifiableSet(result);
+   }
+
    @Override
    public boolean isGUI()
    {
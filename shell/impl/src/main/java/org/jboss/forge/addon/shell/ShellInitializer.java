@@ -18,6 +18,7 @@ import javax.inject.Singleton;
 
 import org.jboss.aesh.console.settings.Settings;
 import org.jboss.aesh.console.settings.SettingsBuilder;
+import org.jboss.forge.addon.shell.daemon.ShellDaemon;
 import org.jboss.forge.furnace.Furnace;
 import org.jboss.forge.furnace.container.cdi.events.Local;
 import org.jboss.forge.furnace.event.PostStartup;
@@ -25,7 +26,7 @@ import org.jboss.forge.furnace.event.PreShutdown;
 import org.jboss.forge.furnace.util.OperatingSystemUtils;
 
 /**
- * Starts up the shell if not in the IDE
+ * Starts up the shell (or the daemon, when requested) if not in the IDE
  * 
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  */
@@ -33,6 +34,7 @@ import org.jboss.forge.furnace.util.OperatingSystemUtils;
 public class ShellInitializer
 {
    private Shell shell;
+   private ShellDaemon daemon;
 
    @Inject
    private ShellFactory shellFactory;
@@ -67,6 +69,10 @@ public class ShellInitializer
                   .outputStream(System.out).outputStreamError(System.err).ansi(false).create();
          this.shell = shellFactory.createShell(OperatingSystemUtils.getWorkingDir(), settings);
       }
+      else if (Boolean.getBoolean(ShellDaemon.DAEMON_PROPERTY))
+      {
+         this.daemon = ShellDaemon.start(shellFactory, furnace);
+      }
       else if (Boolean.getBoolean("forge.standalone"))
       {
          // Starting the shell in a separate thread
@@ -85,6 +91,11 @@ public class ShellInitializer
    @PreDestroy
    public void destroyShell()
    {
+      if (this.daemon != null)
+      {
+         this.daemon.close();
+         this.daemon = null;
+      }
       if (this.shell != null)
       {
          try
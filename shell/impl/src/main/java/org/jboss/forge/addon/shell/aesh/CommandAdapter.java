@@ -40,6 +40,7 @@ class CommandAdapter implements Command<CommandInvocation>
    private final ShellImpl shell;
    private final ShellContext shellContext;
    private final AbstractShellInteraction interaction;
+   private Result result;
 
    public CommandAdapter(ShellImpl shell, ShellContext shellContext, AbstractShellInteraction interaction)
    {
@@ -53,6 +54,19 @@ class CommandAdapter implements Command<CommandInvocation>
       return interaction.getController().validate();
    }
 
+   /**
+    * Executes the command and returns its {@link Result}, once displayed in the shell
+    */
+   public Result executeCommand(CommandInvocation commandInvocation) throws IOException
+   {
+      CommandResult commandResult = execute(commandInvocation);
+      if (result == null)
+      {
+         result = (commandResult == CommandResult.FAILURE) ? Results.fail() : Results.success();
+      }
+      return result;
+   }
+
    @Override
    public CommandResult execute(CommandInvocation commandInvocation) throws IOException
    {
@@ -70,7 +84,11 @@ class CommandAdapter implements Command<CommandInvocation>
          log.log(Level.FINE, "Caught InterruptedException while prompting in interactive mode", ie);
          failure = true;
       }
-      if (!failure)
+      if (failure)
+      {
+         result = Results.fail("Required inputs not satisfied");
+      }
+      else
       {
          UIOutput output = shell.getOutput();
          for (UIMessage message : interaction.getController().validate())
@@ -78,6 +96,10 @@ class CommandAdapter implements Command<CommandInvocation>
             switch (message.getSeverity())
             {
             case ERROR:
+               if (!failure)
+               {
+                  result = Results.fail(message.getDescription());
+               }
                failure = true;
                output.error(output.err(), message.getDescription());
                break;
@@ -101,6 +123,7 @@ class CommandAdapter implements Command<CommandInvocation>
                log.log(Level.SEVERE, "Failed to execute [" + interaction.getName() + "] due to exception.", e);
                commandResult = Results.fail(e.getMessage(), e);
             }
+            result = commandResult;
             failure = displayResult(commandResult);
             // If Exit was not called
             if (!Boolean.TRUE.equals(attributeMap.get("org.jboss.forge.exit")))
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.aesh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The sorted names of the commands enabled for a given current resource, valid until the {@link ForgeCommandRegistry}
+ * records a change that may enable or disable commands.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class CommandNameSnapshot
+{
+   private final String[] names;
+   private final Set<String> nameSet;
+   private final String resource;
+   private final long registryVersion;
+   private final long changes;
+
+   /**
+    * @param names the enabled command names
+    * @param resource the fully qualified name of the current resource
+    * @param registryVersion the version of the addon registry
+    * @param changes the number of changes recorded by the {@link ForgeCommandRegistry}
+    */
+   CommandNameSnapshot(Collection<String> names, String resource, long registryVersion, long changes)
+   {
+      this.names = names.toArray(new String[names.size()]);
+      Arrays.sort(this.names);
+      this.nameSet = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(this.names)));
+      this.resource = resource;
+      this.registryVersion = registryVersion;
+      this.changes = changes;
+   }
+
+   boolean isValidFor(String resource, long registryVersion, long changes)
+   {
+      return this.changes == changes && this.registryVersion == registryVersion
+               && Objects.equals(this.resource, resource);
+   }
+
+   /**
+    * Returns all the names, sorted
+    */
+   Set<String> getNames()
+   {
+      return nameSet;
+   }
+
+   /**
+    * Returns the sorted names starting with the given prefix
+    */
+   List<String> complete(String prefix)
+   {
+      int index = Arrays.binarySearch(names, prefix);
+      if (index < 0)
+      {
+         index = -index - 1;
+      }
+      List<String> result = new ArrayList<>();
+      for (; index < names.length && names[index].startsWith(prefix); index++)
+      {
+         result.add(names[index]);
+      }
+      return result;
+   }
+}
@@ -11,7 +11,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
+import org.jboss.aesh.cl.CommandLine;
 import org.jboss.aesh.cl.parser.CommandLineParser;
 import org.jboss.aesh.complete.CompleteOperation;
 import org.jboss.aesh.console.command.CommandNotFoundException;
@@ -23,20 +28,34 @@ import org.jboss.aesh.extensions.grep.Grep;
 import org.jboss.aesh.extensions.less.aesh.Less;
 import org.jboss.aesh.extensions.more.aesh.More;
 import org.jboss.forge.addon.convert.ConverterFactory;
+import org.jboss.forge.addon.facets.FacetFactory;
+import org.jboss.forge.addon.facets.FacetListener;
+import org.jboss.forge.addon.facets.events.FacetEvent;
+import org.jboss.forge.addon.resource.DirectoryResource;
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.resource.ResourceFactory;
+import org.jboss.forge.addon.resource.monitor.ResourceListener;
+import org.jboss.forge.addon.resource.monitor.ResourceMonitor;
 import org.jboss.forge.addon.shell.ShellImpl;
 import org.jboss.forge.addon.shell.ui.AeshUICommand;
 import org.jboss.forge.addon.shell.ui.ShellContext;
 import org.jboss.forge.addon.shell.ui.ShellContextImpl;
+import org.jboss.forge.addon.ui.command.AbstractCommandExecutionListener;
 import org.jboss.forge.addon.ui.command.CommandFactory;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.controller.CommandController;
 import org.jboss.forge.addon.ui.controller.CommandControllerFactory;
 import org.jboss.forge.addon.ui.controller.SingleCommandController;
 import org.jboss.forge.addon.ui.controller.WizardCommandController;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
 import org.jboss.forge.addon.ui.input.InputComponentFactory;
+import org.jboss.forge.addon.ui.output.UIOutput;
+import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.addon.ui.result.Results;
 import org.jboss.forge.furnace.Furnace;
 import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.exception.ContainerException;
+import org.jboss.forge.furnace.spi.ListenerRegistration;
 
 /**
  * Forge implementation of {@link CommandRegistry}.
@@ -48,6 +67,12 @@ import org.jboss.forge.furnace.exception.ContainerException;
  */
 public class ForgeCommandRegistry implements CommandRegistry
 {
+   private static final Logger log = Logger.getLogger(ForgeCommandRegistry.class.getName());
+   /**
+    * The characters of the control operators, redirections and variables handled by the console
+    */
+   private static final Pattern CONSOLE_CHARACTERS = Pattern.compile("[;&|<>$`]");
+
    private Furnace furnace;
    private final ShellImpl shell;
 
@@ -57,13 +82,27 @@ public class ForgeCommandRegistry implements CommandRegistry
    private CommandLineUtil commandLineUtil;
    private final CommandControllerFactory commandControllerFactory;
 
+   private final AddonRegistry addonRegistry;
+   private final ResourceFactory resourceFactory;
+   /**
+    * Counts the changes that may enable or disable commands: installed facets (which includes discovered projects),
+    * executed commands, changes of the current resource and changes to the files of the current directory or of its
+    * parents (e.g. a project descriptor edited outside of the shell)
+    */
+   private final AtomicLong changes = new AtomicLong();
+   private final ListenerRegistration<FacetListener> facetListener;
+   private final List<ResourceMonitor> directoryMonitors = new ArrayList<>();
+   private volatile CommandNameSnapshot commandNames;
+
    public ForgeCommandRegistry(Furnace furnace, ShellImpl shell, AddonRegistry addonRegistry)
    {
       this.furnace = furnace;
       this.shell = shell;
+      this.addonRegistry = addonRegistry;
       this.commandFactory = addonRegistry.getServices(CommandFactory.class).get();
       this.commandControllerFactory = addonRegistry.getServices(CommandControllerFactory.class).get();
       this.commandLineUtil = new CommandLineUtil(addonRegistry);
+      this.resourceFactory = addonRegistry.getServices(ResourceFactory.class).get();
       ConverterFactory converterFactory = addonRegistry.getServices(ConverterFactory.class).get();
       InputComponentFactory inputComponentFactory = addonRegistry.getServices(InputComponentFactory.class).get();
 
@@ -77,6 +116,76 @@ public class ForgeCommandRegistry implements CommandRegistry
                .command(manCommand)
                .create();
       manCommand.setRegistry(this);
+
+      FacetFactory facetFactory = addonRegistry.getServices(FacetFactory.class).get();
+      this.facetListener = facetFactory.addFacetListener(new FacetListener()
+      {
+         @Override
+         public void processEvent(FacetEvent event)
+         {
+            changes.incrementAndGet();
+         }
+      });
+      shell.addCommandExecutionListener(new AbstractCommandExecutionListener()
+      {
+         @Override
+         public void postCommandExecuted(UICommand command, UIExecutionContext context, Result result)
+         {
+            changes.incrementAndGet();
+         }
+
+         @Override
+         public void postCommandFailure(UICommand command, UIExecutionContext context, Throwable failure)
+         {
+            changes.incrementAndGet();
+         }
+      });
+   }
+
+   /**
+    * Called when the current resource of the shell changed (e.g. after a cd). The direct children of the new current
+    * directory and of each of its parents are then monitored, as they hold the descriptors of the enclosing projects.
+    */
+   public synchronized void currentResourceChanged(Resource<?> resource)
+   {
+      changes.incrementAndGet();
+      cancelDirectoryMonitors();
+      ResourceListener listener = (event) -> changes.incrementAndGet();
+      for (Resource<?> current = resource; current != null; current = current.getParent())
+      {
+         DirectoryResource directory = current.reify(DirectoryResource.class);
+         if (directory != null && directory.exists())
+         {
+            try
+            {
+               ResourceMonitor monitor = resourceFactory.monitor(directory, null, false);
+               monitor.addResourceListener(listener);
+               directoryMonitors.add(monitor);
+            }
+            catch (RuntimeException e)
+            {
+               log.log(Level.FINE, "Could not monitor [" + directory + "]", e);
+            }
+         }
+      }
+   }
+
+   private void cancelDirectoryMonitors()
+   {
+      for (ResourceMonitor monitor : directoryMonitors)
+      {
+         monitor.cancel();
+      }
+      directoryMonitors.clear();
+   }
+
+   /**
+    * Stops listening for the changes that may enable or disable commands
+    */
+   public synchronized void close()
+   {
+      facetListener.removeListener();
+      cancelDirectoryMonitors();
    }
 
    @Override
@@ -134,6 +243,73 @@ public class ForgeCommandRegistry implements CommandRegistry
       }
    }
 
+   /**
+    * Parses the given line with the {@link CommandLineUtil} and executes it through the {@link CommandController} of
+    * the matching Forge command on the calling thread, without going through the console. The command is executed in
+    * non-interactive mode, as there is no console input to prompt for missing values.
+    * 
+    * @return the {@link Result} of the command, or <code>null</code> if no enabled Forge command matches the line
+    */
+   public Result execute(String line) throws Exception
+   {
+      waitUntilStarted();
+      String name = line.trim().split("\\s+", 2)[0];
+      try (ShellContextImpl shellContext = shell.createUIContext())
+      {
+         AbstractShellInteraction cmd = findCommand(shellContext, name);
+         if (cmd == null || !cmd.getController().isEnabled())
+         {
+            return null;
+         }
+         shellContext.getAttributeMap().put("INTERACTIVE", Boolean.FALSE);
+         CommandAdapter command = new CommandAdapter(shell, shellContext, cmd);
+         CommandLineParser<?> parser = cmd.getParser(shellContext, line, command);
+         CommandLine<?> commandLine = parser.parse(line, false);
+         if (commandLine.hasParserError())
+         {
+            String message = commandLine.getParserException().getMessage();
+            UIOutput output = shell.getOutput();
+            output.error(output.err(), message);
+            return Results.fail(message, commandLine.getParserException());
+         }
+         commandLine.getParser().getCommandPopulator().populateObject(commandLine, null, null, true);
+         return command.executeCommand(null);
+      }
+   }
+
+   /**
+    * Returns <code>true</code> if the given line can only be run by the console, because it uses control operators,
+    * redirections or variables, or runs a native Aesh command
+    */
+   public boolean requiresConsole(String line)
+   {
+      if (CONSOLE_CHARACTERS.matcher(line).find())
+      {
+         return true;
+      }
+      waitUntilStarted();
+      return aeshCommandRegistry.getAllCommandNames().contains(line.trim().split("\\s+", 2)[0]);
+   }
+
+   /**
+    * Returns <code>true</code> if the given line is a single Forge command, which {@link #execute(String)} can run
+    * without going through the console
+    */
+   public boolean canExecute(String line)
+   {
+      String trimmed = line.trim();
+      if (trimmed.isEmpty() || requiresConsole(trimmed))
+      {
+         return false;
+      }
+      String name = trimmed.split("\\s+", 2)[0];
+      // Whether the command is enabled is only known once the previous lines were executed
+      try (ShellContextImpl shellContext = shell.createUIContext())
+      {
+         return commandFactory.getCommandNames(shellContext).contains(name);
+      }
+   }
+
    private AbstractShellInteraction findCommand(ShellContext shellContext, String commandName)
    {
       AbstractShellInteraction result = null;
@@ -158,10 +334,31 @@ public class ForgeCommandRegistry implements CommandRegistry
    {
       if (!furnace.getStatus().isStarted())
          return Collections.emptySet();
-      Set<String> allCommands = new TreeSet<>();
-      allCommands.addAll(getForgeCommandNames());
-      allCommands.addAll(aeshCommandRegistry.getAllCommandNames());
-      return allCommands;
+      return getCommandNameSnapshot().getNames();
+   }
+
+   /**
+    * Returns the names of the enabled commands, checking whether each command is enabled only when the current
+    * resource changed (e.g. after a cd), when addons were (un)deployed, or when a change that may enable or disable
+    * commands was recorded
+    */
+   private CommandNameSnapshot getCommandNameSnapshot()
+   {
+      Resource<?> currentResource = shell.getCurrentResource();
+      String resource = currentResource == null ? null : currentResource.getFullyQualifiedName();
+      long registryVersion = addonRegistry.getVersion();
+      // Read before the names are computed, so changes made meanwhile invalidate the snapshot
+      long changeCount = changes.get();
+      CommandNameSnapshot snapshot = commandNames;
+      if (snapshot == null || !snapshot.isValidFor(resource, registryVersion, changeCount))
+      {
+         Set<String> allCommands = new TreeSet<>();
+         allCommands.addAll(getForgeCommandNames());
+         allCommands.addAll(aeshCommandRegistry.getAllCommandNames());
+         snapshot = new CommandNameSnapshot(allCommands, resource, registryVersion, changeCount);
+         commandNames = snapshot;
+      }
+      return snapshot;
    }
 
    private void waitUntilStarted()
@@ -205,15 +402,10 @@ public class ForgeCommandRegistry implements CommandRegistry
    @Override
    public void completeCommandName(CompleteOperation completeOperation)
    {
-      List<String> names = new ArrayList<>();
-      for (String commandName : getAllCommandNames())
+      if (furnace.getStatus().isStarted())
       {
-         if (commandName.startsWith(completeOperation.getBuffer()))
-         {
-            names.add(commandName);
-         }
+         completeOperation.addCompletionCandidates(getCommandNameSnapshot().complete(completeOperation.getBuffer()));
       }
-      completeOperation.addCompletionCandidates(names);
    }
 
 }
\ No newline at end of file
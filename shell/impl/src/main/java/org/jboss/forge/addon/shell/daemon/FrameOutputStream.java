@@ -0,0 +1,43 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.daemon;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} sending everything written to it to a daemon client, in frames of the given type
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+class FrameOutputStream extends OutputStream
+{
+   private final DataOutputStream out;
+   private final byte type;
+
+   FrameOutputStream(DataOutputStream out, byte type)
+   {
+      this.out = out;
+      this.type = type;
+   }
+
+   @Override
+   public void write(int b) throws IOException
+   {
+      write(new byte[] { (byte) b }, 0, 1);
+   }
+
+   @Override
+   public void write(byte[] b, int off, int len) throws IOException
+   {
+      if (len > 0)
+      {
+         ShellDaemon.writeFrame(out, type, b, off, len);
+      }
+   }
+}
@@ -0,0 +1,429 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.aesh.console.Prompt;
+import org.jboss.aesh.console.settings.Settings;
+import org.jboss.aesh.console.settings.SettingsBuilder;
+import org.jboss.forge.addon.shell.Shell;
+import org.jboss.forge.addon.shell.ShellFactory;
+import org.jboss.forge.addon.ui.result.Failed;
+import org.jboss.forge.furnace.Furnace;
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
+
+/**
+ * Evaluates the commands sent by <code>forge -e</code> clients in this long-lived Furnace instance, so they don't have
+ * to start a JVM and Furnace each time.
+ *
+ * The daemon listens on a loopback port and writes the port and a random token to the {@link #DAEMON_FILE} in the user
+ * Forge directory, readable by its owner only. Each connection sends the token and a verb. A connection with an invalid
+ * token is closed, otherwise the daemon answers with a {@link #READY} byte and handles the request in its own thread:
+ * <ul>
+ * <li><code>EVAL</code>, followed by the working directory and the script, runs each line of the script with
+ * {@link Shell#execute(String)} in a new {@link Shell}, so that concurrent clients have their own current resource and
+ * UIContext. The output of the shell is sent back in {@link #STDOUT} and {@link #STDERR} frames as it is written. If a
+ * line can only be run by the console (see {@link Shell#canExecute(String)}), nothing is run and a {@link #FALLBACK}
+ * frame asks the client to evaluate the script in its own Furnace.</li>
+ * <li><code>HEALTH</code> sends back the uptime and request statistics of the daemon.</li>
+ * <li><code>SHUTDOWN</code> stops Furnace once the reply is sent.</li>
+ * </ul>
+ * Every other request is answered with an {@link #EXIT} frame holding the exit status and the time spent handling the
+ * request, in nanoseconds.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class ShellDaemon implements AutoCloseable
+{
+   /**
+    * The system property enabling the daemon, set by <code>forge --daemon</code>
+    */
+   public static final String DAEMON_PROPERTY = "forge.shell.daemon";
+   /**
+    * The system property with the port to listen on. A free port is chosen if not set.
+    */
+   public static final String PORT_PROPERTY = "forge.daemon.port";
+   /**
+    * The name of the file, in the user Forge directory, holding the port and token of the running daemon
+    */
+   public static final String DAEMON_FILE = "daemon";
+
+   static final byte EXIT = 0;
+   static final byte STDOUT = 1;
+   static final byte STDERR = 2;
+   static final byte READY = 3;
+   static final byte FALLBACK = 4;
+
+   private static final int HANDSHAKE_TIMEOUT = 10_000;
+   private static final Logger log = Logger.getLogger(ShellDaemon.class.getName());
+
+   private final ShellFactory shellFactory;
+   private final Furnace furnace;
+   private final ServerSocket serverSocket;
+   private final ExecutorService executor;
+   private final File daemonFile;
+   private final String token;
+   private final long startedAt = System.currentTimeMillis();
+
+   private final AtomicInteger active = new AtomicInteger();
+   private final AtomicLong requests = new AtomicLong();
+   private final AtomicLong failures = new AtomicLong();
+   private final AtomicLong totalNanos = new AtomicLong();
+
+   private volatile boolean closed;
+
+   private ShellDaemon(ShellFactory shellFactory, Furnace furnace, ServerSocket serverSocket, File daemonFile,
+            String token)
+   {
+      this.shellFactory = shellFactory;
+      this.furnace = furnace;
+      this.serverSocket = serverSocket;
+      this.daemonFile = daemonFile;
+      this.token = token;
+      this.executor = Executors.newCachedThreadPool(r -> {
+         Thread thread = new Thread(r, "Forge Daemon");
+         thread.setDaemon(true);
+         return thread;
+      });
+   }
+
+   /**
+    * Starts listening for clients, and publishes the port and token in the {@link #DAEMON_FILE}
+    */
+   public static ShellDaemon start(ShellFactory shellFactory, Furnace furnace) throws IOException
+   {
+      return start(shellFactory, furnace, new File(OperatingSystemUtils.getUserForgeDir(), DAEMON_FILE),
+               Integer.getInteger(PORT_PROPERTY, 0));
+   }
+
+   static ShellDaemon start(ShellFactory shellFactory, Furnace furnace, File daemonFile, int port) throws IOException
+   {
+      ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+      String token = UUID.randomUUID().toString();
+      ShellDaemon daemon = new ShellDaemon(shellFactory, furnace, serverSocket, daemonFile, token);
+      try
+      {
+         daemon.publish();
+      }
+      catch (IOException e)
+      {
+         serverSocket.close();
+         throw e;
+      }
+      daemon.executor.submit(daemon::accept);
+      log.info("Forge daemon listening on " + serverSocket.getLocalSocketAddress());
+      return daemon;
+   }
+
+   private void publish() throws IOException
+   {
+      Properties properties = new Properties();
+      properties.setProperty("port", String.valueOf(serverSocket.getLocalPort()));
+      properties.setProperty("token", token);
+      properties.setProperty("pid", ManagementFactory.getRuntimeMXBean().getName());
+      Path target = daemonFile.toPath();
+      Files.createDirectories(target.getParent());
+      Path temp = Files.createTempFile(target.getParent(), DAEMON_FILE, ".tmp");
+      try
+      {
+         restrictToOwner(temp);
+         try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8))
+         {
+            properties.store(writer, "Forge daemon");
+         }
+         Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      finally
+      {
+         Files.deleteIfExists(temp);
+      }
+   }
+
+   private static void restrictToOwner(Path path) throws IOException
+   {
+      try
+      {
+         Files.setPosixFilePermissions(path, PosixFilePermissions.fromString("rw-------"));
+      }
+      catch (UnsupportedOperationException e)
+      {
+         File file = path.toFile();
+         file.setReadable(false, false);
+         file.setWritable(false, false);
+         file.setReadable(true, true);
+         file.setWritable(true, true);
+      }
+   }
+
+   private void accept()
+   {
+      while (!closed)
+      {
+         try
+         {
+            Socket socket = serverSocket.accept();
+            executor.submit(() -> handle(socket));
+         }
+         catch (IOException e)
+         {
+            if (!closed)
+            {
+               log.log(Level.WARNING, "Error while accepting daemon client", e);
+            }
+         }
+      }
+   }
+
+   private void handle(Socket socket)
+   {
+      long start = System.nanoTime();
+      active.incrementAndGet();
+      try (Socket s = socket;
+               DataInputStream in = new DataInputStream(new BufferedInputStream(s.getInputStream()));
+               DataOutputStream out = new DataOutputStream(new BufferedOutputStream(s.getOutputStream())))
+      {
+         s.setSoTimeout(HANDSHAKE_TIMEOUT);
+         // Compared in constant time, so the time taken does not reveal how much of the token is right
+         if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                  in.readUTF().getBytes(StandardCharsets.UTF_8)))
+         {
+            log.warning("Rejected daemon client with an invalid token");
+            return;
+         }
+         String verb = in.readUTF();
+         s.setSoTimeout(0);
+         synchronized (out)
+         {
+            out.writeByte(READY);
+            out.flush();
+         }
+         int status;
+         boolean shutdown = false;
+         switch (verb)
+         {
+         case "EVAL":
+            String workingDir = in.readUTF();
+            byte[] script = new byte[in.readInt()];
+            in.readFully(script);
+            status = evaluate(new File(workingDir), new String(script, StandardCharsets.UTF_8), out);
+            if (status == FALLBACK)
+            {
+               synchronized (out)
+               {
+                  out.writeByte(FALLBACK);
+                  out.flush();
+               }
+               log.info("Daemon EVAL request handed back to the client");
+               return;
+            }
+            break;
+         case "HEALTH":
+            writeFrame(out, STDOUT, getHealth().getBytes(StandardCharsets.UTF_8));
+            status = 0;
+            break;
+         case "SHUTDOWN":
+            writeFrame(out, STDOUT, "Forge daemon stopping\n".getBytes(StandardCharsets.UTF_8));
+            status = 0;
+            shutdown = true;
+            break;
+         default:
+            writeFrame(out, STDERR, ("Unknown daemon request: " + verb + "\n").getBytes(StandardCharsets.UTF_8));
+            status = 2;
+         }
+         long elapsed = System.nanoTime() - start;
+         synchronized (out)
+         {
+            out.writeByte(EXIT);
+            out.writeInt(status);
+            out.writeLong(elapsed);
+            out.flush();
+         }
+         log.info(String.format("Daemon %s request completed with status %d in %d ms", verb, status,
+                  TimeUnit.NANOSECONDS.toMillis(elapsed)));
+         if (shutdown)
+         {
+            close();
+            furnace.stop();
+         }
+      }
+      catch (SocketException e)
+      {
+         log.log(Level.FINE, "Daemon client disconnected", e);
+      }
+      catch (Exception e)
+      {
+         log.log(Level.WARNING, "Error while handling daemon client", e);
+      }
+      finally
+      {
+         active.decrementAndGet();
+      }
+   }
+
+   private String getHealth()
+   {
+      long count = requests.get();
+      long average = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / count);
+      return String.format("Forge daemon is running on port %d%n" +
+               "uptime: %d s%n" +
+               "active clients: %d%n" +
+               "requests: %d (%d failed)%n" +
+               "average request time: %d ms%n",
+               serverSocket.getLocalPort(), TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startedAt),
+               active.get() - 1, count, failures.get(), average);
+   }
+
+   /**
+    * Runs the given script in a new {@link Shell}, line by line, and returns the exit status, or {@link #FALLBACK} if
+    * a line can only be run by the console
+    */
+   private int evaluate(File workingDir, String script, DataOutputStream out) throws Exception
+   {
+      long start = System.nanoTime();
+      PrintStream stdout = new PrintStream(new FrameOutputStream(out, STDOUT), true);
+      PrintStream stderr = new PrintStream(new FrameOutputStream(out, STDERR), true);
+      // Nothing is written to the console input: the lines are executed directly
+      PipedOutputStream stdin = new PipedOutputStream();
+      Settings settings = new SettingsBuilder()
+               .inputStream(new PipedInputStream(stdin))
+               .outputStream(stdout)
+               .outputStreamError(stderr)
+               .ansi(false)
+               .create();
+      int status = 0;
+      try (PipedOutputStream input = stdin;
+               Shell shell = shellFactory.createShell(workingDir, settings);
+               BufferedReader reader = new BufferedReader(new StringReader(script)))
+      {
+         shell.getConsole().setPrompt(new Prompt(""));
+         List<String> lines = new ArrayList<>();
+         String line;
+         while ((line = reader.readLine()) != null)
+         {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#"))
+            {
+               if (!shell.canExecute(line))
+               {
+                  return FALLBACK;
+               }
+               lines.add(line);
+            }
+         }
+         for (Iterator<String> it = lines.iterator(); status == 0 && it.hasNext();)
+         {
+            if (shell.execute(it.next()) instanceof Failed)
+            {
+               status = 1;
+            }
+         }
+      }
+      finally
+      {
+         stdout.flush();
+         stderr.flush();
+         requests.incrementAndGet();
+         totalNanos.addAndGet(System.nanoTime() - start);
+         if (status != 0 && status != FALLBACK)
+         {
+            failures.incrementAndGet();
+         }
+      }
+      return status;
+   }
+
+   static void writeFrame(DataOutputStream out, byte type, byte[] bytes) throws IOException
+   {
+      writeFrame(out, type, bytes, 0, bytes.length);
+   }
+
+   static void writeFrame(DataOutputStream out, byte type, byte[] bytes, int offset, int length) throws IOException
+   {
+      synchronized (out)
+      {
+         out.writeByte(type);
+         out.writeInt(length);
+         out.write(bytes, offset, length);
+         out.flush();
+      }
+   }
+
+   /**
+    * Stops listening for clients and removes the {@link #DAEMON_FILE}. Requests being handled are not interrupted.
+    */
+   @Override
+   public void close()
+   {
+      if (closed)
+      {
+         return;
+      }
+      closed = true;
+      try
+      {
+         serverSocket.close();
+      }
+      catch (IOException e)
+      {
+         log.log(Level.FINE, "Error while closing daemon socket", e);
+      }
+      try
+      {
+         Properties properties = new Properties();
+         try (Reader reader = Files.newBufferedReader(daemonFile.toPath(), StandardCharsets.UTF_8))
+         {
+            properties.load(reader);
+         }
+         // Another daemon may have been started since
+         if (token.equals(properties.getProperty("token")))
+         {
+            Files.deleteIfExists(daemonFile.toPath());
+         }
+      }
+      catch (IOException e)
+      {
+         log.log(Level.FINE, "Error while removing " + daemonFile, e);
+      }
+      executor.shutdown();
+   }
+}
@@ -313,6 +313,11 @@ public class ShellUIPromptImpl implements UIPrompt
     */
    private String readInput(PrintStream out, boolean echo) throws InterruptedException
    {
+      if (commandInvocation == null)
+      {
+         // Executed through Shell.execute(String): there is no console input to read from
+         throw new InterruptedException("No console input");
+      }
       StringBuilder sb = new StringBuilder();
       Key inputKey;
       do
@@ -0,0 +1,52 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.aesh;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * Test case for {@link CommandNameSnapshot}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class CommandNameSnapshotTest
+{
+   private final CommandNameSnapshot snapshot = new CommandNameSnapshot(
+            Arrays.asList("project-new", "cd", "project-list-facets", "pwd", "projects"), "/tmp", 1, 0);
+
+   @Test
+   public void testCompleteReturnsSortedNamesWithPrefix()
+   {
+      assertEquals(Arrays.asList("project-list-facets", "project-new", "projects"), snapshot.complete("project"));
+      assertEquals(Arrays.asList("project-new"), snapshot.complete("project-n"));
+      assertEquals(Arrays.asList("pwd"), snapshot.complete("pwd"));
+      assertEquals(Collections.emptyList(), snapshot.complete("zzz"));
+   }
+
+   @Test
+   public void testCompleteEmptyPrefixReturnsAllNames()
+   {
+      assertEquals(Arrays.asList("cd", "project-list-facets", "project-new", "projects", "pwd"),
+               snapshot.complete(""));
+   }
+
+   @Test
+   public void testSnapshotIsInvalidatedByChanges()
+   {
+      assertTrue(snapshot.isValidFor("/tmp", 1, 0));
+      assertFalse(snapshot.isValidFor("/home", 1, 0));
+      assertFalse(snapshot.isValidFor("/tmp", 2, 0));
+      assertFalse(snapshot.isValidFor("/tmp", 1, 1));
+   }
+}
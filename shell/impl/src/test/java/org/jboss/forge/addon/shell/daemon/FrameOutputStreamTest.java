@@ -0,0 +1,76 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.daemon;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Test case for {@link FrameOutputStream}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class FrameOutputStreamTest
+{
+   private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+   private final DataOutputStream out = new DataOutputStream(bytes);
+
+   @Test
+   public void testWritesAreFramedByType() throws IOException
+   {
+      try (PrintStream stdout = new PrintStream(new FrameOutputStream(out, ShellDaemon.STDOUT), true, "UTF-8");
+               PrintStream stderr = new PrintStream(new FrameOutputStream(out, ShellDaemon.STDERR), true, "UTF-8"))
+      {
+         stdout.print("hello");
+         stdout.flush();
+         stderr.write('!');
+         stdout.print("world\u00e9");
+         stdout.flush();
+      }
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+      assertFrame(in, ShellDaemon.STDOUT, "hello");
+      assertFrame(in, ShellDaemon.STDERR, "!");
+      assertFrame(in, ShellDaemon.STDOUT, "world\u00e9");
+      assertEquals(-1, in.read());
+   }
+
+   @Test
+   public void testEmptyWritesSendNoFrame() throws IOException
+   {
+      FrameOutputStream stream = new FrameOutputStream(out, ShellDaemon.STDOUT);
+      stream.write(new byte[0]);
+      stream.write(new byte[] { 1, 2, 3 }, 1, 0);
+      assertEquals(0, bytes.size());
+   }
+
+   @Test
+   public void testWriteRangeSendsOnlyThatRange() throws IOException
+   {
+      FrameOutputStream stream = new FrameOutputStream(out, ShellDaemon.STDERR);
+      stream.write("abcdef".getBytes(StandardCharsets.UTF_8), 2, 3);
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+      assertFrame(in, ShellDaemon.STDERR, "cde");
+      assertEquals(-1, in.read());
+   }
+
+   private static void assertFrame(DataInputStream in, byte type, String contents) throws IOException
+   {
+      assertEquals(type, in.readByte());
+      byte[] frame = new byte[in.readInt()];
+      in.readFully(frame);
+      assertEquals(contents, new String(frame, StandardCharsets.UTF_8));
+   }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.daemon;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ShellDaemon}
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class ShellDaemonTest
+{
+   private File directory;
+   private File daemonFile;
+   private ShellDaemon daemon;
+
+   @Before
+   public void setUp() throws IOException
+   {
+      directory = Files.createTempDirectory("forge-daemon").toFile();
+      daemonFile = new File(directory, ShellDaemon.DAEMON_FILE);
+      // HEALTH requests and rejected clients need neither a shell nor Furnace
+      daemon = ShellDaemon.start(null, null, daemonFile, 0);
+   }
+
+   @After
+   public void tearDown() throws IOException
+   {
+      daemon.close();
+      Files.deleteIfExists(daemonFile.toPath());
+      Files.delete(directory.toPath());
+   }
+
+   @Test
+   public void testDaemonFileIsPublished() throws IOException
+   {
+      Properties properties = readDaemonFile();
+      assertTrue(Integer.parseInt(properties.getProperty("port")) > 0);
+      assertFalse(properties.getProperty("token").isEmpty());
+   }
+
+   @Test
+   public void testHealthRoundTrip() throws IOException
+   {
+      Properties properties = readDaemonFile();
+      try (Socket socket = connect(properties);
+               DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+               DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream())))
+      {
+         out.writeUTF(properties.getProperty("token"));
+         out.writeUTF("HEALTH");
+         out.flush();
+         assertEquals(ShellDaemon.READY, in.readByte());
+         assertEquals(ShellDaemon.STDOUT, in.readByte());
+         byte[] health = new byte[in.readInt()];
+         in.readFully(health);
+         assertTrue(new String(health, StandardCharsets.UTF_8).startsWith("Forge daemon is running on port "
+                  + properties.getProperty("port")));
+         assertEquals(ShellDaemon.EXIT, in.readByte());
+         assertEquals(0, in.readInt());
+         assertTrue(in.readLong() >= 0);
+      }
+   }
+
+   @Test
+   public void testInvalidTokenIsRejected() throws IOException
+   {
+      Properties properties = readDaemonFile();
+      try (Socket socket = connect(properties);
+               DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+               DataInputStream in = new DataInputStream(socket.getInputStream()))
+      {
+         // Only the token is sent, so that the daemon reads everything before closing the connection
+         out.writeUTF(properties.getProperty("token") + "x");
+         out.flush();
+         // Closed without being acknowledged
+         assertEquals(-1, in.read());
+      }
+   }
+
+   @Test
+   public void testCloseRemovesDaemonFile()
+   {
+      daemon.close();
+      assertFalse(daemonFile.exists());
+   }
+
+   @Test
+   public void testCloseKeepsDaemonFileOfAnotherDaemon() throws IOException
+   {
+      Properties properties = readDaemonFile();
+      properties.setProperty("token", "another daemon");
+      try (Writer writer = Files.newBufferedWriter(daemonFile.toPath(), StandardCharsets.UTF_8))
+      {
+         properties.store(writer, null);
+      }
+      daemon.close();
+      assertTrue(daemonFile.exists());
+   }
+
+   private Properties readDaemonFile() throws IOException
+   {
+      Properties properties = new Properties();
+      try (Reader reader = Files.newBufferedReader(daemonFile.toPath(), StandardCharsets.UTF_8))
+      {
+         properties.load(reader);
+      }
+      return properties;
+   }
+
+   private static Socket connect(Properties properties) throws IOException
+   {
+      Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(properties.getProperty("port")));
+      socket.setSoTimeout(10_000);
+      return socket;
+   }
+}
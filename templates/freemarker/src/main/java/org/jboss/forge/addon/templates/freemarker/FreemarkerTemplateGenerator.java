@@ -10,6 +10,7 @@ import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.templates.Template;
 import org.jboss.forge.addon.templates.TemplateGenerator;
 
+import freemarker.cache.MruCacheStorage;
 import freemarker.template.Configuration;
 
 /**
@@ -19,8 +20,14 @@ import freemarker.template.Configuration;
  */
 public class FreemarkerTemplateGenerator implements TemplateGenerator
 {
-   private ResourceTemplateLoader loader;
-   private Configuration config;
+   /**
+    * The number of compiled templates strongly referenced by the cache. The others are softly referenced, up to
+    * {@link ResourceTemplateLoader#MAX_TEMPLATES}.
+    */
+   private static final int MAX_STRONG_TEMPLATES = 64;
+
+   private final ResourceTemplateLoader loader = new ResourceTemplateLoader();
+   private final Configuration config = createConfiguration(loader);
 
    @Override
    public boolean handles(Class<? extends Template> type)
@@ -31,26 +38,16 @@ public class FreemarkerTemplateGenerator implements TemplateGenerator
    @Override
    public Template create(Resource<?> template, Class<? extends Template> type)
    {
-      return new FreemarkerTemplateImpl(getResourceTemplateLoader(), template, getConfiguration());
+      return new FreemarkerTemplateImpl(loader, template, config);
    }
 
-   private Configuration getConfiguration()
+   private static Configuration createConfiguration(ResourceTemplateLoader loader)
    {
-      if (config == null)
-      {
-         config = new Configuration();
-         config.setTemplateLoader(getResourceTemplateLoader());
-      }
+      Configuration config = new Configuration();
+      config.setTemplateLoader(loader);
+      config.setCacheStorage(new MruCacheStorage(MAX_STRONG_TEMPLATES, ResourceTemplateLoader.MAX_TEMPLATES));
+      // Ids are registered for the resources, localized variants of them never exist
+      config.setLocalizedLookup(false);
       return config;
    }
-
-   private ResourceTemplateLoader getResourceTemplateLoader()
-   {
-      if (loader == null)
-      {
-         loader = new ResourceTemplateLoader();
-      }
-      return loader;
-   }
-
 }
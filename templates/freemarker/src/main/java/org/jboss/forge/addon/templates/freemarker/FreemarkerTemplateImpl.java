@@ -61,7 +61,10 @@ class FreemarkerTemplateImpl extends AbstractTemplate implements FreemarkerTempl
       }
       finally
       {
-         loader.dispose(id);
+         if (loader.release(id))
+         {
+            getFreemarkerConfig().removeTemplateFromCache(id);
+         }
       }
    }
 
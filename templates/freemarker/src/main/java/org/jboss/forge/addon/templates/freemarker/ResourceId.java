@@ -15,12 +15,14 @@ class ResourceId
 {
    private final Resource<?> resource;
    private final String id;
+   private final boolean cacheable;
 
-   public ResourceId(Resource<?> resource)
+   public ResourceId(String id, Resource<?> resource, boolean cacheable)
    {
       super();
-      this.id = resource.getName().toString();
+      this.id = id;
       this.resource = resource;
+      this.cacheable = cacheable;
    }
 
    public String getId()
@@ -32,4 +34,12 @@ class ResourceId
    {
       return resource;
    }
-}
\ No newline at end of file
+
+   /**
+    * Returns <code>false</code> if the template compiled from this resource must not be kept after it is rendered
+    */
+   public boolean isCacheable()
+   {
+      return cacheable;
+   }
+}
@@ -9,13 +9,14 @@ package org.jboss.forge.addon.templates.freemarker;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.resource.ResourceFactory;
+import org.jboss.forge.addon.resource.util.FileStamp;
 import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
 
@@ -23,42 +24,70 @@ import freemarker.cache.StatefulTemplateLoader;
 
 /**
  * Loader for Resource objects
- * 
+ *
+ * A resource is registered with an id made of its fully qualified name and its last modification time, so that
+ * templates with the same name in different directories do not collide, and that Freemarker compiles a template again
+ * once it is modified. Resources whose timestamp cannot be trusted yet (see {@link FileStamp#isSettled(long)}) are
+ * registered with an id used only once.
+ *
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
 public class ResourceTemplateLoader implements StatefulTemplateLoader
 {
-   private final Map<String, ResourceId> resourceMap = new ConcurrentHashMap<>();
+   static final int MAX_TEMPLATES = 256;
+
+   private final Map<String, ResourceId> resourceMap = new LinkedHashMap<String, ResourceId>(16, 0.75f, true)
+   {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, ResourceId> eldest)
+      {
+         return size() > MAX_TEMPLATES;
+      }
+   };
+
+   private final AtomicLong uncacheableIds = new AtomicLong();
 
-   private ResourceFactory resourceFactory;
+   private volatile ResourceFactory resourceFactory;
 
    String register(Resource<?> resource)
    {
       ResourceId resourceId = generateResourceId(resource);
-      resourceMap.put(resourceId.getId(), resourceId);
+      synchronized (resourceMap)
+      {
+         resourceMap.put(resourceId.getId(), resourceId);
+      }
       return resourceId.getId();
    }
 
-   void dispose(String id)
+   /**
+    * Forgets the given id if the template registered with it must not be cached
+    *
+    * @return <code>true</code> if the id was forgotten
+    */
+   boolean release(String id)
    {
-      resourceMap.remove(id);
+      synchronized (resourceMap)
+      {
+         ResourceId resourceId = resourceMap.get(id);
+         if (resourceId != null && !resourceId.isCacheable())
+         {
+            resourceMap.remove(id);
+            return true;
+         }
+      }
+      return false;
    }
 
    @Override
    public Object findTemplateSource(String name) throws IOException
    {
-      ResourceId id = resourceMap.get(name);
-      if (id == null)
+      ResourceId id;
+      synchronized (resourceMap)
       {
-         for (Entry<String, ResourceId> entry : resourceMap.entrySet())
-         {
-            if (name.startsWith(entry.getKey()))
-            {
-               id = entry.getValue();
-               break;
-            }
-         }
+         id = resourceMap.get(name);
       }
 
       if (id == null)
@@ -66,7 +95,7 @@ public class ResourceTemplateLoader implements StatefulTemplateLoader
          Resource<?> includedResource = getResourceFactory().create(name);
          if (includedResource != null && includedResource.exists())
          {
-            id = generateResourceId(includedResource);
+            id = new ResourceId(name, includedResource, true);
          }
       }
       return id;
@@ -76,12 +105,7 @@ public class ResourceTemplateLoader implements StatefulTemplateLoader
    public long getLastModified(Object templateSource)
    {
       ResourceId resourceId = (ResourceId) templateSource;
-      Resource<?> resource = resourceId.getResource();
-      if (resource instanceof FileResource)
-      {
-         return ((FileResource<?>) resource).getLastModified();
-      }
-      return 0L;
+      return getLastModified(resourceId.getResource());
    }
 
    @Override
@@ -94,19 +118,43 @@ public class ResourceTemplateLoader implements StatefulTemplateLoader
    @Override
    public void closeTemplateSource(Object templateSource) throws IOException
    {
-      ResourceId resourceId = (ResourceId) templateSource;
-      dispose(resourceId.getId());
+      // The id stays registered, so that Freemarker can check whether the compiled template is up to date
    }
 
    @Override
    public void resetState()
    {
-      resourceMap.clear();
+      synchronized (resourceMap)
+      {
+         resourceMap.clear();
+      }
    }
 
    private ResourceId generateResourceId(Resource<?> resource)
    {
-      return new ResourceId(resource);
+      long lastModified = getLastModified(resource);
+      String name = resource.getFullyQualifiedName();
+      // Freemarker strips the leading slash of the template names
+      if (name.startsWith("/"))
+      {
+         name = name.substring(1);
+      }
+      String id = name + "@" + lastModified;
+      boolean cacheable = lastModified == 0L || FileStamp.isSettled(lastModified);
+      if (!cacheable)
+      {
+         id += "#" + uncacheableIds.incrementAndGet();
+      }
+      return new ResourceId(id, resource, cacheable);
+   }
+
+   private static long getLastModified(Resource<?> resource)
+   {
+      if (resource instanceof FileResource)
+      {
+         return ((FileResource<?>) resource).getLastModified();
+      }
+      return 0L;
    }
 
    private ResourceFactory getResourceFactory()
@@ -0,0 +1,191 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.templates;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.resource.DirectoryResource;
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.addon.resource.ResourceFactory;
+import org.jboss.forge.addon.templates.freemarker.FreemarkerTemplate;
+import org.jboss.forge.arquillian.AddonDeployment;
+import org.jboss.forge.arquillian.AddonDeployments;
+import org.jboss.forge.arquillian.archive.AddonArchive;
+import org.jboss.forge.furnace.addons.AddonRegistry;
+import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
+import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Checks the compiled templates cached by the Freemarker addon, and logs how long rendering a template takes once it is
+ * cached.
+ *
+ * The rendering speed is only measured when the <code>forge.benchmarks</code> system property is set to
+ * <code>true</code>, e.g. with <code>mvn test -Dforge.benchmarks=true</code>.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@RunWith(Arquillian.class)
+public class TemplateCacheTest
+{
+   private static final Logger log = Logger.getLogger(TemplateCacheTest.class.getName());
+
+   private static final int RENDERS = 10_000;
+
+   @Deployment
+   @AddonDeployments({
+            @AddonDeployment(name = "org.jboss.forge.addon:templates"),
+            @AddonDeployment(name = "org.jboss.forge.addon:resources") })
+   public static AddonArchive getDeployment()
+   {
+      AddonArchive archive = ShrinkWrap.create(AddonArchive.class)
+               .addBeansXML()
+               .addAsServiceProvider("org.jboss.forge.furnace.container.simple.Service",
+                        TemplateCacheTest.class.getName())
+               .addAsAddonDependencies(
+                        AddonDependencyEntry.create("org.jboss.forge.furnace.container:simple"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:templates"),
+                        AddonDependencyEntry.create("org.jboss.forge.addon:resources"));
+
+      return archive;
+   }
+
+   private ResourceFactory resourceFactory;
+   private TemplateFactory templateFactory;
+   private DirectoryResource tempDir;
+
+   @Before
+   public void setUp()
+   {
+      AddonRegistry addonRegistry = SimpleContainer.getFurnace(getClass().getClassLoader()).getAddonRegistry();
+      this.resourceFactory = addonRegistry.getServices(ResourceFactory.class).get();
+      this.templateFactory = addonRegistry.getServices(TemplateFactory.class).get();
+      this.tempDir = resourceFactory.create(OperatingSystemUtils.createTempDir()).reify(DirectoryResource.class);
+   }
+
+   @After
+   public void tearDown()
+   {
+      tempDir.delete(true);
+   }
+
+   @Test
+   public void testTemplatesWithTheSameNameDoNotCollide() throws Exception
+   {
+      Template first = templateFactory.create(createTemplate("first", "create.ftl", "First ${name}"),
+               FreemarkerTemplate.class);
+      Template second = templateFactory.create(createTemplate("second", "create.ftl", "Second ${name}"),
+               FreemarkerTemplate.class);
+      Map<String, String> model = Collections.singletonMap("name", "Forge");
+      for (int i = 0; i < 2; i++)
+      {
+         Assert.assertEquals("First Forge", first.process(model));
+         Assert.assertEquals("Second Forge", second.process(model));
+      }
+   }
+
+   @Test
+   public void testModifiedTemplateIsCompiledAgain() throws Exception
+   {
+      FileResource<?> resource = createTemplate("modified", "template.ftl", "Hello ${name}!");
+      Template template = templateFactory.create(resource, FreemarkerTemplate.class);
+      Map<String, String> model = Collections.singletonMap("name", "Forge");
+      Assert.assertEquals("Hello Forge!", template.process(model));
+
+      // Modified too recently to be cached, then modified again with an older timestamp
+      resource.setContents("Goodbye ${name}!");
+      Assert.assertEquals("Goodbye Forge!", template.process(model));
+      resource.setContents("Welcome ${name}!");
+      resource.getUnderlyingResourceObject().setLastModified(System.currentTimeMillis() - 20_000);
+      Assert.assertEquals("Welcome Forge!", template.process(model));
+   }
+
+   @Test
+   public void testConcurrentRendering() throws Exception
+   {
+      final Template template = templateFactory.create(
+               createTemplate("concurrent", "template.ftl", "Hello ${name}!"), FreemarkerTemplate.class);
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try
+      {
+         List<Future<Boolean>> results = new ArrayList<>();
+         for (int i = 0; i < 100; i++)
+         {
+            final String name = "Forge " + i;
+            results.add(executor.submit(new Callable<Boolean>()
+            {
+               @Override
+               public Boolean call() throws Exception
+               {
+                  return ("Hello " + name + "!").equals(template.process(Collections.singletonMap("name", name)));
+               }
+            }));
+         }
+         for (Future<Boolean> result : results)
+         {
+            Assert.assertTrue(result.get(10, TimeUnit.SECONDS));
+         }
+      }
+      finally
+      {
+         executor.shutdownNow();
+      }
+   }
+
+   @Test
+   public void testRenderingSpeed() throws Exception
+   {
+      Assume.assumeTrue("Benchmarks only run with -Dforge.benchmarks=true", Boolean.getBoolean("forge.benchmarks"));
+      Template template = templateFactory.create(
+               createTemplate("speed", "template.ftl", "<#list items as item>${item} </#list>${name}!"),
+               FreemarkerTemplate.class);
+      Map<String, Object> model = new HashMap<>();
+      model.put("name", "Forge");
+      model.put("items", Arrays.asList("a", "b", "c"));
+      String expected = "a b c Forge!";
+
+      long start = System.nanoTime();
+      for (int i = 0; i < RENDERS; i++)
+      {
+         Assert.assertEquals(expected, template.process(model));
+      }
+      long elapsed = System.nanoTime() - start;
+      log.info(String.format("Freemarker template: %d renders in %d ms (%.1f us per render)", RENDERS,
+               TimeUnit.NANOSECONDS.toMillis(elapsed), elapsed / (double) RENDERS / 1000));
+   }
+
+   private FileResource<?> createTemplate(String directory, String name, String contents)
+   {
+      File file = new File(tempDir.getOrCreateChildDirectory(directory).getUnderlyingResourceObject(), name);
+      FileResource<?> resource = resourceFactory.create(file).reify(FileResource.class);
+      resource.setContents(contents);
+      // Old enough to be cached
+      file.setLastModified(System.currentTimeMillis() - 10_000);
+      return resource;
+   }
+}
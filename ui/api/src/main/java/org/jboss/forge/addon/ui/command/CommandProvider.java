@@ -25,4 +25,22 @@ public interface CommandProvider
     * Mainly usable for testing purposes, when an addon is manually undeployed but it's annotated commands stay cached.
     */
    void addonUndeployed(AddonId addonId);
+
+   /**
+    * Get a new instance of the given {@link UICommand}, previously returned by {@link #getCommands()}, without creating
+    * the other {@link UICommand} instances of this {@link CommandProvider}.
+    * 
+    * The default implementation looks for a {@link UICommand} of the same type in {@link #getCommands()}.
+    */
+   default UICommand getNewCommand(UICommand command)
+   {
+      for (UICommand candidate : getCommands())
+      {
+         if (candidate.getClass() == command.getClass())
+         {
+            return candidate;
+         }
+      }
+      return null;
+   }
 }
@@ -138,4 +138,13 @@ public interface CommandController extends AutoCloseable
     */
    boolean canExecute();
 
+   /**
+    * @return how many evaluations of the callbacks marked with {@link org.jboss.forge.addon.ui.util.Memoization} were
+    *         avoided by this controller.
+    */
+   default MemoizationStats getMemoizationStats()
+   {
+      return MemoizationStats.NONE;
+   }
+
 }
\ No newline at end of file
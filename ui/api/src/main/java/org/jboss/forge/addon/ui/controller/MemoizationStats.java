@@ -0,0 +1,59 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.ui.controller;
+
+import org.jboss.forge.addon.ui.util.Memoization;
+
+/**
+ * How many times the callbacks marked with {@link Memoization} were evaluated by a {@link CommandController}, and how
+ * many evaluations were avoided by returning a memoized result
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public final class MemoizationStats
+{
+   public static final MemoizationStats NONE = new MemoizationStats(0L, 0L);
+
+   private final long evaluations;
+   private final long avoidedEvaluations;
+
+   public MemoizationStats(long evaluations, long avoidedEvaluations)
+   {
+      this.evaluations = evaluations;
+      this.avoidedEvaluations = avoidedEvaluations;
+   }
+
+   /**
+    * Returns how many times a memoized callback was evaluated
+    */
+   public long getEvaluations()
+   {
+      return evaluations;
+   }
+
+   /**
+    * Returns how many times a memoized result was returned instead of evaluating the callback
+    */
+   public long getAvoidedEvaluations()
+   {
+      return avoidedEvaluations;
+   }
+
+   /**
+    * Returns the sum of these stats and the given ones
+    */
+   public MemoizationStats plus(MemoizationStats other)
+   {
+      return new MemoizationStats(evaluations + other.evaluations, avoidedEvaluations + other.avoidedEvaluations);
+   }
+
+   @Override
+   public String toString()
+   {
+      return "MemoizationStats [evaluations=" + evaluations + ", avoidedEvaluations=" + avoidedEvaluations + "]";
+   }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.ui.util;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.forge.addon.ui.context.UIContext;
+import org.jboss.forge.addon.ui.controller.CommandController;
+import org.jboss.forge.addon.ui.input.InputComponent;
+import org.jboss.forge.addon.ui.input.UICompleter;
+
+/**
+ * Marks the value choices, default values and {@link UICompleter} of an {@link InputComponent} whose results only
+ * depend on the values of other inputs and on the files of the project. The {@link CommandController} of the input
+ * records which inputs were read while computing a result, and returns the same result until one of them changes or
+ * {@link #invalidate()} is called.
+ *
+ * <pre>
+ * relationshipType.setValueChoices(Memoization.memoize(() -&gt; findRelationshipTypes(type.getValue())));
+ * </pre>
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public final class Memoization
+{
+   private static final AtomicLong generation = new AtomicLong();
+
+   private Memoization()
+   {
+   }
+
+   /**
+    * Returns a memoized {@link Callable}, to be used as value choices or default value
+    */
+   public static <T> Callable<T> memoize(Callable<T> callable)
+   {
+      return (callable == null || isMemoized(callable)) ? callable : new MemoizedCallable<>(callable);
+   }
+
+   /**
+    * Returns a memoized {@link UICompleter}, whose proposals are remembered for each completed value
+    */
+   public static <T> UICompleter<T> memoize(UICompleter<T> completer)
+   {
+      return (completer == null || isMemoized(completer)) ? completer : new MemoizedCompleter<>(completer);
+   }
+
+   /**
+    * Returns <code>true</code> if the given callback was returned by one of the {@link #memoize} methods
+    */
+   public static boolean isMemoized(Object callback)
+   {
+      return callback instanceof MemoizedCallable || callback instanceof MemoizedCompleter;
+   }
+
+   /**
+    * Discards the results memoized by every {@link CommandController}, for instance when the files of a project changed
+    */
+   public static void invalidate()
+   {
+      generation.incrementAndGet();
+   }
+
+   /**
+    * Returns the number of times {@link #invalidate()} was called: memoized results computed with another generation
+    * are discarded
+    */
+   public static long getGeneration()
+   {
+      return generation.get();
+   }
+
+   private static class MemoizedCallable<T> implements Callable<T>
+   {
+      private final Callable<T> delegate;
+
+      MemoizedCallable(Callable<T> delegate)
+      {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public T call() throws Exception
+      {
+         return delegate.call();
+      }
+
+      @Override
+      public String toString()
+      {
+         return "Memoized " + delegate;
+      }
+   }
+
+   private static class MemoizedCompleter<T> implements UICompleter<T>
+   {
+      private final UICompleter<T> delegate;
+
+      MemoizedCompleter(UICompleter<T> delegate)
+      {
+         this.delegate = delegate;
+      }
+
+      @Override
+      public Iterable<T> getCompletionProposals(UIContext context, InputComponent<?, T> input, String value)
+      {
+         return delegate.getCompletionProposals(context, input, value);
+      }
+
+      @Override
+      public String toString()
+      {
+         return "Memoized " + delegate;
+      }
+   }
+}
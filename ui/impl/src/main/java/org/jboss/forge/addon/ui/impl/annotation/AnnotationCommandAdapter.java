@@ -53,6 +53,14 @@ public class AnnotationCommandAdapter implements UICommand
       this.enabledPredicates = enabledPredicates;
    }
 
+   /**
+    * Returns the {@link Command} annotated method this {@link UICommand} invokes
+    */
+   public Method getMethod()
+   {
+      return method;
+   }
+
    @Override
    public UICommandMetadata getMetadata(UIContext context)
    {
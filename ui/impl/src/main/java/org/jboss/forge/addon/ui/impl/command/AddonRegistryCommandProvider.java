@@ -12,6 +12,8 @@ import org.jboss.forge.addon.ui.command.CommandProvider;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.furnace.addons.AddonId;
 import org.jboss.forge.furnace.addons.AddonRegistry;
+import org.jboss.forge.furnace.proxy.Proxies;
+import org.jboss.forge.furnace.services.Imported;
 
 /**
  * Implementation of {@link CommandProvider} that uses the {@link AddonRegistry}.
@@ -29,6 +31,13 @@ public class AddonRegistryCommandProvider implements CommandProvider
       return registry.getServices(UICommand.class);
    }
 
+   @Override
+   public UICommand getNewCommand(UICommand command)
+   {
+      Imported<?> service = registry.getServices(Proxies.unwrap(command).getClass());
+      return service.isUnsatisfied() ? null : (UICommand) service.get();
+   }
+
    @Override
    public void addonUndeployed(AddonId addonId)
    {
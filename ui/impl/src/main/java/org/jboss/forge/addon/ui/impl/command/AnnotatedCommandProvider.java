@@ -29,6 +29,7 @@ import org.jboss.forge.addon.ui.impl.input.InputComponentProducer;
 import org.jboss.forge.furnace.addons.AddonId;
 import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.event.PreShutdown;
+import org.jboss.forge.furnace.proxy.Proxies;
 import org.jboss.forge.furnace.services.Imported;
 import org.jboss.forge.furnace.util.Predicate;
 
@@ -73,6 +74,17 @@ public class AnnotatedCommandProvider implements CommandProvider
       return result;
    }
 
+   @Override
+   public UICommand getNewCommand(UICommand command)
+   {
+      Object adapter = Proxies.unwrap(command);
+      if (adapter instanceof AnnotationCommandAdapter)
+      {
+         return createAnnotatedCommand(((AnnotationCommandAdapter) adapter).getMethod());
+      }
+      return null;
+   }
+
    private UICommand createAnnotatedCommand(Method method)
    {
       Imported<?> service = registry.getServices(method.getDeclaringClass());
@@ -6,10 +6,16 @@
  */
 package org.jboss.forge.addon.ui.impl.command;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,16 +50,14 @@ public class CommandFactoryImpl implements CommandFactory
    @Inject
    private AddonRegistry registry;
 
-   private Set<UICommand> cache = Sets.getConcurrentSet();
-
-   private long version = -1;
+   private volatile CommandIndex index;
 
    private static final Logger log = Logger.getLogger(CommandFactoryImpl.class.getName());
 
    @Override
    public Iterable<UICommand> getCommands()
    {
-      return getCachedCommands();
+      return getIndex().getCommands();
    }
 
    @Override
@@ -116,13 +120,33 @@ public class CommandFactoryImpl implements CommandFactory
    @Override
    public UICommand getCommandByName(UIContext context, String name)
    {
-      return findCommand(getCommands(), context, name);
+      IndexedCommand command = getIndex().getCommand(context, name);
+      return command == null ? null : command.command;
    }
 
    @Override
    public UICommand getNewCommandByName(UIContext context, String name)
    {
-      return findCommand(getCommandsFromSource(), context, name);
+      IndexedCommand command = getIndex().getCommand(context, name);
+      if (command == null)
+      {
+         return null;
+      }
+      UICommand result = null;
+      try
+      {
+         result = command.provider.getNewCommand(command.command);
+      }
+      catch (Exception e)
+      {
+         log.log(Level.SEVERE, "Error while creating command instance for " + name, e);
+      }
+      if (result == null)
+      {
+         // The provider could not create a single command, create all of them
+         result = findCommand(getCommandsFromSource(), context, name);
+      }
+      return result;
    }
 
    private UICommand findCommand(Iterable<UICommand> commands, UIContext context, String name)
@@ -132,50 +156,63 @@ public class CommandFactoryImpl implements CommandFactory
       if (commands != null)
          for (UICommand cmd : commands)
          {
-            // Test non-gui command name
+            for (String commandName : getCommandNames(delegatingContext, provider, cmd))
             {
-               provider.setGUI(false);
-               String commandName = getCommandName(delegatingContext, cmd);
-               if (Strings.compare(name, commandName)
-                        || Strings.compare(name, Commands.shellifyCommandName(commandName)))
-               {
-                  return cmd;
-               }
-            }
-            // Test gui command name
-            {
-               provider.setGUI(true);
-               String commandName = getCommandName(delegatingContext, cmd);
-               if (Strings.compare(name, commandName)
-                        || Strings.compare(name, Commands.shellifyCommandName(commandName)))
+               if (Strings.compare(name, commandName))
                {
                   return cmd;
                }
             }
          }
       return null;
+   }
 
+   /**
+    * Returns the names the given command may be found by: its non-gui and gui names, as they are and shellified
+    */
+   private Set<String> getCommandNames(UIContext delegatingContext, CommandNameUIProvider provider, UICommand cmd)
+   {
+      Set<String> names = new LinkedHashSet<>();
+      // Test non-gui command name
+      provider.setGUI(false);
+      String commandName = getCommandName(delegatingContext, cmd);
+      if (commandName != null)
+      {
+         names.add(commandName);
+         names.add(Commands.shellifyCommandName(commandName));
+      }
+      // Test gui command name
+      provider.setGUI(true);
+      commandName = getCommandName(delegatingContext, cmd);
+      if (commandName != null)
+      {
+         names.add(commandName);
+         names.add(Commands.shellifyCommandName(commandName));
+      }
+      return names;
    }
 
-   private Iterable<UICommand> getCachedCommands()
+   private CommandIndex getIndex()
    {
-      if (registry.getVersion() != version)
+      CommandIndex result = index;
+      long registryVersion = registry.getVersion();
+      if (result == null || result.version != registryVersion)
       {
-         version = registry.getVersion();
-         cache.clear();
-         getCommands((command) -> cache.add(command));
+         CommandIndex newIndex = new CommandIndex(registryVersion);
+         getCommands((provider, command) -> newIndex.add(provider, command));
+         index = result = newIndex;
       }
-      return cache;
+      return result;
    }
 
    private Iterable<UICommand> getCommandsFromSource()
    {
       final Set<UICommand> result = Sets.getConcurrentSet();
-      getCommands((command) -> result.add(command));
+      getCommands((provider, command) -> result.add(command));
       return result;
    }
 
-   private void getCommands(Consumer<UICommand> operation)
+   private void getCommands(BiConsumer<CommandProvider, UICommand> operation)
    {
       Imported<CommandProvider> instances = registry.getServices(CommandProvider.class);
       for (CommandProvider provider : instances)
@@ -189,7 +226,7 @@ public class CommandFactoryImpl implements CommandFactory
                UICommand command = iterator.next();
                if (!(command instanceof UIWizardStep))
                {
-                  operation.accept(command);
+                  operation.accept(provider, command);
                }
             }
             catch (Exception e)
@@ -201,6 +238,78 @@ public class CommandFactoryImpl implements CommandFactory
       }
    }
 
+   /**
+    * The {@link UICommand} instances of a given {@link AddonRegistry} version, along with the {@link CommandProvider}
+    * each of them came from, indexed by all the names they may be found by.
+    */
+   private class CommandIndex
+   {
+      private final long version;
+      private final List<IndexedCommand> commands = new ArrayList<>();
+      private final List<UICommand> instances = new ArrayList<>();
+      private volatile Map<String, IndexedCommand> names;
+
+      CommandIndex(long version)
+      {
+         this.version = version;
+      }
+
+      void add(CommandProvider provider, UICommand command)
+      {
+         commands.add(new IndexedCommand(provider, command));
+         instances.add(command);
+      }
+
+      Iterable<UICommand> getCommands()
+      {
+         return Collections.unmodifiableList(instances);
+      }
+
+      IndexedCommand getCommand(UIContext context, String name)
+      {
+         Map<String, IndexedCommand> result = names;
+         if (result == null)
+         {
+            synchronized (this)
+            {
+               result = names;
+               if (result == null)
+               {
+                  names = result = indexNames(context);
+               }
+            }
+         }
+         return result.get(name);
+      }
+
+      private Map<String, IndexedCommand> indexNames(UIContext context)
+      {
+         CommandNameUIProvider provider = new CommandNameUIProvider(context.getProvider());
+         UIContext delegatingContext = new DelegatingUIContext(context, provider);
+         Map<String, IndexedCommand> result = new HashMap<>();
+         for (IndexedCommand command : commands)
+         {
+            for (String commandName : getCommandNames(delegatingContext, provider, command.command))
+            {
+               result.putIfAbsent(commandName, command);
+            }
+         }
+         return result;
+      }
+   }
+
+   private static class IndexedCommand
+   {
+      private final CommandProvider provider;
+      private final UICommand command;
+
+      IndexedCommand(CommandProvider provider, UICommand command)
+      {
+         this.provider = provider;
+         this.command = command;
+      }
+   }
+
    /**
     * {@link UIProvider} implementation for querying the command name in GUI and non-GUI modes, which is a common use
     * case for defining different names between GUI and CLI environments.
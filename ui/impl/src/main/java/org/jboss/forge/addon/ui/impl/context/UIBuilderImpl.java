@@ -11,8 +11,11 @@ import java.util.Map;
 
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIContext;
+import org.jboss.forge.addon.ui.impl.input.AbstractInputComponent;
+import org.jboss.forge.addon.ui.impl.input.InputMemoizer;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.input.InputComponentFactory;
+import org.jboss.forge.furnace.proxy.Proxies;
 
 /**
  * Implementation of the {@link UIBuilder} interface
@@ -23,12 +26,19 @@ public class UIBuilderImpl implements UIBuilder
 {
    private final UIContext context;
    private final InputComponentFactory inputComponentFactory;
+   private final InputMemoizer memoizer;
    private Map<String, InputComponent<?, ?>> inputs = new LinkedHashMap<>();
 
    public UIBuilderImpl(UIContext context, InputComponentFactory inputComponentFactory)
+   {
+      this(context, inputComponentFactory, null);
+   }
+
+   public UIBuilderImpl(UIContext context, InputComponentFactory inputComponentFactory, InputMemoizer memoizer)
    {
       this.context = context;
       this.inputComponentFactory = inputComponentFactory;
+      this.memoizer = memoizer;
    }
 
    @Override
@@ -41,6 +51,11 @@ public class UIBuilderImpl implements UIBuilder
    public UIBuilder add(InputComponent<?, ?> input)
    {
       inputs.put(input.getName(), input);
+      Object unwrapped = Proxies.unwrap(input);
+      if (memoizer != null && unwrapped instanceof AbstractInputComponent)
+      {
+         ((AbstractInputComponent<?, ?>) unwrapped).setMemoizer(memoizer);
+      }
       return this;
    }
 
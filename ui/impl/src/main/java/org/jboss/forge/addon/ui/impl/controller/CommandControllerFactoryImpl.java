@@ -6,6 +6,11 @@
  */
 package org.jboss.forge.addon.ui.impl.controller;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.logging.Logger;
 
 import javax.inject.Inject;
@@ -19,9 +24,11 @@ import org.jboss.forge.addon.ui.controller.CommandController;
 import org.jboss.forge.addon.ui.controller.CommandControllerFactory;
 import org.jboss.forge.addon.ui.controller.SingleCommandController;
 import org.jboss.forge.addon.ui.controller.WizardCommandController;
+import org.jboss.forge.addon.ui.result.navigation.NavigationResultTransformer;
 import org.jboss.forge.addon.ui.wizard.UIWizard;
 import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.services.Imported;
+import org.jboss.forge.furnace.util.Lists;
 
 /**
  * Creates {@link CommandController} objects
@@ -35,6 +42,7 @@ public class CommandControllerFactoryImpl implements CommandControllerFactory
    private final AddonRegistry addonRegistry;
    private final Imported<UICommandTransformer> transformers;
    private final Logger log = Logger.getLogger(getClass().getName());
+   private volatile NavigationResultTransformers navigationResultTransformers;
 
    @Inject
    public CommandControllerFactoryImpl(AddonRegistry addonRegistry)
@@ -115,4 +123,33 @@ public class CommandControllerFactoryImpl implements CommandControllerFactory
       return new SingleCommandControllerImpl(addonRegistry, runtime, command, context);
    }
 
+   /**
+    * Returns the {@link NavigationResultTransformer} services sorted by descending priority, looked up again only when
+    * the {@link AddonRegistry} version changes
+    */
+   List<NavigationResultTransformer> getNavigationResultTransformers()
+   {
+      long registryVersion = addonRegistry.getVersion();
+      NavigationResultTransformers current = navigationResultTransformers;
+      if (current == null || current.version != registryVersion)
+      {
+         Set<NavigationResultTransformer> transformers = new TreeSet<>((o1, o2) -> o2.priority() - o1.priority());
+         transformers.addAll(Lists.toList(addonRegistry.getServices(NavigationResultTransformer.class)));
+         current = new NavigationResultTransformers(registryVersion, transformers);
+         navigationResultTransformers = current;
+      }
+      return current.transformers;
+   }
+
+   private static class NavigationResultTransformers
+   {
+      private final long version;
+      private final List<NavigationResultTransformer> transformers;
+
+      NavigationResultTransformers(long version, Set<NavigationResultTransformer> transformers)
+      {
+         this.version = version;
+         this.transformers = Collections.unmodifiableList(new ArrayList<>(transformers));
+      }
+   }
 }
@@ -14,6 +14,7 @@ import java.util.logging.Logger;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.controller.CommandController;
+import org.jboss.forge.addon.ui.controller.MemoizationStats;
 import org.jboss.forge.addon.ui.controller.WizardCommandController;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
@@ -212,6 +213,12 @@ public class NoUIWizardControllerDecorator implements WizardCommandController
       return controller.isEnabled();
    }
 
+   @Override
+   public MemoizationStats getMemoizationStats()
+   {
+      return controller.getMemoizationStats();
+   }
+
    @Override
    public UICommand getCommand()
    {
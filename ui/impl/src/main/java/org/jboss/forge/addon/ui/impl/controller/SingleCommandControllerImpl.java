@@ -17,10 +17,12 @@ import org.jboss.forge.addon.ui.command.CommandExecutionListener;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.controller.CommandController;
+import org.jboss.forge.addon.ui.controller.MemoizationStats;
 import org.jboss.forge.addon.ui.controller.SingleCommandController;
 import org.jboss.forge.addon.ui.impl.context.UIBuilderImpl;
 import org.jboss.forge.addon.ui.impl.context.UIExecutionContextImpl;
 import org.jboss.forge.addon.ui.impl.context.UIValidationContextImpl;
+import org.jboss.forge.addon.ui.impl.input.InputMemoizer;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.input.InputComponentFactory;
 import org.jboss.forge.addon.ui.input.UIPrompt;
@@ -30,6 +32,7 @@ import org.jboss.forge.addon.ui.output.UIMessage.Severity;
 import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
 import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.util.InputComponents;
+import org.jboss.forge.addon.ui.util.Memoization;
 import org.jboss.forge.addon.ui.validate.UIValidationListener;
 import org.jboss.forge.furnace.addons.AddonRegistry;
 
@@ -44,12 +47,14 @@ class SingleCommandControllerImpl extends AbstractCommandController implements S
    private UIBuilderImpl uiBuilder;
    private final ConverterFactory converterFactory;
    private final InputComponentFactory inputComponentFactory;
+   private final InputMemoizer memoizer;
 
    SingleCommandControllerImpl(AddonRegistry addonRegistry, UIRuntime runtime, UICommand command, UIContext context)
    {
       super(addonRegistry, runtime, command, context);
       this.converterFactory = addonRegistry.getServices(ConverterFactory.class).get();
       this.inputComponentFactory = addonRegistry.getServices(InputComponentFactory.class).get();
+      this.memoizer = new InputMemoizer(addonRegistry);
    }
 
    @Override
@@ -57,7 +62,7 @@ class SingleCommandControllerImpl extends AbstractCommandController implements S
    {
       if (!isInitialized())
       {
-         uiBuilder = new UIBuilderImpl(context, inputComponentFactory);
+         uiBuilder = new UIBuilderImpl(context, inputComponentFactory, memoizer);
          initialCommand.initializeUI(uiBuilder);
       }
    }
@@ -103,6 +108,11 @@ class SingleCommandControllerImpl extends AbstractCommandController implements S
             firePostCommandFailure(executionContext, listeners, initialCommand, e);
          throw e;
       }
+      finally
+      {
+         // The command may have changed anything the memoized callbacks read
+         Memoization.invalidate();
+      }
    }
 
    @Override
@@ -221,6 +231,12 @@ class SingleCommandControllerImpl extends AbstractCommandController implements S
       return initialCommand;
    }
 
+   @Override
+   public MemoizationStats getMemoizationStats()
+   {
+      return memoizer.getStats();
+   }
+
    protected ConverterFactory getConverterFactory()
    {
       return converterFactory;
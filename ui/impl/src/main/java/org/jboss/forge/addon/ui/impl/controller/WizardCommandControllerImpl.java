@@ -15,7 +15,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,6 +24,7 @@ import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
 import org.jboss.forge.addon.ui.controller.CommandController;
+import org.jboss.forge.addon.ui.controller.MemoizationStats;
 import org.jboss.forge.addon.ui.controller.WizardCommandController;
 import org.jboss.forge.addon.ui.impl.context.UIExecutionContextImpl;
 import org.jboss.forge.addon.ui.impl.context.UINavigationContextImpl;
@@ -38,6 +38,8 @@ import org.jboss.forge.addon.ui.result.NavigationResultEntry;
 import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.result.Results;
 import org.jboss.forge.addon.ui.result.navigation.NavigationResultTransformer;
+import org.jboss.forge.addon.ui.util.InputComponents;
+import org.jboss.forge.addon.ui.util.Memoization;
 import org.jboss.forge.addon.ui.wizard.UIWizard;
 import org.jboss.forge.addon.ui.wizard.WizardExecutionListener;
 import org.jboss.forge.furnace.addons.AddonRegistry;
@@ -69,6 +71,11 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
     */
    private int flowPointer = 0;
 
+   /**
+    * The {@link AddonRegistry} version when the flow was last refreshed, -1 if it was never refreshed
+    */
+   private long refreshedVersion = -1;
+
    private final CommandControllerFactoryImpl controllerFactory;
 
    public WizardCommandControllerImpl(UIContext context, AddonRegistry addonRegistry, UIRuntime runtime,
@@ -80,7 +87,10 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
    }
 
    /**
-    * Refreshes the current flow so it's possible to eagerly fetch all the steps
+    * Refreshes the current flow so it's possible to eagerly fetch all the steps.
+    *
+    * Only the steps from the first one whose input values changed since the last refresh are navigated again: the
+    * navigation of the previous steps is assumed to be the same
     */
    private synchronized void refreshFlow()
    {
@@ -92,10 +102,24 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       {
          throw new IllegalStateException("Error while initializing wizard", e);
       }
+      long registryVersion = addonRegistry.getVersion();
+      int firstChangedStep = getFirstChangedStep(registryVersion);
+      if (firstChangedStep == flow.size())
+      {
+         return;
+      }
       int currentFlowPointer = this.flowPointer;
       try
       {
-         this.flowPointer = 0;
+         this.flowPointer = firstChangedStep;
+         try
+         {
+            initialize();
+         }
+         catch (Exception e)
+         {
+            throw new IllegalStateException("Error while initializing wizard step", e);
+         }
          while (canMoveToNextStep())
          {
             try
@@ -113,6 +137,50 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       {
          this.flowPointer = currentFlowPointer;
       }
+      for (WizardStepEntry entry : flow)
+      {
+         entry.values = getValues(entry.controller);
+      }
+      refreshedVersion = registryVersion;
+   }
+
+   /**
+    * Returns the index of the first step whose input values changed since the last refresh, or the size of the flow if
+    * no value changed
+    */
+   private int getFirstChangedStep(long registryVersion)
+   {
+      if (refreshedVersion != registryVersion)
+      {
+         return 0;
+      }
+      for (int i = 0; i < flow.size(); i++)
+      {
+         WizardStepEntry entry = flow.get(i);
+         if (entry.values == null || !entry.values.equals(getValues(entry.controller)))
+         {
+            return i;
+         }
+      }
+      return flow.size();
+   }
+
+   /**
+    * Returns the values of the inputs of the given controller, or <code>null</code> if it is not initialized
+    */
+   private static List<Object> getValues(CommandController controller)
+   {
+      if (!controller.isInitialized())
+      {
+         return null;
+      }
+      List<Object> values = new ArrayList<>();
+      for (InputComponent<?, ?> input : controller.getInputs().values())
+      {
+         Object value = InputComponents.getValueFor(input);
+         values.add(value instanceof Iterable ? Lists.toList((Iterable<?>) value) : value);
+      }
+      return values;
    }
 
    @Override
@@ -174,6 +242,11 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
          firePostWizardFailure(executionContext, listeners, e);
          throw e;
       }
+      finally
+      {
+         // The commands may have changed anything the memoized callbacks read
+         Memoization.invalidate();
+      }
       Result result = (results.size() == 1) ? results.get(0) : Results.aggregate(results);
       firePostWizardExecuted(executionContext, listeners, result);
       return result;
@@ -265,6 +338,17 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       return getCurrentController().getMetadata();
    }
 
+   @Override
+   public MemoizationStats getMemoizationStats()
+   {
+      MemoizationStats stats = MemoizationStats.NONE;
+      for (WizardStepEntry entry : flow)
+      {
+         stats = stats.plus(entry.controller.getMemoizationStats());
+      }
+      return stats;
+   }
+
    @Override
    public UICommandMetadata getInitialMetadata()
    {
@@ -539,9 +623,7 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
          }
       }
       // Transform the existing NavigationResult
-      Set<NavigationResultTransformer> transformers = new TreeSet<>((o1, o2) -> o2.priority() - o1.priority());
-      transformers.addAll(Lists.toList(addonRegistry.getServices(NavigationResultTransformer.class)));
-      for (NavigationResultTransformer transformer : transformers)
+      for (NavigationResultTransformer transformer : controllerFactory.getNavigationResultTransformers())
       {
          if (transformer.handles(navigationContext))
          {
@@ -555,6 +637,8 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
    {
       final CommandController controller;
       NavigationResultEntry[] next;
+      // The input values when the flow was last refreshed
+      List<Object> values;
       // If this entry starts a subflow
       final boolean subflowHead;
 
@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.enterprise.inject.Vetoed;
 
@@ -18,14 +19,18 @@ import org.jboss.forge.addon.facets.AbstractFaceted;
 import org.jboss.forge.addon.ui.context.UIValidationContext;
 import org.jboss.forge.addon.ui.facets.HintsFacet;
 import org.jboss.forge.addon.ui.input.InputComponent;
+import org.jboss.forge.addon.ui.input.UICompleter;
 import org.jboss.forge.addon.ui.input.UIInput;
 import org.jboss.forge.addon.ui.input.ValueChangeListener;
 import org.jboss.forge.addon.ui.input.events.ValueChangeEvent;
 import org.jboss.forge.addon.ui.util.InputComponents;
+import org.jboss.forge.addon.ui.util.Memoization;
 import org.jboss.forge.addon.ui.validate.UIValidator;
+import org.jboss.forge.furnace.proxy.Proxies;
 import org.jboss.forge.furnace.spi.ListenerRegistration;
 import org.jboss.forge.furnace.util.Assert;
 import org.jboss.forge.furnace.util.Callables;
+import org.jboss.forge.furnace.util.Lists;
 import org.jboss.forge.furnace.util.Strings;
 
 /**
@@ -40,6 +45,10 @@ import org.jboss.forge.furnace.util.Strings;
 public abstract class AbstractInputComponent<IMPLTYPE extends InputComponent<IMPLTYPE, VALUETYPE>, VALUETYPE> extends AbstractFaceted<HintsFacet>
          implements InputComponent<IMPLTYPE, VALUETYPE>
 {
+   static final String DEFAULT_VALUE = "defaultValue";
+   static final String VALUE_CHOICES = "valueChoices";
+   static final String COMPLETER = "completer";
+
    private final String name;
    private final char shortName;
    private final Class<VALUETYPE> type;
@@ -57,6 +66,9 @@ public abstract class AbstractInputComponent<IMPLTYPE extends InputComponent<IMP
    private boolean deprecated;
    private String deprecatedMessage;
 
+   private InputMemoizer memoizer;
+   private final AtomicLong version = new AtomicLong();
+
    public AbstractInputComponent(String name, char shortName, Class<VALUETYPE> type)
    {
       Assert.notNull(name, "Name is required");
@@ -288,6 +300,98 @@ public abstract class AbstractInputComponent<IMPLTYPE extends InputComponent<IMP
       return (IMPLTYPE) this;
    }
 
+   /**
+    * Remembers the results of the callbacks of this input marked with {@link Memoization}
+    */
+   public void setMemoizer(InputMemoizer memoizer)
+   {
+      this.memoizer = memoizer;
+   }
+
+   /**
+    * Returns a number incremented each time the value of this input may have changed
+    */
+   long getVersion()
+   {
+      return version.get();
+   }
+
+   /**
+    * Called when the value or the default value of this input changed
+    */
+   protected void changed()
+   {
+      version.incrementAndGet();
+   }
+
+   /**
+    * Called when the value of this input is read
+    */
+   protected void read()
+   {
+      InputMemoizer.read(this);
+   }
+
+   /**
+    * Calls the given callback, or returns its memoized result if it is marked with {@link Memoization}
+    *
+    * @param slot what the callback computes for this input
+    */
+   protected <T> T call(String slot, Callable<T> callback)
+   {
+      return call(slot, callback, null, () -> callback.call());
+   }
+
+   /**
+    * Calls the given callable, or returns its memoized result if the given callback is marked with {@link Memoization}
+    *
+    * @param slot what the callback computes for this input
+    * @param argument the argument given to the callback, if any
+    */
+   protected <T> T call(String slot, Object callback, Object argument, Callable<T> callable)
+   {
+      if (callback == null)
+      {
+         return null;
+      }
+      if (isMemoized(callback))
+      {
+         return memoizer.call(this, slot, callback, argument, callable);
+      }
+      return Callables.call(callable);
+   }
+
+   /**
+    * Returns <code>true</code> if the results of the given callback are memoized
+    */
+   protected boolean isMemoized(Object callback)
+   {
+      return memoizer != null && callback != null && Memoization.isMemoized(Proxies.unwrap(callback));
+   }
+
+   /**
+    * Returns a {@link UICompleter} returning the memoized proposals of the given completer, if it is marked with
+    * {@link Memoization}
+    */
+   protected <T> UICompleter<T> memoize(UICompleter<T> completer)
+   {
+      if (completer == null || !Memoization.isMemoized(Proxies.unwrap(completer)))
+      {
+         return completer;
+      }
+      return (context, input, value) -> call(COMPLETER, completer, value,
+               () -> toList(completer.getCompletionProposals(context, input, value)));
+   }
+
+   /**
+    * Copies the given {@link Iterable}, so that the inputs it reads while iterating are read before it is memoized. The
+    * copy is unmodifiable, as it is shared by every call returning the memoized result.
+    */
+   static <T> Iterable<T> toList(Iterable<T> iterable)
+   {
+      return iterable == null ? null : Collections.unmodifiableList(Lists.toList(iterable));
+   }
+
    protected Set<ValueChangeListener> getValueChangeListeners()
    {
       return valueChangeListeners;
@@ -51,7 +51,8 @@ public abstract class AbstractUISelectInputComponent<IMPLTYPE extends SelectComp
    @Override
    public Iterable<VALUETYPE> getValueChoices()
    {
-      Iterable<VALUETYPE> valueChoices = Callables.call(choices);
+      Iterable<VALUETYPE> valueChoices = isMemoized(choices)
+               ? call(VALUE_CHOICES, choices, null, () -> toList(choices.call())) : Callables.call(choices);
       return valueChoices == null ? Collections.<VALUETYPE> emptyList() : valueChoices;
    }
 
@@ -0,0 +1,200 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.ui.impl.input;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.inject.Vetoed;
+
+import org.jboss.forge.addon.ui.controller.MemoizationStats;
+import org.jboss.forge.addon.ui.util.Memoization;
+import org.jboss.forge.furnace.addons.AddonRegistry;
+import org.jboss.forge.furnace.util.Callables;
+
+/**
+ * Remembers the results of the callbacks marked with {@link Memoization} for the inputs of a command controller.
+ *
+ * While a callback is evaluated, the inputs whose value is read are recorded along with their version. The result is
+ * returned again as long as none of these inputs changed, the {@link AddonRegistry} version is the same and
+ * {@link Memoization#invalidate()} was not called.
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+@Vetoed
+public class InputMemoizer
+{
+   private static final int MAX_ENTRIES = 256;
+
+   /**
+    * The inputs read by the callback being evaluated in the current thread, with the version they had when read
+    */
+   private static final ThreadLocal<Map<AbstractInputComponent<?, ?>, Long>> reads = new ThreadLocal<>();
+
+   private final AddonRegistry addonRegistry;
+   private final AtomicLong evaluations = new AtomicLong();
+   private final AtomicLong avoidedEvaluations = new AtomicLong();
+   private final Map<Key, Memo> memos = new LinkedHashMap<Key, Memo>(16, 0.75f, true)
+   {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Entry<Key, Memo> eldest)
+      {
+         return size() > MAX_ENTRIES;
+      }
+   };
+
+   public InputMemoizer(AddonRegistry addonRegistry)
+   {
+      this.addonRegistry = addonRegistry;
+   }
+
+   /**
+    * Records that the value of the given input is read by the callback being evaluated, if any
+    */
+   static void read(AbstractInputComponent<?, ?> input)
+   {
+      Map<AbstractInputComponent<?, ?>, Long> current = reads.get();
+      if (current != null && !current.containsKey(input))
+      {
+         current.put(input, input.getVersion());
+      }
+   }
+
+   /**
+    * Returns the result of the given callback for the given input, evaluating it only if the inputs it read changed
+    *
+    * @param slot what the callback computes for the input
+    * @param argument the argument given to the callback, if any
+    */
+   <T> T call(AbstractInputComponent<?, ?> input, String slot, Object callback, Object argument,
+            Callable<T> callable)
+   {
+      Key key = new Key(input, slot, callback, argument);
+      long generation = Memoization.getGeneration();
+      long registryVersion = addonRegistry.getVersion();
+      Map<AbstractInputComponent<?, ?>, Long> outer = reads.get();
+      Memo memo;
+      synchronized (memos)
+      {
+         memo = memos.get(key);
+      }
+      if (memo != null && memo.isValid(generation, registryVersion))
+      {
+         avoidedEvaluations.incrementAndGet();
+         if (outer != null)
+         {
+            memo.dependencies.forEach(outer::putIfAbsent);
+         }
+         @SuppressWarnings("unchecked")
+         T result = (T) memo.result;
+         return result;
+      }
+      Map<AbstractInputComponent<?, ?>, Long> dependencies = new IdentityHashMap<>();
+      reads.set(dependencies);
+      T result;
+      try
+      {
+         evaluations.incrementAndGet();
+         result = Callables.call(callable);
+      }
+      finally
+      {
+         reads.set(outer);
+      }
+      if (outer != null)
+      {
+         dependencies.forEach(outer::putIfAbsent);
+      }
+      synchronized (memos)
+      {
+         memos.put(key, new Memo(result, dependencies, generation, registryVersion));
+      }
+      return result;
+   }
+
+   /**
+    * Returns how many callback evaluations were avoided so far
+    */
+   public MemoizationStats getStats()
+   {
+      return new MemoizationStats(evaluations.get(), avoidedEvaluations.get());
+   }
+
+   private static class Memo
+   {
+      private final Object result;
+      private final Map<AbstractInputComponent<?, ?>, Long> dependencies;
+      private final long generation;
+      private final long registryVersion;
+
+      Memo(Object result, Map<AbstractInputComponent<?, ?>, Long> dependencies, long generation,
+               long registryVersion)
+      {
+         this.result = result;
+         this.dependencies = dependencies;
+         this.generation = generation;
+         this.registryVersion = registryVersion;
+      }
+
+      boolean isValid(long currentGeneration, long currentRegistryVersion)
+      {
+         if (generation != currentGeneration || registryVersion != currentRegistryVersion)
+         {
+            return false;
+         }
+         for (Entry<AbstractInputComponent<?, ?>, Long> entry : dependencies.entrySet())
+         {
+            if (entry.getKey().getVersion() != entry.getValue())
+            {
+               return false;
+            }
+         }
+         return true;
+      }
+   }
+
+   private static class Key
+   {
+      private final AbstractInputComponent<?, ?> input;
+      private final String slot;
+      private final Object callback;
+      private final Object argument;
+      private final int hash;
+
+      Key(AbstractInputComponent<?, ?> input, String slot, Object callback, Object argument)
+      {
+         this.input = input;
+         this.slot = slot;
+         this.callback = callback;
+         this.argument = argument;
+         this.hash = Objects.hash(System.identityHashCode(input), slot, System.identityHashCode(callback), argument);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hash;
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (!(obj instanceof Key))
+            return false;
+         Key other = (Key) obj;
+         return input == other.input && callback == other.callback && slot.equals(other.slot)
+                  && Objects.equals(argument, other.argument);
+      }
+   }
+}
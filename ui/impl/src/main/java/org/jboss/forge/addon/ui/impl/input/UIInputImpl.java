@@ -43,7 +43,7 @@ public class UIInputImpl<VALUETYPE> extends AbstractInputComponent<UIInput<VALUE
    @Override
    public UICompleter<VALUETYPE> getCompleter()
    {
-      return this.completer;
+      return memoize(this.completer);
    }
 
    @Override
@@ -57,11 +57,16 @@ public class UIInputImpl<VALUETYPE> extends AbstractInputComponent<UIInput<VALUE
    public UIInput<VALUETYPE> setValue(VALUETYPE value)
    {
       Set<ValueChangeListener> listeners = getValueChangeListeners();
-      if (!listeners.isEmpty() && !InputComponents.areEqual(getValue(), value))
+      boolean valueChanged = !InputComponents.areEqual(getValue(), value);
+      if (!listeners.isEmpty() && valueChanged)
       {
          fireValueChangeListeners(value);
       }
       this.value = value;
+      if (valueChanged)
+      {
+         changed();
+      }
       return this;
    }
 
@@ -69,6 +74,7 @@ public class UIInputImpl<VALUETYPE> extends AbstractInputComponent<UIInput<VALUE
    public UIInput<VALUETYPE> setDefaultValue(Callable<VALUETYPE> callback)
    {
       this.defaultValue = callback;
+      changed();
       return this;
    }
 
@@ -76,13 +82,15 @@ public class UIInputImpl<VALUETYPE> extends AbstractInputComponent<UIInput<VALUE
    public UIInput<VALUETYPE> setDefaultValue(VALUETYPE value)
    {
       this.defaultValue = Callables.returning(value);
+      changed();
       return this;
    }
 
    @Override
    public VALUETYPE getValue()
    {
-      return (value == null) ? Callables.call(defaultValue) : value;
+      read();
+      return (value == null) ? call(DEFAULT_VALUE, defaultValue) : value;
    }
 
    @Override
@@ -109,7 +117,7 @@ public class UIInputImpl<VALUETYPE> extends AbstractInputComponent<UIInput<VALUE
    @Override
    public boolean hasDefaultValue()
    {
-      VALUETYPE defaultValueValue = Callables.call(defaultValue);
+      VALUETYPE defaultValueValue = call(DEFAULT_VALUE, defaultValue);
       if (defaultValueValue instanceof String)
       {
          return !Strings.isNullOrEmpty((String) defaultValueValue);
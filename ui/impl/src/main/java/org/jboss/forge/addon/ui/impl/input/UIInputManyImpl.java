@@ -45,7 +45,7 @@ public class UIInputManyImpl<VALUETYPE> extends AbstractInputComponent<UIInputMa
    @Override
    public UICompleter<VALUETYPE> getCompleter()
    {
-      return this.completer;
+      return memoize(this.completer);
    }
 
    @Override
@@ -64,6 +64,7 @@ public class UIInputManyImpl<VALUETYPE> extends AbstractInputComponent<UIInputMa
          fireValueChangeListeners(value);
       }
       this.value = value;
+      changed();
       return this;
    }
 
@@ -71,6 +72,7 @@ public class UIInputManyImpl<VALUETYPE> extends AbstractInputComponent<UIInputMa
    public UIInputMany<VALUETYPE> setDefaultValue(Callable<Iterable<VALUETYPE>> callback)
    {
       this.defaultValue = callback;
+      changed();
       return this;
    }
 
@@ -78,13 +80,15 @@ public class UIInputManyImpl<VALUETYPE> extends AbstractInputComponent<UIInputMa
    public UIInputMany<VALUETYPE> setDefaultValue(Iterable<VALUETYPE> value)
    {
       this.defaultValue = Callables.returning(value);
+      changed();
       return this;
    }
 
    @Override
    public Iterable<VALUETYPE> getValue()
    {
-      Iterable<VALUETYPE> iterableValue = (value == null) ? Callables.call(defaultValue) : value;
+      read();
+      Iterable<VALUETYPE> iterableValue = (value == null) ? callDefaultValue() : value;
       return iterableValue == null ? Collections.<VALUETYPE> emptyList() : iterableValue;
    }
 
@@ -111,10 +115,19 @@ public class UIInputManyImpl<VALUETYPE> extends AbstractInputComponent<UIInputMa
    @Override
    public boolean hasDefaultValue()
    {
-      Iterable<VALUETYPE> defaultValueValue = Callables.call(defaultValue);
+      Iterable<VALUETYPE> defaultValueValue = callDefaultValue();
       return defaultValueValue != null && defaultValueValue.iterator().hasNext();
    }
 
+   private Iterable<VALUETYPE> callDefaultValue()
+   {
+      if (isMemoized(defaultValue))
+      {
+         return call(DEFAULT_VALUE, defaultValue, null, () -> toList(defaultValue.call()));
+      }
+      return Callables.call(defaultValue);
+   }
+
    @Override
    public boolean hasValue()
    {
@@ -43,6 +43,7 @@ public class UISelectManyImpl<VALUETYPE> extends AbstractUISelectInputComponent<
          fireValueChangeListeners(value);
       }
       this.value = value;
+      changed();
       return this;
    }
 
@@ -50,6 +51,7 @@ public class UISelectManyImpl<VALUETYPE> extends AbstractUISelectInputComponent<
    public UISelectMany<VALUETYPE> setDefaultValue(Callable<Iterable<VALUETYPE>> callback)
    {
       this.defaultValue = callback;
+      changed();
       return this;
    }
 
@@ -57,23 +59,34 @@ public class UISelectManyImpl<VALUETYPE> extends AbstractUISelectInputComponent<
    public UISelectMany<VALUETYPE> setDefaultValue(Iterable<VALUETYPE> value)
    {
       this.defaultValue = Callables.returning(value);
+      changed();
       return this;
    }
 
    @Override
    public Iterable<VALUETYPE> getValue()
    {
-      Iterable<VALUETYPE> iterableValue = (value == null) ? Callables.call(defaultValue) : value;
+      read();
+      Iterable<VALUETYPE> iterableValue = (value == null) ? callDefaultValue() : value;
       return iterableValue == null ? Collections.<VALUETYPE> emptyList() : iterableValue;
    }
 
    @Override
    public boolean hasDefaultValue()
    {
-      Iterable<VALUETYPE> defaultValueValue = Callables.call(defaultValue);
+      Iterable<VALUETYPE> defaultValueValue = callDefaultValue();
       return defaultValueValue != null && defaultValueValue.iterator().hasNext();
    }
 
+   private Iterable<VALUETYPE> callDefaultValue()
+   {
+      if (isMemoized(defaultValue))
+      {
+         return call(DEFAULT_VALUE, defaultValue, null, () -> toList(defaultValue.call()));
+      }
+      return Callables.call(defaultValue);
+   }
+
    @Override
    public boolean hasValue()
    {
@@ -37,11 +37,16 @@ public class UISelectOneImpl<VALUETYPE> extends AbstractUISelectInputComponent<U
    {
       // assertChoiceInValueChoices(value);
       Set<ValueChangeListener> listeners = getValueChangeListeners();
-      if (!listeners.isEmpty() && !InputComponents.areEqual(getValue(), value))
+      boolean valueChanged = !InputComponents.areEqual(getValue(), value);
+      if (!listeners.isEmpty() && valueChanged)
       {
          fireValueChangeListeners(value);
       }
       this.value = value;
+      if (valueChanged)
+      {
+         changed();
+      }
       return this;
    }
 
@@ -49,6 +54,7 @@ public class UISelectOneImpl<VALUETYPE> extends AbstractUISelectInputComponent<U
    public UISelectOne<VALUETYPE> setDefaultValue(Callable<VALUETYPE> callback)
    {
       this.defaultValue = callback;
+      changed();
       return this;
    }
 
@@ -56,19 +62,21 @@ public class UISelectOneImpl<VALUETYPE> extends AbstractUISelectInputComponent<U
    public UISelectOne<VALUETYPE> setDefaultValue(VALUETYPE value)
    {
       this.defaultValue = Callables.returning(value);
+      changed();
       return this;
    }
 
    @Override
    public VALUETYPE getValue()
    {
-      return (value == null) ? Callables.call(defaultValue) : value;
+      read();
+      return (value == null) ? call(DEFAULT_VALUE, defaultValue) : value;
    }
 
    @Override
    public boolean hasDefaultValue()
    {
-      VALUETYPE defaultValueValue = Callables.call(defaultValue);
+      VALUETYPE defaultValueValue = call(DEFAULT_VALUE, defaultValue);
       if (defaultValueValue instanceof String)
       {
          return !Strings.isNullOrEmpty((String) defaultValueValue);
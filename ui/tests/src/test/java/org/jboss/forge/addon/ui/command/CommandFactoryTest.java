@@ -109,4 +109,16 @@ public class CommandFactoryTest
       Assert.assertNull(commandFactory.getCommandByName(context, "an-invalid-command"));
    }
 
+   @Test
+   public void testNewCommandByNameCreatesOnlyMatchedCommand()
+   {
+      MockUIContext context = new MockUIContext();
+      String name = "Annotation Commands: Number 2";
+      UICommand command = commandFactory.getNewCommandByName(context, name);
+      Assert.assertNotNull(command);
+      Assert.assertEquals(name, command.getMetadata(context).getName());
+      Assert.assertNotSame(command, commandFactory.getNewCommandByName(context, name));
+      Assert.assertNotNull(commandFactory.getNewCommandByName(context, "annotation-commands-number-2"));
+      Assert.assertNull(commandFactory.getNewCommandByName(context, "an-invalid-command"));
+   }
 }
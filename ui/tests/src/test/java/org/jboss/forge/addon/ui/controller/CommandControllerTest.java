@@ -8,6 +8,8 @@ package org.jboss.forge.addon.ui.controller;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 
+import java.util.Arrays;
+
 import javax.inject.Inject;
 
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -17,13 +19,17 @@ import org.jboss.forge.addon.ui.controller.mock.ExampleCommand;
 import org.jboss.forge.addon.ui.controller.mock.ExampleNoUICommand;
 import org.jboss.forge.addon.ui.controller.mock.FlowExampleStep;
 import org.jboss.forge.addon.ui.controller.mock.FlowExampleWizard;
+import org.jboss.forge.addon.ui.controller.mock.MemoizedChoicesCommand;
 import org.jboss.forge.addon.ui.controller.mock.MockPreStepsCommand;
 import org.jboss.forge.addon.ui.impl.mock.MockUIContext;
 import org.jboss.forge.addon.ui.impl.mock.MockUIRuntime;
+import org.jboss.forge.addon.ui.input.UISelectOne;
 import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.addon.ui.util.Memoization;
 import org.jboss.forge.arquillian.AddonDependencies;
 import org.jboss.forge.arquillian.AddonDependency;
 import org.jboss.forge.arquillian.archive.AddonArchive;
+import org.jboss.forge.furnace.util.Lists;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.junit.Assert;
 import org.junit.Test;
@@ -48,7 +54,7 @@ public class CommandControllerTest
                .create(AddonArchive.class)
                .addClasses(ExampleCommand.class, ExampleNoUICommand.class, FlowExampleStep.class,
                         ValidateRequiredCommand.class,
-                        FlowExampleWizard.class, MockPreStepsCommand.class)
+                        FlowExampleWizard.class, MockPreStepsCommand.class, MemoizedChoicesCommand.class)
                .addPackage(MockUIRuntime.class.getPackage())
                .addBeansXML();
 
@@ -73,6 +79,9 @@ public class CommandControllerTest
    @Inject
    private ValidateRequiredCommand validateRequiredCommand;
 
+   @Inject
+   private MemoizedChoicesCommand memoizedChoicesCommand;
+
    @Test
    public void testInjection() throws Exception
    {
@@ -102,6 +111,38 @@ public class CommandControllerTest
       Assert.assertEquals("Hello, Forge", result.getMessage());
    }
 
+   @Test
+   @SuppressWarnings("unchecked")
+   public void testMemoizedValueChoices() throws Exception
+   {
+      CommandController controller = controllerFactory.createSingleController(new MockUIContext(), new MockUIRuntime(),
+               memoizedChoicesCommand);
+      controller.initialize();
+      UISelectOne<String> name = (UISelectOne<String>) controller.getInput("name");
+      Assert.assertEquals(Arrays.asList("a1", "a2"), Lists.toList(name.getValueChoices()));
+      Assert.assertEquals(Arrays.asList("a1", "a2"), Lists.toList(name.getValueChoices()));
+      Assert.assertEquals(1, memoizedChoicesCommand.getEvaluations());
+      Assert.assertEquals(1, controller.getMemoizationStats().getEvaluations());
+      Assert.assertEquals(1, controller.getMemoizationStats().getAvoidedEvaluations());
+
+      // Setting the same value does not discard the memoized choices
+      controller.setValueFor("prefix", "a");
+      Assert.assertEquals(Arrays.asList("a1", "a2"), Lists.toList(name.getValueChoices()));
+      Assert.assertEquals(1, memoizedChoicesCommand.getEvaluations());
+
+      // Changing the value read by the choices does
+      controller.setValueFor("prefix", "b");
+      Assert.assertEquals(Arrays.asList("b1", "b2"), Lists.toList(name.getValueChoices()));
+      Assert.assertEquals(2, memoizedChoicesCommand.getEvaluations());
+
+      // And so does a change in the project
+      Memoization.invalidate();
+      Assert.assertEquals(Arrays.asList("b1", "b2"), Lists.toList(name.getValueChoices()));
+      Assert.assertEquals(3, memoizedChoicesCommand.getEvaluations());
+      Assert.assertEquals(3, controller.getMemoizationStats().getEvaluations());
+      Assert.assertEquals(2, controller.getMemoizationStats().getAvoidedEvaluations());
+   }
+
    @Test(expected = IllegalStateException.class)
    public void testInitialized() throws Exception
    {
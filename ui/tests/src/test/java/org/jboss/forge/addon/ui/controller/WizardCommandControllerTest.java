@@ -110,6 +110,33 @@ public class WizardCommandControllerTest
       }
    }
 
+   @Test
+   public void testCanExecuteFollowsChangedValues() throws Exception
+   {
+      try (WizardCommandController controller = testHarness.createWizardController(ExampleWizard.class))
+      {
+         controller.initialize();
+         controller.setValueFor("firstName", "Forge");
+         // ExampleStepOne requires an address
+         Assert.assertFalse(controller.canExecute());
+         Assert.assertFalse(controller.canExecute());
+         Assert.assertThat(controller.getCommand(), is(instanceOf(ExampleWizard.class)));
+
+         // Should go to ExampleStepTwo, which requires nothing
+         controller.setValueFor("goToLastStep", Boolean.TRUE);
+         Assert.assertTrue(controller.canExecute());
+         Assert.assertTrue(controller.canExecute());
+
+         controller.setValueFor("goToLastStep", Boolean.FALSE);
+         Assert.assertFalse(controller.canExecute());
+         controller.next().initialize();
+         Assert.assertThat(controller.getCommand(), is(instanceOf(ExampleStepOne.class)));
+         controller.setValueFor("address", "Foo street");
+         Assert.assertTrue(controller.canExecute());
+         Assert.assertThat(controller.getCommand(), is(instanceOf(ExampleStepOne.class)));
+      }
+   }
+
    @Test
    public void testNormalWizardFlow() throws Exception
    {
@@ -0,0 +1,60 @@
+/**
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.ui.controller.mock;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.jboss.forge.addon.ui.command.AbstractUICommand;
+import org.jboss.forge.addon.ui.context.UIBuilder;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.input.UIInput;
+import org.jboss.forge.addon.ui.input.UISelectOne;
+import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.addon.ui.result.Results;
+import org.jboss.forge.addon.ui.util.Memoization;
+
+/**
+ * A command whose value choices are memoized
+ *
+ * @author <a href="mailto:agent@local">agent</a>
+ */
+public class MemoizedChoicesCommand extends AbstractUICommand
+{
+   @Inject
+   private UIInput<String> prefix;
+
+   @Inject
+   private UISelectOne<String> name;
+
+   private final AtomicInteger evaluations = new AtomicInteger();
+
+   @Override
+   public void initializeUI(UIBuilder builder) throws Exception
+   {
+      prefix.setDefaultValue("a");
+      name.setValueChoices(Memoization.memoize(() -> {
+         evaluations.incrementAndGet();
+         String value = prefix.getValue();
+         return Arrays.asList(value + "1", value + "2");
+      }));
+      builder.add(prefix).add(name);
+   }
+
+   @Override
+   public Result execute(UIExecutionContext context) throws Exception
+   {
+      return Results.success();
+   }
+
+   public int getEvaluations()
+   {
+      return evaluations.get();
+   }
+}